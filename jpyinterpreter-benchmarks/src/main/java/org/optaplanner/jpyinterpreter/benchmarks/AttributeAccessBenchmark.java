@@ -0,0 +1,81 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Attribute access on instances of a translated class, from translated code and through
+ * {@link PythonLikeObject#__getAttributeOrNull(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class AttributeAccessBenchmark {
+    private PythonLikeObject point;
+    private PythonLikeObject otherPoint;
+    private PythonInteger newX;
+    private Function getX;
+    private BiFunction setX;
+    private BiFunction callDot;
+
+    @Setup
+    public void setup() {
+        PythonLikeType pointType = BenchmarkFunctions.translatePointClass();
+        point = pointType.$call(List.of(PythonInteger.valueOf(1), PythonInteger.valueOf(2)), Map.of(), null);
+        otherPoint = pointType.$call(List.of(PythonInteger.valueOf(3), PythonInteger.valueOf(4)), Map.of(), null);
+        newX = PythonInteger.valueOf(5);
+        getX = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.getX(),
+                Function.class);
+        setX = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.setX(),
+                BiFunction.class);
+        callDot = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.callDot(),
+                BiFunction.class);
+    }
+
+    @Benchmark
+    public Object translatedGetAttribute() {
+        return getX.apply(point);
+    }
+
+    @Benchmark
+    public Object translatedSetAttribute() {
+        return setX.apply(point, newX);
+    }
+
+    @Benchmark
+    public Object translatedCallMethod() {
+        return callDot.apply(point, otherPoint);
+    }
+
+    @Benchmark
+    public PythonLikeObject getAttributeOrNull() {
+        return point.__getAttributeOrNull("x");
+    }
+
+    @Benchmark
+    public PythonLikeObject getMissingAttributeOrNull() {
+        return point.__getAttributeOrNull("z");
+    }
+}
@@ -0,0 +1,180 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
+import org.optaplanner.jpyinterpreter.PythonClassTranslator;
+import org.optaplanner.jpyinterpreter.PythonCompiledClass;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+/**
+ * The Python code used by the benchmarks, built with {@link PythonFunctionBuilder} so the benchmarks
+ * do not need a CPython interpreter.
+ */
+final class BenchmarkFunctions {
+    private BenchmarkFunctions() {
+    }
+
+    /**
+     * <pre>
+     * def polynomial(x, y):
+     *     return x * y + y - x
+     * </pre>
+     */
+    static PythonCompiledFunction polynomial() {
+        return PythonFunctionBuilder.newFunction("x", "y")
+                .loadParameter("x")
+                .loadParameter("y")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadParameter("y")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .loadParameter("x")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * def get_x(point):
+     *     return point.x
+     * </pre>
+     */
+    static PythonCompiledFunction getX() {
+        return PythonFunctionBuilder.newFunction("point")
+                .loadParameter("point")
+                .getAttribute("x")
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * def set_x(point, x):
+     *     point.x = x
+     * </pre>
+     */
+    static PythonCompiledFunction setX() {
+        return PythonFunctionBuilder.newFunction("point", "x")
+                .loadParameter("x")
+                .loadParameter("point")
+                .storeAttribute("x")
+                .loadConstant(null)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * def call_dot(point, other):
+     *     return point.dot(other)
+     * </pre>
+     */
+    static PythonCompiledFunction callDot() {
+        return PythonFunctionBuilder.newFunction("point", "other")
+                .loadParameter("point")
+                .loadMethod("dot")
+                .loadParameter("other")
+                .callMethod(1)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * def create_with_keywords(point_type, x, y):
+     *     return point_type(y=y, x=x)
+     * </pre>
+     */
+    static PythonCompiledFunction createWithKeywords() {
+        return PythonFunctionBuilder.newFunction("point_type", "x", "y")
+                .loadParameter("point_type")
+                .loadParameter("y")
+                .loadParameter("x")
+                .loadConstant(List.of("y", "x"))
+                .callFunctionWithKeywords(2)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * def iterate(iterable):
+     *     for item in iterable:
+     *         yield item
+     * </pre>
+     */
+    static PythonCompiledFunction iterate() {
+        return PythonFunctionBuilder.newFunction("iterable")
+                .op(OpcodeIdentifier.GEN_START)
+                .loadParameter("iterable")
+                .op(OpcodeIdentifier.GET_ITER)
+                .loop(builder -> builder.op(OpcodeIdentifier.YIELD_VALUE)
+                        .op(OpcodeIdentifier.POP_TOP))
+                .loadConstant(null)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    /**
+     * <pre>
+     * class Point:
+     *     x: int
+     *     y: int
+     *
+     *     def __init__(self, x, y):
+     *         self.x = x
+     *         self.y = y
+     *
+     *     def dot(self, other):
+     *         return self.x * other.x + self.y * other.y
+     * </pre>
+     */
+    static PythonCompiledClass pointClass() {
+        PythonCompiledFunction initFunction = PythonFunctionBuilder.newFunction("self", "x", "y")
+                .loadParameter("x")
+                .loadParameter("self")
+                .storeAttribute("x")
+                .loadParameter("y")
+                .loadParameter("self")
+                .storeAttribute("y")
+                .loadConstant(null)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        PythonCompiledFunction dotFunction = PythonFunctionBuilder.newFunction("self", "other")
+                .loadParameter("self")
+                .getAttribute("x")
+                .loadParameter("other")
+                .getAttribute("x")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadParameter("self")
+                .getAttribute("y")
+                .loadParameter("other")
+                .getAttribute("y")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        PythonCompiledClass compiledClass = new PythonCompiledClass();
+        compiledClass.className = "Point";
+        compiledClass.superclassList = List.of(BuiltinTypes.BASE_TYPE);
+        compiledClass.staticAttributeNameToObject = Map.of();
+        compiledClass.staticAttributeNameToClassInstance = Map.of();
+        compiledClass.typeAnnotations = Map.of("x", BuiltinTypes.INT_TYPE, "y", BuiltinTypes.INT_TYPE);
+        compiledClass.instanceFunctionNameToPythonBytecode = Map.of("__init__", initFunction,
+                "dot", dotFunction);
+        compiledClass.staticFunctionNameToPythonBytecode = Map.of();
+        compiledClass.classFunctionNameToPythonBytecode = Map.of();
+        return compiledClass;
+    }
+
+    static PythonLikeType translatePointClass() {
+        return PythonClassTranslator.translatePythonClass(pointClass());
+    }
+}
@@ -0,0 +1,114 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeSet;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Building and querying {@link PythonLikeList}, {@link PythonLikeDict} and {@link PythonLikeSet}
+ * of {@code size} int or str items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionBenchmark {
+    @Param({ "16", "1024" })
+    public int size;
+
+    private PythonInteger[] integers;
+    private PythonString[] strings;
+    private PythonLikeList<PythonLikeObject> list;
+    private PythonLikeDict dict;
+    private PythonLikeSet set;
+
+    @Setup
+    public void setup() {
+        integers = new PythonInteger[size];
+        strings = new PythonString[size];
+        list = new PythonLikeList<>();
+        dict = new PythonLikeDict();
+        set = new PythonLikeSet();
+        for (int i = 0; i < size; i++) {
+            integers[i] = PythonInteger.valueOf(i);
+            strings[i] = PythonString.valueOf("key" + i);
+            list.append(integers[i]);
+            dict.setItem(strings[i], integers[i]);
+            set.addItem(integers[i]);
+        }
+    }
+
+    @Benchmark
+    public PythonLikeList<PythonLikeObject> listAppend() {
+        PythonLikeList<PythonLikeObject> out = new PythonLikeList<>();
+        for (PythonInteger integer : integers) {
+            out.append(integer);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public void listGetItem(Blackhole blackhole) {
+        for (PythonInteger integer : integers) {
+            blackhole.consume(list.getItem(integer));
+        }
+    }
+
+    @Benchmark
+    public void listIterate(Blackhole blackhole) {
+        for (PythonLikeObject item : list) {
+            blackhole.consume(item);
+        }
+    }
+
+    @Benchmark
+    public PythonLikeDict dictSetItem() {
+        PythonLikeDict out = new PythonLikeDict();
+        for (int i = 0; i < size; i++) {
+            out.setItem(strings[i], integers[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public void dictGetItem(Blackhole blackhole) {
+        for (PythonString string : strings) {
+            blackhole.consume(dict.getItemOrError(string));
+        }
+    }
+
+    @Benchmark
+    public PythonLikeSet setAdd() {
+        PythonLikeSet out = new PythonLikeSet();
+        for (PythonInteger integer : integers) {
+            out.addItem(integer);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public void setContains(Blackhole blackhole) {
+        for (PythonInteger integer : integers) {
+            blackhole.consume(set.containsItem(integer));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.function.TriFunction;
+
+/**
+ * Calling the constructor of a translated class with positional and keyword arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class FunctionCallBenchmark {
+    private PythonLikeType pointType;
+    private PythonInteger x;
+    private PythonInteger y;
+    private List<PythonLikeObject> positionalArguments;
+    private Map<PythonString, PythonLikeObject> keywordArguments;
+    private TriFunction createWithKeywords;
+
+    @Setup
+    public void setup() {
+        pointType = BenchmarkFunctions.translatePointClass();
+        x = PythonInteger.valueOf(1);
+        y = PythonInteger.valueOf(2);
+        positionalArguments = List.of(x, y);
+        keywordArguments = Map.of(PythonString.valueOf("x"), x, PythonString.valueOf("y"), y);
+        createWithKeywords = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(
+                BenchmarkFunctions.createWithKeywords(), TriFunction.class);
+    }
+
+    @Benchmark
+    public PythonLikeObject callPositional() {
+        return pointType.$call(positionalArguments, Map.of(), null);
+    }
+
+    @Benchmark
+    public PythonLikeObject callKeywords() {
+        return pointType.$call(List.of(), keywordArguments, null);
+    }
+
+    @Benchmark
+    public Object translatedCallKeywords() {
+        return createWithKeywords.apply(pointType, x, y);
+    }
+}
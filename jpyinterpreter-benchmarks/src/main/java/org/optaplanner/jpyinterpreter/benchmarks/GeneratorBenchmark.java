@@ -0,0 +1,66 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Iterating a translated generator that yields every item of a list, compared to iterating the list itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class GeneratorBenchmark {
+    @Param({ "16", "1024" })
+    public int size;
+
+    private PythonLikeList<PythonLikeObject> list;
+    private Function generatorCreator;
+
+    @Setup
+    public void setup() {
+        list = new PythonLikeList<>();
+        for (int i = 0; i < size; i++) {
+            list.append(PythonInteger.valueOf(i));
+        }
+        generatorCreator = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.iterate(),
+                Function.class);
+    }
+
+    @Benchmark
+    public void generatorIterate(Blackhole blackhole) {
+        Iterator<?> generator = (Iterator<?>) generatorCreator.apply(list);
+        while (generator.hasNext()) {
+            blackhole.consume(generator.next());
+        }
+    }
+
+    @Benchmark
+    public void listIterate(Blackhole blackhole) {
+        Iterator<?> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
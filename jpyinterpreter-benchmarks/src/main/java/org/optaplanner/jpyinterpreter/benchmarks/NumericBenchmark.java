@@ -0,0 +1,111 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Dunder arithmetic on {@link PythonInteger} and {@link PythonFloat}, called directly and from translated code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class NumericBenchmark {
+    private PythonInteger smallInteger;
+    private PythonInteger otherSmallInteger;
+    private PythonInteger largeInteger;
+    private PythonFloat floatValue;
+    private PythonFloat otherFloatValue;
+    private BiFunction polynomial;
+
+    @Setup
+    public void setup() {
+        smallInteger = PythonInteger.valueOf(12345);
+        otherSmallInteger = PythonInteger.valueOf(678);
+        largeInteger = PythonInteger.valueOf(BigInteger.valueOf(Long.MAX_VALUE).pow(2));
+        floatValue = PythonFloat.valueOf(1234.5);
+        otherFloatValue = PythonFloat.valueOf(6.78);
+        polynomial = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.polynomial(),
+                BiFunction.class);
+    }
+
+    @Benchmark
+    public PythonInteger integerAdd() {
+        return smallInteger.add(otherSmallInteger);
+    }
+
+    @Benchmark
+    public PythonInteger integerMultiply() {
+        return smallInteger.multiply(otherSmallInteger);
+    }
+
+    @Benchmark
+    public PythonInteger largeIntegerAdd() {
+        return largeInteger.add(smallInteger);
+    }
+
+    @Benchmark
+    public PythonLikeObject integerAddUntyped() {
+        // Dispatches on the runtime type of the argument, like translated code without type information
+        return smallInteger.add((PythonLikeObject) otherSmallInteger);
+    }
+
+    @Benchmark
+    public PythonFloat floatAdd() {
+        return floatValue.add(otherFloatValue);
+    }
+
+    @Benchmark
+    public PythonFloat floatMultiply() {
+        return floatValue.multiply(otherFloatValue);
+    }
+
+    @Benchmark
+    public PythonFloat integerFloatAdd() {
+        return smallInteger.add(floatValue);
+    }
+
+    @Benchmark
+    public int integerHashCode() {
+        return smallInteger.hashCode();
+    }
+
+    @Benchmark
+    public boolean integerEquals() {
+        return smallInteger.equals(otherSmallInteger);
+    }
+
+    @Benchmark
+    public Object translatedIntegerPolynomial() {
+        return polynomial.apply(smallInteger, otherSmallInteger);
+    }
+
+    @Benchmark
+    public Object translatedFloatPolynomial() {
+        return polynomial.apply(floatValue, otherFloatValue);
+    }
+
+    @Benchmark
+    public Object translatedMixedPolynomial() {
+        return polynomial.apply(smallInteger, otherFloatValue);
+    }
+}
@@ -0,0 +1,60 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.StringFormatter;
+
+/**
+ * {@code str.format} and printf-style ({@code %}) formatting through {@link StringFormatter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringFormatterBenchmark {
+    private List<PythonLikeObject> positionalArguments;
+    private Map<PythonString, PythonLikeObject> namedArguments;
+
+    @Setup
+    public void setup() {
+        positionalArguments = List.of(PythonString.valueOf("room"), PythonInteger.valueOf(42),
+                PythonFloat.valueOf(0.875));
+        namedArguments = Map.of(PythonString.valueOf("name"), PythonString.valueOf("room"),
+                PythonString.valueOf("count"), PythonInteger.valueOf(42),
+                PythonString.valueOf("ratio"), PythonFloat.valueOf(0.875));
+    }
+
+    @Benchmark
+    public String formatPositional() {
+        return StringFormatter.format("{} has {} lessons ({})", positionalArguments, Map.of());
+    }
+
+    @Benchmark
+    public String formatNamedWithSpec() {
+        return StringFormatter.format("{name:>10} has {count:05d} lessons ({ratio:.2%})", List.of(), namedArguments);
+    }
+
+    @Benchmark
+    public String printfInterpolate() {
+        return StringFormatter.printfInterpolate("%s has %d lessons (%.2f)", positionalArguments,
+                StringFormatter.PrintfStringType.STRING);
+    }
+}
@@ -0,0 +1,41 @@
+package org.optaplanner.jpyinterpreter.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonClassTranslator;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * Time to translate a class and a function, which is paid when a solver is created.
+ * Every invocation generates and loads new classes, so the numbers include class loading.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationBenchmark {
+
+    @Benchmark
+    public PythonLikeType translateClass() {
+        return PythonClassTranslator.translatePythonClass(BenchmarkFunctions.pointClass());
+    }
+
+    @Benchmark
+    public BiFunction<?, ?, ?> translateFunction() {
+        return PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(BenchmarkFunctions.polynomial(),
+                BiFunction.class);
+    }
+}
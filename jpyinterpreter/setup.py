@@ -34,8 +34,9 @@ class FetchDependencies(build_py):
             self.create_stubs(project_root, command)
             subprocess.run([str((project_root / command).absolute()), 'clean', 'install'], cwd=project_root, check=True)
             classpath_jars = []
-            # Add the main artifact
-            classpath_jars.extend(glob.glob(os.path.join(project_root, 'target', '*.jar')))
+            # Add the main artifact (but not the test-jar of the benchmark profile)
+            classpath_jars.extend(jar for jar in glob.glob(os.path.join(project_root, 'target', '*.jar'))
+                                  if not jar.endswith('-tests.jar'))
             # Add the main artifact's dependencies
             classpath_jars.extend(glob.glob(os.path.join(project_root, 'target', 'dependency', '*.jar')))
             # Get the basename of each file (to be stored in classpath.txt, which is used
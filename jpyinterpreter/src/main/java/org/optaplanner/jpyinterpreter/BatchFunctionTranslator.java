@@ -0,0 +1,116 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Translates a batch of Python functions in parallel. Each added function is returned immediately as an
+ * instance that calls its Python implementation; {@link #translateAll()} then writes the function classes
+ * of the whole batch in parallel on the common {@link ForkJoinPool}, and switches each instance to its
+ * translated bytecode.
+ * <p>
+ * Class names are reserved when functions are added and classes are defined in the order they were added,
+ * so neither depends on thread scheduling (and the translated class cache stays effective).
+ * <p>
+ * The instances switch implementation in {@link #translateAll()}, so call it before the functions are used
+ * (for instance, once the constraint provider that created them is built).
+ */
+public final class BatchFunctionTranslator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchFunctionTranslator.class);
+
+    private final List<FunctionTranslation<?>> functionTranslationList = new ArrayList<>();
+
+    /**
+     * Returns an implementation of {@code javaFunctionalInterfaceType} that calls {@code pythonImplementation}
+     * until {@link #translateAll()} translates {@code pythonCompiledFunction}.
+     */
+    public <T> T addFunction(PythonCompiledFunction pythonCompiledFunction, Class<T> javaFunctionalInterfaceType,
+            List<Class<?>> genericTypeArgumentList, T pythonImplementation) {
+        FunctionTranslation<T> functionTranslation = new FunctionTranslation<>(pythonCompiledFunction,
+                javaFunctionalInterfaceType, genericTypeArgumentList, pythonImplementation);
+        functionTranslationList.add(functionTranslation);
+        return functionTranslation.delegatingInstance;
+    }
+
+    /**
+     * Translates every function added since the last call. Functions that cannot be translated keep calling
+     * their Python implementation.
+     *
+     * @return the error that prevented the translation of each function, in the order the functions were added;
+     *         null for functions that were translated
+     */
+    public List<Throwable> translateAll() {
+        List<FunctionTranslation<?>> pendingTranslationList = new ArrayList<>(functionTranslationList);
+        functionTranslationList.clear();
+
+        if (pendingTranslationList.size() < 2) {
+            pendingTranslationList.forEach(FunctionTranslation::writeFunctionClass);
+        } else {
+            List<ForkJoinTask<?>> taskList = new ArrayList<>(pendingTranslationList.size());
+            for (FunctionTranslation<?> functionTranslation : pendingTranslationList) {
+                taskList.add(ForkJoinPool.commonPool().submit(functionTranslation::writeFunctionClass));
+            }
+            taskList.forEach(ForkJoinTask::join);
+        }
+
+        List<Throwable> errorList = new ArrayList<>(pendingTranslationList.size());
+        for (FunctionTranslation<?> functionTranslation : pendingTranslationList) {
+            functionTranslation.defineFunctionClass();
+            errorList.add(functionTranslation.translationError);
+        }
+        return errorList;
+    }
+
+    private static final class FunctionTranslation<T> {
+        final PythonCompiledFunction pythonCompiledFunction;
+        final MethodDescriptor methodDescriptor;
+        final Method methodWithoutGenerics;
+        final String functionClassName;
+        final T delegatingInstance;
+        Throwable translationError;
+
+        FunctionTranslation(PythonCompiledFunction pythonCompiledFunction, Class<T> javaFunctionalInterfaceType,
+                List<Class<?>> genericTypeArgumentList, T pythonImplementation) {
+            this.pythonCompiledFunction = pythonCompiledFunction;
+            this.methodWithoutGenerics =
+                    PythonBytecodeToJavaBytecodeTranslator.getFunctionalInterfaceMethod(javaFunctionalInterfaceType);
+            this.methodDescriptor = new MethodDescriptor(javaFunctionalInterfaceType, methodWithoutGenerics,
+                    genericTypeArgumentList);
+            this.functionClassName = PythonBytecodeToJavaBytecodeTranslator.reserveClassName(pythonCompiledFunction);
+            this.delegatingInstance =
+                    TieredFunctionTranslator.createDelegatingInstance(javaFunctionalInterfaceType, pythonImplementation);
+        }
+
+        void writeFunctionClass() {
+            try {
+                PythonBytecodeToJavaBytecodeTranslator.writeFunctionClass(pythonCompiledFunction, methodDescriptor,
+                        methodWithoutGenerics, false, functionClassName);
+            } catch (RuntimeException | LinkageError e) {
+                translationError = e;
+            }
+        }
+
+        void defineFunctionClass() {
+            if (translationError == null) {
+                try {
+                    Class<T> functionClass = PythonBytecodeToJavaBytecodeTranslator.defineFunctionClass(
+                            pythonCompiledFunction, functionClassName);
+                    TieredFunctionTranslator.setDelegate(delegatingInstance,
+                            PythonBytecodeToJavaBytecodeTranslator.createFunctionInstance(pythonCompiledFunction,
+                                    functionClass));
+                    return;
+                } catch (RuntimeException | LinkageError e) {
+                    translationError = e;
+                }
+            }
+            LOGGER.debug("Unable to translate function ({}); it will keep using its Python implementation.",
+                    pythonCompiledFunction.qualifiedName, translationError);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.optaplanner.jpyinterpreter;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import org.optaplanner.jpyinterpreter.types.errors.PythonTraceback;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import org.optaplanner.jpyinterpreter.types.wrappers.PythonObjectWrapper;
+import org.optaplanner.jpyinterpreter.util.PythonObjectRegistry;
 import org.optaplanner.jpyinterpreter.util.function.PentaFunction;
 import org.optaplanner.jpyinterpreter.util.function.QuadFunction;
 import org.optaplanner.jpyinterpreter.util.function.TriConsumer;
@@ -32,7 +34,11 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
 
     Map<ModuleSpec, PythonModule> moduleSpecToModuleMap = new HashMap<>();
 
-    public static Map<Number, Object> pythonObjectIdToConvertedObjectMap = new HashMap<>();
+    /**
+     * The Java objects that Python objects were converted to outside of a solver run (such as constants, closures
+     * and globals of translated functions). Solver runs keep their own reference maps on top of it.
+     */
+    public static final PythonObjectRegistry pythonObjectIdToConvertedObjectMap = new PythonObjectRegistry();
 
     public static Function<OpaquePythonReference, Number> lookupPythonReferenceIdPythonFunction;
 
@@ -42,7 +48,10 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
     public static BiFunction<OpaquePythonReference, String, OpaquePythonReference[]> lookupPointerArrayForAttributeOnPythonReferencePythonFunction;
 
     public static TriFunction<OpaquePythonReference, String, Map<Number, PythonLikeObject>, PythonLikeObject> lookupAttributeOnPythonReferenceWithMapPythonFunction;
+    public static TriFunction<OpaquePythonReference, String[], Map<Number, PythonLikeObject>, PythonLikeObject[]> lookupAttributesOnPythonReferenceWithMapPythonFunction;
+    public static TriFunction<OpaquePythonReference[], String[][], List<Map<Number, PythonLikeObject>>, PythonLikeObject[][]> lookupAttributesOnPythonReferencesWithMapPythonFunction;
     public static TriConsumer<OpaquePythonReference, String, Object> setAttributeOnPythonReferencePythonFunction;
+    public static TriConsumer<OpaquePythonReference, String[], Object[]> setAttributesOnPythonReferencePythonFunction;
     public static BiConsumer<OpaquePythonReference, String> deleteAttributeOnPythonReferencePythonFunction;
     public static BiFunction<OpaquePythonReference, Map<Number, PythonLikeObject>, Map<String, PythonLikeObject>> lookupDictOnPythonReferencePythonFunction;
     public static TriFunction<OpaquePythonReference, List<PythonLikeObject>, Map<PythonString, PythonLikeObject>, PythonLikeObject> callPythonFunction;
@@ -77,6 +86,48 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
         return lookupAttributeOnPythonReferenceWithMapPythonFunction.apply(object, attribute, map);
     }
 
+    /**
+     * Looks up several attributes of a Python object in a single call to Python.
+     *
+     * @return the values of the attributes, in the same order as attributes; null for attributes the object does not have
+     */
+    public static PythonLikeObject[] lookupAttributesOnPythonReference(OpaquePythonReference object, String[] attributes,
+            Map<Number, PythonLikeObject> map) {
+        return lookupAttributesOnPythonReferenceWithMapPythonFunction.apply(object, attributes, map);
+    }
+
+    /**
+     * Reads the fields of several objects from their Python objects in a single call to Python.
+     * Equivalent to calling {@link CPythonBackedPythonLikeObject#$readFieldsFromCPythonReference()} on each of them.
+     */
+    public static void readFieldsFromCPythonReferences(Collection<? extends CPythonBackedPythonLikeObject> objects) {
+        List<CPythonBackedPythonLikeObject> toReadList = new ArrayList<>(objects.size());
+        for (CPythonBackedPythonLikeObject object : objects) {
+            if (object.$getCPythonReference() != null && object.$getCPythonAttributeNames().length != 0) {
+                toReadList.add(object);
+            }
+        }
+        if (toReadList.isEmpty()) {
+            return;
+        }
+
+        OpaquePythonReference[] references = new OpaquePythonReference[toReadList.size()];
+        String[][] attributeNames = new String[toReadList.size()][];
+        List<Map<Number, PythonLikeObject>> instanceMapList = new ArrayList<>(toReadList.size());
+        for (int i = 0; i < references.length; i++) {
+            CPythonBackedPythonLikeObject object = toReadList.get(i);
+            references[i] = object.$getCPythonReference();
+            attributeNames[i] = object.$getCPythonAttributeNames();
+            instanceMapList.add(object.$getInstanceMap());
+        }
+
+        PythonLikeObject[][] attributeValues =
+                lookupAttributesOnPythonReferencesWithMapPythonFunction.apply(references, attributeNames, instanceMapList);
+        for (int i = 0; i < references.length; i++) {
+            toReadList.get(i).$readFieldsFromCPythonAttributes(attributeValues[i]);
+        }
+    }
+
     public static OpaquePythonReference lookupPointerForAttributeOnPythonReference(OpaquePythonReference object,
             String attribute) {
         return lookupPointerForAttributeOnPythonReferencePythonFunction.apply(object, attribute);
@@ -91,6 +142,13 @@ public class CPythonBackedPythonInterpreter implements PythonInterpreter {
         setAttributeOnPythonReferencePythonFunction.accept(object, attribute, value);
     }
 
+    /**
+     * Sets several attributes of a Python object in a single call to Python.
+     */
+    public static void setAttributesOnPythonReference(OpaquePythonReference object, String[] attributes, Object[] values) {
+        setAttributesOnPythonReferencePythonFunction.accept(object, attributes, values);
+    }
+
     public static void deleteAttributeOnPythonReference(OpaquePythonReference object, String attribute) {
         deleteAttributeOnPythonReferencePythonFunction.accept(object, attribute);
     }
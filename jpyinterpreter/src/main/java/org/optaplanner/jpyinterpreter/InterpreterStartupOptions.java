@@ -11,4 +11,10 @@ public final class InterpreterStartupOptions {
      * Where to output class files; defaults to null (which cause not class files to not be written)
      */
     public static Path classOutputRootPath = null;
+
+    /**
+     * Where to cache the bytecode of translated functions between runs; defaults to null (which disables the cache).
+     * See {@link TranslatedClassCache}.
+     */
+    public static Path translatedClassCachePath = null;
 }
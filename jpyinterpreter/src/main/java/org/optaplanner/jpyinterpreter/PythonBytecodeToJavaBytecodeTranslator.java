@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -28,6 +29,7 @@ import org.optaplanner.jpyinterpreter.implementors.CollectionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.ExceptionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.FunctionImplementor;
 import org.optaplanner.jpyinterpreter.implementors.JavaPythonTypeConversionImplementor;
+import org.optaplanner.jpyinterpreter.implementors.PrimitiveArithmeticImplementor;
 import org.optaplanner.jpyinterpreter.implementors.StackManipulationImplementor;
 import org.optaplanner.jpyinterpreter.implementors.VariableImplementor;
 import org.optaplanner.jpyinterpreter.opcodes.Opcode;
@@ -82,7 +84,7 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static final String INTERPRETER_INSTANCE_FIELD_NAME = "__interpreter__";
 
     public static final String PYTHON_WRAPPER_FUNCTION_INSTANCE_FIELD_NAME = "__function__";
-    public static final Map<String, Integer> classNameToSharedInstanceCount = new HashMap<>();
+    public static final Map<String, Integer> classNameToSharedInstanceCount = new ConcurrentHashMap<>();
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PythonBytecodeToJavaBytecodeTranslator.class);
     public static Path classOutputRootPath = InterpreterStartupOptions.classOutputRootPath;
@@ -93,6 +95,7 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
     public static void writeClassOutput(Map<String, byte[]> classNameToBytecode, String className, byte[] classByteCode) {
         classNameToBytecode.put(className, classByteCode);
+        TranslatedClassCache.onClassWritten(className);
 
         if (classOutputRootPath == null) {
             return;
@@ -211,6 +214,10 @@ public class PythonBytecodeToJavaBytecodeTranslator {
             MethodDescriptor methodDescriptor,
             boolean isVirtual) {
         Class<T> compiledClass = translatePythonBytecodeToClass(pythonCompiledFunction, methodDescriptor, isVirtual);
+        return createFunctionInstance(pythonCompiledFunction, compiledClass);
+    }
+
+    static <T> T createFunctionInstance(PythonCompiledFunction pythonCompiledFunction, Class<T> compiledClass) {
         PythonLikeTuple annotationTuple = pythonCompiledFunction.typeAnnotations.entrySet()
                 .stream()
                 .map(entry -> PythonLikeTuple.fromList(List.of(PythonString.valueOf(entry.getKey()), entry.getValue())))
@@ -222,15 +229,77 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                 compiledClass, PythonInterpreter.DEFAULT);
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> Class<T> translatePythonBytecodeToClass(PythonCompiledFunction pythonCompiledFunction,
             MethodDescriptor methodDescriptor, boolean isVirtual) {
+        String className = reserveClassName(pythonCompiledFunction);
+        writeFunctionClass(pythonCompiledFunction, methodDescriptor, isVirtual, className);
+        return defineFunctionClass(pythonCompiledFunction, className);
+    }
+
+    /**
+     * Returns a unique name for the class of {@code pythonCompiledFunction}. Names are assigned in call order,
+     * so callers translating several functions in parallel should reserve their names before starting.
+     */
+    static String reserveClassName(PythonCompiledFunction pythonCompiledFunction) {
         String maybeClassName = USER_PACKAGE_BASE + pythonCompiledFunction.getGeneratedClassBaseName();
         int numberOfInstances = classNameToSharedInstanceCount.merge(maybeClassName, 1, Integer::sum);
         if (numberOfInstances > 1) {
             maybeClassName = maybeClassName + "$$" + numberOfInstances;
         }
-        String className = maybeClassName;
+        return maybeClassName;
+    }
+
+    /**
+     * Writes the bytecode of the class {@code className} implementing {@code methodDescriptor} to
+     * {@link BuiltinTypes#classNameToBytecode} without loading it. Safe to call concurrently for different
+     * functions; see {@link #defineFunctionClass}.
+     */
+    static void writeFunctionClass(PythonCompiledFunction pythonCompiledFunction, MethodDescriptor methodDescriptor,
+            boolean isVirtual, String className) {
+        String methodSignature = getMethodSignature(methodDescriptor) + ";virtual=" + isVirtual;
+        TranslatedClassCache.translateOrLoad(pythonCompiledFunction, className, methodSignature,
+                () -> translateFunctionClass(pythonCompiledFunction, methodDescriptor, isVirtual, className));
+    }
+
+    /**
+     * Loads the class written by {@link #writeFunctionClass} and sets its static fields.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Class<T> defineFunctionClass(PythonCompiledFunction pythonCompiledFunction, String className) {
+        try {
+            Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
+            setStaticFields(compiledClass, pythonCompiledFunction);
+            return compiledClass;
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
+                    className + ") despite it being just generated.", e);
+        }
+    }
+
+    public static <T> Class<T> translatePythonBytecodeToClass(PythonCompiledFunction pythonCompiledFunction,
+            MethodDescriptor methodDescriptor, Method methodWithoutGenerics,
+            boolean isVirtual) {
+        String className = reserveClassName(pythonCompiledFunction);
+        writeFunctionClass(pythonCompiledFunction, methodDescriptor, methodWithoutGenerics, isVirtual, className);
+        return defineFunctionClass(pythonCompiledFunction, className);
+    }
+
+    /**
+     * Like {@link #writeFunctionClass(PythonCompiledFunction, MethodDescriptor, boolean, String)}, for a method
+     * whose descriptor has generic type arguments.
+     */
+    static void writeFunctionClass(PythonCompiledFunction pythonCompiledFunction, MethodDescriptor methodDescriptor,
+            Method methodWithoutGenerics, boolean isVirtual, String className) {
+        String methodSignature = getMethodSignature(methodDescriptor)
+                + ";withoutGenerics=" + Type.getMethodDescriptor(methodWithoutGenerics)
+                + ";virtual=" + isVirtual;
+        TranslatedClassCache.translateOrLoad(pythonCompiledFunction, className, methodSignature,
+                () -> translateFunctionClass(pythonCompiledFunction, methodDescriptor, methodWithoutGenerics, isVirtual,
+                        className));
+    }
+
+    private static void translateFunctionClass(PythonCompiledFunction pythonCompiledFunction,
+            MethodDescriptor methodDescriptor, boolean isVirtual, String className) {
         String internalClassName = className.replace('.', '/');
         ClassWriter classWriter = new JavaPythonClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
         classWriter.visit(Opcodes.V11, Modifier.PUBLIC, internalClassName, null, Type.getInternalName(Object.class),
@@ -242,39 +311,26 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         createFields(classWriter);
         createConstructor(classWriter, internalClassName);
 
-        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
-                methodDescriptor.getMethodName(),
-                methodDescriptor.getMethodDescriptor(),
-                null,
-                null);
+        if (isPythonLikeFunction && hasFixedArityEntryPoint(pythonCompiledFunction)) {
+            translatePythonBytecodeToFixedArityMethod(classWriter, internalClassName, pythonCompiledFunction, isVirtual);
+        } else {
+            MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
+                    methodDescriptor.getMethodName(),
+                    methodDescriptor.getMethodDescriptor(),
+                    null,
+                    null);
 
-        translatePythonBytecodeToMethod(methodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
-                isPythonLikeFunction, Integer.MAX_VALUE, isVirtual); // TODO: Use actual python version
+            translatePythonBytecodeToMethod(methodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
+                    isPythonLikeFunction, Integer.MAX_VALUE, isVirtual); // TODO: Use actual python version
+        }
 
         classWriter.visitEnd();
 
         writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
-
-        try {
-            Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
-            setStaticFields(compiledClass, pythonCompiledFunction);
-            return compiledClass;
-        } catch (ClassNotFoundException e) {
-            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
-                    className + ") despite it being just generated.", e);
-        }
     }
 
-    @SuppressWarnings("unchecked")
-    public static <T> Class<T> translatePythonBytecodeToClass(PythonCompiledFunction pythonCompiledFunction,
-            MethodDescriptor methodDescriptor, Method methodWithoutGenerics,
-            boolean isVirtual) {
-        String maybeClassName = USER_PACKAGE_BASE + pythonCompiledFunction.getGeneratedClassBaseName();
-        int numberOfInstances = classNameToSharedInstanceCount.merge(maybeClassName, 1, Integer::sum);
-        if (numberOfInstances > 1) {
-            maybeClassName = maybeClassName + "$$" + numberOfInstances;
-        }
-        String className = maybeClassName;
+    private static void translateFunctionClass(PythonCompiledFunction pythonCompiledFunction,
+            MethodDescriptor methodDescriptor, Method methodWithoutGenerics, boolean isVirtual, String className) {
         String internalClassName = className.replace('.', '/');
         ClassWriter classWriter = new JavaPythonClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
         classWriter.visit(Opcodes.V11, Modifier.PUBLIC, internalClassName, null, Type.getInternalName(Object.class),
@@ -286,14 +342,19 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         createFields(classWriter);
         createConstructor(classWriter, internalClassName);
 
-        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
-                methodDescriptor.getMethodName(),
-                methodDescriptor.getMethodDescriptor(),
-                null,
-                null);
+        MethodVisitor methodVisitor;
+        if (isPythonLikeFunction && hasFixedArityEntryPoint(pythonCompiledFunction)) {
+            translatePythonBytecodeToFixedArityMethod(classWriter, internalClassName, pythonCompiledFunction, isVirtual);
+        } else {
+            methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
+                    methodDescriptor.getMethodName(),
+                    methodDescriptor.getMethodDescriptor(),
+                    null,
+                    null);
 
-        translatePythonBytecodeToMethod(methodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
-                isPythonLikeFunction, Integer.MAX_VALUE, isVirtual); // TODO: Use actual python version
+            translatePythonBytecodeToMethod(methodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
+                    isPythonLikeFunction, Integer.MAX_VALUE, isVirtual); // TODO: Use actual python version
+        }
 
         String withoutGenericsSignature = Type.getMethodDescriptor(methodWithoutGenerics);
         if (!withoutGenericsSignature.equals(methodDescriptor.getMethodDescriptor())) {
@@ -318,15 +379,11 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         classWriter.visitEnd();
 
         writeClassOutput(BuiltinTypes.classNameToBytecode, className, classWriter.toByteArray());
+    }
 
-        try {
-            Class<T> compiledClass = (Class<T>) BuiltinTypes.asmClassLoader.loadClass(className);
-            setStaticFields(compiledClass, pythonCompiledFunction);
-            return compiledClass;
-        } catch (ClassNotFoundException e) {
-            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
-                    className + ") despite it being just generated.", e);
-        }
+    private static String getMethodSignature(MethodDescriptor methodDescriptor) {
+        return methodDescriptor.getMethodType() + " " + methodDescriptor.getDeclaringClassInternalName() + "."
+                + methodDescriptor.getMethodName() + methodDescriptor.getMethodDescriptor();
     }
 
     @SuppressWarnings("unchecked")
@@ -481,6 +538,87 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         }
     }
 
+    /**
+     * Returns true if the function only takes a fixed number of positional arguments (no defaults are needed to call
+     * it with that many arguments, and there are no keyword-only, *args or **kwargs parameters), and that number is
+     * at most {@link PythonLikeFunction#MAX_FIXED_ARITY}.
+     */
+    static boolean hasFixedArityEntryPoint(PythonCompiledFunction pythonCompiledFunction) {
+        return pythonCompiledFunction.co_argcount <= PythonLikeFunction.MAX_FIXED_ARITY &&
+                pythonCompiledFunction.totalArgCount() == pythonCompiledFunction.co_argcount &&
+                getFunctionType(pythonCompiledFunction) != PythonFunctionType.GENERATOR;
+    }
+
+    public static String getFixedArityMethodName(int argumentCount) {
+        return "$call" + argumentCount;
+    }
+
+    public static String getFixedArityMethodDescriptor(int argumentCount) {
+        Type[] parameterTypes = new Type[argumentCount];
+        Arrays.fill(parameterTypes, Type.getType(PythonLikeObject.class));
+        return Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), parameterTypes);
+    }
+
+    /**
+     * Translates the function body to {@code $callN}, where N is the number of positional arguments of the function,
+     * so calls with exactly N positional arguments do not need to allocate an argument list. {@code $call} extracts
+     * the arguments using the function's {@link ArgumentSpec} and then delegates to {@code $callN}.
+     */
+    private static void translatePythonBytecodeToFixedArityMethod(ClassWriter classWriter, String internalClassName,
+            PythonCompiledFunction pythonCompiledFunction, boolean isVirtual) {
+        int argumentCount = pythonCompiledFunction.co_argcount;
+        MethodDescriptor fixedArityMethodDescriptor = new MethodDescriptor(Type.getInternalName(PythonLikeFunction.class),
+                MethodDescriptor.MethodType.INTERFACE, getFixedArityMethodName(argumentCount),
+                getFixedArityMethodDescriptor(argumentCount));
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC,
+                fixedArityMethodDescriptor.getMethodName(),
+                fixedArityMethodDescriptor.getMethodDescriptor(),
+                null,
+                null);
+
+        // The parameters are already PythonLikeObjects, so they are copied into their variable slots as is
+        translatePythonBytecodeToMethod(fixedArityMethodDescriptor, internalClassName, methodVisitor, pythonCompiledFunction,
+                false, Integer.MAX_VALUE, isVirtual); // TODO: Use actual python version
+
+        methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$call",
+                Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
+                        Type.getType(List.class),
+                        Type.getType(Map.class),
+                        Type.getType(PythonLikeObject.class)),
+                null,
+                null);
+
+        methodVisitor.visitCode();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, ARGUMENT_SPEC_INSTANCE_FIELD_NAME,
+                Type.getDescriptor(ArgumentSpec.class));
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 2);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(ArgumentSpec.class),
+                "extractArgumentList",
+                Type.getMethodDescriptor(Type.getType(List.class), Type.getType(List.class), Type.getType(Map.class)),
+                false);
+        methodVisitor.visitVarInsn(Opcodes.ASTORE, 4);
+
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        for (int i = 0; i < argumentCount; i++) {
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 4);
+            methodVisitor.visitLdcInsn(i);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(List.class), "get",
+                    Type.getMethodDescriptor(Type.getType(Object.class), Type.INT_TYPE), true);
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeObject.class));
+        }
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, internalClassName,
+                fixedArityMethodDescriptor.getMethodName(),
+                fixedArityMethodDescriptor.getMethodDescriptor(),
+                false);
+        methodVisitor.visitInsn(Opcodes.ARETURN);
+
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+    }
+
     private static void createConstructor(ClassWriter classWriter, String className) {
         // Empty constructor, for java code
         MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "<init>",
@@ -985,6 +1123,27 @@ public class PythonBytecodeToJavaBytecodeTranslator {
         return PythonFunctionType.FUNCTION;
     }
 
+    /**
+     * Returns the name of the Java parameter for the Python variable {@code pythonName}, or null (an unnamed
+     * parameter) if it is not a valid Java parameter name (such as the ".0" argument of comprehensions).
+     */
+    private static String getJavaParameterName(String pythonName) {
+        for (int i = 0; i < pythonName.length(); i++) {
+            switch (pythonName.charAt(i)) {
+                case '.':
+                case ';':
+                case '[':
+                case '/':
+                case '<':
+                case '>':
+                    return null;
+                default:
+                    break;
+            }
+        }
+        return pythonName;
+    }
+
     private static void translatePythonBytecodeToMethod(MethodDescriptor method, String className, MethodVisitor methodVisitor,
             PythonCompiledFunction pythonCompiledFunction, boolean isPythonLikeFunction, int pythonVersion, boolean isVirtual) {
         // Apply Method Adapters, which reorder try blocks and check the bytecode to ensure it valid
@@ -992,7 +1151,7 @@ public class PythonBytecodeToJavaBytecodeTranslator {
 
         for (int i = 0; i < method.getParameterTypes().length; i++) {
             if (!isPythonLikeFunction) {
-                methodVisitor.visitParameter(pythonCompiledFunction.co_varnames.get(i), 0);
+                methodVisitor.visitParameter(getJavaParameterName(pythonCompiledFunction.co_varnames.get(i)), 0);
             } else {
                 methodVisitor.visitParameter(null, 0);
             }
@@ -1081,12 +1240,21 @@ public class PythonBytecodeToJavaBytecodeTranslator {
     public static void writeInstructionsForOpcodes(FunctionMetadata functionMetadata,
             List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList) {
         writeInstructionsForOpcodes(functionMetadata, stackMetadataForOpcodeIndex, opcodeList, ignored -> {
-        });
+        }, true);
     }
 
     public static void writeInstructionsForOpcodes(FunctionMetadata functionMetadata,
             List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
             Consumer<PythonBytecodeInstruction> runAfterLabelAndBeforeArgumentors) {
+        // runAfterLabelAndBeforeArgumentors must see every instruction, so do not fuse primitive runs
+        writeInstructionsForOpcodes(functionMetadata, stackMetadataForOpcodeIndex, opcodeList,
+                runAfterLabelAndBeforeArgumentors, false);
+    }
+
+    private static void writeInstructionsForOpcodes(FunctionMetadata functionMetadata,
+            List<StackMetadata> stackMetadataForOpcodeIndex, List<Opcode> opcodeList,
+            Consumer<PythonBytecodeInstruction> runAfterLabelAndBeforeArgumentors,
+            boolean usePrimitiveArithmetic) {
         PythonCompiledFunction pythonCompiledFunction = functionMetadata.pythonCompiledFunction;
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
         Map<Integer, Label> bytecodeCounterToLabelMap = functionMetadata.bytecodeCounterToLabelMap;
@@ -1163,6 +1331,24 @@ public class PythonBytecodeToJavaBytecodeTranslator {
                 continue;
             }
 
+            if (usePrimitiveArithmetic) {
+                int fusedOpcodeCount = PrimitiveArithmeticImplementor.implementPrimitiveRun(functionMetadata,
+                        stackMetadataForOpcodeIndex, opcodeList, i,
+                        index -> {
+                            PythonBytecodeInstruction indexInstruction = pythonCompiledFunction.instructionList.get(index);
+                            return indexInstruction.isJumpTarget
+                                    || bytecodeCounterToLabelMap.containsKey(indexInstruction.offset)
+                                    || bytecodeIndexToArgumentorsMap.containsKey(indexInstruction.offset)
+                                    || exceptionTableTargetLabelMap.containsKey(indexInstruction.offset)
+                                    || exceptionTableTryBlockMap.containsKey(indexInstruction.offset)
+                                    || exceptionTableStartLabelMap.containsKey(indexInstruction.offset);
+                        });
+                if (fusedOpcodeCount > 0) {
+                    i += fusedOpcodeCount - 1;
+                    continue;
+                }
+            }
+
             opcodeList.get(i).implement(functionMetadata, stackMetadata);
         }
     }
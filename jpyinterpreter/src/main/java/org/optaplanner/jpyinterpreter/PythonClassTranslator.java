@@ -1,7 +1,6 @@
 package org.optaplanner.jpyinterpreter;
 
 import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.ARGUMENT_SPEC_INSTANCE_FIELD_NAME;
-import static org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToInstance;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
@@ -16,6 +15,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -47,15 +49,15 @@ import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
-import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 import org.optaplanner.jpyinterpreter.util.arguments.ArgumentSpec;
 
 public class PythonClassTranslator {
-    static Map<FunctionSignature, InterfaceDeclaration> functionSignatureToInterfaceName = new HashMap<>();
+    static Map<FunctionSignature, InterfaceDeclaration> functionSignatureToInterfaceName = new ConcurrentHashMap<>();
 
     // $ is illegal in variables/methods in Python
     public static String TYPE_FIELD_NAME = "$TYPE";
     public static String CPYTHON_TYPE_FIELD_NAME = "$CPYTHON_TYPE";
+    public static String CPYTHON_ATTRIBUTE_NAMES_FIELD_NAME = "$CPYTHON_ATTRIBUTE_NAMES";
 
     public static PythonLikeType translatePythonClass(PythonCompiledClass pythonCompiledClass) {
         String maybeClassName =
@@ -110,8 +112,16 @@ public class PythonClassTranslator {
         PythonLikeType pythonLikeType = new PythonLikeType(pythonCompiledClass.className, internalClassName,
                 superTypeList);
         PythonLikeType superClassType = superTypeList.get(0);
-        Set<String> instanceAttributeSet = new HashSet<>();
+        Set<String> instanceAttributeSet = ConcurrentHashMap.newKeySet();
+        // Create the interfaces used by the flow graphs first, so their names do not depend on thread scheduling
         pythonCompiledClass.instanceFunctionNameToPythonBytecode.values().forEach(instanceMethod -> {
+            try {
+                getInterfaceForPythonFunctionIgnoringReturn(instanceMethod);
+            } catch (RuntimeException e) {
+                // reported by getReferencedSelfAttributes below
+            }
+        });
+        pythonCompiledClass.instanceFunctionNameToPythonBytecode.values().parallelStream().forEach(instanceMethod -> {
             try {
                 instanceAttributeSet.addAll(getReferencedSelfAttributes(instanceMethod));
             } catch (UnsupportedOperationException e) {
@@ -247,8 +257,12 @@ public class PythonClassTranslator {
             isCpythonBacked = false;
         }
 
+        String[] cpythonAttributeNames = null;
         if (isCpythonBacked) {
+            List<String> cpythonAttributeNameList = new ArrayList<>(attributeNameToTypeMap.keySet());
+            cpythonAttributeNames = getCPythonAttributeNames(superClassType, cpythonAttributeNameList);
             createCPythonOperationMethods(classWriter, internalClassName, superClassType.getJavaTypeInternalName(),
+                    cpythonAttributeNames.length - cpythonAttributeNameList.size(), cpythonAttributeNameList,
                     attributeNameToTypeMap);
         }
 
@@ -276,6 +290,9 @@ public class PythonClassTranslator {
             generatedClass = (Class<? extends PythonLikeObject>) BuiltinTypes.asmClassLoader.loadClass(className);
             generatedClass.getField(TYPE_FIELD_NAME).set(null, pythonLikeType);
             generatedClass.getField(CPYTHON_TYPE_FIELD_NAME).set(null, pythonCompiledClass.binaryType);
+            if (cpythonAttributeNames != null) {
+                generatedClass.getField(CPYTHON_ATTRIBUTE_NAMES_FIELD_NAME).set(null, cpythonAttributeNames);
+            }
         } catch (ClassNotFoundException e) {
             throw new IllegalStateException("Impossible State: Unable to load generated class (" +
                     className + ") despite it being just generated.", e);
@@ -284,34 +301,32 @@ public class PythonClassTranslator {
                     + className + ").", e);
         }
 
-        Class<?> initFunctionClass = null;
+        List<MethodTranslation> methodTranslationList = new ArrayList<>();
         for (Map.Entry<String, PythonCompiledFunction> instanceMethodEntry : pythonCompiledClass.instanceFunctionNameToPythonBytecode
                 .entrySet()) {
-            InterfaceDeclaration interfaceDeclaration =
-                    getInterfaceForInstancePythonFunction(internalClassName, instanceMethodEntry.getValue());
-            Class<?> createdFunctionClass = createBytecodeForMethodAndSetOnClass(className, pythonLikeType,
-                    pythonCompiledClass.binaryType, generatedClass,
-                    instanceMethodEntry,
-                    interfaceDeclaration, PythonMethodKind.VIRTUAL_METHOD);
-            if (instanceMethodEntry.getKey().equals("__init__")) {
-                initFunctionClass = createdFunctionClass;
-            }
+            methodTranslationList.add(new MethodTranslation(instanceMethodEntry,
+                    getInterfaceForInstancePythonFunction(internalClassName, instanceMethodEntry.getValue()),
+                    PythonMethodKind.VIRTUAL_METHOD));
         }
 
         for (Map.Entry<String, PythonCompiledFunction> staticMethodEntry : pythonCompiledClass.staticFunctionNameToPythonBytecode
                 .entrySet()) {
-            InterfaceDeclaration interfaceDeclaration = getInterfaceForPythonFunction(staticMethodEntry.getValue());
-            createBytecodeForMethodAndSetOnClass(className, pythonLikeType, pythonCompiledClass.binaryType, generatedClass,
-                    staticMethodEntry,
-                    interfaceDeclaration, PythonMethodKind.STATIC_METHOD);
+            methodTranslationList.add(new MethodTranslation(staticMethodEntry,
+                    getInterfaceForPythonFunction(staticMethodEntry.getValue()),
+                    PythonMethodKind.STATIC_METHOD));
         }
 
         for (Map.Entry<String, PythonCompiledFunction> classMethodEntry : pythonCompiledClass.classFunctionNameToPythonBytecode
                 .entrySet()) {
-            InterfaceDeclaration interfaceDeclaration = getInterfaceForClassPythonFunction(classMethodEntry.getValue());
+            methodTranslationList.add(new MethodTranslation(classMethodEntry,
+                    getInterfaceForClassPythonFunction(classMethodEntry.getValue()),
+                    PythonMethodKind.CLASS_METHOD));
+        }
+
+        translateMethodsInParallel(methodTranslationList);
+        for (MethodTranslation methodTranslation : methodTranslationList) {
             createBytecodeForMethodAndSetOnClass(className, pythonLikeType, pythonCompiledClass.binaryType, generatedClass,
-                    classMethodEntry,
-                    interfaceDeclaration, PythonMethodKind.CLASS_METHOD);
+                    methodTranslation);
         }
 
         pythonLikeType.setConstructor(createConstructor(internalClassName,
@@ -362,21 +377,73 @@ public class PythonClassTranslator {
         return javaMethodName.substring("$method$".length());
     }
 
+    /**
+     * A method of a class being translated. Its function class is written in parallel with the other methods
+     * of the class by {@link #translateMethodsInParallel}, and then defined in declaration order by
+     * {@link #createBytecodeForMethodAndSetOnClass}.
+     */
+    private static final class MethodTranslation {
+        final Map.Entry<String, PythonCompiledFunction> methodEntry;
+        final InterfaceDeclaration interfaceDeclaration;
+        final PythonMethodKind pythonMethodKind;
+        final String functionClassName;
+        RuntimeException translationError;
+
+        MethodTranslation(Map.Entry<String, PythonCompiledFunction> methodEntry, InterfaceDeclaration interfaceDeclaration,
+                PythonMethodKind pythonMethodKind) {
+            this.methodEntry = methodEntry;
+            this.interfaceDeclaration = interfaceDeclaration;
+            this.pythonMethodKind = pythonMethodKind;
+            this.functionClassName = PythonBytecodeToJavaBytecodeTranslator.reserveClassName(methodEntry.getValue());
+        }
+
+        void writeFunctionClass() {
+            try {
+                PythonBytecodeToJavaBytecodeTranslator.writeFunctionClass(methodEntry.getValue(),
+                        new MethodDescriptor(interfaceDeclaration.interfaceName,
+                                MethodDescriptor.MethodType.INTERFACE, "invoke",
+                                interfaceDeclaration.methodDescriptor),
+                        pythonMethodKind == PythonMethodKind.VIRTUAL_METHOD,
+                        functionClassName);
+            } catch (RuntimeException e) {
+                translationError = e;
+            }
+        }
+    }
+
+    /**
+     * Writes the function classes of the methods in parallel on the common {@link ForkJoinPool}.
+     * The methods only read the class's type, which is not modified until they are all written.
+     */
+    private static void translateMethodsInParallel(List<MethodTranslation> methodTranslationList) {
+        if (methodTranslationList.size() < 2) {
+            methodTranslationList.forEach(MethodTranslation::writeFunctionClass);
+            return;
+        }
+        List<ForkJoinTask<?>> taskList = new ArrayList<>(methodTranslationList.size());
+        for (MethodTranslation methodTranslation : methodTranslationList) {
+            taskList.add(ForkJoinPool.commonPool().submit(methodTranslation::writeFunctionClass));
+        }
+        taskList.forEach(ForkJoinTask::join);
+    }
+
     private static Class<?> createBytecodeForMethodAndSetOnClass(String className, PythonLikeType pythonLikeType,
             PythonLikeType cPythonType,
             Class<? extends PythonLikeObject> generatedClass,
-            Map.Entry<String, PythonCompiledFunction> methodEntry,
-            InterfaceDeclaration interfaceDeclaration,
-            PythonMethodKind pythonMethodKind) {
+            MethodTranslation methodTranslation) {
+        Map.Entry<String, PythonCompiledFunction> methodEntry = methodTranslation.methodEntry;
+        InterfaceDeclaration interfaceDeclaration = methodTranslation.interfaceDeclaration;
+        PythonMethodKind pythonMethodKind = methodTranslation.pythonMethodKind;
         Class<?> functionClass;
         Object functionInstance;
 
         try {
-            functionInstance = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToInstance(methodEntry.getValue(),
-                    new MethodDescriptor(interfaceDeclaration.interfaceName,
-                            MethodDescriptor.MethodType.INTERFACE, "invoke",
-                            interfaceDeclaration.methodDescriptor),
-                    pythonMethodKind == PythonMethodKind.VIRTUAL_METHOD);
+            if (methodTranslation.translationError != null) {
+                throw methodTranslation.translationError;
+            }
+            functionInstance = PythonBytecodeToJavaBytecodeTranslator.createFunctionInstance(methodEntry.getValue(),
+                    PythonBytecodeToJavaBytecodeTranslator.defineFunctionClass(methodEntry.getValue(),
+                            methodTranslation.functionClassName));
             functionClass = functionInstance.getClass();
             functionClass.getField(PythonBytecodeToJavaBytecodeTranslator.CLASS_CELL_STATIC_FIELD_NAME).set(null,
                     pythonLikeType);
@@ -905,54 +972,85 @@ public class PythonClassTranslator {
         methodVisitor.visitEnd();
     }
 
+    /**
+     * Returns the names of the attributes a CPython backed class synchronizes with its CPython object: the names
+     * synchronized by its superclass, followed by the names of its own attributes in attributeNameList.
+     */
+    public static String[] getCPythonAttributeNames(PythonLikeType superClassType, List<String> attributeNameList) {
+        String[] superClassAttributeNames;
+        try {
+            superClassAttributeNames = (String[]) superClassType.getJavaClass()
+                    .getField(CPYTHON_ATTRIBUTE_NAMES_FIELD_NAME).get(null);
+        } catch (NoSuchFieldException e) {
+            superClassAttributeNames = new String[0];
+        } catch (ClassNotFoundException | IllegalAccessException e) {
+            throw new IllegalStateException("Unable to get the CPython attributes of superclass (" + superClassType
+                    + ").", e);
+        }
+        String[] out = Arrays.copyOf(superClassAttributeNames, superClassAttributeNames.length + attributeNameList.size());
+        for (int i = 0; i < attributeNameList.size(); i++) {
+            out[superClassAttributeNames.length + i] = attributeNameList.get(i);
+        }
+        return out;
+    }
+
+    /**
+     * Creates the methods that copy attributes between a CPython backed object and its CPython object. Attribute
+     * values are passed in an array, so all the attributes of an object (or of many objects,
+     * see {@link CPythonBackedPythonInterpreter#readFieldsFromCPythonReferences(java.util.Collection)}) are read or
+     * written in a single call to Python.
+     *
+     * @param superClassAttributeCount the number of attributes synchronized by the superclass, which come before
+     *        the attributes of attributeNameList in the attribute value arrays
+     */
     public static void createCPythonOperationMethods(ClassWriter classWriter, String internalClassName,
-            String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
-        createReadFromCPythonReference(classWriter, internalClassName, superClassInternalName, attributeNameToType);
-        createWriteToCPythonReference(classWriter, internalClassName, superClassInternalName, attributeNameToType);
+            String superClassInternalName, int superClassAttributeCount, List<String> attributeNameList,
+            Map<String, PythonLikeType> attributeNameToType) {
+        classWriter.visitField(Modifier.PUBLIC | Modifier.STATIC, CPYTHON_ATTRIBUTE_NAMES_FIELD_NAME,
+                Type.getDescriptor(String[].class), null, null);
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$getCPythonAttributeNames",
+                Type.getMethodDescriptor(Type.getType(String[].class)), null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, internalClassName, CPYTHON_ATTRIBUTE_NAMES_FIELD_NAME,
+                Type.getDescriptor(String[].class));
+        methodVisitor.visitInsn(Opcodes.ARETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        createReadFromCPythonAttributes(classWriter, internalClassName, superClassInternalName, superClassAttributeCount,
+                attributeNameList, attributeNameToType);
+        createWriteToCPythonAttributes(classWriter, internalClassName, superClassInternalName, superClassAttributeCount,
+                attributeNameList, attributeNameToType);
     }
 
-    public static void createReadFromCPythonReference(ClassWriter classWriter, String internalClassName,
-            String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
-        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$readFieldsFromCPythonReference",
-                Type.getMethodDescriptor(Type.VOID_TYPE), null,
+    public static void createReadFromCPythonAttributes(ClassWriter classWriter, String internalClassName,
+            String superClassInternalName, int superClassAttributeCount, List<String> attributeNameList,
+            Map<String, PythonLikeType> attributeNameToType) {
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$readFieldsFromCPythonAttributes",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(PythonLikeObject[].class)), null,
                 null);
         methodVisitor.visitCode();
 
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, superClassInternalName,
-                "$readFieldsFromCPythonReference",
-                Type.getMethodDescriptor(Type.VOID_TYPE), false);
-
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
-                "$cpythonReference", Type.getDescriptor(OpaquePythonReference.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
+                "$readFieldsFromCPythonAttributes",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(PythonLikeObject[].class)), false);
 
-        Label ifReferenceIsNotNull = new Label();
-        methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, ifReferenceIsNotNull);
-        methodVisitor.visitInsn(Opcodes.RETURN);
+        for (int i = 0; i < attributeNameList.size(); i++) {
+            String field = attributeNameList.get(i);
+            PythonLikeType fieldType = attributeNameToType.get(field);
 
-        methodVisitor.visitLabel(ifReferenceIsNotNull);
-        for (String field : attributeNameToType.keySet()) {
-            methodVisitor.visitInsn(Opcodes.DUP2);
-            methodVisitor.visitLdcInsn(field);
             methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-            methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
-                    "$instanceMap", Type.getDescriptor(Map.class));
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CPythonBackedPythonInterpreter.class),
-                    "lookupAttributeOnPythonReference",
-                    Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                            Type.getType(OpaquePythonReference.class),
-                            Type.getType(String.class),
-                            Type.getType(Map.class)),
-                    false);
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+            methodVisitor.visitLdcInsn(superClassAttributeCount + i);
+            methodVisitor.visitInsn(Opcodes.AALOAD);
 
             boolean isAssignableFromNone = false;
 
             try {
-                isAssignableFromNone = attributeNameToType.get(field).getJavaClass().isAssignableFrom(PythonNone.class);
+                isAssignableFromNone = fieldType.getJavaClass().isAssignableFrom(PythonNone.class);
             } catch (ClassNotFoundException e) {
                 // do nothing
             }
@@ -968,9 +1066,9 @@ public class PythonClassTranslator {
                 methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, ifFieldIsNone);
             }
 
-            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, attributeNameToType.get(field).getJavaTypeInternalName());
+            methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, fieldType.getJavaTypeInternalName());
             methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
-                    "L" + attributeNameToType.get(field).getJavaTypeInternalName() + ";");
+                    "L" + fieldType.getJavaTypeInternalName() + ";");
 
             if (!isAssignableFromNone) {
                 methodVisitor.visitJumpInsn(Opcodes.GOTO, doneSettingField);
@@ -979,7 +1077,7 @@ public class PythonClassTranslator {
                 methodVisitor.visitInsn(Opcodes.POP);
                 methodVisitor.visitInsn(Opcodes.ACONST_NULL);
                 methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, getJavaFieldName(field),
-                        "L" + attributeNameToType.get(field).getJavaTypeInternalName() + ";");
+                        "L" + fieldType.getJavaTypeInternalName() + ";");
                 methodVisitor.visitLabel(doneSettingField);
             }
         }
@@ -989,47 +1087,29 @@ public class PythonClassTranslator {
         methodVisitor.visitEnd();
     }
 
-    public static void createWriteToCPythonReference(ClassWriter classWriter, String internalClassName,
-            String superClassInternalName, Map<String, PythonLikeType> attributeNameToType) {
-        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$writeFieldsToCPythonReference",
-                Type.getMethodDescriptor(Type.VOID_TYPE), null,
+    public static void createWriteToCPythonAttributes(ClassWriter classWriter, String internalClassName,
+            String superClassInternalName, int superClassAttributeCount, List<String> attributeNameList,
+            Map<String, PythonLikeType> attributeNameToType) {
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "$writeFieldsToCPythonAttributes",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object[].class)), null,
                 null);
         methodVisitor.visitCode();
 
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, superClassInternalName,
-                "$writeFieldsToCPythonReference",
-                Type.getMethodDescriptor(Type.VOID_TYPE), false);
-
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(CPythonBackedPythonLikeObject.class),
-                "$cpythonReference", Type.getDescriptor(OpaquePythonReference.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-
-        Label ifReferenceIsNotNull = new Label();
-        methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, ifReferenceIsNotNull);
-        methodVisitor.visitInsn(Opcodes.RETURN);
-
-        methodVisitor.visitLabel(ifReferenceIsNotNull);
+                "$writeFieldsToCPythonAttributes",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(Object[].class)), false);
 
-        methodVisitor.visitInsn(Opcodes.SWAP);
-        for (String field : attributeNameToType.keySet()) {
-            methodVisitor.visitInsn(Opcodes.DUP2);
+        for (int i = 0; i < attributeNameList.size(); i++) {
+            String field = attributeNameList.get(i);
 
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+            methodVisitor.visitLdcInsn(superClassAttributeCount + i);
+            methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
             methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, getJavaFieldName(field),
                     "L" + attributeNameToType.get(field).getJavaTypeInternalName() + ";");
-            methodVisitor.visitLdcInsn(field);
-            methodVisitor.visitInsn(Opcodes.SWAP);
-
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CPythonBackedPythonInterpreter.class),
-                    "setAttributeOnPythonReference",
-                    Type.getMethodDescriptor(Type.VOID_TYPE,
-                            Type.getType(OpaquePythonReference.class),
-                            Type.getType(String.class),
-                            Type.getType(Object.class)),
-                    false);
+            methodVisitor.visitInsn(Opcodes.AASTORE);
         }
         methodVisitor.visitInsn(Opcodes.RETURN);
 
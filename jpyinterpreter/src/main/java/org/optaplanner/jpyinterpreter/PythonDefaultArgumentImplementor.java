@@ -147,7 +147,11 @@ public class PythonDefaultArgumentImplementor {
 
         if (extraPositionalArgumentsVariableIndex.isPresent()) {
             methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
-            CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, 0);
+            // Not built with CollectionImplementor.buildCollection, since extra positional arguments are added to it
+            methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(PythonLikeTuple.class));
+            methodVisitor.visitInsn(Opcodes.DUP);
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(PythonLikeTuple.class), "<init>",
+                    Type.getMethodDescriptor(Type.VOID_TYPE), false);
             methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName,
                     getArgumentName(extraPositionalArgumentsVariableIndex.get()),
                     Type.getDescriptor(PythonLikeTuple.class));
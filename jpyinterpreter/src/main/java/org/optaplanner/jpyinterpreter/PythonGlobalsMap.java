@@ -0,0 +1,130 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.lang.invoke.SwitchPoint;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A globals dictionary that invalidates the inline caches of LOAD_GLOBAL call sites when modified.
+ * Globals maps that are not an instance of this class still work, but their lookups are not cached.
+ */
+public class PythonGlobalsMap extends HashMap<String, PythonLikeObject> {
+    private SwitchPoint switchPoint;
+
+    public PythonGlobalsMap() {
+        super();
+    }
+
+    public PythonGlobalsMap(Map<String, PythonLikeObject> globalsMap) {
+        super(globalsMap);
+    }
+
+    /**
+     * Returns a {@link SwitchPoint} that is invalidated when a global is added, changed or removed.
+     */
+    public synchronized SwitchPoint getSwitchPoint() {
+        if (switchPoint == null) {
+            switchPoint = new SwitchPoint();
+        }
+        return switchPoint;
+    }
+
+    /**
+     * Invalidates inline caches that depend on this map. Only needs to be called explicitly if the map
+     * is changed without going through its put/remove methods (i.e. through its entry set).
+     */
+    public void invalidateCaches() {
+        SwitchPoint toInvalidate;
+        synchronized (this) {
+            toInvalidate = switchPoint;
+            switchPoint = null;
+        }
+        if (toInvalidate != null) {
+            SwitchPoint.invalidateAll(new SwitchPoint[] { toInvalidate });
+        }
+    }
+
+    @Override
+    public PythonLikeObject put(String key, PythonLikeObject value) {
+        invalidateCaches();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends PythonLikeObject> m) {
+        invalidateCaches();
+        super.putAll(m);
+    }
+
+    @Override
+    public PythonLikeObject putIfAbsent(String key, PythonLikeObject value) {
+        invalidateCaches();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public PythonLikeObject remove(Object key) {
+        invalidateCaches();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        invalidateCaches();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        invalidateCaches();
+        super.clear();
+    }
+
+    @Override
+    public PythonLikeObject replace(String key, PythonLikeObject value) {
+        invalidateCaches();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, PythonLikeObject oldValue, PythonLikeObject newValue) {
+        invalidateCaches();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> function) {
+        invalidateCaches();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public PythonLikeObject computeIfAbsent(String key,
+            Function<? super String, ? extends PythonLikeObject> mappingFunction) {
+        invalidateCaches();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public PythonLikeObject computeIfPresent(String key,
+            BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+        invalidateCaches();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public PythonLikeObject compute(String key,
+            BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+        invalidateCaches();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public PythonLikeObject merge(String key, PythonLikeObject value,
+            BiFunction<? super PythonLikeObject, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+        invalidateCaches();
+        return super.merge(key, value, remappingFunction);
+    }
+}
@@ -0,0 +1,186 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tiered execution of Python functions: the function is used immediately through its (slow) Python
+ * implementation, while it is translated on a background thread. Once translation finishes, calls
+ * switch to the translated bytecode.
+ * <p>
+ * The returned object is an instance of a generated class that implements the functional interface by
+ * forwarding to a volatile {@code delegate} field, so swapping the implementation is a single write,
+ * and calls made after it see the translated bytecode. If translation fails, the Python implementation
+ * is kept.
+ * <p>
+ * Since the swap can happen at any call, only use it for functions whose result does not depend on which
+ * implementation computed it (such as predicates and functions that return an int).
+ */
+public final class TieredFunctionTranslator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TieredFunctionTranslator.class);
+
+    static final String DELEGATE_FIELD_NAME = "delegate";
+
+    private static final Map<Class<?>, Class<?>> interfaceToDelegatingClassMap = new ConcurrentHashMap<>();
+
+    // The generated classes do not override equals and hashCode, so this is an identity map
+    private static final Map<Object, CompletableFuture<Boolean>> delegatingInstanceToTranslationMap =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private TieredFunctionTranslator() {
+    }
+
+    public static <T> T translatePythonBytecodeInBackground(PythonCompiledFunction pythonCompiledFunction,
+            Class<T> javaFunctionalInterfaceType, List<Class<?>> genericTypeArgumentList, T pythonImplementation) {
+        return translatePythonBytecodeInBackground(pythonCompiledFunction, javaFunctionalInterfaceType,
+                genericTypeArgumentList, pythonImplementation, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns an implementation of {@code javaFunctionalInterfaceType} that calls {@code pythonImplementation}
+     * until {@code pythonCompiledFunction} is translated on {@code executor}, and the translated bytecode after.
+     */
+    public static <T> T translatePythonBytecodeInBackground(PythonCompiledFunction pythonCompiledFunction,
+            Class<T> javaFunctionalInterfaceType, List<Class<?>> genericTypeArgumentList, T pythonImplementation,
+            Executor executor) {
+        T out = createDelegatingInstance(javaFunctionalInterfaceType, pythonImplementation);
+        CompletableFuture<Boolean> translation = new CompletableFuture<>();
+        delegatingInstanceToTranslationMap.put(out, translation);
+        executor.execute(() -> {
+            try {
+                T translatedImplementation = genericTypeArgumentList.isEmpty()
+                        ? PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction,
+                                javaFunctionalInterfaceType)
+                        : PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction,
+                                javaFunctionalInterfaceType, genericTypeArgumentList);
+                setDelegate(out, translatedImplementation);
+                translation.complete(true);
+            } catch (RuntimeException | LinkageError e) {
+                LOGGER.warn("Unable to translate function ({}); it will keep using its Python implementation.",
+                        pythonCompiledFunction.qualifiedName, e);
+                translation.complete(false);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Returns a future that completes with true once {@code tieredFunction} calls its translated bytecode,
+     * or with false if it keeps calling its Python implementation; null if {@code tieredFunction} is not
+     * a tiered function.
+     */
+    public static CompletableFuture<Boolean> getTranslation(Object tieredFunction) {
+        return delegatingInstanceToTranslationMap.get(tieredFunction);
+    }
+
+    static Object getDelegate(Object delegatingInstance) {
+        try {
+            return delegatingInstance.getClass().getField(DELEGATE_FIELD_NAME).get(delegatingInstance);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException("(" + delegatingInstance + ") is not a tiered function", e);
+        }
+    }
+
+    static void setDelegate(Object delegatingInstance, Object delegate) {
+        try {
+            // The field is volatile, so the write is visible to all threads calling the function
+            delegatingInstance.getClass().getField(DELEGATE_FIELD_NAME).set(delegatingInstance, delegate);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException("Impossible state: generated class (" + delegatingInstance.getClass() +
+                    ") does not have field \"" + DELEGATE_FIELD_NAME + "\"", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T createDelegatingInstance(Class<T> javaFunctionalInterfaceType, T delegate) {
+        Class<?> delegatingClass = interfaceToDelegatingClassMap.computeIfAbsent(javaFunctionalInterfaceType,
+                TieredFunctionTranslator::createDelegatingClass);
+        try {
+            return (T) delegatingClass.getConstructor(javaFunctionalInterfaceType).newInstance(delegate);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalStateException("Impossible state: cannot create instance of generated class (" +
+                    delegatingClass + ")", e);
+        }
+    }
+
+    private static Class<?> createDelegatingClass(Class<?> javaFunctionalInterfaceType) {
+        Method interfaceMethod =
+                PythonBytecodeToJavaBytecodeTranslator.getFunctionalInterfaceMethod(javaFunctionalInterfaceType);
+        String interfaceInternalName = Type.getInternalName(javaFunctionalInterfaceType);
+        String interfaceDescriptor = Type.getDescriptor(javaFunctionalInterfaceType);
+        String interfaceMethodDescriptor = Type.getMethodDescriptor(interfaceMethod);
+
+        String maybeClassName = PythonBytecodeToJavaBytecodeTranslator.GENERATED_PACKAGE_BASE + "tiered."
+                + javaFunctionalInterfaceType.getSimpleName();
+        int numberOfInstances =
+                PythonBytecodeToJavaBytecodeTranslator.classNameToSharedInstanceCount.merge(maybeClassName, 1, Integer::sum);
+        if (numberOfInstances > 1) {
+            maybeClassName = maybeClassName + "$$" + numberOfInstances;
+        }
+        String className = maybeClassName;
+        String internalClassName = className.replace('.', '/');
+
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(Opcodes.V11, Modifier.PUBLIC | Opcodes.ACC_FINAL, internalClassName, null,
+                Type.getInternalName(Object.class), new String[] { interfaceInternalName });
+
+        classWriter.visitField(Modifier.PUBLIC | Modifier.VOLATILE, DELEGATE_FIELD_NAME, interfaceDescriptor, null, null);
+
+        MethodVisitor methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE, Type.getType(javaFunctionalInterfaceType)), null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE), false);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, internalClassName, DELEGATE_FIELD_NAME, interfaceDescriptor);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        methodVisitor = classWriter.visitMethod(Modifier.PUBLIC, interfaceMethod.getName(), interfaceMethodDescriptor,
+                null, null);
+        methodVisitor.visitCode();
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitFieldInsn(Opcodes.GETFIELD, internalClassName, DELEGATE_FIELD_NAME, interfaceDescriptor);
+        int slot = 1;
+        for (Type parameterType : Type.getArgumentTypes(interfaceMethodDescriptor)) {
+            methodVisitor.visitVarInsn(parameterType.getOpcode(Opcodes.ILOAD), slot);
+            slot += parameterType.getSize();
+        }
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, interfaceInternalName, interfaceMethod.getName(),
+                interfaceMethodDescriptor, true);
+        methodVisitor.visitInsn(Type.getReturnType(interfaceMethodDescriptor).getOpcode(Opcodes.IRETURN));
+        methodVisitor.visitMaxs(-1, -1);
+        methodVisitor.visitEnd();
+
+        classWriter.visitEnd();
+
+        PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
+                classWriter.toByteArray());
+        try {
+            return BuiltinTypes.asmClassLoader.loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Impossible State: Unable to load generated class (" +
+                    className + ") despite it being just generated.", e);
+        }
+    }
+}
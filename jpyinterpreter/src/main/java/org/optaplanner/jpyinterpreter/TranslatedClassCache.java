@@ -0,0 +1,368 @@
+package org.optaplanner.jpyinterpreter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonCell;
+import org.optaplanner.jpyinterpreter.types.PythonCode;
+import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.wrappers.PythonObjectWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent on-disk cache of the bytecode of translated function classes, so repeated runs
+ * of the same Python code skip translation. Entries are keyed by a SHA-256 hash of everything
+ * the translation depends on: the code object (instructions, names, constants, exception table),
+ * the types of the closure cells and referenced globals, the type annotations, the
+ * generated class name and a hash of the interpreter's code. The cache is enabled by setting
+ * {@link InterpreterStartupOptions#translatedClassCachePath}.
+ * <p>
+ * Only translations that generate a single class are cached; functions whose translation
+ * generates auxiliary classes (such as generators) are always translated.
+ */
+public final class TranslatedClassCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TranslatedClassCache.class);
+
+    /**
+     * Incremented whenever the format of the cache key or of cache entries change
+     */
+    private static final int CACHE_FORMAT_VERSION = 2;
+
+    private static final String CACHE_FILE_SUFFIX = ".class";
+
+    /**
+     * Identifies the build of the interpreter that translated an entry, so entries are not reused by a different
+     * build (even one with the same version, such as a snapshot). Computed on first use, since it hashes the
+     * interpreter's code; null if the code cannot be read, in which case nothing is cached.
+     */
+    private static final class InterpreterBuild {
+        static final String HASH = computeInterpreterBuildHash();
+    }
+
+    /**
+     * The classes written by {@link PythonBytecodeToJavaBytecodeTranslator#writeClassOutput} for each
+     * translation in progress on the current thread (translations can be nested).
+     */
+    private static final ThreadLocal<Deque<List<String>>> writtenClassNamesStack =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private TranslatedClassCache() {
+    }
+
+    public static boolean isEnabled() {
+        return InterpreterStartupOptions.translatedClassCachePath != null;
+    }
+
+    /**
+     * Writes the bytecode of the class translated from {@code pythonCompiledFunction} to
+     * {@link BuiltinTypes#classNameToBytecode}, either from the cache or by calling {@code translator},
+     * which must write the class named {@code className} via
+     * {@link PythonBytecodeToJavaBytecodeTranslator#writeClassOutput}.
+     *
+     * @param methodSignature identifies the interface method the class implements, and how
+     */
+    static void translateOrLoad(PythonCompiledFunction pythonCompiledFunction, String className,
+            String methodSignature, Runnable translator) {
+        if (!isEnabled() || getInterpreterBuildHash() == null) {
+            translator.run();
+            return;
+        }
+
+        String cacheKey = getCacheKey(pythonCompiledFunction, className, methodSignature);
+        Optional<byte[]> maybeCachedBytecode = load(cacheKey, className);
+        if (maybeCachedBytecode.isPresent()) {
+            PythonBytecodeToJavaBytecodeTranslator.writeClassOutput(BuiltinTypes.classNameToBytecode, className,
+                    maybeCachedBytecode.get());
+            return;
+        }
+
+        List<String> writtenClassNames = recordWrittenClasses(translator);
+        if (writtenClassNames.size() == 1 && writtenClassNames.get(0).equals(className)) {
+            store(cacheKey, className, BuiltinTypes.classNameToBytecode.get(className));
+        }
+    }
+
+    static String getInterpreterBuildHash() {
+        return InterpreterBuild.HASH;
+    }
+
+    static void onClassWritten(String className) {
+        for (List<String> writtenClassNames : writtenClassNamesStack.get()) {
+            writtenClassNames.add(className);
+        }
+    }
+
+    private static List<String> recordWrittenClasses(Runnable action) {
+        List<String> writtenClassNames = new ArrayList<>();
+        Deque<List<String>> stack = writtenClassNamesStack.get();
+        stack.push(writtenClassNames);
+        try {
+            action.run();
+        } finally {
+            stack.pop();
+        }
+        return writtenClassNames;
+    }
+
+    static String getCacheKey(PythonCompiledFunction pythonCompiledFunction, String className,
+            String methodSignature) {
+        StringBuilder key = new StringBuilder();
+        key.append("format=").append(CACHE_FORMAT_VERSION).append('\n');
+        key.append("interpreter=").append(getInterpreterBuildHash()).append('\n');
+        key.append("class=").append(className).append('\n');
+        key.append("method=").append(methodSignature).append('\n');
+        key.append("python=").append(pythonCompiledFunction.pythonVersion).append('\n');
+        key.append("module=").append(pythonCompiledFunction.module).append('\n');
+        key.append("qualname=").append(pythonCompiledFunction.qualifiedName).append('\n');
+        key.append("kind=").append(pythonCompiledFunction.methodKind).append('\n');
+        key.append("args=").append(pythonCompiledFunction.co_argcount)
+                .append(',').append(pythonCompiledFunction.co_posonlyargcount)
+                .append(',').append(pythonCompiledFunction.co_kwonlyargcount)
+                .append(',').append(pythonCompiledFunction.supportExtraPositionalArgs)
+                .append(',').append(pythonCompiledFunction.supportExtraKeywordsArgs)
+                .append(',').append(pythonCompiledFunction.defaultPositionalArguments.size())
+                .append(',').append(pythonCompiledFunction.defaultKeywordArguments.size()).append('\n');
+
+        key.append("instructions=");
+        for (PythonBytecodeInstruction instruction : pythonCompiledFunction.instructionList) {
+            key.append(instruction.offset).append(':').append(instruction.opcode)
+                    .append(':').append(instruction.arg)
+                    .append(':').append(instruction.startsLine)
+                    .append(':').append(instruction.isJumpTarget).append(';');
+        }
+        key.append('\n');
+
+        key.append("names=").append(pythonCompiledFunction.co_names).append('\n');
+        key.append("varnames=").append(pythonCompiledFunction.co_varnames).append('\n');
+        key.append("cellvars=").append(pythonCompiledFunction.co_cellvars).append('\n');
+        key.append("freevars=").append(pythonCompiledFunction.co_freevars).append('\n');
+        key.append("exceptions=").append(pythonCompiledFunction.co_exceptiontable).append('\n');
+
+        key.append("constants=");
+        for (PythonLikeObject constant : pythonCompiledFunction.co_constants) {
+            appendConstant(key, constant);
+            key.append(';');
+        }
+        key.append('\n');
+
+        key.append("annotations=");
+        if (pythonCompiledFunction.typeAnnotations != null) {
+            for (Map.Entry<String, PythonLikeType> annotation : new TreeMap<>(pythonCompiledFunction.typeAnnotations)
+                    .entrySet()) {
+                key.append(annotation.getKey()).append('=');
+                appendType(key, annotation.getValue());
+                key.append(';');
+            }
+        }
+        key.append('\n');
+
+        key.append("globals=");
+        if (pythonCompiledFunction.globalsMap != null) {
+            for (String name : new TreeSet<>(pythonCompiledFunction.co_names)) {
+                PythonLikeObject global = pythonCompiledFunction.globalsMap.get(name);
+                if (global != null) {
+                    key.append(name).append('=');
+                    appendType(key, global.__getGenericType());
+                    key.append(';');
+                }
+            }
+        }
+        key.append('\n');
+
+        key.append("closure=");
+        if (pythonCompiledFunction.closure != null) {
+            for (Object cell : pythonCompiledFunction.closure) {
+                PythonLikeObject cellValue = ((PythonCell) cell).cellValue;
+                if (cellValue != null) {
+                    appendType(key, cellValue.__getGenericType());
+                }
+                key.append(';');
+            }
+        }
+        key.append('\n');
+
+        return sha256(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendConstant(StringBuilder key, PythonLikeObject constant) {
+        if (constant == null) {
+            key.append("null");
+        } else if (constant instanceof PythonCode) {
+            key.append("code:").append(((PythonCode) constant).functionClass.getName());
+        } else if (constant instanceof PythonLikeType) {
+            key.append("type:");
+            appendType(key, (PythonLikeType) constant);
+        } else if (constant instanceof PythonObjectWrapper) {
+            key.append("object:").append(constant.__getType().getTypeName());
+        } else {
+            key.append(constant.__getType().getTypeName()).append(':').append(constant);
+        }
+    }
+
+    /**
+     * Appends everything the translator may use from a type: its name, Java class, known methods,
+     * and, for translated Python classes, a hash of their bytecode (which contains their fields).
+     */
+    private static void appendType(StringBuilder key, PythonLikeType type) {
+        if (type == null) {
+            key.append("null");
+            return;
+        }
+        key.append(type.getClass().getSimpleName()).append('(').append(type.getTypeName())
+                .append(',').append(type.getJavaTypeInternalName());
+        for (PythonLikeType mroType : type.MRO) {
+            key.append(',').append(mroType.getJavaTypeInternalName());
+            byte[] mroTypeBytecode =
+                    BuiltinTypes.classNameToBytecode.get(mroType.getJavaTypeInternalName().replace('/', '.'));
+            if (mroTypeBytecode != null) {
+                key.append('#').append(sha256(mroTypeBytecode));
+            }
+        }
+        for (String methodName : new TreeSet<>(type.getKnownMethods())) {
+            Optional<PythonKnownFunctionType> maybeMethodType = type.getMethodType(methodName);
+            if (maybeMethodType.isEmpty()) {
+                continue;
+            }
+            key.append(',').append(methodName).append('[');
+            for (PythonFunctionSignature signature : maybeMethodType.get().getOverloadFunctionSignatureList()) {
+                MethodDescriptor methodDescriptor = signature.getMethodDescriptor();
+                key.append(methodDescriptor.getDeclaringClassInternalName()).append('.')
+                        .append(methodDescriptor.getMethodName())
+                        .append(methodDescriptor.getMethodDescriptor()).append(' ');
+            }
+            key.append(']');
+        }
+        key.append(')');
+    }
+
+    private static Path getCacheFile(String cacheKey) {
+        return InterpreterStartupOptions.translatedClassCachePath.resolve(cacheKey + CACHE_FILE_SUFFIX);
+    }
+
+    private static Optional<byte[]> load(String cacheKey, String className) {
+        try (DataInputStream inputStream =
+                new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(getCacheFile(cacheKey))))) {
+            if (!inputStream.readUTF().equals(className)) {
+                // Hash collision; should never happen
+                return Optional.empty();
+            }
+            byte[] bytecode = new byte[inputStream.readInt()];
+            inputStream.readFully(bytecode);
+            return Optional.of(bytecode);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read cached translation of ({}); translating it instead", className, e);
+            return Optional.empty();
+        }
+    }
+
+    private static void store(String cacheKey, String className, byte[] bytecode) {
+        Path cacheFile = getCacheFile(cacheKey);
+        try {
+            ByteArrayOutputStream entry = new ByteArrayOutputStream(bytecode.length + className.length() + 8);
+            try (DataOutputStream outputStream = new DataOutputStream(entry)) {
+                outputStream.writeUTF(className);
+                outputStream.writeInt(bytecode.length);
+                outputStream.write(bytecode);
+            }
+
+            // Write to a temporary file first, so other processes never read a partially written entry
+            Files.createDirectories(cacheFile.getParent());
+            Path temporaryFile = Files.createTempFile(cacheFile.getParent(), cacheKey, ".tmp");
+            try {
+                Files.write(temporaryFile, entry.toByteArray());
+                try {
+                    Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to cache translation of ({})", className, e);
+        }
+    }
+
+    private static String computeInterpreterBuildHash() {
+        try {
+            Path codeLocation = Path.of(TranslatedClassCache.class.getProtectionDomain().getCodeSource().getLocation()
+                    .toURI());
+            MessageDigest digest = newSha256Digest();
+            if (Files.isDirectory(codeLocation)) {
+                // Not packaged (for instance, when running tests); hash the compiled classes instead of the jar
+                List<Path> fileList;
+                try (Stream<Path> fileStream = Files.walk(codeLocation)) {
+                    fileList = fileStream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+                for (Path file : fileList) {
+                    digest.update(codeLocation.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    updateDigest(digest, file);
+                }
+            } else {
+                updateDigest(digest, codeLocation);
+            }
+            return toHexString(digest.digest());
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.warn("Unable to read the interpreter's code; translated classes will not be cached", e);
+            return null;
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int readCount;
+            while ((readCount = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, readCount);
+            }
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        return toHexString(newSha256Digest().digest(data));
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Impossible state: SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHexString(byte[] digest) {
+        StringBuilder out = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            out.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return out.toString();
+    }
+}
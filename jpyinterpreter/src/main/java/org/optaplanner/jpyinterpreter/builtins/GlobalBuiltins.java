@@ -19,7 +19,7 @@ import static org.optaplanner.jpyinterpreter.types.BuiltinTypes.STRING_TYPE;
 import static org.optaplanner.jpyinterpreter.types.BuiltinTypes.TUPLE_TYPE;
 import static org.optaplanner.jpyinterpreter.types.BuiltinTypes.TYPE_TYPE;
 
-import java.math.BigInteger;
+import java.lang.invoke.SwitchPoint;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -56,6 +56,7 @@ import org.optaplanner.jpyinterpreter.types.collections.PythonIterator;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.types.collections.StrategyList;
 import org.optaplanner.jpyinterpreter.types.errors.AttributeError;
 import org.optaplanner.jpyinterpreter.types.errors.BufferError;
 import org.optaplanner.jpyinterpreter.types.errors.GeneratorExit;
@@ -127,6 +128,7 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 public class GlobalBuiltins {
     private final static StackWalker stackWalker = getStackWalkerInstance();
     private final static Map<String, PythonLikeObject> builtinConstantMap = new HashMap<>();
+    private static SwitchPoint builtinsSwitchPoint;
 
     static {
         loadBuiltinConstants();
@@ -142,6 +144,29 @@ public class GlobalBuiltins {
 
     public static void addBuiltinConstant(String builtinName, PythonLikeObject value) {
         builtinConstantMap.put(builtinName, value);
+        invalidateBuiltinCaches();
+    }
+
+    /**
+     * Returns a {@link SwitchPoint} that is invalidated when a builtin constant is added or changed.
+     * Inline caches that resolved a global to a builtin must guard on it.
+     */
+    public static synchronized SwitchPoint getBuiltinsSwitchPoint() {
+        if (builtinsSwitchPoint == null) {
+            builtinsSwitchPoint = new SwitchPoint();
+        }
+        return builtinsSwitchPoint;
+    }
+
+    private static void invalidateBuiltinCaches() {
+        SwitchPoint toInvalidate;
+        synchronized (GlobalBuiltins.class) {
+            toInvalidate = builtinsSwitchPoint;
+            builtinsSwitchPoint = null;
+        }
+        if (toInvalidate != null) {
+            SwitchPoint.invalidateAll(new SwitchPoint[] { toInvalidate });
+        }
     }
 
     public static List<PythonLikeType> getBuiltinTypes() {
@@ -491,7 +516,7 @@ public class GlobalBuiltins {
             integer = (PythonInteger) UnaryDunderBuiltin.INDEX.invoke(object);
         }
 
-        String binaryString = integer.value.toString(2);
+        String binaryString = integer.getValue().toString(2);
 
         if (binaryString.startsWith("-")) {
             return PythonString.valueOf("-0b" + binaryString.substring(1));
@@ -531,11 +556,11 @@ public class GlobalBuiltins {
 
         PythonInteger integer = (PythonInteger) object;
 
-        if (integer.value.compareTo(BigInteger.valueOf(0x10FFFF)) > 0 || integer.value.compareTo(BigInteger.ZERO) < 0) {
+        if (integer.compareTo(PythonInteger.valueOf(0x10FFFF)) > 0 || integer.signum() < 0) {
             throw new ValueError("Integer (" + integer + ") outside valid range for chr (0 through 1,114,111)");
         }
 
-        return PythonString.valueOf(Character.toString(integer.value.intValueExact()));
+        return PythonString.valueOf(Character.toString(integer.intValueExact()));
     }
 
     public static PythonNone delattr(List<PythonLikeObject> positionalArgs,
@@ -955,7 +980,7 @@ public class GlobalBuiltins {
             integer = (PythonInteger) UnaryDunderBuiltin.INDEX.invoke(object);
         }
 
-        String hexString = integer.value.toString(16);
+        String hexString = integer.getValue().toString(16);
 
         if (hexString.startsWith("-")) {
             return PythonString.valueOf("-0x" + hexString.substring(1));
@@ -1145,6 +1170,18 @@ public class GlobalBuiltins {
                 .iterator());
     }
 
+    /**
+     * Returns the storage of the given list if it is a plain list with a {@link StrategyList},
+     * so builtins can loop over its unboxed items; null otherwise.
+     */
+    private static StrategyList getStrategyList(PythonLikeObject iterable) {
+        if (iterable != null && iterable.getClass() == PythonLikeList.class
+                && ((PythonLikeList<?>) iterable).getDelegate() instanceof StrategyList) {
+            return (StrategyList) ((PythonLikeList<?>) iterable).getDelegate();
+        }
+        return null;
+    }
+
     public static PythonLikeObject min(List<PythonLikeObject> positionalArgs, Map<PythonString, PythonLikeObject> keywordArgs,
             PythonLikeObject instance) {
         if (positionalArgs.isEmpty()) {
@@ -1154,6 +1191,11 @@ public class GlobalBuiltins {
             }
             return defaultValue;
         } else if (positionalArgs.size() == 1) {
+            StrategyList strategyList = getStrategyList(positionalArgs.get(0));
+            PythonLikeObject unboxedMin = (strategyList != null) ? strategyList.min() : null;
+            if (unboxedMin != null) {
+                return unboxedMin;
+            }
             Iterator<Comparable> iterator = (Iterator<Comparable>) ((PythonLikeFunction) (positionalArgs.get(0).__getType()
                     .__getAttributeOrError("__iter__"))).$call(List.of(positionalArgs.get(0)),
                             Map.of(), null);
@@ -1198,6 +1240,11 @@ public class GlobalBuiltins {
             }
             return defaultValue;
         } else if (positionalArgs.size() == 1) {
+            StrategyList strategyList = getStrategyList(positionalArgs.get(0));
+            PythonLikeObject unboxedMax = (strategyList != null) ? strategyList.max() : null;
+            if (unboxedMax != null) {
+                return unboxedMax;
+            }
             Iterator<Comparable> iterator = (Iterator<Comparable>) ((PythonLikeFunction) (positionalArgs.get(0).__getType()
                     .__getAttributeOrError("__iter__"))).$call(List.of(positionalArgs.get(0)),
                             Map.of(), null);
@@ -1254,7 +1301,7 @@ public class GlobalBuiltins {
             integer = (PythonInteger) UnaryDunderBuiltin.INDEX.invoke(object);
         }
 
-        String octString = integer.value.toString(8);
+        String octString = integer.getValue().toString(8);
 
         if (octString.startsWith("-")) {
             return PythonString.valueOf("-0o" + octString.substring(1));
@@ -1517,6 +1564,12 @@ public class GlobalBuiltins {
             throw new ValueError("sum() expects 1 or 2 arguments, got " + positionalArgs.size());
         }
 
+        StrategyList strategyList = getStrategyList(iterable);
+        PythonLikeObject unboxedSum = (strategyList != null) ? strategyList.sum(start) : null;
+        if (unboxedSum != null) {
+            return unboxedSum;
+        }
+
         PythonLikeObject current = start;
 
         Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(iterable);
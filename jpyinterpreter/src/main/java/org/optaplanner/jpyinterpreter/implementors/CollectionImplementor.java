@@ -1,6 +1,7 @@
 package org.optaplanner.jpyinterpreter.implementors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.optaplanner.jpyinterpreter.PythonTernaryOperators;
 import org.optaplanner.jpyinterpreter.PythonUnaryOperator;
 import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.collections.FixedSizePythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.errors.StopIteration;
@@ -337,11 +339,24 @@ public class CollectionImplementor {
      * </pre>
      * </code>
      *
+     * Tuples with at most {@link FixedSizePythonLikeTuple#MAX_SIZE} items are instead created
+     * with {@code PythonLikeTuple.of(TOS(itemCount - 1), ..., TOS)}, so they cannot be modified afterwards.
+     *
      * @param collectionType The type of collection to create
      * @param itemCount The number of items to put into collection from the stack
      */
     public static void buildCollection(Class<?> collectionType, MethodVisitor methodVisitor,
             int itemCount) {
+        if (collectionType == PythonLikeTuple.class && itemCount <= FixedSizePythonLikeTuple.MAX_SIZE) {
+            // The items are already in order on the stack, so pass them directly to PythonLikeTuple.of
+            Type[] parameterTypes = new Type[itemCount];
+            Arrays.fill(parameterTypes, Type.getType(PythonLikeObject.class));
+            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonLikeTuple.class), "of",
+                    Type.getMethodDescriptor(Type.getType(PythonLikeTuple.class), parameterTypes),
+                    false);
+            return;
+        }
+
         String typeInternalName = Type.getInternalName(collectionType);
         methodVisitor.visitTypeInsn(Opcodes.NEW, typeInternalName);
         methodVisitor.visitInsn(Opcodes.DUP);
@@ -26,6 +26,7 @@ import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.util.BinaryDunderCallSite;
 
 /**
  * Implementations of opcodes that delegate to dunder/magic methods.
@@ -315,159 +316,27 @@ public class DunderOperatorImplementor {
     }
 
     /**
-     * Performs a binary dunder operation on TOS and TOS1. Generate codes that look like this:
+     * Performs a binary dunder operation on TOS and TOS1. Generate an invokedynamic call site
+     * backed by a {@link BinaryDunderCallSite}, which links directly to the typed Java method of TOS1's
+     * dunder method for the operand types it sees, and otherwise does the equivalent of:
      *
      * <code>
      * <pre>
-     *    BiFunction[List, Map, Result] operand_method = TOS1.__getType().__getAttributeOrError(operator.getDunderMethod());
-     *    List args = new ArrayList(2);
-     *    args.set(0) = TOS1
-     *    args.set(1) = TOS
+     *    result = TOS1.__getType().__getAttributeOrNull(operator.getDunderMethod()).$call([TOS1, TOS])
+     *    if result is NotImplemented:
+     *        result = TOS.__getType().__getAttributeOrNull(operator.getRightDunderMethod()).$call([TOS, TOS1])
+     *    if result is NotImplemented:
+     *        raise TypeError
      *    pop TOS, TOS1
-     *    TOS' = operand_method.apply(args, null)
+     *    TOS' = result
      * </pre>
      * </code>
      *
      */
     public static void binaryOperator(MethodVisitor methodVisitor, LocalVariableHelper localVariableHelper,
             PythonBinaryOperators operator) {
-        Label noLeftMethod = new Label();
-        methodVisitor.visitInsn(Opcodes.DUP2);
-        if (operator.hasRightDunderMethod() || operator.getFallbackOperation().isPresent()) {
-            methodVisitor.visitInsn(Opcodes.DUP2);
-        }
-        methodVisitor.visitInsn(Opcodes.SWAP);
-
-        // Stack is now (TOS1, TOS,)? TOS, TOS1
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
-                "__getType", Type.getMethodDescriptor(Type.getType(PythonLikeType.class)),
-                true);
-        methodVisitor.visitLdcInsn(operator.getDunderMethod());
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
-                "__getAttributeOrNull", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(String.class)),
-                true);
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-        methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, noLeftMethod);
-
-        // Stack is now(TOS1, TOS,)? TOS, TOS1, method
-        methodVisitor.visitInsn(Opcodes.DUP_X2);
-        methodVisitor.visitInsn(Opcodes.POP);
-
-        // Stack is now (TOS1, TOS,)? method, TOS, TOS1
-        methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(PythonLikeList.class));
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(PythonLikeList.class), "<init>",
-                Type.getMethodDescriptor(Type.VOID_TYPE), false);
-
-        // Stack is now (TOS1, TOS,)? method, TOS, TOS1, argList
-        pushArgumentIntoList(methodVisitor);
-        pushArgumentIntoList(methodVisitor);
-
-        // Stack is now (TOS1, TOS,)? method, argList
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
-                Type.getMethodDescriptor(Type.getType(Map.class)),
-                false);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
-                "$call", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(List.class),
-                        Type.getType(Map.class),
-                        Type.getType(PythonLikeObject.class)),
-                true);
-
-        // Stack is now (TOS1, TOS,)? method_result
-        methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(NotImplemented.class),
-                "INSTANCE", Type.getDescriptor(NotImplemented.class));
-        Label ifNotImplemented = new Label();
-        Label done = new Label();
-
-        methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, ifNotImplemented);
-        // Stack is TOS1, TOS, method_result
-        if (operator.hasRightDunderMethod() || operator.getFallbackOperation().isPresent()) {
-            methodVisitor.visitInsn(Opcodes.DUP_X2);
-            methodVisitor.visitInsn(Opcodes.POP);
-            methodVisitor.visitInsn(Opcodes.POP2);
-        }
-        // Stack is method_result
-        methodVisitor.visitJumpInsn(Opcodes.GOTO, done);
-
-        methodVisitor.visitLabel(noLeftMethod);
-        methodVisitor.visitInsn(Opcodes.POP2);
-        methodVisitor.visitLabel(ifNotImplemented);
-        methodVisitor.visitInsn(Opcodes.POP);
-
-        Label raiseError = new Label();
-        if (operator.getFallbackOperation().isPresent()) {
-            binaryOperator(methodVisitor, localVariableHelper, operator.getFallbackOperation().get());
-            methodVisitor.visitJumpInsn(Opcodes.GOTO, done);
-        } else if (operator.hasRightDunderMethod()) {
-            Label noRightMethod = new Label();
-            // Stack is now TOS1, TOS
-            methodVisitor.visitInsn(Opcodes.DUP);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
-                    "__getType", Type.getMethodDescriptor(Type.getType(PythonLikeType.class)),
-                    true);
-            methodVisitor.visitLdcInsn(operator.getRightDunderMethod());
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
-                    "__getAttributeOrNull", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                            Type.getType(String.class)),
-                    true);
-            methodVisitor.visitInsn(Opcodes.DUP);
-            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-            methodVisitor.visitJumpInsn(Opcodes.IF_ACMPEQ, noRightMethod);
-
-            // Stack is now TOS1, TOS, method
-            methodVisitor.visitInsn(Opcodes.DUP_X2);
-            methodVisitor.visitInsn(Opcodes.POP);
-
-            // Stack is now method, TOS1, TOS
-            methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(PythonLikeList.class));
-            methodVisitor.visitInsn(Opcodes.DUP);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(PythonLikeList.class), "<init>",
-                    Type.getMethodDescriptor(Type.VOID_TYPE), false);
-
-            // Stack is now method, TOS1, TOS, argList
-            pushArgumentIntoList(methodVisitor);
-            pushArgumentIntoList(methodVisitor);
-
-            // Stack is now method, argList
-            methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
-                    Type.getMethodDescriptor(Type.getType(Map.class)),
-                    false);
-            methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-            methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
-                    "$call", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                            Type.getType(List.class),
-                            Type.getType(Map.class),
-                            Type.getType(PythonLikeObject.class)),
-                    true);
-
-            // Stack is now method_result
-            methodVisitor.visitInsn(Opcodes.DUP);
-            methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, Type.getInternalName(NotImplemented.class),
-                    "INSTANCE", Type.getDescriptor(NotImplemented.class));
-
-            methodVisitor.visitJumpInsn(Opcodes.IF_ACMPNE, done);
-            // Stack is TOS1, TOS, NotImplemented
-            methodVisitor.visitInsn(Opcodes.POP);
-            methodVisitor.visitJumpInsn(Opcodes.GOTO, raiseError);
-
-            methodVisitor.visitLabel(noRightMethod);
-            methodVisitor.visitInsn(Opcodes.POP);
-            methodVisitor.visitInsn(Opcodes.POP2);
-        }
-        methodVisitor.visitLabel(raiseError);
-        methodVisitor.visitInsn(Opcodes.SWAP);
-        raiseUnsupportedType(methodVisitor, localVariableHelper, operator);
-
-        methodVisitor.visitLabel(done);
-        methodVisitor.visitInsn(Opcodes.DUP_X2);
-        methodVisitor.visitInsn(Opcodes.POP);
-        methodVisitor.visitInsn(Opcodes.POP2);
+        methodVisitor.visitInvokeDynamicInsn(operator.getDunderMethod(), BinaryDunderCallSite.CALL_SITE_DESCRIPTOR,
+                BinaryDunderCallSite.BOOTSTRAP, operator.name());
     }
 
     public static void binaryOperatorOnlyRight(MethodVisitor methodVisitor, LocalVariableHelper localVariableHelper,
@@ -30,6 +30,7 @@ import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeDict;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.util.AttributeCallSite;
 
 /**
  * Implements opcodes related to functions
@@ -53,6 +54,11 @@ public class FunctionImplementor {
         methodVisitor.visitInsn(Opcodes.POP);
         methodVisitor.visitInsn(Opcodes.SWAP);
 
+        if (canUseFixedArityCall(functionMetadata, 2)) {
+            callFixedArity(methodVisitor, 2);
+            return;
+        }
+
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, 2);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
                 Type.getMethodDescriptor(Type.getType(Map.class)),
@@ -81,17 +87,7 @@ public class FunctionImplementor {
         methodVisitor.visitInsn(Opcodes.POP);
         methodVisitor.visitInsn(Opcodes.SWAP);
 
-        CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, 2);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
-                Type.getMethodDescriptor(Type.getType(Map.class)),
-                false);
-        methodVisitor.visitInsn(Opcodes.ACONST_NULL);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
-                "$call", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(List.class),
-                        Type.getType(Map.class),
-                        Type.getType(PythonLikeObject.class)),
-                true);
+        callFixedArity(methodVisitor, 2);
     }
 
     /**
@@ -197,14 +193,9 @@ public class FunctionImplementor {
             StackMetadata stackMetadata, PythonBytecodeInstruction instruction) {
 
         methodVisitor.visitInsn(Opcodes.DUP);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeObject.class),
-                "__getType", Type.getMethodDescriptor(Type.getType(PythonLikeType.class)),
-                true);
-        methodVisitor.visitLdcInsn(function.co_names.get(instruction.arg));
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonLikeType.class),
-                "loadMethod", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(String.class)),
-                false);
+        // Equivalent to TOS.__getType().loadMethod(name), using an inline cache keyed on the type of TOS
+        methodVisitor.visitInvokeDynamicInsn("loadMethod", AttributeCallSite.CALL_SITE_DESCRIPTOR,
+                AttributeCallSite.LOAD_METHOD_BOOTSTRAP, function.co_names.get(instruction.arg));
         methodVisitor.visitInsn(Opcodes.DUP);
         methodVisitor.visitInsn(Opcodes.ACONST_NULL);
 
@@ -300,6 +291,12 @@ public class FunctionImplementor {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
         LocalVariableHelper localVariableHelper = stackMetadata.localVariableHelper;
 
+        if (stackMetadata.getCallKeywordNameList().isEmpty() && canUseFixedArityCall(functionMetadata, argumentCount + 1)) {
+            callFixedArityMethod(methodVisitor, localVariableHelper, argumentCount, true);
+            localVariableHelper.resetCallKeywords(methodVisitor);
+            return;
+        }
+
         int keywordArgs = localVariableHelper.newLocal();
         int positionalArgs = localVariableHelper.newLocal();
 
@@ -416,6 +413,10 @@ public class FunctionImplementor {
             PythonBytecodeInstruction instruction,
             LocalVariableHelper localVariableHelper) {
         // Stack is method, (obj or null), arg0, ..., arg(argc - 1)
+        if (canUseFixedArityCall(functionMetadata, instruction.arg + 1)) {
+            callFixedArityMethod(methodVisitor, localVariableHelper, instruction.arg, false);
+            return;
+        }
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, instruction.arg);
         methodVisitor.visitInsn(Opcodes.SWAP);
 
@@ -503,6 +504,10 @@ public class FunctionImplementor {
 
     public static void callGenericFunction(MethodVisitor methodVisitor, int argCount) {
         // stack is callable, arg0, arg1, ..., arg(argc - 1)
+        if (argCount <= PythonLikeFunction.MAX_FIXED_ARITY) {
+            callFixedArity(methodVisitor, argCount);
+            return;
+        }
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, argCount);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
                 Type.getMethodDescriptor(Type.getType(Map.class)),
@@ -523,6 +528,10 @@ public class FunctionImplementor {
             StackMetadata stackMetadata,
             MethodVisitor methodVisitor, int argCount) {
         // stack is callable, arg0, arg1, ..., arg(argc - 1)
+        if (canUseFixedArityCall(functionMetadata, argCount)) {
+            callFixedArity(methodVisitor, argCount);
+            return;
+        }
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, argCount);
         methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Collections.class), "emptyMap",
                 Type.getMethodDescriptor(Type.getType(Map.class)),
@@ -650,6 +659,80 @@ public class FunctionImplementor {
         }
     }
 
+    /**
+     * Returns true if a call with {@code argumentCount} positional arguments and no keyword arguments can use
+     * {@link PythonLikeFunction}'s fixed arity {@code $callN} methods. These methods do not take a caller instance,
+     * so they are only used when the caller instance cannot be used (i.e. the function does not reference super).
+     */
+    private static boolean canUseFixedArityCall(FunctionMetadata functionMetadata, int argumentCount) {
+        return argumentCount <= PythonLikeFunction.MAX_FIXED_ARITY &&
+                (functionMetadata.pythonCompiledFunction.totalArgCount() == 0 ||
+                        !functionMetadata.pythonCompiledFunction.co_names.contains("super"));
+    }
+
+    /**
+     * Calls the fixed arity {@code $callN} method of a {@link PythonLikeFunction}.
+     * Stack is callable, arg0, arg1, ..., arg(argc - 1); after it is the function result.
+     */
+    private static void callFixedArity(MethodVisitor methodVisitor, int argumentCount) {
+        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonLikeFunction.class),
+                PythonBytecodeToJavaBytecodeTranslator.getFixedArityMethodName(argumentCount),
+                PythonBytecodeToJavaBytecodeTranslator.getFixedArityMethodDescriptor(argumentCount),
+                true);
+    }
+
+    /**
+     * Calls a method loaded by LOAD_METHOD using a fixed arity {@code $callN} method, passing obj
+     * as the first argument if it is not null.
+     * If {@code isNullBelowCallable} is false, stack is method, (obj or null), arg0, ..., arg(argc - 1);
+     * otherwise, stack is (null or method), (callable or obj), arg0, ..., arg(argc - 1).
+     * After it is the function result.
+     */
+    private static void callFixedArityMethod(MethodVisitor methodVisitor, LocalVariableHelper localVariableHelper,
+            int argumentCount, boolean isNullBelowCallable) {
+        int[] argumentLocals = new int[argumentCount];
+        for (int i = argumentCount - 1; i >= 0; i--) {
+            argumentLocals[i] = localVariableHelper.newLocal();
+            localVariableHelper.writeTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+
+        if (isNullBelowCallable) {
+            methodVisitor.visitInsn(Opcodes.SWAP);
+        }
+
+        // Stack is (method or callable), (obj or null)
+        Label ifNullStart = new Label();
+        Label blockEnd = new Label();
+
+        methodVisitor.visitInsn(Opcodes.DUP);
+        methodVisitor.visitJumpInsn(Opcodes.IFNULL, ifNullStart);
+
+        if (isNullBelowCallable) {
+            methodVisitor.visitInsn(Opcodes.SWAP);
+        }
+
+        // Stack is method, obj
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+        callFixedArity(methodVisitor, argumentCount + 1);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, blockEnd);
+
+        methodVisitor.visitLabel(ifNullStart);
+        // Stack is method, null
+        methodVisitor.visitInsn(Opcodes.POP);
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.readTemp(methodVisitor, Type.getType(PythonLikeObject.class), argumentLocals[i]);
+        }
+        callFixedArity(methodVisitor, argumentCount);
+
+        methodVisitor.visitLabel(blockEnd);
+
+        for (int i = 0; i < argumentCount; i++) {
+            localVariableHelper.freeLocal();
+        }
+    }
+
     private static void getCallerInstance(FunctionMetadata functionMetadata, StackMetadata stackMetadata) {
         MethodVisitor methodVisitor = functionMetadata.methodVisitor;
 
@@ -19,6 +19,7 @@ import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.PythonNone;
 import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.errors.AttributeError;
+import org.optaplanner.jpyinterpreter.util.AttributeCallSite;
 
 /**
  * Implementations of opcodes related to objects
@@ -84,10 +85,9 @@ public class ObjectImplementor {
                         true);
             }
         } else {
-            PythonConstantsImplementor.loadName(methodVisitor, className, instruction.arg);
-            DunderOperatorImplementor.binaryOperator(methodVisitor,
-                    stackMetadata.pushTemp(BuiltinTypes.STRING_TYPE),
-                    PythonBinaryOperators.GET_ATTRIBUTE);
+            // Use an inline cache keyed on the type of TOS, since its type is not known at compile time
+            methodVisitor.visitInvokeDynamicInsn("loadAttribute", AttributeCallSite.CALL_SITE_DESCRIPTOR,
+                    AttributeCallSite.LOAD_ATTRIBUTE_BOOTSTRAP, name);
         }
     }
 
@@ -0,0 +1,324 @@
+package org.optaplanner.jpyinterpreter.implementors;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.FunctionMetadata;
+import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.StackMetadata;
+import org.optaplanner.jpyinterpreter.opcodes.Opcode;
+import org.optaplanner.jpyinterpreter.opcodes.dunder.BinaryDunderOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.variable.LoadConstantOpcode;
+import org.optaplanner.jpyinterpreter.opcodes.variable.LoadFastOpcode;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Compiles straight-line arithmetic on locals and constants whose types are inferred to be exactly
+ * {@code int} or {@code float} into JVM {@code long}/{@code double} arithmetic, so intermediate
+ * results are never boxed. For instance, {@code a * b + c} where {@code a}, {@code b} and {@code c}
+ * are floats is compiled to {@code DLOAD, DLOAD, DMUL, DLOAD, DADD} followed by a single
+ * {@link PythonFloat#valueOf(double)}.
+ *
+ * Int arithmetic uses {@link Math#addExact(long, long)} and friends; if any operation overflows (or a
+ * leaf is an int too large for a long), the run is re-executed using the regular boxed opcodes,
+ * which promote to {@link java.math.BigInteger}.
+ */
+public class PrimitiveArithmeticImplementor {
+
+    /**
+     * The minimum number of binary operations a run must have before it is fused; a single operation
+     * is already compiled to a direct typed call by {@link DunderOperatorImplementor}.
+     */
+    private static final int MINIMUM_OPERATION_COUNT = 2;
+
+    /**
+     * Attempts to fuse the instructions starting at {@code startIndex} into primitive arithmetic.
+     *
+     * @param functionMetadata the function being compiled
+     * @param stackMetadataForOpcodeIndex the stack metadata for each opcode
+     * @param opcodeList the opcodes of the function
+     * @param startIndex the index of the first opcode in the run
+     * @param hasLabelOrArgumentor true for opcode indices that must be visited individually (i.e.
+     *        jump targets, exception block boundaries, or opcodes with argumentors)
+     * @return the number of opcodes that were implemented, or 0 if no run was fused
+     */
+    public static int implementPrimitiveRun(FunctionMetadata functionMetadata, List<StackMetadata> stackMetadataForOpcodeIndex,
+            List<Opcode> opcodeList, int startIndex, IntPredicate hasLabelOrArgumentor) {
+        Deque<Node> nodeStack = new ArrayDeque<>();
+        Node runRoot = null;
+        int runEndIndex = -1;
+
+        for (int i = startIndex; i < opcodeList.size(); i++) {
+            if (i != startIndex && hasLabelOrArgumentor.test(i)) {
+                break;
+            }
+            StackMetadata stackMetadata = stackMetadataForOpcodeIndex.get(i);
+            if (stackMetadata.isDeadCode()) {
+                break;
+            }
+            Node node = getNode(functionMetadata, stackMetadata, opcodeList.get(i), nodeStack);
+            if (node == null) {
+                break;
+            }
+            nodeStack.push(node);
+            if (nodeStack.size() == 1 && node.operationCount >= MINIMUM_OPERATION_COUNT) {
+                runRoot = node;
+                runEndIndex = i;
+            }
+        }
+
+        if (runRoot == null) {
+            return 0;
+        }
+
+        MethodVisitor methodVisitor = functionMetadata.methodVisitor;
+        boolean canOverflow = runRoot.canOverflow(false);
+        if (!canOverflow) {
+            runRoot.implement(methodVisitor, false);
+            runRoot.box(methodVisitor);
+            return runEndIndex - startIndex + 1;
+        }
+
+        if (stackMetadataForOpcodeIndex.get(startIndex).getStackSize() != 0) {
+            // The fallback handler starts with an empty stack, so we can only recover if the run does too
+            return 0;
+        }
+
+        Label tryStart = new Label();
+        Label tryEnd = new Label();
+        Label overflowHandler = new Label();
+        Label end = new Label();
+
+        methodVisitor.visitTryCatchBlock(tryStart, tryEnd, overflowHandler, Type.getInternalName(ArithmeticException.class));
+        methodVisitor.visitLabel(tryStart);
+        runRoot.implement(methodVisitor, false);
+        runRoot.box(methodVisitor);
+        methodVisitor.visitLabel(tryEnd);
+        methodVisitor.visitJumpInsn(Opcodes.GOTO, end);
+
+        methodVisitor.visitLabel(overflowHandler);
+        methodVisitor.visitInsn(Opcodes.POP);
+        for (int i = startIndex; i <= runEndIndex; i++) {
+            opcodeList.get(i).implement(functionMetadata, stackMetadataForOpcodeIndex.get(i));
+        }
+        methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeObject.class));
+        methodVisitor.visitLabel(end);
+        return runEndIndex - startIndex + 1;
+    }
+
+    private static Node getNode(FunctionMetadata functionMetadata, StackMetadata stackMetadata, Opcode opcode,
+            Deque<Node> nodeStack) {
+        if (opcode instanceof LoadFastOpcode) {
+            int local = ((LoadFastOpcode) opcode).getInstruction().arg;
+            NumericKind kind = NumericKind.of(stackMetadata.getLocalVariableType(local));
+            return (kind != null) ? new LocalNode(kind, local, stackMetadata) : null;
+        }
+        if (opcode instanceof LoadConstantOpcode) {
+            PythonLikeObject constant = functionMetadata.pythonCompiledFunction.co_constants
+                    .get(((LoadConstantOpcode) opcode).getInstruction().arg);
+            if (constant instanceof PythonFloat && constant.getClass() == PythonFloat.class) {
+                return new ConstantNode(NumericKind.FLOAT, ((PythonFloat) constant).value);
+            }
+            if (constant instanceof PythonInteger && constant.getClass() == PythonInteger.class
+                    && ((PythonInteger) constant).isSmall()) {
+                return new ConstantNode(NumericKind.INT, ((PythonInteger) constant).longValue());
+            }
+            return null;
+        }
+        if (opcode instanceof BinaryDunderOpcode && nodeStack.size() >= 2) {
+            PythonBinaryOperators operator = ((BinaryDunderOpcode) opcode).getOperator();
+            if (operator.getFallbackOperation().isPresent()) {
+                operator = operator.getFallbackOperation().get();
+            }
+            switch (operator) {
+                case ADD:
+                case SUBTRACT:
+                case MULTIPLY:
+                    Node right = nodeStack.pop();
+                    Node left = nodeStack.pop();
+                    return new OperationNode(operator, left, right);
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
+    private enum NumericKind {
+        INT,
+        FLOAT;
+
+        static NumericKind of(PythonLikeType type) {
+            if (type == BuiltinTypes.INT_TYPE) {
+                return INT;
+            }
+            if (type == BuiltinTypes.FLOAT_TYPE) {
+                return FLOAT;
+            }
+            return null;
+        }
+    }
+
+    private static abstract class Node {
+        final NumericKind kind;
+        final int operationCount;
+
+        Node(NumericKind kind, int operationCount) {
+            this.kind = kind;
+            this.operationCount = operationCount;
+        }
+
+        /**
+         * Pushes the value of this node onto the stack as a long, or as a double if {@code asDouble}
+         * is true or this node is a float.
+         */
+        abstract void implement(MethodVisitor methodVisitor, boolean asDouble);
+
+        /**
+         * @return true if {@link #implement(MethodVisitor, boolean)} may throw {@link ArithmeticException}
+         */
+        abstract boolean canOverflow(boolean asDouble);
+
+        void box(MethodVisitor methodVisitor) {
+            if (kind == NumericKind.FLOAT) {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonFloat.class),
+                        "valueOf", Type.getMethodDescriptor(Type.getType(PythonFloat.class), Type.DOUBLE_TYPE),
+                        false);
+            } else {
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(PythonInteger.class),
+                        "valueOf", Type.getMethodDescriptor(Type.getType(PythonInteger.class), Type.LONG_TYPE),
+                        false);
+            }
+        }
+    }
+
+    private static class LocalNode extends Node {
+        final int local;
+        final StackMetadata stackMetadata;
+
+        LocalNode(NumericKind kind, int local, StackMetadata stackMetadata) {
+            super(kind, 0);
+            this.local = local;
+            this.stackMetadata = stackMetadata;
+        }
+
+        @Override
+        void implement(MethodVisitor methodVisitor, boolean asDouble) {
+            stackMetadata.localVariableHelper.readLocal(methodVisitor, local);
+            if (kind == NumericKind.FLOAT) {
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonFloat.class));
+                methodVisitor.visitFieldInsn(Opcodes.GETFIELD, Type.getInternalName(PythonFloat.class), "value",
+                        Type.DOUBLE_TYPE.getDescriptor());
+            } else {
+                methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonInteger.class));
+                if (asDouble) {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonInteger.class),
+                            "doubleValue", Type.getMethodDescriptor(Type.DOUBLE_TYPE), false);
+                } else {
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, Type.getInternalName(PythonInteger.class),
+                            "longValueExact", Type.getMethodDescriptor(Type.LONG_TYPE), false);
+                }
+            }
+        }
+
+        @Override
+        boolean canOverflow(boolean asDouble) {
+            return kind == NumericKind.INT && !asDouble;
+        }
+    }
+
+    private static class ConstantNode extends Node {
+        final Object value;
+
+        ConstantNode(NumericKind kind, Object value) {
+            super(kind, 0);
+            this.value = value;
+        }
+
+        @Override
+        void implement(MethodVisitor methodVisitor, boolean asDouble) {
+            if (asDouble && kind == NumericKind.INT) {
+                methodVisitor.visitLdcInsn((double) (Long) value);
+            } else {
+                methodVisitor.visitLdcInsn(value);
+            }
+        }
+
+        @Override
+        boolean canOverflow(boolean asDouble) {
+            return false;
+        }
+    }
+
+    private static class OperationNode extends Node {
+        final PythonBinaryOperators operator;
+        final Node left;
+        final Node right;
+
+        OperationNode(PythonBinaryOperators operator, Node left, Node right) {
+            super((left.kind == NumericKind.FLOAT || right.kind == NumericKind.FLOAT) ? NumericKind.FLOAT : NumericKind.INT,
+                    left.operationCount + right.operationCount + 1);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void implement(MethodVisitor methodVisitor, boolean asDouble) {
+            boolean isFloat = kind == NumericKind.FLOAT;
+            left.implement(methodVisitor, isFloat);
+            right.implement(methodVisitor, isFloat);
+            if (isFloat) {
+                switch (operator) {
+                    case ADD:
+                        methodVisitor.visitInsn(Opcodes.DADD);
+                        break;
+                    case SUBTRACT:
+                        methodVisitor.visitInsn(Opcodes.DSUB);
+                        break;
+                    case MULTIPLY:
+                        methodVisitor.visitInsn(Opcodes.DMUL);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unhandled operator (" + operator + ").");
+                }
+            } else {
+                String exactMethod;
+                switch (operator) {
+                    case ADD:
+                        exactMethod = "addExact";
+                        break;
+                    case SUBTRACT:
+                        exactMethod = "subtractExact";
+                        break;
+                    case MULTIPLY:
+                        exactMethod = "multiplyExact";
+                        break;
+                    default:
+                        throw new IllegalStateException("Unhandled operator (" + operator + ").");
+                }
+                methodVisitor.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(Math.class), exactMethod,
+                        Type.getMethodDescriptor(Type.LONG_TYPE, Type.LONG_TYPE, Type.LONG_TYPE), false);
+                if (asDouble) {
+                    methodVisitor.visitInsn(Opcodes.L2D);
+                }
+            }
+        }
+
+        @Override
+        boolean canOverflow(boolean asDouble) {
+            boolean isFloat = kind == NumericKind.FLOAT;
+            return !isFloat || left.canOverflow(isFloat) || right.canOverflow(isFloat);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonString;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.util.GlobalVariableCallSite;
 
 public class StringImplementor {
 
@@ -132,12 +133,8 @@ public class StringImplementor {
         methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
                 PythonBytecodeToJavaBytecodeTranslator.GLOBALS_MAP_STATIC_FIELD_NAME,
                 Type.getDescriptor(Map.class));
-        methodVisitor.visitLdcInsn(globalName);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonInterpreter.class),
-                "getGlobal", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(Map.class),
-                        Type.getType(String.class)),
-                true);
+        methodVisitor.visitInvokeDynamicInsn("getGlobal", GlobalVariableCallSite.CALL_SITE_DESCRIPTOR,
+                GlobalVariableCallSite.BOOTSTRAP, globalName);
         methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(PythonLikeFunction.class));
         methodVisitor.visitInsn(Opcodes.SWAP);
         CollectionImplementor.buildCollection(PythonLikeTuple.class, methodVisitor, 1);
@@ -19,6 +19,7 @@ import org.optaplanner.jpyinterpreter.StackMetadata;
 import org.optaplanner.jpyinterpreter.types.PythonCell;
 import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+import org.optaplanner.jpyinterpreter.util.GlobalVariableCallSite;
 
 /**
  * Implementations of local variable manipulation opcodes.
@@ -68,6 +69,7 @@ public class VariableImplementor {
 
     /**
      * Loads the global variable or parameter indicated by the {@code instruction} argument onto the stack.
+     * The lookup is cached per call site by a {@link GlobalVariableCallSite}.
      */
     public static void loadGlobalVariable(FunctionMetadata functionMetadata, StackMetadata stackMetadata, int globalIndex,
             PythonLikeType globalType) {
@@ -85,12 +87,8 @@ public class VariableImplementor {
         methodVisitor.visitFieldInsn(Opcodes.GETSTATIC, className,
                 PythonBytecodeToJavaBytecodeTranslator.GLOBALS_MAP_STATIC_FIELD_NAME,
                 Type.getDescriptor(Map.class));
-        methodVisitor.visitLdcInsn(globalName);
-        methodVisitor.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(PythonInterpreter.class),
-                "getGlobal", Type.getMethodDescriptor(Type.getType(PythonLikeObject.class),
-                        Type.getType(Map.class),
-                        Type.getType(String.class)),
-                true);
+        methodVisitor.visitInvokeDynamicInsn("getGlobal", GlobalVariableCallSite.CALL_SITE_DESCRIPTOR,
+                GlobalVariableCallSite.BOOTSTRAP, globalName);
         methodVisitor.visitTypeInsn(Opcodes.CHECKCAST, globalType.getJavaTypeInternalName());
     }
 
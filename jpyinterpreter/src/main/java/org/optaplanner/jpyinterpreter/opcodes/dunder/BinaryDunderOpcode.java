@@ -23,6 +23,10 @@ public class BinaryDunderOpcode extends AbstractOpcode {
         this.operator = operator;
     }
 
+    public PythonBinaryOperators getOperator() {
+        return operator;
+    }
+
     @Override
     public StackMetadata getStackMetadataAfterInstruction(FunctionMetadata functionMetadata,
             StackMetadata stackMetadata) {
@@ -1,5 +1,6 @@
 package org.optaplanner.jpyinterpreter.types;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,10 +12,27 @@ public abstract class AbstractPythonLikeObject implements PythonLikeObject {
     public static final PythonLikeType OBJECT_TYPE = new PythonLikeType("object", AbstractPythonLikeObject.class);
 
     private final PythonLikeType __type__;
-    private final Map<String, PythonLikeObject> __dir__;
+
+    /**
+     * The shape of this object's attributes; ignored once {@link #__dir__} is used.
+     */
+    private ObjectShape shape;
+
+    /**
+     * The values of this object's attributes, indexed by {@link ObjectShape#getSlot(String)}.
+     * Null until the first attribute is set.
+     */
+    private PythonLikeObject[] slotValues;
+
+    /**
+     * The attributes of this object if it was given a map on construction, or if it switched away
+     * from its shape. Null otherwise.
+     */
+    private Map<String, PythonLikeObject> __dir__;
 
     public AbstractPythonLikeObject(PythonLikeType __type__) {
-        this(__type__, new HashMap<>());
+        this.__type__ = __type__;
+        this.shape = ObjectShape.EMPTY;
     }
 
     public AbstractPythonLikeObject(PythonLikeType __type__, Map<String, PythonLikeObject> __dir__) {
@@ -24,21 +42,63 @@ public abstract class AbstractPythonLikeObject implements PythonLikeObject {
 
     @Override
     public PythonLikeObject __getAttributeOrNull(String attributeName) {
-        return __dir__.get(attributeName);
+        if (__dir__ != null) {
+            return __dir__.get(attributeName);
+        }
+        int slot = shape.getSlot(attributeName);
+        return (slot != -1) ? slotValues[slot] : null;
     }
 
     @Override
     public void __setAttribute(String attributeName, PythonLikeObject value) {
-        __dir__.put(attributeName, value);
+        if (__dir__ != null) {
+            __dir__.put(attributeName, value);
+            return;
+        }
+        int slot = shape.getSlot(attributeName);
+        if (slot != -1) {
+            slotValues[slot] = value;
+            return;
+        }
+
+        slot = shape.getSlotCount();
+        if (slot == ObjectShape.MAX_SLOTS) {
+            switchToDictionary().put(attributeName, value);
+            return;
+        }
+        if (slotValues == null) {
+            slotValues = new PythonLikeObject[4];
+        } else if (slot == slotValues.length) {
+            slotValues = Arrays.copyOf(slotValues, Math.min(slot * 2, ObjectShape.MAX_SLOTS));
+        }
+        slotValues[slot] = value;
+        shape = shape.withAttribute(attributeName);
     }
 
     @Override
     public void __deleteAttribute(String attributeName) {
         // TODO: Descriptors: https://docs.python.org/3/howto/descriptor.html
-        if (!__dir__.containsKey(attributeName)) {
+        boolean hasAttribute = (__dir__ != null) ? __dir__.containsKey(attributeName) : shape.getSlot(attributeName) != -1;
+        if (!hasAttribute) {
             throw new AttributeError("'" + __getType().getTypeName() + "' object has no attribute '" + attributeName + "'");
         }
-        __dir__.remove(attributeName);
+        switchToDictionary().remove(attributeName);
+    }
+
+    /**
+     * Moves the attributes of this object from its slots to {@link #__dir__}, since shapes do not
+     * support removing attributes.
+     */
+    private Map<String, PythonLikeObject> switchToDictionary() {
+        if (__dir__ == null) {
+            __dir__ = new HashMap<>();
+            if (slotValues != null) {
+                shape.copyAttributesTo(slotValues, __dir__);
+            }
+            shape = null;
+            slotValues = null;
+        }
+        return __dir__;
     }
 
     @Override
@@ -47,6 +107,6 @@ public abstract class AbstractPythonLikeObject implements PythonLikeObject {
     }
 
     public void setAttribute(String attributeName, PythonLikeObject value) {
-        __dir__.put(attributeName, value);
+        __setAttribute(attributeName, value);
     }
 }
@@ -35,4 +35,24 @@ public class BoundPythonLikeFunction implements PythonLikeFunction {
         actualPositionalArgs.addAll(positionalArguments);
         return function.$call(actualPositionalArgs, namedArguments, null);
     }
+
+    @Override
+    public PythonLikeObject $call0() {
+        return function.$call1(instance);
+    }
+
+    @Override
+    public PythonLikeObject $call1(PythonLikeObject arg0) {
+        return function.$call2(instance, arg0);
+    }
+
+    @Override
+    public PythonLikeObject $call2(PythonLikeObject arg0, PythonLikeObject arg1) {
+        return function.$call3(instance, arg0, arg1);
+    }
+
+    @Override
+    public PythonLikeObject $call3(PythonLikeObject arg0, PythonLikeObject arg1, PythonLikeObject arg2) {
+        return function.$call4(instance, arg0, arg1, arg2);
+    }
 }
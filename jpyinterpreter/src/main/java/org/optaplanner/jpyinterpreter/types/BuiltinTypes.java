@@ -2,9 +2,9 @@ package org.optaplanner.jpyinterpreter.types;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
@@ -83,14 +83,24 @@ public class BuiltinTypes {
     public static final PythonLikeType SLICE_TYPE = new PythonLikeType("slice", PythonSlice.class, List.of(BASE_TYPE));
     /**
      * The ASM generated bytecode. Used by
-     * asmClassLoader to create the Java versions of Python methods
+     * asmClassLoader to create the Java versions of Python methods.
+     * Concurrent, since independent functions can be translated in parallel.
      */
-    public static final Map<String, byte[]> classNameToBytecode = new HashMap<>();
+    public static final Map<String, byte[]> classNameToBytecode = new ConcurrentHashMap<>();
     /**
      * A custom classloader that looks for the class in
      * classNameToBytecode
      */
-    public static ClassLoader asmClassLoader = new ClassLoader() {
+    public static ClassLoader asmClassLoader = new PythonBytecodeClassLoader();
+
+    /**
+     * Parallel capable, so threads loading different generated classes do not block each other
+     */
+    private static final class PythonBytecodeClassLoader extends ClassLoader {
+        static {
+            registerAsParallelCapable();
+        }
+
         // getName() is an abstract method in Java 11 but not in Java 8
         public String getName() {
             return "OptaPlanner Gizmo Python Bytecode ClassLoader";
@@ -98,16 +108,16 @@ public class BuiltinTypes {
 
         @Override
         public Class<?> findClass(String name) throws ClassNotFoundException {
-            if (classNameToBytecode.containsKey(name)) {
+            byte[] byteCode = classNameToBytecode.get(name);
+            if (byteCode != null) {
                 // Gizmo generated class
-                byte[] byteCode = classNameToBytecode.get(name);
                 return defineClass(name, byteCode, 0, byteCode.length);
             } else {
                 // Not a Gizmo generated class; load from parent class loader
                 return PythonBytecodeToJavaBytecodeTranslator.class.getClassLoader().loadClass(name);
             }
         }
-    };
+    }
 
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeType::registerBaseType);
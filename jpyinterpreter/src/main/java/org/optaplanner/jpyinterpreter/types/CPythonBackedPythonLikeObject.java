@@ -1,17 +1,20 @@
 package org.optaplanner.jpyinterpreter.types;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.jpyinterpreter.util.PythonIdMap;
 
 public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject implements PythonLikeFunction {
     public static final PythonLikeType CPYTHON_BACKED_OBJECT_TYPE =
             new PythonLikeType("object", CPythonBackedPythonLikeObject.class);
 
+    private static final String[] NO_ATTRIBUTE_NAMES = new String[0];
+
     public OpaquePythonReference $cpythonReference;
 
     public PythonInteger $cpythonId;
@@ -30,7 +33,7 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
             OpaquePythonReference reference) {
         super(__type__);
         this.$cpythonReference = reference;
-        $instanceMap = new HashMap<>();
+        $instanceMap = new PythonIdMap<>();
     }
 
     public CPythonBackedPythonLikeObject(PythonLikeType __type__,
@@ -38,7 +41,7 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
             OpaquePythonReference reference) {
         super(__type__, __dir__);
         this.$cpythonReference = reference;
-        $instanceMap = new HashMap<>();
+        $instanceMap = new PythonIdMap<>();
     }
 
     public OpaquePythonReference $getCPythonReference() {
@@ -65,10 +68,52 @@ public class CPythonBackedPythonLikeObject extends AbstractPythonLikeObject impl
         this.$instanceMap = $instanceMap;
     }
 
+    /**
+     * Returns the names of the attributes that are stored in fields of this object, in the order
+     * {@link #$readFieldsFromCPythonAttributes(PythonLikeObject[])} and
+     * {@link #$writeFieldsToCPythonAttributes(Object[])} expect their values.
+     */
+    public String[] $getCPythonAttributeNames() {
+        return NO_ATTRIBUTE_NAMES;
+    }
+
+    /**
+     * Sets the fields of this object to the values of the attributes named by {@link #$getCPythonAttributeNames()}.
+     */
+    public void $readFieldsFromCPythonAttributes(PythonLikeObject[] attributeValues) {
+    }
+
+    /**
+     * Stores the values of the fields of this object in attributeValues, at the indices of the attributes named by
+     * {@link #$getCPythonAttributeNames()}.
+     */
+    public void $writeFieldsToCPythonAttributes(Object[] attributeValues) {
+    }
+
     public void $readFieldsFromCPythonReference() {
+        if ($cpythonReference == null) {
+            return;
+        }
+        String[] attributeNames = $getCPythonAttributeNames();
+        if (attributeNames.length == 0) {
+            return;
+        }
+        $readFieldsFromCPythonAttributes(CPythonBackedPythonInterpreter.lookupAttributesOnPythonReference(
+                $cpythonReference, attributeNames, $instanceMap));
     }
 
     public void $writeFieldsToCPythonReference() {
+        if ($cpythonReference == null) {
+            return;
+        }
+        String[] attributeNames = $getCPythonAttributeNames();
+        if (attributeNames.length == 0) {
+            return;
+        }
+        Object[] attributeValues = new Object[attributeNames.length];
+        $writeFieldsToCPythonAttributes(attributeValues);
+        CPythonBackedPythonInterpreter.setAttributesOnPythonReference($cpythonReference, attributeNames,
+                attributeValues);
     }
 
     @Override
@@ -0,0 +1,62 @@
+package org.optaplanner.jpyinterpreter.types;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+
+/**
+ * An immutable mapping of attribute names to slot indices (a "hidden class"), shared by every
+ * {@link AbstractPythonLikeObject} that had the same attributes added in the same order. An object stores
+ * its attribute values in an array indexed by its shape's slots, so objects with attributes do not
+ * need a {@link HashMap} each, and objects without attributes do not allocate anything.
+ * <p>
+ * Shapes form a tree rooted at {@link #EMPTY}; adding an attribute follows (or creates) a transition
+ * to a child shape. Shapes do not support removal; objects that have an attribute deleted, or that
+ * have more than {@link #MAX_SLOTS} attributes, switch to a {@link HashMap}.
+ */
+public final class ObjectShape {
+    public static final int MAX_SLOTS = 64;
+
+    public static final ObjectShape EMPTY = new ObjectShape(Map.of());
+
+    private final Map<String, Integer> attributeNameToSlotMap;
+    private final Map<String, ObjectShape> attributeNameToTransitionMap;
+
+    private ObjectShape(Map<String, Integer> attributeNameToSlotMap) {
+        this.attributeNameToSlotMap = attributeNameToSlotMap;
+        this.attributeNameToTransitionMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the slot of the given attribute, or -1 if objects of this shape do not have it.
+     */
+    public int getSlot(String attributeName) {
+        Integer out = attributeNameToSlotMap.get(attributeName);
+        return (out != null) ? out : -1;
+    }
+
+    public int getSlotCount() {
+        return attributeNameToSlotMap.size();
+    }
+
+    /**
+     * Returns the shape of objects of this shape that had {@code attributeName} added, whose slot is
+     * {@link #getSlotCount()}. The attribute must not already be in this shape.
+     */
+    public ObjectShape withAttribute(String attributeName) {
+        return attributeNameToTransitionMap.computeIfAbsent(attributeName, name -> {
+            Map<String, Integer> childAttributeNameToSlotMap = new HashMap<>(attributeNameToSlotMap);
+            childAttributeNameToSlotMap.put(name, attributeNameToSlotMap.size());
+            return new ObjectShape(Map.copyOf(childAttributeNameToSlotMap));
+        });
+    }
+
+    /**
+     * Copies the attributes of an object of this shape into {@code out}.
+     */
+    public void copyAttributesTo(PythonLikeObject[] slotValues, Map<String, PythonLikeObject> out) {
+        attributeNameToSlotMap.forEach((attributeName, slot) -> out.put(attributeName, slotValues[slot]));
+    }
+}
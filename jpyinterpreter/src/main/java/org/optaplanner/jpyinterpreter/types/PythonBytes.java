@@ -132,7 +132,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
             } else if (positionalArguments.size() == 1) {
                 PythonLikeObject arg = positionalArguments.get(0);
                 if (arg instanceof PythonInteger) {
-                    return new PythonBytes(new byte[((PythonInteger) arg).value.intValueExact()]);
+                    return new PythonBytes(new byte[((PythonInteger) arg).intValueExact()]);
                 } else {
                     PythonIterator<?> iterator = (PythonIterator<?>) UnaryDunderBuiltin.ITERATOR.invoke(arg);
                     ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -452,7 +452,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
     }
 
     public PythonBytes repeat(PythonInteger times) {
-        int timesAsInt = times.value.intValueExact();
+        int timesAsInt = times.intValueExact();
 
         if (timesAsInt <= 0) {
             return EMPTY;
@@ -955,7 +955,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
     }
 
     public PythonBytes replace(PythonBytes old, PythonBytes replacement, PythonInteger count) {
-        return replace(old, replacement, count.value);
+        return replace(old, replacement, count.getValue());
     }
 
     private PythonInteger rightFind(PythonInteger query, int start, int end) {
@@ -1228,7 +1228,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
             throw new TypeError("center() argument 2 must be a byte string of length 1");
         }
 
-        int widthAsInt = fillWidth.value.intValueExact();
+        int widthAsInt = fillWidth.intValueExact();
         if (widthAsInt <= value.length) {
             return this;
         }
@@ -1254,7 +1254,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
             throw new TypeError("ljust() argument 2 must be a byte string of length 1");
         }
 
-        int widthAsInt = fillWidth.value.intValueExact();
+        int widthAsInt = fillWidth.intValueExact();
         if (widthAsInt <= value.length) {
             return this;
         }
@@ -1275,7 +1275,7 @@ public class PythonBytes extends AbstractPythonLikeObject implements PythonBytes
             throw new TypeError("rjust() argument 2 must be a byte string of length 1");
         }
 
-        int widthAsInt = fillWidth.value.intValueExact();
+        int widthAsInt = fillWidth.intValueExact();
         if (widthAsInt <= value.length) {
             return this;
         }
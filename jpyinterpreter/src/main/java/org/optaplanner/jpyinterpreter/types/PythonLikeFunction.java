@@ -1,11 +1,18 @@
 package org.optaplanner.jpyinterpreter.types;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 
 public interface PythonLikeFunction extends PythonLikeObject {
+    /**
+     * The largest number of positional arguments that can be passed to a fixed arity {@code $callN} method.
+     */
+    int MAX_FIXED_ARITY = 4;
+
     static PythonLikeType getStaticFunctionType() {
         return BuiltinTypes.STATIC_FUNCTION_TYPE;
     }
@@ -29,6 +36,62 @@ public interface PythonLikeFunction extends PythonLikeObject {
     PythonLikeObject $call(List<PythonLikeObject> positionalArguments, Map<PythonString, PythonLikeObject> namedArguments,
             PythonLikeObject callerInstance);
 
+    /**
+     * Calls the function with no arguments. Equivalent to
+     * {@code $call(PythonLikeTuple.of(), Collections.emptyMap(), null)}, but can be overridden to
+     * avoid allocating the argument list.
+     *
+     * @return The function result
+     */
+    default PythonLikeObject $call0() {
+        return $call(PythonLikeTuple.of(), Collections.emptyMap(), null);
+    }
+
+    /**
+     * Calls the function with one positional argument. Equivalent to
+     * {@code $call(PythonLikeTuple.of(arg0), Collections.emptyMap(), null)}, but can be overridden to
+     * avoid allocating the argument list.
+     *
+     * @return The function result
+     */
+    default PythonLikeObject $call1(PythonLikeObject arg0) {
+        return $call(PythonLikeTuple.of(arg0), Collections.emptyMap(), null);
+    }
+
+    /**
+     * Calls the function with two positional arguments. Equivalent to
+     * {@code $call(PythonLikeTuple.of(arg0, arg1), Collections.emptyMap(), null)}, but can be overridden to
+     * avoid allocating the argument list.
+     *
+     * @return The function result
+     */
+    default PythonLikeObject $call2(PythonLikeObject arg0, PythonLikeObject arg1) {
+        return $call(PythonLikeTuple.of(arg0, arg1), Collections.emptyMap(), null);
+    }
+
+    /**
+     * Calls the function with three positional arguments. Equivalent to
+     * {@code $call(PythonLikeTuple.of(arg0, arg1, arg2), Collections.emptyMap(), null)}, but can be overridden to
+     * avoid allocating the argument list.
+     *
+     * @return The function result
+     */
+    default PythonLikeObject $call3(PythonLikeObject arg0, PythonLikeObject arg1, PythonLikeObject arg2) {
+        return $call(PythonLikeTuple.of(arg0, arg1, arg2), Collections.emptyMap(), null);
+    }
+
+    /**
+     * Calls the function with four positional arguments. Equivalent to
+     * {@code $call(PythonLikeTuple.of(arg0, arg1, arg2, arg3), Collections.emptyMap(), null)}, but can be overridden to
+     * avoid allocating the argument list.
+     *
+     * @return The function result
+     */
+    default PythonLikeObject $call4(PythonLikeObject arg0, PythonLikeObject arg1, PythonLikeObject arg2,
+            PythonLikeObject arg3) {
+        return $call(PythonLikeTuple.of(arg0, arg1, arg2, arg3), Collections.emptyMap(), null);
+    }
+
     @Override
     default PythonLikeObject __getAttributeOrNull(String attributeName) {
         return null;
@@ -1,5 +1,6 @@
 package org.optaplanner.jpyinterpreter.types;
 
+import java.lang.invoke.SwitchPoint;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -10,7 +11,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.objectweb.asm.Type;
@@ -46,6 +49,8 @@ public class PythonLikeType implements PythonLikeObject,
 
     private PythonLikeFunction constructor;
 
+    private SwitchPoint attributeSwitchPoint;
+
     public PythonLikeType(String typeName, Class<? extends PythonLikeObject> javaClass) {
         this(typeName, javaClass, List.of(BuiltinTypes.BASE_TYPE));
     }
@@ -57,7 +62,7 @@ public class PythonLikeType implements PythonLikeObject,
         constructor = (positional, keywords, callerInstance) -> {
             throw new UnsupportedOperationException("Cannot create instance of type (" + TYPE_NAME + ").");
         };
-        __dir__ = new HashMap<>();
+        __dir__ = new TypeAttributeMap();
         functionNameToKnownFunctionType = new HashMap<>();
         constructorKnownFunctionType = Optional.empty();
         instanceFieldToFieldDescriptorMap = new HashMap<>();
@@ -71,7 +76,7 @@ public class PythonLikeType implements PythonLikeObject,
         constructor = (positional, keywords, callerInstance) -> {
             throw new UnsupportedOperationException("Cannot create instance of type (" + TYPE_NAME + ").");
         };
-        __dir__ = new HashMap<>();
+        __dir__ = new TypeAttributeMap();
         functionNameToKnownFunctionType = new HashMap<>();
         constructorKnownFunctionType = Optional.empty();
         instanceFieldToFieldDescriptorMap = new HashMap<>();
@@ -371,6 +376,35 @@ public class PythonLikeType implements PythonLikeObject,
             }
         } else {
             instanceFieldToFieldDescriptorMap.put(fieldDescriptor.getPythonFieldName(), fieldDescriptor);
+            invalidateAttributeCaches();
+        }
+    }
+
+    /**
+     * Returns a {@link SwitchPoint} that is invalidated when an attribute or instance field of this type
+     * changes. Inline caches that depend on inherited attributes must guard on the switch point of every
+     * type in {@link #MRO}.
+     */
+    public synchronized SwitchPoint getAttributeSwitchPoint() {
+        if (attributeSwitchPoint == null) {
+            attributeSwitchPoint = new SwitchPoint();
+        }
+        return attributeSwitchPoint;
+    }
+
+    /**
+     * Invalidates inline caches that depend on the attributes of this type. Only needs to be called
+     * explicitly if the attributes of this type are changed without going through {@link #__dir__}'s
+     * put/remove methods (i.e. through its entry set).
+     */
+    public void invalidateAttributeCaches() {
+        SwitchPoint toInvalidate;
+        synchronized (this) {
+            toInvalidate = attributeSwitchPoint;
+            attributeSwitchPoint = null;
+        }
+        if (toInvalidate != null) {
+            SwitchPoint.invalidateAll(new SwitchPoint[] { toInvalidate });
         }
     }
 
@@ -577,4 +611,91 @@ public class PythonLikeType implements PythonLikeObject,
     public int hashCode() {
         return Objects.hash(JAVA_TYPE_INTERNAL_NAME);
     }
+
+    /**
+     * A {@link HashMap} that invalidates the inline caches of its type when modified.
+     */
+    private final class TypeAttributeMap extends HashMap<String, PythonLikeObject> {
+        @Override
+        public PythonLikeObject put(String key, PythonLikeObject value) {
+            invalidateAttributeCaches();
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends PythonLikeObject> m) {
+            invalidateAttributeCaches();
+            super.putAll(m);
+        }
+
+        @Override
+        public PythonLikeObject putIfAbsent(String key, PythonLikeObject value) {
+            invalidateAttributeCaches();
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public PythonLikeObject remove(Object key) {
+            invalidateAttributeCaches();
+            return super.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            invalidateAttributeCaches();
+            return super.remove(key, value);
+        }
+
+        @Override
+        public void clear() {
+            invalidateAttributeCaches();
+            super.clear();
+        }
+
+        @Override
+        public PythonLikeObject replace(String key, PythonLikeObject value) {
+            invalidateAttributeCaches();
+            return super.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(String key, PythonLikeObject oldValue, PythonLikeObject newValue) {
+            invalidateAttributeCaches();
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> function) {
+            invalidateAttributeCaches();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public PythonLikeObject computeIfAbsent(String key,
+                Function<? super String, ? extends PythonLikeObject> mappingFunction) {
+            invalidateAttributeCaches();
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public PythonLikeObject computeIfPresent(String key,
+                BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+            invalidateAttributeCaches();
+            return super.computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public PythonLikeObject compute(String key,
+                BiFunction<? super String, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+            invalidateAttributeCaches();
+            return super.compute(key, remappingFunction);
+        }
+
+        @Override
+        public PythonLikeObject merge(String key, PythonLikeObject value,
+                BiFunction<? super PythonLikeObject, ? super PythonLikeObject, ? extends PythonLikeObject> remappingFunction) {
+            invalidateAttributeCaches();
+            return super.merge(key, value, remappingFunction);
+        }
+    }
 }
@@ -112,7 +112,7 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
     @Override
     public int size() {
         // Need to use ceil division
-        BigInteger[] divideAndRemainder = stop.value.subtract(start.value).divideAndRemainder(step.value);
+        BigInteger[] divideAndRemainder = stop.getValue().subtract(start.getValue()).divideAndRemainder(step.getValue());
         if (divideAndRemainder[1].equals(BigInteger.ZERO)) {
             return divideAndRemainder[0].intValueExact();
         } else {
@@ -136,18 +136,18 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
         }
         PythonInteger query = (PythonInteger) o;
 
-        if (step.value.compareTo(BigInteger.ZERO) < 0) {
-            if (query.value.compareTo(stop.value) < 0) {
+        if (step.signum() < 0) {
+            if (query.compareTo(stop) < 0) {
                 return false;
             }
         } else {
-            if (query.value.compareTo(stop.value) > 0) {
+            if (query.compareTo(stop) > 0) {
                 return false;
             }
         }
 
-        BigInteger relativeToStart = query.value.subtract(start.value);
-        BigInteger[] divisionAndRemainder = relativeToStart.divideAndRemainder(step.value);
+        BigInteger relativeToStart = query.getValue().subtract(start.getValue());
+        BigInteger[] divisionAndRemainder = relativeToStart.divideAndRemainder(step.getValue());
 
         if (!divisionAndRemainder[1].equals(BigInteger.ZERO)) {
             return false; // cannot be represented as start + step * i
@@ -221,7 +221,7 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
     }
 
     public PythonInteger getItem(PythonInteger index) {
-        if (index.value.compareTo(BigInteger.ZERO) < 0) {
+        if (index.signum() < 0) {
             throw new IndexOutOfBoundsException();
         }
         PythonInteger out = start.add(step.multiply(index));
@@ -239,8 +239,8 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
             return -1;
         }
         PythonInteger query = (PythonInteger) o;
-        BigInteger relativeToStart = query.value.subtract(start.value);
-        return relativeToStart.divide(step.value).intValueExact();
+        BigInteger relativeToStart = query.getValue().subtract(start.getValue());
+        return relativeToStart.divide(step.getValue()).intValueExact();
     }
 
     @Override
@@ -332,7 +332,7 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
         @Override
         public boolean hasNext() {
-            if (step.value.compareTo(BigInteger.ZERO) < 0) {
+            if (step.signum() < 0) {
                 return currentValue.compareTo(stopValue) > 0;
             } else {
                 return currentValue.compareTo(stopValue) < 0;
@@ -348,7 +348,7 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
         @Override
         public boolean hasPrevious() {
-            if (step.value.compareTo(BigInteger.ZERO) < 0) {
+            if (step.signum() < 0) {
                 return currentValue.compareTo(startValue) < 0;
             } else {
                 return currentValue.compareTo(startValue) > 0;
@@ -364,12 +364,12 @@ public class PythonRange extends AbstractPythonLikeObject implements List<Python
 
         @Override
         public int nextIndex() {
-            return currentValue.value.divide(step.value).intValueExact() + startOffset + 1;
+            return currentValue.floorDivide(step).intValueExact() + startOffset + 1;
         }
 
         @Override
         public int previousIndex() {
-            return currentValue.value.divide(step.value).intValueExact() + startOffset - 1;
+            return currentValue.floorDivide(step).intValueExact() + startOffset - 1;
         }
 
         @Override
@@ -1,6 +1,5 @@
 package org.optaplanner.jpyinterpreter.types;
 
-import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -95,7 +94,7 @@ public class PythonSlice extends AbstractPythonLikeObject {
      * @return index, if index in [0, length -1]; length - index, if index < 0.
      */
     public static int asIntIndexForLength(PythonInteger index, int length) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
             return length + indexAsInt;
@@ -115,7 +114,7 @@ public class PythonSlice extends AbstractPythonLikeObject {
      *         position after the sequence).
      */
     public static int asValidStartIntIndexForLength(PythonInteger index, int length) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
             return Math.max(0, Math.min(length - 1, length + indexAsInt));
@@ -135,7 +134,7 @@ public class PythonSlice extends AbstractPythonLikeObject {
      *         position after the sequence).
      */
     public static int asValidEndIntIndexForLength(PythonInteger index, int length) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
             return Math.max(0, Math.min(length, length + indexAsInt));
@@ -158,14 +157,14 @@ public class PythonSlice extends AbstractPythonLikeObject {
             isReversed = strideLength.compareTo(PythonInteger.ZERO) < 0;
         }
 
-        if (strideLength.value.intValueExact() == 0) {
+        if (strideLength.intValueExact() == 0) {
             throw new ValueError("stride length cannot be zero");
         }
 
         if (start instanceof PythonInteger) {
             startIndex = (PythonInteger) start;
         } else if (start == PythonNone.INSTANCE) {
-            startIndex = isReversed ? PythonInteger.valueOf(sequenceLength.value.subtract(BigInteger.ONE)) : PythonInteger.ZERO;
+            startIndex = isReversed ? sequenceLength.subtract(PythonInteger.ONE) : PythonInteger.ZERO;
         } else {
             startIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start));
         }
@@ -174,17 +173,17 @@ public class PythonSlice extends AbstractPythonLikeObject {
             startIndex = sequenceLength.add(startIndex);
         }
 
-        if (!isReversed && startIndex.value.compareTo(sequenceLength.value) > 0) {
+        if (!isReversed && startIndex.compareTo(sequenceLength) > 0) {
             startIndex = sequenceLength;
-        } else if (isReversed && startIndex.value.compareTo(sequenceLength.value.subtract(BigInteger.ONE)) > 0) {
-            startIndex = PythonInteger.valueOf(sequenceLength.value.subtract(BigInteger.ONE));
+        } else if (isReversed && startIndex.compareTo(sequenceLength.subtract(PythonInteger.ONE)) > 0) {
+            startIndex = sequenceLength.subtract(PythonInteger.ONE);
         }
 
         if (stop instanceof PythonInteger) {
             stopIndex = (PythonInteger) stop;
         } else if (stop == PythonNone.INSTANCE) {
             stopIndex =
-                    isReversed ? PythonInteger.valueOf(sequenceLength.value.negate().subtract(BigInteger.ONE)) : sequenceLength;
+                    isReversed ? sequenceLength.negative().subtract(PythonInteger.ONE) : sequenceLength;
         } else {
             stopIndex = (PythonInteger) UnaryDunderBuiltin.INDEX.invoke(stop);
         }
@@ -193,10 +192,10 @@ public class PythonSlice extends AbstractPythonLikeObject {
             stopIndex = sequenceLength.add(stopIndex);
         }
 
-        if (!isReversed && stopIndex.value.compareTo(sequenceLength.value) > 0) {
+        if (!isReversed && stopIndex.compareTo(sequenceLength) > 0) {
             stopIndex = sequenceLength;
-        } else if (isReversed && stopIndex.value.compareTo(sequenceLength.value.subtract(BigInteger.ONE)) > 0) {
-            stopIndex = PythonInteger.valueOf(sequenceLength.value.subtract(BigInteger.ONE));
+        } else if (isReversed && stopIndex.compareTo(sequenceLength.subtract(PythonInteger.ONE)) > 0) {
+            stopIndex = sequenceLength.subtract(PythonInteger.ONE);
         }
 
         return PythonLikeTuple.fromList(List.of(startIndex, stopIndex, strideLength));
@@ -207,11 +206,11 @@ public class PythonSlice extends AbstractPythonLikeObject {
         boolean isReversed = getStrideLength() < 0;
 
         if (start instanceof PythonInteger) {
-            startIndex = ((PythonInteger) start).value.intValueExact();
+            startIndex = ((PythonInteger) start).intValueExact();
         } else if (start == PythonNone.INSTANCE) {
             startIndex = isReversed ? length - 1 : 0;
         } else {
-            startIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).value.intValueExact();
+            startIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).intValueExact();
         }
 
         if (startIndex < 0) {
@@ -232,11 +231,11 @@ public class PythonSlice extends AbstractPythonLikeObject {
         boolean isReversed = getStrideLength() < 0;
 
         if (stop instanceof PythonInteger) {
-            stopIndex = ((PythonInteger) stop).value.intValueExact();
+            stopIndex = ((PythonInteger) stop).intValueExact();
         } else if (stop == PythonNone.INSTANCE) {
             stopIndex = isReversed ? -length - 1 : length; // use -length - 1 so length - stopIndex = -1
         } else {
-            stopIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(stop)).value.intValueExact();
+            stopIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(stop)).intValueExact();
         }
 
         if (stopIndex < 0) {
@@ -263,13 +262,13 @@ public class PythonSlice extends AbstractPythonLikeObject {
             strideLength = (PythonInteger) UnaryDunderBuiltin.INDEX.invoke(step);
         }
 
-        int out = strideLength.value.intValueExact();
+        int out = strideLength.intValueExact();
 
         if (out == 0) {
             throw new ValueError("stride length cannot be zero");
         }
 
-        return strideLength.value.intValueExact();
+        return strideLength.intValueExact();
     }
 
     public void iterate(int length, SliceConsumer consumer) {
@@ -279,10 +278,10 @@ public class PythonSlice extends AbstractPythonLikeObject {
         if (this.step == PythonNone.INSTANCE) {
             strideLength = 1;
         } else if (this.step instanceof PythonInteger) {
-            strideLength = ((PythonInteger) this.step).value.intValueExact();
+            strideLength = ((PythonInteger) this.step).intValueExact();
             isReversed = strideLength < 0;
         } else {
-            strideLength = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).value.intValueExact();
+            strideLength = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).intValueExact();
             isReversed = strideLength < 0;
         }
 
@@ -291,11 +290,11 @@ public class PythonSlice extends AbstractPythonLikeObject {
         }
 
         if (start instanceof PythonInteger) {
-            startIndex = ((PythonInteger) start).value.intValueExact();
+            startIndex = ((PythonInteger) start).intValueExact();
         } else if (start == PythonNone.INSTANCE) {
             startIndex = isReversed ? length - 1 : 0;
         } else {
-            startIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).value.intValueExact();
+            startIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(start)).intValueExact();
         }
 
         if (startIndex < 0) {
@@ -309,11 +308,11 @@ public class PythonSlice extends AbstractPythonLikeObject {
         }
 
         if (stop instanceof PythonInteger) {
-            stopIndex = ((PythonInteger) stop).value.intValueExact();
+            stopIndex = ((PythonInteger) stop).intValueExact();
         } else if (stop == PythonNone.INSTANCE) {
             stopIndex = isReversed ? -length - 1 : length; // use -length - 1 so length - stopIndex = -1
         } else {
-            stopIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(stop)).value.intValueExact();
+            stopIndex = ((PythonInteger) UnaryDunderBuiltin.INDEX.invoke(stop)).intValueExact();
         }
 
         if (stopIndex < 0) {
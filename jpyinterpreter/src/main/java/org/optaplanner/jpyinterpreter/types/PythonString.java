@@ -419,7 +419,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString repeat(PythonInteger times) {
-        int timesAsInt = times.value.intValueExact();
+        int timesAsInt = times.intValueExact();
 
         if (timesAsInt <= 0) {
             return EMPTY;
@@ -494,7 +494,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString center(PythonInteger width, PythonString fillChar) {
-        int widthAsInt = width.value.intValueExact();
+        int widthAsInt = width.intValueExact();
         if (widthAsInt <= value.length()) {
             return this;
         }
@@ -519,7 +519,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString rightJustify(PythonInteger width, PythonString fillChar) {
-        int widthAsInt = width.value.intValueExact();
+        int widthAsInt = width.intValueExact();
         if (widthAsInt <= value.length()) {
             return this;
         }
@@ -537,7 +537,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString leftJustify(PythonInteger width, PythonString fillChar) {
-        int widthAsInt = width.value.intValueExact();
+        int widthAsInt = width.intValueExact();
         if (widthAsInt <= value.length()) {
             return this;
         }
@@ -704,7 +704,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString expandTabs(PythonInteger tabsize) {
-        int tabsizeAsInt = tabsize.value.intValueExact();
+        int tabsizeAsInt = tabsize.intValueExact();
 
         int column = 0;
         int length = value.length();
@@ -1269,7 +1269,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString replaceUpToCount(PythonString old, PythonString replacement, PythonInteger count) {
-        int countAsInt = count.value.intValueExact();
+        int countAsInt = count.intValueExact();
         if (countAsInt < 0) { // negative count act the same as replace all
             return replaceAll(old, replacement);
         }
@@ -1308,7 +1308,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonLikeList<PythonString> split(PythonString seperator, PythonInteger maxSplits) {
-        int maxSplitsAsInt = maxSplits.value.intValueExact();
+        int maxSplitsAsInt = maxSplits.intValueExact();
         if (maxSplitsAsInt == -1) {
             return split(seperator);
         }
@@ -1319,7 +1319,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonLikeList<PythonString> split(PythonNone ignored, PythonInteger maxSplits) {
-        int maxSplitsAsInt = maxSplits.value.intValueExact();
+        int maxSplitsAsInt = maxSplits.intValueExact();
         if (maxSplitsAsInt == -1) {
             return split();
         }
@@ -1342,7 +1342,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonLikeList<PythonString> rightSplit(PythonString seperator, PythonInteger maxSplits) {
-        int maxSplitsAsInt = maxSplits.value.intValueExact();
+        int maxSplitsAsInt = maxSplits.intValueExact();
         if (maxSplitsAsInt == -1) {
             return split(seperator);
         }
@@ -1359,7 +1359,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonLikeList<PythonString> rightSplit(PythonNone ignored, PythonInteger maxSplits) {
-        int maxSplitsAsInt = maxSplits.value.intValueExact();
+        int maxSplitsAsInt = maxSplits.intValueExact();
         if (maxSplitsAsInt == -1) {
             return split();
         }
@@ -1424,7 +1424,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
                         }
 
                         if (translated instanceof PythonInteger) {
-                            return IntStream.of(((PythonInteger) translated).value.intValueExact());
+                            return IntStream.of(((PythonInteger) translated).intValueExact());
                         }
 
                         if (translated instanceof PythonString) {
@@ -1439,7 +1439,7 @@ public class PythonString extends AbstractPythonLikeObject implements PythonLike
     }
 
     public PythonString zfill(PythonInteger width) {
-        int widthAsInt = width.value.intValueExact();
+        int widthAsInt = width.intValueExact();
         if (widthAsInt <= value.length()) {
             return this;
         }
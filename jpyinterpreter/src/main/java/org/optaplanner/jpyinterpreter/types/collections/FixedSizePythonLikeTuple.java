@@ -0,0 +1,361 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+
+/**
+ * A tuple with at most {@link #MAX_SIZE} items, which are stored in fields instead of a list.
+ * Small tuples (such as group keys and multiple return values) are by far the most common,
+ * so this saves the list and its backing array for most tuples.
+ * <p>
+ * Unlike a {@link PythonLikeTuple} built item by item, these tuples cannot be modified.
+ * Create them with {@link PythonLikeTuple#of()} and its overloads, or {@link PythonLikeTuple#fromList(List)}.
+ */
+public abstract class FixedSizePythonLikeTuple extends PythonLikeTuple {
+    public static final int MAX_SIZE = 4;
+
+    FixedSizePythonLikeTuple() {
+        super((List<PythonLikeObject>) null);
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("tuple is immutable");
+    }
+
+    private static IndexOutOfBoundsException outOfBounds(int i, int size) {
+        return new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+    }
+
+    @Override
+    public abstract int size();
+
+    @Override
+    public abstract PythonLikeObject get(int i);
+
+    private PythonLikeObject[] toPythonLikeObjectArray() {
+        PythonLikeObject[] out = new PythonLikeObject[size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = get(i);
+        }
+        return out;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        for (Object item : collection) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int itemCount = size();
+        for (int i = 0; i < itemCount; i++) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size() - 1; i >= 0; i--) {
+            if (Objects.equals(o, get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return toPythonLikeObjectArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] ts) {
+        return Arrays.asList(toPythonLikeObjectArray()).toArray(ts);
+    }
+
+    @Override
+    public Iterator<PythonLikeObject> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<PythonLikeObject> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<PythonLikeObject> listIterator(int i) {
+        if (i < 0 || i > size()) {
+            throw outOfBounds(i, size());
+        }
+        return new ListIterator<>() {
+            private int nextIndex = i;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size();
+            }
+
+            @Override
+            public PythonLikeObject next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(nextIndex++);
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return nextIndex > 0;
+            }
+
+            @Override
+            public PythonLikeObject previous() {
+                if (!hasPrevious()) {
+                    throw new NoSuchElementException();
+                }
+                return get(--nextIndex);
+            }
+
+            @Override
+            public int nextIndex() {
+                return nextIndex;
+            }
+
+            @Override
+            public int previousIndex() {
+                return nextIndex - 1;
+            }
+
+            @Override
+            public void remove() {
+                throw immutable();
+            }
+
+            @Override
+            public void set(PythonLikeObject pythonLikeObject) {
+                throw immutable();
+            }
+
+            @Override
+            public void add(PythonLikeObject pythonLikeObject) {
+                throw immutable();
+            }
+        };
+    }
+
+    @Override
+    public List<PythonLikeObject> subList(int i, int i1) {
+        return Collections.unmodifiableList(Arrays.asList(toPythonLikeObjectArray()).subList(i, i1));
+    }
+
+    @Override
+    public void reverseAdd(PythonLikeObject object) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean add(PythonLikeObject pythonLikeObject) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends PythonLikeObject> collection) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean addAll(int i, Collection<? extends PythonLikeObject> collection) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw immutable();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw immutable();
+    }
+
+    @Override
+    public void clear() {
+        throw immutable();
+    }
+
+    @Override
+    public PythonLikeObject set(int i, PythonLikeObject pythonLikeObject) {
+        throw immutable();
+    }
+
+    @Override
+    public void add(int i, PythonLikeObject pythonLikeObject) {
+        throw immutable();
+    }
+
+    @Override
+    public PythonLikeObject remove(int i) {
+        throw immutable();
+    }
+
+    public static final class Tuple0 extends FixedSizePythonLikeTuple {
+        Tuple0() {
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public PythonLikeObject get(int i) {
+            throw outOfBounds(i, 0);
+        }
+    }
+
+    public static final class Tuple1 extends FixedSizePythonLikeTuple {
+        private final PythonLikeObject item0;
+
+        Tuple1(PythonLikeObject item0) {
+            this.item0 = item0;
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public PythonLikeObject get(int i) {
+            if (i == 0) {
+                return item0;
+            }
+            throw outOfBounds(i, 1);
+        }
+    }
+
+    public static final class Tuple2 extends FixedSizePythonLikeTuple {
+        private final PythonLikeObject item0;
+        private final PythonLikeObject item1;
+
+        Tuple2(PythonLikeObject item0, PythonLikeObject item1) {
+            this.item0 = item0;
+            this.item1 = item1;
+        }
+
+        @Override
+        public int size() {
+            return 2;
+        }
+
+        @Override
+        public PythonLikeObject get(int i) {
+            switch (i) {
+                case 0:
+                    return item0;
+                case 1:
+                    return item1;
+                default:
+                    throw outOfBounds(i, 2);
+            }
+        }
+    }
+
+    public static final class Tuple3 extends FixedSizePythonLikeTuple {
+        private final PythonLikeObject item0;
+        private final PythonLikeObject item1;
+        private final PythonLikeObject item2;
+
+        Tuple3(PythonLikeObject item0, PythonLikeObject item1, PythonLikeObject item2) {
+            this.item0 = item0;
+            this.item1 = item1;
+            this.item2 = item2;
+        }
+
+        @Override
+        public int size() {
+            return 3;
+        }
+
+        @Override
+        public PythonLikeObject get(int i) {
+            switch (i) {
+                case 0:
+                    return item0;
+                case 1:
+                    return item1;
+                case 2:
+                    return item2;
+                default:
+                    throw outOfBounds(i, 3);
+            }
+        }
+    }
+
+    public static final class Tuple4 extends FixedSizePythonLikeTuple {
+        private final PythonLikeObject item0;
+        private final PythonLikeObject item1;
+        private final PythonLikeObject item2;
+        private final PythonLikeObject item3;
+
+        Tuple4(PythonLikeObject item0, PythonLikeObject item1, PythonLikeObject item2, PythonLikeObject item3) {
+            this.item0 = item0;
+            this.item1 = item1;
+            this.item2 = item2;
+            this.item3 = item3;
+        }
+
+        @Override
+        public int size() {
+            return 4;
+        }
+
+        @Override
+        public PythonLikeObject get(int i) {
+            switch (i) {
+                case 0:
+                    return item0;
+                case 1:
+                    return item1;
+                case 2:
+                    return item2;
+                case 3:
+                    return item3;
+                default:
+                    throw outOfBounds(i, 4);
+            }
+        }
+    }
+}
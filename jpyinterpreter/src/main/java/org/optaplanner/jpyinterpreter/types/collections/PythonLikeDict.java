@@ -11,7 +11,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.OrderedMap;
-import org.apache.commons.collections4.map.LinkedMap;
 import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.PythonOverloadImplementor;
@@ -29,6 +28,7 @@ import org.optaplanner.jpyinterpreter.types.errors.ValueError;
 import org.optaplanner.jpyinterpreter.types.errors.lookup.KeyError;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.CompactOrderedMap;
 import org.optaplanner.jpyinterpreter.util.JavaStringMapMirror;
 
 public class PythonLikeDict extends AbstractPythonLikeObject
@@ -109,12 +109,12 @@ public class PythonLikeDict extends AbstractPythonLikeObject
 
     public PythonLikeDict() {
         super(BuiltinTypes.DICT_TYPE);
-        delegate = new LinkedMap<>();
+        delegate = new CompactOrderedMap<>();
     }
 
     public PythonLikeDict(int size) {
         super(BuiltinTypes.DICT_TYPE);
-        delegate = new LinkedMap<>(size);
+        delegate = new CompactOrderedMap<>(size);
     }
 
     public PythonLikeDict(OrderedMap<PythonLikeObject, PythonLikeObject> source) {
@@ -133,7 +133,7 @@ public class PythonLikeDict extends AbstractPythonLikeObject
     }
 
     public PythonLikeDict copy() {
-        return new PythonLikeDict(new LinkedMap<>(delegate));
+        return new PythonLikeDict(new CompactOrderedMap<>(delegate));
     }
 
     public PythonLikeDict concatToNew(PythonLikeDict other) {
@@ -2,11 +2,9 @@ package org.optaplanner.jpyinterpreter.types.collections;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
@@ -19,10 +17,15 @@ import org.optaplanner.jpyinterpreter.types.PythonLikeType;
 import org.optaplanner.jpyinterpreter.types.errors.ValueError;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.CompactHashSet;
 
 // issubclass(set, frozenset) and issubclass(frozenset, set) are both False in Python
 public class PythonLikeFrozenSet extends AbstractPythonLikeObject implements Set<PythonLikeObject> {
-    public final Set<PythonLikeObject> delegate;
+    public final CompactHashSet<PythonLikeObject> delegate;
+
+    // frozenset is immutable once created, so its hash is computed at most once
+    private int hash;
+    private boolean isHashComputed = false;
 
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeFrozenSet::registerMethods);
@@ -128,20 +131,26 @@ public class PythonLikeFrozenSet extends AbstractPythonLikeObject implements Set
 
     public PythonLikeFrozenSet() {
         super(BuiltinTypes.FROZEN_SET_TYPE);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
     }
 
     public PythonLikeFrozenSet(PythonLikeObject iterable) {
         super(BuiltinTypes.FROZEN_SET_TYPE);
         Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(iterable);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
         iterator.forEachRemaining(delegate::add);
     }
 
+    private PythonLikeFrozenSet(CompactHashSet<PythonLikeObject> delegate) {
+        super(BuiltinTypes.FROZEN_SET_TYPE);
+        this.delegate = delegate;
+    }
+
     // Required for bytecode generation
     @SuppressWarnings("unused")
     public void reverseAdd(PythonLikeObject item) {
         delegate.add(item);
+        isHashComputed = false;
     }
 
     public PythonInteger getLength() {
@@ -197,65 +206,35 @@ public class PythonLikeFrozenSet extends AbstractPythonLikeObject implements Set
     }
 
     public PythonLikeFrozenSet union(PythonLikeSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.addAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.union(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet union(PythonLikeFrozenSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.addAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.union(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet intersection(PythonLikeSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.intersection(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet intersection(PythonLikeFrozenSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.intersection(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet difference(PythonLikeSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.difference(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet difference(PythonLikeFrozenSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.difference(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet symmetricDifference(PythonLikeSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        other.delegate.stream() // for each item in other
-                .filter(Predicate.not(out.delegate::add)) // add each item
-                .forEach(out.delegate::remove); // add return false iff item already in set, so this remove
-        // all items in both this and other
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.symmetricDifference(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet symmetricDifference(PythonLikeFrozenSet other) {
-        PythonLikeFrozenSet out = new PythonLikeFrozenSet();
-        out.delegate.addAll(delegate);
-        other.delegate.stream() // for each item in other
-                .filter(Predicate.not(out.delegate::add)) // add each item
-                .forEach(out.delegate::remove); // add return false iff item already in set, so this remove
-        // all items in both this and other
-        return out;
+        return new PythonLikeFrozenSet(CompactHashSet.symmetricDifference(delegate, other.delegate));
     }
 
     public PythonLikeFrozenSet copy() {
@@ -341,7 +320,11 @@ public class PythonLikeFrozenSet extends AbstractPythonLikeObject implements Set
 
     @Override
     public int hashCode() {
-        return Objects.hash(delegate);
+        if (!isHashComputed) {
+            hash = Objects.hash(delegate);
+            isHashComputed = true;
+        }
+        return hash;
     }
 
     @Override
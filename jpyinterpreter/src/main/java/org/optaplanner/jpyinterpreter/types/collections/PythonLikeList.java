@@ -1,9 +1,9 @@
 package org.optaplanner.jpyinterpreter.types.collections;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -105,17 +105,14 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
 
     public PythonLikeList() {
         super(BuiltinTypes.LIST_TYPE);
-        delegate = new ArrayList<>();
+        delegate = new StrategyList();
         remainderToAdd = 0;
     }
 
     public PythonLikeList(int size) {
         super(BuiltinTypes.LIST_TYPE);
-        delegate = new ArrayList<>(size);
+        delegate = StrategyList.ofNulls(size);
         remainderToAdd = size;
-        for (int i = 0; i < size; i++) {
-            delegate.add(null);
-        }
     }
 
     public PythonLikeList(List delegate) {
@@ -129,6 +126,9 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     public void reverseAdd(PythonLikeObject object) {
         delegate.set(remainderToAdd - 1, object);
         remainderToAdd--;
+        if (remainderToAdd == 0 && delegate instanceof StrategyList) {
+            ((StrategyList) delegate).specialize();
+        }
     }
 
     public PythonIterator getIterator() {
@@ -154,12 +154,12 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeList multiplyToNew(PythonInteger times) {
-        if (times.value.compareTo(BigInteger.ZERO) <= 0) {
+        if (times.signum() <= 0) {
             return new PythonLikeList();
         }
 
         PythonLikeList result = new PythonLikeList();
-        int timesAsInt = times.value.intValueExact();
+        int timesAsInt = times.intValueExact();
 
         for (int i = 0; i < timesAsInt; i++) {
             result.addAll(delegate);
@@ -169,12 +169,12 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeList multiplyToSelf(PythonInteger times) {
-        if (times.value.compareTo(BigInteger.ZERO) <= 0) {
+        if (times.signum() <= 0) {
             delegate.clear();
             return this;
         }
         List<PythonLikeObject> copy = new ArrayList<>(delegate);
-        int timesAsInt = times.value.intValueExact() - 1;
+        int timesAsInt = times.intValueExact() - 1;
 
         for (int i = 0; i < timesAsInt; i++) {
             delegate.addAll(copy);
@@ -198,7 +198,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonInteger index(PythonLikeObject item, PythonInteger start) {
-        int startAsInt = start.value.intValueExact();
+        int startAsInt = start.intValueExact();
         if (startAsInt < 0) {
             startAsInt = delegate.size() + startAsInt;
         }
@@ -213,8 +213,8 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonInteger index(PythonLikeObject item, PythonInteger start, PythonInteger end) {
-        int startAsInt = start.value.intValueExact();
-        int endAsInt = end.value.intValueExact();
+        int startAsInt = start.intValueExact();
+        int endAsInt = end.intValueExact();
 
         if (startAsInt < 0) {
             startAsInt = delegate.size() + startAsInt;
@@ -234,10 +234,10 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeObject getItem(PythonInteger index) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
-            indexAsInt = delegate.size() + index.value.intValueExact();
+            indexAsInt = delegate.size() + index.intValueExact();
         }
 
         if (indexAsInt < 0 || indexAsInt >= delegate.size()) {
@@ -250,6 +250,13 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     public PythonLikeList getSlice(PythonSlice slice) {
         int length = delegate.size();
 
+        if (slice.getStrideLength() == 1 && delegate instanceof StrategyList) {
+            // Share the items until either list is modified, instead of copying them
+            int start = Math.max(slice.getStartIndex(length), 0);
+            int stop = Math.max(slice.getStopIndex(length), start);
+            return new PythonLikeList(((StrategyList) delegate).slice(start, stop));
+        }
+
         PythonLikeList out = new PythonLikeList();
 
         slice.iterate(length, (i, processed) -> {
@@ -260,10 +267,10 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonLikeObject setItem(PythonInteger index, PythonLikeObject value) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
-            indexAsInt = delegate.size() + index.value.intValueExact();
+            indexAsInt = delegate.size() + index.intValueExact();
         }
 
         if (indexAsInt < 0 || indexAsInt >= delegate.size()) {
@@ -306,10 +313,10 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
     }
 
     public PythonNone deleteItem(PythonInteger index) {
-        if (index.value.compareTo(BigInteger.ZERO) < 0) {
-            delegate.remove(delegate.size() + index.value.intValueExact());
+        if (index.signum() < 0) {
+            delegate.remove(delegate.size() + index.intValueExact());
         } else {
-            delegate.remove(index.value.intValueExact());
+            delegate.remove(index.intValueExact());
         }
         return PythonNone.INSTANCE;
     }
@@ -376,7 +383,7 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
             throw new IndexError("pop from empty list");
         }
 
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
         if (indexAsInt < 0) {
             indexAsInt = delegate.size() + indexAsInt;
         }
@@ -550,6 +557,17 @@ public class PythonLikeList<T> extends AbstractPythonLikeObject implements List<
         return delegate.subList(i, i1);
     }
 
+    @Override
+    public void sort(Comparator comparator) {
+        if (getClass() == PythonLikeList.class) {
+            // Lets the delegate sort unboxed items in place
+            delegate.sort(comparator);
+        } else {
+            // Subclasses may keep the items somewhere besides the delegate, so sort through their List methods
+            List.super.sort(comparator);
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder out = new StringBuilder();
@@ -2,11 +2,9 @@ package org.optaplanner.jpyinterpreter.types.collections;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
 import org.optaplanner.jpyinterpreter.PythonLikeObject;
@@ -21,9 +19,10 @@ import org.optaplanner.jpyinterpreter.types.errors.ValueError;
 import org.optaplanner.jpyinterpreter.types.errors.lookup.KeyError;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.CompactHashSet;
 
 public class PythonLikeSet extends AbstractPythonLikeObject implements Set<PythonLikeObject> {
-    public final Set<PythonLikeObject> delegate;
+    public final CompactHashSet<PythonLikeObject> delegate;
 
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeSet::registerMethods);
@@ -139,12 +138,17 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
 
     public PythonLikeSet() {
         super(BuiltinTypes.SET_TYPE);
-        delegate = new HashSet<>();
+        delegate = new CompactHashSet<>();
     }
 
     public PythonLikeSet(int size) {
         super(BuiltinTypes.SET_TYPE);
-        delegate = new HashSet<>(size);
+        delegate = new CompactHashSet<>(size);
+    }
+
+    private PythonLikeSet(CompactHashSet<PythonLikeObject> delegate) {
+        super(BuiltinTypes.SET_TYPE);
+        this.delegate = delegate;
     }
 
     // Required for bytecode generation
@@ -194,65 +198,35 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
     }
 
     public PythonLikeSet union(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.addAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.union(delegate, other.delegate));
     }
 
     public PythonLikeSet union(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.addAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.union(delegate, other.delegate));
     }
 
     public PythonLikeSet intersection(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.intersection(delegate, other.delegate));
     }
 
     public PythonLikeSet intersection(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.retainAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.intersection(delegate, other.delegate));
     }
 
     public PythonLikeSet difference(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.difference(delegate, other.delegate));
     }
 
     public PythonLikeSet difference(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        out.delegate.removeAll(other.delegate);
-        return out;
+        return new PythonLikeSet(CompactHashSet.difference(delegate, other.delegate));
     }
 
     public PythonLikeSet symmetricDifference(PythonLikeSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        other.delegate.stream() // for each item in other
-                .filter(Predicate.not(out.delegate::add)) // add each item
-                .forEach(out.delegate::remove); // add return false iff item already in set, so this remove
-        // all items in both this and other
-        return out;
+        return new PythonLikeSet(CompactHashSet.symmetricDifference(delegate, other.delegate));
     }
 
     public PythonLikeSet symmetricDifference(PythonLikeFrozenSet other) {
-        PythonLikeSet out = new PythonLikeSet();
-        out.delegate.addAll(delegate);
-        other.delegate.stream() // for each item in other
-                .filter(Predicate.not(out.delegate::add)) // add each item
-                .forEach(out.delegate::remove); // add return false iff item already in set, so this remove
-        // all items in both this and other
-        return out;
+        return new PythonLikeSet(CompactHashSet.symmetricDifference(delegate, other.delegate));
     }
 
     public PythonLikeSet updateWithResult(PythonLikeObject collection) {
@@ -275,7 +249,7 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
             delegate.retainAll((Collection<? extends PythonLikeObject>) collection);
         } else {
             Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(collection);
-            Set<PythonLikeObject> temp = new HashSet<>();
+            Set<PythonLikeObject> temp = new CompactHashSet<>();
             iterator.forEachRemaining(temp::add);
             delegate.retainAll(temp);
         }
@@ -305,13 +279,13 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
     public PythonLikeSet symmetricDifferenceUpdateWithResult(PythonLikeObject collection) {
         if (collection instanceof Collection) {
             Collection<PythonLikeObject> otherSet = (Collection<PythonLikeObject>) collection;
-            Set<PythonLikeObject> temp = new HashSet<>(delegate);
+            Set<PythonLikeObject> temp = new CompactHashSet<>(delegate);
             temp.retainAll(otherSet);
             delegate.addAll(otherSet);
             delegate.removeAll(temp);
         } else {
             Iterator<PythonLikeObject> iterator = (Iterator<PythonLikeObject>) UnaryDunderBuiltin.ITERATOR.invoke(collection);
-            Set<PythonLikeObject> encountered = new HashSet<>(delegate);
+            Set<PythonLikeObject> encountered = new CompactHashSet<>(delegate);
             while (iterator.hasNext()) {
                 PythonLikeObject item = iterator.next();
                 if (encountered.contains(item)) {
@@ -356,15 +330,11 @@ public class PythonLikeSet extends AbstractPythonLikeObject implements Set<Pytho
         if (delegate.isEmpty()) {
             throw new KeyError("set (" + this + ") is empty.");
         }
-        PythonLikeObject out = delegate.iterator().next();
-        delegate.remove(out);
-        return out;
+        return delegate.removeAny();
     }
 
     public PythonLikeSet copy() {
-        PythonLikeSet copy = new PythonLikeSet();
-        copy.addAll(delegate);
-        return copy;
+        return new PythonLikeSet(new CompactHashSet<>(delegate));
     }
 
     public PythonNone clearSet() {
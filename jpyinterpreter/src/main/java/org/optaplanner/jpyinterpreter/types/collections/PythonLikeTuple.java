@@ -1,8 +1,8 @@
 package org.optaplanner.jpyinterpreter.types.collections;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -24,11 +24,16 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class PythonLikeTuple extends AbstractPythonLikeObject implements List<PythonLikeObject>, RandomAccess {
-    public static PythonLikeTuple EMPTY = PythonLikeTuple.fromList(List.of());
+    public static PythonLikeTuple EMPTY = new FixedSizePythonLikeTuple.Tuple0();
 
     final List<PythonLikeObject> delegate;
     private int remainderToAdd;
 
+    // Tuples are only modified while they are built, before anything hashes them,
+    // but the mutators still reset the cached hash to keep it correct
+    private int hash;
+    private boolean isHashComputed;
+
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonLikeTuple::registerMethods);
     }
@@ -95,62 +100,109 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
         }
     }
 
+    /**
+     * Used by {@link FixedSizePythonLikeTuple}, which stores its items in fields, with a null delegate.
+     */
+    PythonLikeTuple(List<PythonLikeObject> delegate) {
+        super(BuiltinTypes.TUPLE_TYPE);
+        this.delegate = delegate;
+        remainderToAdd = 0;
+    }
+
+    public static PythonLikeTuple of() {
+        return EMPTY;
+    }
+
+    public static PythonLikeTuple of(PythonLikeObject item0) {
+        return new FixedSizePythonLikeTuple.Tuple1(item0);
+    }
+
+    public static PythonLikeTuple of(PythonLikeObject item0, PythonLikeObject item1) {
+        return new FixedSizePythonLikeTuple.Tuple2(item0, item1);
+    }
+
+    public static PythonLikeTuple of(PythonLikeObject item0, PythonLikeObject item1, PythonLikeObject item2) {
+        return new FixedSizePythonLikeTuple.Tuple3(item0, item1, item2);
+    }
+
+    public static PythonLikeTuple of(PythonLikeObject item0, PythonLikeObject item1, PythonLikeObject item2,
+            PythonLikeObject item3) {
+        return new FixedSizePythonLikeTuple.Tuple4(item0, item1, item2, item3);
+    }
+
+    /**
+     * Returns a tuple with the items of the given list. Tuples with at most
+     * {@link FixedSizePythonLikeTuple#MAX_SIZE} items store them in fields and cannot be modified.
+     */
     public static PythonLikeTuple fromList(List<PythonLikeObject> other) {
-        PythonLikeTuple result = new PythonLikeTuple();
-        result.addAll(other);
-        return result;
+        switch (other.size()) {
+            case 0:
+                return of();
+            case 1:
+                return of(other.get(0));
+            case 2:
+                return of(other.get(0), other.get(1));
+            case 3:
+                return of(other.get(0), other.get(1), other.get(2));
+            case 4:
+                return of(other.get(0), other.get(1), other.get(2), other.get(3));
+            default:
+                PythonLikeTuple result = new PythonLikeTuple();
+                result.addAll(other);
+                return result;
+        }
     }
 
     public PythonLikeTuple concatToNew(PythonLikeTuple other) {
-        if (delegate.isEmpty()) {
+        if (isEmpty()) {
             return other;
-        } else if (other.delegate.isEmpty()) {
+        } else if (other.isEmpty()) {
             return this;
         }
 
         PythonLikeTuple result = new PythonLikeTuple();
-        result.addAll(delegate);
+        result.addAll(this);
         result.addAll(other);
         return result;
     }
 
     public PythonLikeTuple multiplyToNew(PythonInteger times) {
-        if (times.value.compareTo(BigInteger.ZERO) <= 0) {
-            if (delegate.isEmpty()) {
+        if (times.signum() <= 0) {
+            if (isEmpty()) {
                 return this;
             }
-            return new PythonLikeTuple();
+            return EMPTY;
         }
 
-        if (times.value.equals(BigInteger.ONE)) {
+        if (times.equals(PythonInteger.ONE)) {
             return this;
         }
 
         PythonLikeTuple result = new PythonLikeTuple();
-        int timesAsInt = times.value.intValueExact();
+        int timesAsInt = times.intValueExact();
 
         for (int i = 0; i < timesAsInt; i++) {
-            result.addAll(delegate);
+            result.addAll(this);
         }
 
         return result;
     }
 
     public PythonInteger getLength() {
-        return PythonInteger.valueOf(delegate.size());
+        return PythonInteger.valueOf(size());
     }
 
     public PythonBoolean containsItem(PythonLikeObject item) {
-        return PythonBoolean.valueOf(delegate.contains(item));
+        return PythonBoolean.valueOf(contains(item));
     }
 
     public PythonIterator getIterator() {
-        return new PythonIterator(delegate.iterator());
+        return new PythonIterator(iterator());
     }
 
     public PythonIterator getReversedIterator() {
 
-        final ListIterator<PythonLikeObject> listIterator = delegate.listIterator(delegate.size());
+        final ListIterator<PythonLikeObject> listIterator = listIterator(size());
         return new PythonIterator<>(new Iterator<>() {
             @Override
             public boolean hasNext() {
@@ -165,26 +217,36 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public PythonLikeObject getItem(PythonInteger index) {
-        int indexAsInt = index.value.intValueExact();
+        int indexAsInt = index.intValueExact();
 
         if (indexAsInt < 0) {
-            indexAsInt = delegate.size() + index.value.intValueExact();
+            indexAsInt = size() + index.intValueExact();
         }
 
-        if (indexAsInt < 0 || indexAsInt >= delegate.size()) {
+        if (indexAsInt < 0 || indexAsInt >= size()) {
             throw new IndexError("list index out of range");
         }
 
-        return delegate.get(indexAsInt);
+        return get(indexAsInt);
     }
 
     public PythonLikeTuple getSlice(PythonSlice slice) {
-        int length = delegate.size();
+        int length = size();
+
+        if (slice.getStrideLength() == 1) {
+            int start = Math.max(slice.getStartIndex(length), 0);
+            int stop = Math.max(slice.getStopIndex(length), start);
+            if (stop - start <= FixedSizePythonLikeTuple.MAX_SIZE) {
+                return fromList(subList(start, stop));
+            }
+            // Tuples are not modified once built, so the slice can be a (read-only) view of this tuple's items
+            return new PythonLikeTuple(subList(start, stop));
+        }
 
         PythonLikeTuple out = new PythonLikeTuple();
 
         slice.iterate(length, (i, processed) -> {
-            out.add(delegate.get(i));
+            out.add(get(i));
         });
 
         return out;
@@ -192,7 +254,7 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     public PythonInteger count(PythonLikeObject search) {
         long count = 0;
-        for (PythonLikeObject x : delegate) {
+        for (PythonLikeObject x : this) {
             if (Objects.equals(search, x)) {
                 count++;
             }
@@ -201,7 +263,7 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public PythonInteger index(PythonLikeObject item) {
-        int result = delegate.indexOf(item);
+        int result = indexOf(item);
 
         if (result != -1) {
             return PythonInteger.valueOf(result);
@@ -211,12 +273,12 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public PythonInteger index(PythonLikeObject item, PythonInteger start) {
-        int startAsInt = start.value.intValueExact();
+        int startAsInt = start.intValueExact();
         if (startAsInt < 0) {
-            startAsInt = delegate.size() + startAsInt;
+            startAsInt = size() + startAsInt;
         }
 
-        List<PythonLikeObject> searchList = delegate.subList(startAsInt, delegate.size());
+        List<PythonLikeObject> searchList = subList(startAsInt, size());
         int result = searchList.indexOf(item);
         if (result != -1) {
             return PythonInteger.valueOf(startAsInt + result);
@@ -226,18 +288,18 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     }
 
     public PythonInteger index(PythonLikeObject item, PythonInteger start, PythonInteger end) {
-        int startAsInt = start.value.intValueExact();
-        int endAsInt = end.value.intValueExact();
+        int startAsInt = start.intValueExact();
+        int endAsInt = end.intValueExact();
 
         if (startAsInt < 0) {
-            startAsInt = delegate.size() + startAsInt;
+            startAsInt = size() + startAsInt;
         }
 
         if (endAsInt < 0) {
-            endAsInt = delegate.size() + endAsInt;
+            endAsInt = size() + endAsInt;
         }
 
-        List<PythonLikeObject> searchList = delegate.subList(startAsInt, endAsInt);
+        List<PythonLikeObject> searchList = subList(startAsInt, endAsInt);
         int result = searchList.indexOf(item);
         if (result != -1) {
             return PythonInteger.valueOf(startAsInt + result);
@@ -249,6 +311,7 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
     public void reverseAdd(PythonLikeObject object) {
         delegate.set(remainderToAdd - 1, object);
         remainderToAdd--;
+        isHashComputed = false;
     }
 
     @Override
@@ -283,11 +346,13 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public boolean add(PythonLikeObject pythonLikeObject) {
+        isHashComputed = false;
         return delegate.add(pythonLikeObject);
     }
 
     @Override
     public boolean remove(Object o) {
+        isHashComputed = false;
         return delegate.remove(o);
     }
 
@@ -298,26 +363,31 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public boolean addAll(Collection<? extends PythonLikeObject> collection) {
+        isHashComputed = false;
         return delegate.addAll(collection);
     }
 
     @Override
     public boolean addAll(int i, Collection<? extends PythonLikeObject> collection) {
+        isHashComputed = false;
         return delegate.addAll(i, collection);
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
+        isHashComputed = false;
         return delegate.removeAll(collection);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
+        isHashComputed = false;
         return delegate.retainAll(collection);
     }
 
     @Override
     public void clear() {
+        isHashComputed = false;
         delegate.clear();
     }
 
@@ -328,16 +398,19 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public PythonLikeObject set(int i, PythonLikeObject pythonLikeObject) {
+        isHashComputed = false;
         return delegate.set(i, pythonLikeObject);
     }
 
     @Override
     public void add(int i, PythonLikeObject pythonLikeObject) {
+        isHashComputed = false;
         delegate.add(i, pythonLikeObject);
     }
 
     @Override
     public PythonLikeObject remove(int i) {
+        isHashComputed = false;
         return delegate.remove(i);
     }
 
@@ -363,7 +436,7 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public List<PythonLikeObject> subList(int i, int i1) {
-        return delegate.subList(i, i1);
+        return Collections.unmodifiableList(delegate.subList(i, i1));
     }
 
     @Override
@@ -386,7 +459,17 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public int hashCode() {
-        return Objects.hash(delegate);
+        if (!isHashComputed) {
+            // Same as Objects.hash(list), which the hash used to be
+            int out = 1;
+            int itemCount = size();
+            for (int i = 0; i < itemCount; i++) {
+                out = 31 * out + Objects.hashCode(get(i));
+            }
+            hash = 31 + out;
+            isHashComputed = true;
+        }
+        return hash;
     }
 
     @Override
@@ -396,6 +479,14 @@ public class PythonLikeTuple extends AbstractPythonLikeObject implements List<Py
 
     @Override
     public String toString() {
-        return delegate.toString();
+        StringBuilder out = new StringBuilder("[");
+        int itemCount = size();
+        for (int i = 0; i < itemCount; i++) {
+            if (i != 0) {
+                out.append(", ");
+            }
+            out.append(get(i));
+        }
+        return out.append(']').toString();
     }
 }
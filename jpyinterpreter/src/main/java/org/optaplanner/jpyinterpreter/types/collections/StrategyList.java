@@ -0,0 +1,674 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * The storage of a {@link PythonLikeList}, which picks how to store its items from the items it holds
+ * (like PyPy's list strategies). A list that only holds ints (that fit in a long) keeps them unboxed in a
+ * long[], and a list that only holds floats keeps them in a double[]; the first item of any other type
+ * switches the list to storing objects, which it keeps doing until it is cleared.
+ * <p>
+ * Numeric lists are thus compact, and scans over them ({@link #sum(PythonLikeObject)}, {@link #min()},
+ * {@link #max()}, sorting, {@link #indexOf(Object)}) are loops over a primitive array. The price is that
+ * items are boxed again when they are read, so an int read from the list is equal to, but not the same
+ * object as, the int that was put in it.
+ * <p>
+ * {@link #slice(int, int)} returns a list that shares this list's storage. Both lists copy the storage
+ * the first time either of them is modified afterwards (copy-on-write), so slicing is O(1) and only
+ * the lists that are modified pay for the copy.
+ */
+public final class StrategyList extends AbstractList<Object> implements RandomAccess {
+    private static final int MINIMUM_CAPACITY = 8;
+
+    // The comparators sorted() passes; compared by identity, since both are singletons
+    private static final Object NATURAL_ORDER = Comparator.naturalOrder();
+    private static final Object REVERSE_ORDER = Comparator.reverseOrder();
+
+    public enum Strategy {
+        /**
+         * The list has no items (and no storage); the first item added picks the strategy.
+         */
+        EMPTY,
+        /**
+         * Every item is an int that fits in a long.
+         */
+        INT,
+        /**
+         * Every item is a float.
+         */
+        FLOAT,
+        /**
+         * The items can be anything, including null.
+         */
+        OBJECT
+    }
+
+    private Strategy strategy = Strategy.EMPTY;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private int size;
+    // Index of the first item in the storage array, which is only non-zero for slices
+    private int offset;
+    // If true, another list may read the storage array, so it must be copied before it is written to
+    private boolean isShared;
+
+    private int initialCapacity;
+
+    public StrategyList() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    public StrategyList(int initialCapacity) {
+        this.initialCapacity = Math.max(initialCapacity, MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Returns a list of the given size whose items are all null, to be replaced using {@link #set(int, Object)}.
+     * Call {@link #specialize()} once every item is set, so a list filled with ints or floats stores them unboxed.
+     */
+    public static StrategyList ofNulls(int size) {
+        StrategyList out = new StrategyList(size);
+        if (size > 0) {
+            out.strategy = Strategy.OBJECT;
+            out.objects = new Object[size];
+            out.size = size;
+        }
+        return out;
+    }
+
+    private static boolean isStoredAsLong(Object item) {
+        if (item == null || item.getClass() != PythonInteger.class) {
+            return false;
+        }
+        PythonInteger integer = (PythonInteger) item;
+        return integer.__getType() == BuiltinTypes.INT_TYPE && integer.isSmall();
+    }
+
+    private static boolean isStoredAsDouble(Object item) {
+        return item != null && item.getClass() == PythonFloat.class;
+    }
+
+    private static Strategy getStrategyFor(Object item) {
+        if (isStoredAsLong(item)) {
+            return Strategy.INT;
+        } else if (isStoredAsDouble(item)) {
+            return Strategy.FLOAT;
+        }
+        return Strategy.OBJECT;
+    }
+
+    private static StrategyList getStrategyListOf(Collection<?> collection) {
+        if (collection instanceof StrategyList) {
+            return (StrategyList) collection;
+        }
+        if (collection != null && collection.getClass() == PythonLikeList.class
+                && ((PythonLikeList<?>) collection).delegate instanceof StrategyList) {
+            return (StrategyList) ((PythonLikeList<?>) collection).delegate;
+        }
+        return null;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns a list with the items from start (inclusive) to stop (exclusive), which shares this list's storage
+     * until either list is modified.
+     */
+    public StrategyList slice(int start, int stop) {
+        if (start < 0 || stop > size || start > stop) {
+            throw new IndexOutOfBoundsException("Slice [" + start + ", " + stop + ") of a list of size " + size);
+        }
+        StrategyList out = new StrategyList();
+        if (start == stop) {
+            return out;
+        }
+        out.strategy = strategy;
+        out.longs = longs;
+        out.doubles = doubles;
+        out.objects = objects;
+        out.offset = offset + start;
+        out.size = stop - start;
+        out.isShared = true;
+        isShared = true;
+        return out;
+    }
+
+    /**
+     * Copies the storage if another list may read it, so it can be modified. Afterwards, offset is 0.
+     */
+    private void prepareToWrite() {
+        if (!isShared) {
+            return;
+        }
+        int capacity = Math.max(size, MINIMUM_CAPACITY);
+        switch (strategy) {
+            case INT:
+                longs = Arrays.copyOfRange(longs, offset, offset + capacity);
+                break;
+            case FLOAT:
+                doubles = Arrays.copyOfRange(doubles, offset, offset + capacity);
+                break;
+            case OBJECT:
+                objects = Arrays.copyOfRange(objects, offset, offset + capacity);
+                break;
+            default:
+                break;
+        }
+        offset = 0;
+        isShared = false;
+    }
+
+    private int getCapacity() {
+        switch (strategy) {
+            case INT:
+                return longs.length;
+            case FLOAT:
+                return doubles.length;
+            case OBJECT:
+                return objects.length;
+            default:
+                return 0;
+        }
+    }
+
+    private void ensureCapacity(int minimumCapacity) {
+        int capacity = getCapacity();
+        if (minimumCapacity <= capacity) {
+            return;
+        }
+        int newCapacity = Math.max(minimumCapacity, capacity + (capacity >> 1));
+        switch (strategy) {
+            case INT:
+                longs = Arrays.copyOf(longs, newCapacity);
+                break;
+            case FLOAT:
+                doubles = Arrays.copyOf(doubles, newCapacity);
+                break;
+            case OBJECT:
+                objects = Arrays.copyOf(objects, newCapacity);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: an empty list has no storage to grow.");
+        }
+    }
+
+    /**
+     * Makes sure the current strategy can store the given item, switching to objects if it cannot.
+     */
+    private void prepareToStore(Object item) {
+        switch (strategy) {
+            case EMPTY:
+                allocate(getStrategyFor(item));
+                break;
+            case INT:
+                if (!isStoredAsLong(item)) {
+                    switchToObjects();
+                }
+                break;
+            case FLOAT:
+                if (!isStoredAsDouble(item)) {
+                    switchToObjects();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void allocate(Strategy newStrategy) {
+        strategy = newStrategy;
+        switch (newStrategy) {
+            case INT:
+                longs = new long[initialCapacity];
+                break;
+            case FLOAT:
+                doubles = new double[initialCapacity];
+                break;
+            default:
+                objects = new Object[initialCapacity];
+                break;
+        }
+    }
+
+    private void switchToObjects() {
+        Object[] boxed = new Object[Math.max(getCapacity(), MINIMUM_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = get(i);
+        }
+        objects = boxed;
+        longs = null;
+        doubles = null;
+        strategy = Strategy.OBJECT;
+    }
+
+    /**
+     * Switches back to unboxed storage if every item is an int (or every item is a float).
+     * Lists that are built by setting placeholder items (see {@link #ofNulls(int)}) call this once they are filled.
+     */
+    public void specialize() {
+        if (strategy != Strategy.OBJECT || size == 0) {
+            return;
+        }
+        prepareToWrite();
+        Strategy itemStrategy = getStrategyFor(objects[0]);
+        switch (itemStrategy) {
+            case INT:
+                long[] unboxedLongs = new long[objects.length];
+                for (int i = 0; i < size; i++) {
+                    if (!isStoredAsLong(objects[i])) {
+                        return;
+                    }
+                    unboxedLongs[i] = ((PythonInteger) objects[i]).longValue();
+                }
+                longs = unboxedLongs;
+                break;
+            case FLOAT:
+                double[] unboxedDoubles = new double[objects.length];
+                for (int i = 0; i < size; i++) {
+                    if (!isStoredAsDouble(objects[i])) {
+                        return;
+                    }
+                    unboxedDoubles[i] = ((PythonFloat) objects[i]).value;
+                }
+                doubles = unboxedDoubles;
+                break;
+            default:
+                return;
+        }
+        objects = null;
+        strategy = itemStrategy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        switch (strategy) {
+            case INT:
+                return PythonInteger.valueOf(longs[offset + index]);
+            case FLOAT:
+                return PythonFloat.valueOf(doubles[offset + index]);
+            default:
+                return objects[offset + index];
+        }
+    }
+
+    @Override
+    public Object set(int index, Object item) {
+        Object old = get(index);
+        prepareToWrite();
+        prepareToStore(item);
+        store(index, item);
+        return old;
+    }
+
+    private void store(int index, Object item) {
+        switch (strategy) {
+            case INT:
+                longs[index] = ((PythonInteger) item).longValue();
+                break;
+            case FLOAT:
+                doubles[index] = ((PythonFloat) item).value;
+                break;
+            default:
+                objects[index] = item;
+                break;
+        }
+    }
+
+    @Override
+    public boolean add(Object item) {
+        prepareToWrite();
+        prepareToStore(item);
+        ensureCapacity(size + 1);
+        store(size, item);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, Object item) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        prepareToWrite();
+        prepareToStore(item);
+        ensureCapacity(size + 1);
+        moveItems(index, index + 1, size - index);
+        store(index, item);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<?> collection) {
+        prepareToWrite();
+        StrategyList other = getStrategyListOf(collection);
+        if (other != null && other.size > 0 && (other.strategy == strategy || strategy == Strategy.EMPTY)) {
+            if (strategy == Strategy.EMPTY) {
+                allocate(other.strategy);
+            }
+            ensureCapacity(size + other.size);
+            switch (strategy) {
+                case INT:
+                    System.arraycopy(other.longs, other.offset, longs, size, other.size);
+                    break;
+                case FLOAT:
+                    System.arraycopy(other.doubles, other.offset, doubles, size, other.size);
+                    break;
+                default:
+                    System.arraycopy(other.objects, other.offset, objects, size, other.size);
+                    break;
+            }
+            size += other.size;
+            modCount++;
+            return true;
+        }
+        if (strategy != Strategy.EMPTY) {
+            ensureCapacity(size + collection.size());
+        } else {
+            initialCapacity = Math.max(initialCapacity, collection.size());
+        }
+        boolean modified = false;
+        for (Object item : collection) {
+            add(item);
+            modified = true;
+        }
+        return modified;
+    }
+
+    private void moveItems(int from, int to, int count) {
+        switch (strategy) {
+            case INT:
+                System.arraycopy(longs, from, longs, to, count);
+                break;
+            case FLOAT:
+                System.arraycopy(doubles, from, doubles, to, count);
+                break;
+            default:
+                System.arraycopy(objects, from, objects, to, count);
+                break;
+        }
+    }
+
+    @Override
+    public Object remove(int index) {
+        Object old = get(index);
+        prepareToWrite();
+        moveItems(index + 1, index, size - index - 1);
+        size--;
+        if (strategy == Strategy.OBJECT) {
+            objects[size] = null;
+        }
+        modCount++;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        prepareToWrite();
+        moveItems(toIndex, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        if (strategy == Strategy.OBJECT) {
+            Arrays.fill(objects, newSize, size, null);
+        }
+        size = newSize;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        strategy = Strategy.EMPTY;
+        longs = null;
+        doubles = null;
+        objects = null;
+        size = 0;
+        offset = 0;
+        isShared = false;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (strategy == Strategy.INT && isStoredAsLong(o)) {
+            long value = ((PythonInteger) o).longValue();
+            for (int i = 0; i < size; i++) {
+                if (longs[offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (strategy == Strategy.FLOAT && isStoredAsDouble(o)) {
+            // PythonFloat.equals compares with ==, so NaN is never found
+            double value = ((PythonFloat) o).value;
+            for (int i = 0; i < size; i++) {
+                if (doubles[offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (strategy == Strategy.OBJECT) {
+            for (int i = 0; i < size; i++) {
+                if (o == null ? objects[offset + i] == null : o.equals(objects[offset + i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return super.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (strategy == Strategy.INT && isStoredAsLong(o)) {
+            long value = ((PythonInteger) o).longValue();
+            for (int i = size - 1; i >= 0; i--) {
+                if (longs[offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (strategy == Strategy.FLOAT && isStoredAsDouble(o)) {
+            double value = ((PythonFloat) o).value;
+            for (int i = size - 1; i >= 0; i--) {
+                if (doubles[offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        return super.lastIndexOf(o);
+    }
+
+    @Override
+    public Object[] toArray() {
+        if (strategy == Strategy.OBJECT) {
+            return Arrays.copyOfRange(objects, offset, offset + size);
+        }
+        Object[] out = new Object[size];
+        for (int i = 0; i < size; i++) {
+            out[i] = get(i);
+        }
+        return out;
+    }
+
+    /**
+     * Sorts ints and floats by value without boxing them when sorting in natural or reverse order.
+     * Ints and floats that compare equal cannot be told apart, so this matches a stable sort.
+     */
+    @Override
+    public void sort(Comparator<? super Object> comparator) {
+        boolean isNaturalOrder = comparator == null || comparator == NATURAL_ORDER;
+        boolean isReverseOrder = comparator == REVERSE_ORDER;
+        if ((strategy != Strategy.INT && strategy != Strategy.FLOAT) || (!isNaturalOrder && !isReverseOrder)) {
+            super.sort(comparator);
+            return;
+        }
+        prepareToWrite();
+        if (strategy == Strategy.INT) {
+            Arrays.sort(longs, 0, size);
+            if (isReverseOrder) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    long temp = longs[i];
+                    longs[i] = longs[j];
+                    longs[j] = temp;
+                }
+            }
+        } else {
+            // Same order as PythonFloat.compareTo, which uses Double.compare
+            Arrays.sort(doubles, 0, size);
+            if (isReverseOrder) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    double temp = doubles[i];
+                    doubles[i] = doubles[j];
+                    doubles[j] = temp;
+                }
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns {@code start} plus every item in the list, computed on the unboxed items;
+     * null if the list does not store its items unboxed or start is not a number it can be added to directly,
+     * in which case the caller should add the items one by one.
+     */
+    public PythonLikeObject sum(PythonLikeObject start) {
+        if (size == 0) {
+            return null;
+        }
+        switch (strategy) {
+            case INT: {
+                if (!isStoredAsLong(start)) {
+                    return null;
+                }
+                long out = ((PythonInteger) start).longValue();
+                for (int i = 0; i < size; i++) {
+                    try {
+                        out = Math.addExact(out, longs[offset + i]);
+                    } catch (ArithmeticException e) {
+                        // Overflow; finish the sum with BigIntegers
+                        BigInteger bigOut = BigInteger.valueOf(out);
+                        for (int j = i; j < size; j++) {
+                            bigOut = bigOut.add(BigInteger.valueOf(longs[offset + j]));
+                        }
+                        return PythonInteger.valueOf(bigOut);
+                    }
+                }
+                return PythonInteger.valueOf(out);
+            }
+            case FLOAT: {
+                double out;
+                if (isStoredAsDouble(start)) {
+                    out = ((PythonFloat) start).value;
+                } else if (isStoredAsLong(start)) {
+                    out = ((PythonInteger) start).longValue();
+                } else {
+                    return null;
+                }
+                for (int i = 0; i < size; i++) {
+                    out += doubles[offset + i];
+                }
+                return PythonFloat.valueOf(out);
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the smallest item, computed on the unboxed items;
+     * null if the list is empty or does not store its items unboxed.
+     */
+    public PythonLikeObject min() {
+        if (size == 0) {
+            return null;
+        }
+        switch (strategy) {
+            case INT: {
+                long out = longs[offset];
+                for (int i = offset + 1; i < offset + size; i++) {
+                    if (longs[i] < out) {
+                        out = longs[i];
+                    }
+                }
+                return PythonInteger.valueOf(out);
+            }
+            case FLOAT: {
+                double out = doubles[offset];
+                for (int i = offset + 1; i < offset + size; i++) {
+                    if (Double.compare(doubles[i], out) < 0) {
+                        out = doubles[i];
+                    }
+                }
+                return PythonFloat.valueOf(out);
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the largest item, computed on the unboxed items;
+     * null if the list is empty or does not store its items unboxed.
+     */
+    public PythonLikeObject max() {
+        if (size == 0) {
+            return null;
+        }
+        switch (strategy) {
+            case INT: {
+                long out = longs[offset];
+                for (int i = offset + 1; i < offset + size; i++) {
+                    if (longs[i] > out) {
+                        out = longs[i];
+                    }
+                }
+                return PythonInteger.valueOf(out);
+            }
+            case FLOAT: {
+                double out = doubles[offset];
+                for (int i = offset + 1; i < offset + size; i++) {
+                    if (Double.compare(doubles[i], out) > 0) {
+                        out = doubles[i];
+                    }
+                }
+                return PythonFloat.valueOf(out);
+            }
+            default:
+                return null;
+        }
+    }
+}
@@ -169,7 +169,7 @@ public class PythonDate<T extends PythonDate<?>> extends AbstractPythonLikeObjec
     }
 
     public static PythonDate of(PythonInteger year, PythonInteger month, PythonInteger day) {
-        return of(year.value.intValueExact(), month.value.intValueExact(), day.value.intValueExact());
+        return of(year.intValueExact(), month.intValueExact(), day.intValueExact());
     }
 
     public static PythonDate of(int year, int month, int day) {
@@ -323,7 +323,7 @@ public class PythonDate<T extends PythonDate<?>> extends AbstractPythonLikeObjec
 
     public PythonLikeTuple timetuple() {
         PythonInteger yday =
-                to_ordinal().subtract(PythonDate.of(year.value.intValueExact(), 1, 1).to_ordinal()).add(PythonInteger.ONE);
+                to_ordinal().subtract(PythonDate.of(year.intValueExact(), 1, 1).to_ordinal()).add(PythonInteger.ONE);
         return PythonLikeTuple.fromList(List.of(year, month, day,
                 PythonInteger.ZERO, PythonInteger.ZERO, PythonInteger.ZERO,
                 weekday(), yday, PythonInteger.valueOf(-1)));
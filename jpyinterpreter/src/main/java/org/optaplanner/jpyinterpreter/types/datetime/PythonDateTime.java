@@ -263,34 +263,34 @@ public class PythonDateTime extends PythonDate<PythonDateTime> {
     public static PythonDateTime of(PythonInteger year, PythonInteger month, PythonInteger day, PythonInteger hour,
             PythonInteger minute, PythonInteger second,
             PythonInteger microsecond, PythonLikeObject tzinfo, PythonInteger fold) {
-        if (month.value.intValueExact() < 1 || month.value.intValueExact() > 12) {
+        if (month.intValueExact() < 1 || month.intValueExact() > 12) {
             throw new ValueError("month must be between 1 and 12");
         }
-        if (!YearMonth.of(year.value.intValueExact(), month.value.intValueExact()).isValidDay(day.value.intValueExact())) {
+        if (!YearMonth.of(year.intValueExact(), month.intValueExact()).isValidDay(day.intValueExact())) {
             throw new ValueError("day must be between 1 and "
-                    + YearMonth.of(year.value.intValueExact(), month.value.intValueExact()).lengthOfMonth());
+                    + YearMonth.of(year.intValueExact(), month.intValueExact()).lengthOfMonth());
         }
-        if (hour.value.intValueExact() < 0 || hour.value.intValueExact() >= 24) {
+        if (hour.intValueExact() < 0 || hour.intValueExact() >= 24) {
             throw new ValueError("hour must be in range 0 <= hour < 24");
         }
-        if (minute.value.intValueExact() < 0 || minute.value.intValueExact() >= 60) {
+        if (minute.intValueExact() < 0 || minute.intValueExact() >= 60) {
             throw new ValueError("minute must be in range 0 <= minute < 60");
         }
-        if (second.value.intValueExact() < 0 || second.value.intValueExact() >= 60) {
+        if (second.intValueExact() < 0 || second.intValueExact() >= 60) {
             throw new ValueError("second must be in range 0 <= second < 60");
         }
-        if (microsecond.value.intValueExact() < 0 || microsecond.value.intValueExact() >= 1000000) {
+        if (microsecond.intValueExact() < 0 || microsecond.intValueExact() >= 1000000) {
             throw new ValueError("microsecond must be in range 0 <= microsecond < 1000000");
         }
-        if (fold.value.intValueExact() != 0 && fold.value.intValueExact() != 1) {
+        if (fold.intValueExact() != 0 && fold.intValueExact() != 1) {
             throw new ValueError("fold must be in [0, 1]");
         }
 
         return new PythonDateTime(
-                LocalDate.of(year.value.intValueExact(), month.value.intValueExact(), day.value.intValueExact()),
-                LocalTime.of(hour.value.intValueExact(), minute.value.intValueExact(), second.value.intValueExact(),
-                        microsecond.value.intValueExact() * 1000),
-                (tzinfo != PythonNone.INSTANCE) ? ((PythonTzinfo) tzinfo).zoneId : null, fold.value.intValueExact());
+                LocalDate.of(year.intValueExact(), month.intValueExact(), day.intValueExact()),
+                LocalTime.of(hour.intValueExact(), minute.intValueExact(), second.intValueExact(),
+                        microsecond.intValueExact() * 1000),
+                (tzinfo != PythonNone.INSTANCE) ? ((PythonTzinfo) tzinfo).zoneId : null, fold.intValueExact());
     }
 
     public static PythonDateTime of(int year, int month, int day, int hour, int minute, int second,
@@ -639,7 +639,7 @@ public class PythonDateTime extends PythonDate<PythonDateTime> {
     @Override
     public PythonLikeTuple timetuple() {
         PythonInteger yday =
-                to_ordinal().subtract(PythonDate.of(year.value.intValueExact(), 1, 1).to_ordinal()).add(PythonInteger.ONE);
+                to_ordinal().subtract(PythonDate.of(year.intValueExact(), 1, 1).to_ordinal()).add(PythonInteger.ONE);
         PythonInteger dst;
         if (zoneId != null) {
             dst = zoneId.getRules().isDaylightSavings(((ZonedDateTime) dateTime).toInstant()) ? PythonInteger.ONE
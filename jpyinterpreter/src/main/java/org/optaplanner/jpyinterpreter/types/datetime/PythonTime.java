@@ -1,6 +1,5 @@
 package org.optaplanner.jpyinterpreter.types.datetime;
 
-import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
@@ -154,9 +153,9 @@ public class PythonTime extends AbstractPythonLikeObject {
 
     public static PythonTime of(PythonInteger hour, PythonInteger minute, PythonInteger second, PythonInteger microsecond,
             PythonLikeObject tzinfo, PythonInteger fold) {
-        return of(hour.value.intValueExact(), minute.value.intValueExact(), second.value.intValueExact(),
-                microsecond.value.intValueExact(), (tzinfo == PythonNone.INSTANCE) ? null : ((PythonTzinfo) tzinfo).zoneId,
-                fold.value.intValueExact());
+        return of(hour.intValueExact(), minute.intValueExact(), second.intValueExact(),
+                microsecond.intValueExact(), (tzinfo == PythonNone.INSTANCE) ? null : ((PythonTzinfo) tzinfo).zoneId,
+                fold.intValueExact());
     }
 
     public static PythonTime of(int hour, int minute, int second, int microsecond, ZoneId zoneId, int fold) {
@@ -296,7 +295,7 @@ public class PythonTime extends AbstractPythonLikeObject {
         final String result;
         switch (formatSpec.value) {
             case "auto":
-                if (microsecond.value.equals(BigInteger.ZERO)) {
+                if (microsecond.signum() == 0) {
                     result = String.format("%02d:%02d:%02d", localTime.getHour(), localTime.getMinute(), localTime.getSecond());
                 } else {
                     result = String.format("%02d:%02d:%02d.%06d", localTime.getHour(), localTime.getMinute(),
@@ -1,6 +1,5 @@
 package org.optaplanner.jpyinterpreter.types.datetime;
 
-import java.math.BigInteger;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
@@ -217,7 +216,7 @@ public class PythonTimeDelta extends AbstractPythonLikeObject implements PythonL
     }
 
     public PythonTimeDelta divide_integer(PythonInteger divisor) {
-        if (divisor.value.equals(BigInteger.ZERO)) {
+        if (divisor.signum() == 0) {
             throw new ZeroDivisionError("timedelta division or modulo by zero");
         }
         return new PythonTimeDelta(duration.dividedBy(divisor.getValue().longValue()));
@@ -256,7 +255,7 @@ public class PythonTimeDelta extends AbstractPythonLikeObject implements PythonL
     }
 
     public PythonTimeDelta floor_divide_integer(PythonInteger divisor) {
-        if (divisor.value.equals(BigInteger.ZERO)) {
+        if (divisor.signum() == 0) {
             throw new ZeroDivisionError("timedelta division or modulo by zero");
         }
         return new PythonTimeDelta(duration.dividedBy(divisor.getValue().longValue()));
@@ -309,16 +308,16 @@ public class PythonTimeDelta extends AbstractPythonLikeObject implements PythonL
 
     public PythonString toPythonRepr() {
         StringBuilder out = new StringBuilder("datetime.timedelta(");
-        if (!days.value.equals(BigInteger.ZERO)) {
+        if (days.signum() != 0) {
             out.append("days=").append(days);
         }
-        if (!seconds.value.equals(BigInteger.ZERO)) {
+        if (seconds.signum() != 0) {
             if (out.charAt(out.length() - 1) != '(') {
                 out.append(", ");
             }
             out.append("seconds=").append(seconds);
         }
-        if (!microseconds.value.equals(BigInteger.ZERO)) {
+        if (microseconds.signum() != 0) {
             if (out.charAt(out.length() - 1) != '(') {
                 out.append(", ");
             }
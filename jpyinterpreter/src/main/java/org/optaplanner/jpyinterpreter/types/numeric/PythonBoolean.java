@@ -1,6 +1,5 @@
 package org.optaplanner.jpyinterpreter.types.numeric;
 
-import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -65,7 +64,7 @@ public class PythonBoolean extends PythonInteger {
     private final boolean booleanValue;
 
     private PythonBoolean(boolean booleanValue) {
-        super(BuiltinTypes.BOOLEAN_TYPE, booleanValue ? BigInteger.ONE : BigInteger.ZERO);
+        super(BuiltinTypes.BOOLEAN_TYPE, booleanValue ? 1L : 0L);
         this.booleanValue = booleanValue;
     }
 
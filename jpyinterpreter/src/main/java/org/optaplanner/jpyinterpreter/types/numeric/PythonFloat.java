@@ -225,7 +225,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
 
     @Override
     public int hashCode() {
-        return $method$__hash__().value.intValue();
+        return (int) $method$__hash__().longValue();
     }
 
     @Override
@@ -282,7 +282,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat add(PythonInteger other) {
-        return new PythonFloat(value + other.value.doubleValue());
+        return new PythonFloat(value + other.doubleValue());
     }
 
     public PythonFloat add(PythonFloat other) {
@@ -300,7 +300,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat subtract(PythonInteger other) {
-        return new PythonFloat(value - other.value.doubleValue());
+        return new PythonFloat(value - other.doubleValue());
     }
 
     public PythonFloat subtract(PythonFloat other) {
@@ -318,7 +318,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat multiply(PythonInteger other) {
-        return new PythonFloat(value * other.value.doubleValue());
+        return new PythonFloat(value * other.doubleValue());
     }
 
     public PythonFloat multiply(PythonFloat other) {
@@ -336,10 +336,10 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat trueDivide(PythonInteger other) {
-        if (other.value.equals(BigInteger.ZERO)) {
+        if (other.signum() == 0) {
             throw new ZeroDivisionError("float division");
         }
-        return new PythonFloat(value / other.value.doubleValue());
+        return new PythonFloat(value / other.doubleValue());
     }
 
     public PythonFloat trueDivide(PythonFloat other) {
@@ -360,11 +360,11 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat floorDivide(PythonInteger other) {
-        if (other.value.equals(BigInteger.ZERO)) {
+        if (other.signum() == 0) {
             throw new ZeroDivisionError("float division");
         }
         return new PythonFloat(new BigDecimal(value)
-                .divideToIntegralValue(new BigDecimal(other.value))
+                .divideToIntegralValue(new BigDecimal(other.getValue()))
                 .doubleValue());
     }
 
@@ -376,11 +376,11 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat ceilDivide(PythonInteger other) {
-        if (other.value.equals(BigInteger.ZERO)) {
+        if (other.signum() == 0) {
             throw new ZeroDivisionError("float division");
         }
         return new PythonFloat(new BigDecimal(value)
-                .divide(new BigDecimal(other.value), RoundingMode.CEILING)
+                .divide(new BigDecimal(other.getValue()), RoundingMode.CEILING)
                 .doubleValue());
     }
 
@@ -407,15 +407,15 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
         if (remainderSign == 0) {
             throw new ZeroDivisionError("float modulo");
         } else if (remainderSign > 0) {
-            double remainder = value % other.value.doubleValue();
+            double remainder = value % other.doubleValue();
             if (remainder < 0) {
-                remainder = remainder + other.value.doubleValue();
+                remainder = remainder + other.doubleValue();
             }
             return new PythonFloat(remainder);
         } else {
-            double remainder = value % other.value.doubleValue();
+            double remainder = value % other.doubleValue();
             if (remainder > 0) {
-                remainder = remainder + other.value.doubleValue();
+                remainder = remainder + other.doubleValue();
             }
             return new PythonFloat(remainder);
         }
@@ -452,26 +452,26 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     public PythonLikeTuple divmod(PythonInteger other) {
         PythonFloat quotient;
 
-        if (value < 0 == other.value.compareTo(BigInteger.ZERO) < 0) {
+        if (value < 0 == other.signum() < 0) {
             // Same sign, use floor division
             quotient = floorDivide(other);
         } else {
             // Different sign, use ceil division
             quotient = ceilDivide(other);
         }
-        PythonInteger.valueOf(Math.round(value / other.value.doubleValue()));
-        double remainder = value % other.value.doubleValue();
+        PythonInteger.valueOf(Math.round(value / other.doubleValue()));
+        double remainder = value % other.doubleValue();
 
         // Python remainder has sign of divisor
-        if (other.value.compareTo(BigInteger.ZERO) < 0) {
+        if (other.signum() < 0) {
             if (remainder > 0) {
                 quotient = quotient.subtract(PythonInteger.ONE);
-                remainder = remainder + other.value.doubleValue();
+                remainder = remainder + other.doubleValue();
             }
         } else {
             if (remainder < 0) {
                 quotient = quotient.subtract(PythonInteger.ONE);
-                remainder = remainder + other.value.doubleValue();
+                remainder = remainder + other.doubleValue();
             }
         }
         return PythonLikeTuple.fromList(List.of(quotient, new PythonFloat(remainder)));
@@ -523,7 +523,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
 
         BigDecimal asDecimal = new BigDecimal(value);
         return new PythonFloat(
-                asDecimal.setScale(digitsAfterDecimal.value.intValueExact(), RoundingMode.HALF_EVEN).doubleValue());
+                asDecimal.setScale(digitsAfterDecimal.intValueExact(), RoundingMode.HALF_EVEN).doubleValue());
     }
 
     public PythonLikeObject power(PythonLikeObject other) {
@@ -537,7 +537,7 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonFloat power(PythonInteger other) {
-        return new PythonFloat(Math.pow(value, other.value.doubleValue()));
+        return new PythonFloat(Math.pow(value, other.doubleValue()));
     }
 
     public PythonFloat power(PythonFloat other) {
@@ -605,27 +605,27 @@ public class PythonFloat extends AbstractPythonLikeObject implements PythonNumbe
     }
 
     public PythonBoolean equal(PythonInteger other) {
-        return PythonBoolean.valueOf(value == other.value.doubleValue());
+        return PythonBoolean.valueOf(value == other.doubleValue());
     }
 
     public PythonBoolean notEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value != other.value.doubleValue());
+        return PythonBoolean.valueOf(value != other.doubleValue());
     }
 
     public PythonBoolean lessThan(PythonInteger other) {
-        return PythonBoolean.valueOf(value < other.value.doubleValue());
+        return PythonBoolean.valueOf(value < other.doubleValue());
     }
 
     public PythonBoolean lessThanOrEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value <= other.value.doubleValue());
+        return PythonBoolean.valueOf(value <= other.doubleValue());
     }
 
     public PythonBoolean greaterThan(PythonInteger other) {
-        return PythonBoolean.valueOf(value > other.value.doubleValue());
+        return PythonBoolean.valueOf(value > other.doubleValue());
     }
 
     public PythonBoolean greaterThanOrEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value >= other.value.doubleValue());
+        return PythonBoolean.valueOf(value >= other.doubleValue());
     }
 
     public PythonBoolean equal(PythonFloat other) {
@@ -26,14 +26,25 @@ import org.optaplanner.jpyinterpreter.util.DefaultFormatSpec;
 import org.optaplanner.jpyinterpreter.util.StringFormatter;
 
 public class PythonInteger extends AbstractPythonLikeObject implements PythonNumber {
-    private static final BigInteger MIN_BYTE = BigInteger.valueOf(0);
-    private static final BigInteger MAX_BYTE = BigInteger.valueOf(255);
-
-    public final BigInteger value;
-
-    public final static PythonInteger ZERO = new PythonInteger(BigInteger.ZERO);
-    public final static PythonInteger ONE = new PythonInteger(BigInteger.ONE);
-    public final static PythonInteger TWO = new PythonInteger(BigInteger.TWO);
+    private static final long MIN_BYTE = 0L;
+    private static final long MAX_BYTE = 255L;
+    private static final long HASH_MODULUS = (1L << 61) - 1;
+
+    /**
+     * The value of this integer if it fits in a long. Only valid if {@link #largeValue} is null.
+     */
+    private final long smallValue;
+
+    /**
+     * The value of this integer if it does not fit in a long; null otherwise.
+     * Arithmetic is done on {@link #smallValue} and only promoted to {@link BigInteger} on overflow,
+     * so this is never a value that fits in a long.
+     */
+    private final BigInteger largeValue;
+
+    public final static PythonInteger ZERO = new PythonInteger(0L);
+    public final static PythonInteger ONE = new PythonInteger(1L);
+    public final static PythonInteger TWO = new PythonInteger(2L);
 
     static {
         PythonOverloadImplementor.deferDispatchesFor(PythonInteger::registerMethods);
@@ -212,48 +223,137 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
 
     public PythonInteger(PythonLikeType type) {
         super(type);
-        this.value = BigInteger.ZERO;
+        this.smallValue = 0L;
+        this.largeValue = null;
+    }
+
+    public PythonInteger(PythonLikeType type, long value) {
+        super(type);
+        this.smallValue = value;
+        this.largeValue = null;
     }
 
     public PythonInteger(PythonLikeType type, BigInteger value) {
         super(type);
-        this.value = value;
+        if (value.bitLength() < Long.SIZE) {
+            this.smallValue = value.longValue();
+            this.largeValue = null;
+        } else {
+            this.smallValue = 0L;
+            this.largeValue = value;
+        }
     }
 
     public PythonInteger(long value) {
-        this(BigInteger.valueOf(value));
+        this(BuiltinTypes.INT_TYPE, value);
     }
 
     public PythonInteger(BigInteger value) {
-        super(BuiltinTypes.INT_TYPE);
-        this.value = value;
+        this(BuiltinTypes.INT_TYPE, value);
+    }
+
+    /**
+     * @return true if this integer fits in a long, and thus has no {@link BigInteger} backing it.
+     */
+    public boolean isSmall() {
+        return largeValue == null;
     }
 
     @Override
-    public Number getValue() {
-        return value;
+    public BigInteger getValue() {
+        if (largeValue != null) {
+            return largeValue;
+        }
+        return BigInteger.valueOf(smallValue);
+    }
+
+    /**
+     * Same as {@link BigInteger#longValue()}: the low-order 64 bits of this integer.
+     */
+    public long longValue() {
+        if (largeValue != null) {
+            return largeValue.longValue();
+        }
+        return smallValue;
+    }
+
+    /**
+     * Same as {@link BigInteger#longValueExact()}.
+     */
+    public long longValueExact() {
+        if (largeValue != null) {
+            return largeValue.longValueExact();
+        }
+        return smallValue;
+    }
+
+    /**
+     * Same as {@link BigInteger#intValueExact()}.
+     */
+    public int intValueExact() {
+        if (largeValue != null) {
+            return largeValue.intValueExact();
+        }
+        return Math.toIntExact(smallValue);
+    }
+
+    public double doubleValue() {
+        if (largeValue != null) {
+            return largeValue.doubleValue();
+        }
+        return smallValue;
+    }
+
+    public int signum() {
+        if (largeValue != null) {
+            return largeValue.signum();
+        }
+        return Long.signum(smallValue);
+    }
+
+    @Override
+    public int compareTo(PythonNumber other) {
+        if (other instanceof PythonInteger) {
+            PythonInteger otherInteger = (PythonInteger) other;
+            if (largeValue == null && otherInteger.largeValue == null) {
+                return Long.compare(smallValue, otherInteger.smallValue);
+            }
+            return getValue().compareTo(otherInteger.getValue());
+        }
+        return PythonNumber.super.compareTo(other);
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return valueToString();
+    }
+
+    private String valueToString() {
+        if (largeValue != null) {
+            return largeValue.toString();
+        }
+        return Long.toString(smallValue);
     }
 
     public byte asByte() {
-        if (value.compareTo(MIN_BYTE) < 0 || value.compareTo(MAX_BYTE) > 0) {
-            throw new ValueError(value + " cannot represent a byte because it outside the range [0, 255].");
+        if (largeValue != null || smallValue < MIN_BYTE || smallValue > MAX_BYTE) {
+            throw new ValueError(this + " cannot represent a byte because it outside the range [0, 255].");
         }
-        return value.byteValue();
+        return (byte) smallValue;
     }
 
     @Override
     public boolean equals(Object o) {
         if (o instanceof Number) {
-            return value.equals(BigInteger.valueOf(((Number) o).longValue()));
+            return largeValue == null && smallValue == ((Number) o).longValue();
         } else if (o instanceof PythonInteger) {
-            return ((PythonInteger) o).value.equals(value);
+            PythonInteger other = (PythonInteger) o;
+            if (largeValue == null) {
+                return other.largeValue == null && smallValue == other.smallValue;
+            }
+            return largeValue.equals(other.largeValue);
         } else if (o instanceof PythonFloat) {
-            return value.doubleValue() == ((PythonFloat) o).value;
+            return doubleValue() == ((PythonFloat) o).value;
         } else {
             return false;
         }
@@ -261,23 +361,34 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
 
     @Override
     public int hashCode() {
-        return $method$__hash__().value.intValue();
+        return (int) $method$__hash__().longValue();
     }
 
     public PythonInteger $method$__hash__() {
+        if (largeValue == null && smallValue != Long.MIN_VALUE) {
+            // Same result as computeHash(this, ONE), without going through BigInteger
+            long hash = Math.abs(smallValue) % HASH_MODULUS;
+            if (smallValue < 0) {
+                hash = -hash;
+            }
+            if (hash == -1L) {
+                hash = -2L;
+            }
+            return valueOf(hash);
+        }
         return PythonNumber.computeHash(this, ONE);
     }
 
     public static PythonInteger valueOf(byte value) {
-        return new PythonInteger(value);
+        return valueOf((long) value);
     }
 
     public static PythonInteger valueOf(short value) {
-        return new PythonInteger(value);
+        return valueOf((long) value);
     }
 
     public static PythonInteger valueOf(int value) {
-        return new PythonInteger(value);
+        return valueOf((long) value);
     }
 
     public static PythonInteger valueOf(long value) {
@@ -285,11 +396,14 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public static PythonInteger valueOf(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return valueOf(value.longValue());
+        }
         return new PythonInteger(value);
     }
 
     public PythonBoolean asBoolean() {
-        return value.signum() == 0 ? PythonBoolean.FALSE : PythonBoolean.TRUE;
+        return signum() == 0 ? PythonBoolean.FALSE : PythonBoolean.TRUE;
     }
 
     public PythonInteger asInteger() {
@@ -297,19 +411,28 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonFloat asFloat() {
-        return new PythonFloat(value.doubleValue());
+        return new PythonFloat(doubleValue());
     }
 
     public PythonInteger negative() {
-        return new PythonInteger(value.negate());
+        if (largeValue == null && smallValue != Long.MIN_VALUE) {
+            return valueOf(-smallValue);
+        }
+        return valueOf(getValue().negate());
     }
 
     public PythonInteger invert() {
-        return new PythonInteger(value.add(BigInteger.ONE).negate());
+        if (largeValue == null) {
+            return valueOf(~smallValue);
+        }
+        return valueOf(largeValue.add(BigInteger.ONE).negate());
     }
 
     public PythonInteger abs() {
-        return new PythonInteger(value.abs());
+        if (largeValue == null && smallValue != Long.MIN_VALUE) {
+            return valueOf(Math.abs(smallValue));
+        }
+        return valueOf(getValue().abs());
     }
 
     public PythonLikeObject add(PythonLikeObject other) {
@@ -323,11 +446,18 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger add(PythonInteger other) {
-        return new PythonInteger(value.add(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            try {
+                return valueOf(Math.addExact(smallValue, other.smallValue));
+            } catch (ArithmeticException e) {
+                // Overflow; fall through to BigInteger
+            }
+        }
+        return valueOf(getValue().add(other.getValue()));
     }
 
     public PythonFloat add(PythonFloat other) {
-        return new PythonFloat(value.doubleValue() + other.value);
+        return new PythonFloat(doubleValue() + other.value);
     }
 
     public PythonLikeObject subtract(PythonLikeObject other) {
@@ -341,11 +471,18 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger subtract(PythonInteger other) {
-        return new PythonInteger(value.subtract(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            try {
+                return valueOf(Math.subtractExact(smallValue, other.smallValue));
+            } catch (ArithmeticException e) {
+                // Overflow; fall through to BigInteger
+            }
+        }
+        return valueOf(getValue().subtract(other.getValue()));
     }
 
     public PythonFloat subtract(PythonFloat other) {
-        return new PythonFloat(value.doubleValue() - other.value);
+        return new PythonFloat(doubleValue() - other.value);
     }
 
     public PythonLikeObject multiply(PythonLikeObject other) {
@@ -359,11 +496,18 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger multiply(PythonInteger other) {
-        return new PythonInteger(value.multiply(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            try {
+                return valueOf(Math.multiplyExact(smallValue, other.smallValue));
+            } catch (ArithmeticException e) {
+                // Overflow; fall through to BigInteger
+            }
+        }
+        return valueOf(getValue().multiply(other.getValue()));
     }
 
     public PythonFloat multiply(PythonFloat other) {
-        return new PythonFloat(value.doubleValue() * other.value);
+        return new PythonFloat(doubleValue() * other.value);
     }
 
     public PythonLikeObject trueDivide(PythonLikeObject other) {
@@ -377,17 +521,17 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonFloat trueDivide(PythonInteger other) {
-        if (other.value.equals(BigInteger.ZERO)) {
+        if (other.signum() == 0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
         }
-        return new PythonFloat(value.doubleValue() / other.value.doubleValue());
+        return new PythonFloat(doubleValue() / other.doubleValue());
     }
 
     public PythonFloat trueDivide(PythonFloat other) {
         if (other.value == 0.0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
         }
-        return new PythonFloat(value.doubleValue() / other.value);
+        return new PythonFloat(doubleValue() / other.value);
     }
 
     public PythonLikeObject floorDivide(PythonLikeObject other) {
@@ -401,17 +545,21 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger floorDivide(PythonInteger other) {
-        if (other.value.equals(BigInteger.ZERO)) {
+        if (other.signum() == 0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
         }
-        return new PythonInteger(value.divide(other.value));
+        if (largeValue == null && other.largeValue == null &&
+                !(smallValue == Long.MIN_VALUE && other.smallValue == -1L)) {
+            return valueOf(smallValue / other.smallValue);
+        }
+        return valueOf(getValue().divide(other.getValue()));
     }
 
     public PythonFloat floorDivide(PythonFloat other) {
         if (other.value == 0.0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
         }
-        return PythonFloat.valueOf(new BigDecimal(value)
+        return PythonFloat.valueOf(new BigDecimal(getValue())
                 .divideToIntegralValue(BigDecimal.valueOf(other.value))
                 .doubleValue());
     }
@@ -420,7 +568,7 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
         if (other.value == 0.0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
         }
-        return PythonFloat.valueOf(new BigDecimal(value)
+        return PythonFloat.valueOf(new BigDecimal(getValue())
                 .divide(BigDecimal.valueOf(other.value), RoundingMode.CEILING)
                 .doubleValue());
     }
@@ -436,28 +584,34 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger modulo(PythonInteger other) {
-        int remainderSign = other.compareTo(ZERO);
+        int remainderSign = other.signum();
 
         if (remainderSign == 0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
-        } else if (remainderSign > 0) {
-            BigInteger remainder = value.remainder(other.value);
+        }
+
+        if (largeValue == null && other.largeValue == null) {
+            // Python remainder has sign of divisor, same as floorMod
+            return valueOf(Math.floorMod(smallValue, other.smallValue));
+        }
+
+        BigInteger otherValue = other.getValue();
+        BigInteger remainder = getValue().remainder(otherValue);
+        if (remainderSign > 0) {
             if (remainder.compareTo(BigInteger.ZERO) < 0) {
-                remainder = other.value.add(remainder);
+                remainder = otherValue.add(remainder);
             }
-            return new PythonInteger(remainder);
         } else {
-            BigInteger remainder = value.remainder(other.value);
             if (remainder.compareTo(BigInteger.ZERO) > 0) {
-                remainder = other.value.add(remainder);
+                remainder = otherValue.add(remainder);
             }
-            return new PythonInteger(remainder);
         }
+        return valueOf(remainder);
     }
 
     public PythonFloat modulo(PythonFloat other) {
         int remainderSign = other.compareTo(ZERO);
-        double doubleValue = value.doubleValue();
+        double doubleValue = doubleValue();
 
         if (remainderSign == 0) {
             throw new ZeroDivisionError("integer division or modulo by zero");
@@ -477,18 +631,25 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonLikeTuple divmod(PythonInteger other) {
-        BigInteger[] result = value.divideAndRemainder(other.value);
+        if (largeValue == null && other.largeValue == null && other.smallValue != 0L &&
+                !(smallValue == Long.MIN_VALUE && other.smallValue == -1L)) {
+            return PythonLikeTuple.fromList(List.of(valueOf(Math.floorDiv(smallValue, other.smallValue)),
+                    valueOf(Math.floorMod(smallValue, other.smallValue))));
+        }
+
+        BigInteger otherValue = other.getValue();
+        BigInteger[] result = getValue().divideAndRemainder(otherValue);
 
         // Python remainder has sign of divisor
-        if (other.value.compareTo(BigInteger.ZERO) < 0) {
+        if (otherValue.compareTo(BigInteger.ZERO) < 0) {
             if (result[1].compareTo(BigInteger.ZERO) > 0) {
                 result[0] = result[0].subtract(BigInteger.ONE);
-                result[1] = result[1].add(other.value);
+                result[1] = result[1].add(otherValue);
             }
         } else {
             if (result[1].compareTo(BigInteger.ZERO) < 0) {
                 result[0] = result[0].subtract(BigInteger.ONE);
-                result[1] = result[1].add(other.value);
+                result[1] = result[1].add(otherValue);
             }
         }
         return PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(result[0]),
@@ -498,14 +659,14 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     public PythonLikeTuple divmod(PythonFloat other) {
         PythonFloat quotient;
 
-        if (value.compareTo(BigInteger.ZERO) < 0 == other.value < 0) {
+        if (signum() < 0 == other.value < 0) {
             // Same sign, use floor division
             quotient = floorDivide(other);
         } else {
             // Different sign, use ceil division
             quotient = ceilDivide(other);
         }
-        double remainder = value.doubleValue() % other.value;
+        double remainder = doubleValue() % other.value;
 
         // Python remainder has sign of divisor
         if (other.value < 0) {
@@ -527,11 +688,12 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger round(PythonInteger digitsAfterDecimal) {
-        if (digitsAfterDecimal.compareTo(PythonInteger.ZERO) >= 0) {
+        if (digitsAfterDecimal.signum() >= 0) {
             return this;
         }
 
-        BigInteger powerOfTen = BigInteger.TEN.pow(-digitsAfterDecimal.value.intValueExact());
+        BigInteger value = getValue();
+        BigInteger powerOfTen = BigInteger.TEN.pow(-digitsAfterDecimal.intValueExact());
         BigInteger halfPowerOfTen = powerOfTen.shiftRight(1);
         BigInteger remainder = value.mod(powerOfTen);
 
@@ -566,18 +728,40 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonNumber power(PythonInteger other) {
-        if (other.value.signum() >= 0) {
-            return new PythonInteger(value.pow(other.value.intValueExact()));
+        if (other.signum() >= 0) {
+            int exponent = other.intValueExact();
+            if (largeValue == null) {
+                try {
+                    return valueOf(powerExact(smallValue, exponent));
+                } catch (ArithmeticException e) {
+                    // Overflow; fall through to BigInteger
+                }
+            }
+            return valueOf(getValue().pow(exponent));
+        }
+        return new PythonFloat(Math.pow(doubleValue(), other.doubleValue()));
+    }
+
+    private static long powerExact(long base, int exponent) {
+        long result = 1L;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0) {
+                result = Math.multiplyExact(result, base);
+            }
+            exponent >>>= 1;
+            if (exponent != 0) {
+                base = Math.multiplyExact(base, base);
+            }
         }
-        return new PythonFloat(Math.pow(value.doubleValue(), other.value.doubleValue()));
+        return result;
     }
 
     public PythonInteger power(PythonInteger exponent, PythonInteger modulus) {
-        return PythonInteger.valueOf(value.modPow(exponent.value, modulus.value));
+        return PythonInteger.valueOf(getValue().modPow(exponent.getValue(), modulus.getValue()));
     }
 
     public PythonFloat power(PythonFloat other) {
-        return new PythonFloat(Math.pow(value.doubleValue(), other.value));
+        return new PythonFloat(Math.pow(doubleValue(), other.value));
     }
 
     public PythonLikeObject shiftLeft(PythonLikeObject other) {
@@ -589,7 +773,14 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger shiftLeft(PythonInteger other) {
-        return new PythonInteger(value.shiftLeft(other.value.intValueExact()));
+        int shift = other.intValueExact();
+        if (largeValue == null && shift >= 0 && shift < Long.SIZE) {
+            long result = smallValue << shift;
+            if (result >> shift == smallValue) {
+                return valueOf(result);
+            }
+        }
+        return valueOf(getValue().shiftLeft(shift));
     }
 
     public PythonLikeObject shiftRight(PythonLikeObject other) {
@@ -601,7 +792,11 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger shiftRight(PythonInteger other) {
-        return new PythonInteger(value.shiftRight(other.value.intValueExact()));
+        int shift = other.intValueExact();
+        if (largeValue == null && shift >= 0) {
+            return valueOf(smallValue >> Math.min(shift, Long.SIZE - 1));
+        }
+        return valueOf(getValue().shiftRight(shift));
     }
 
     public PythonLikeObject bitwiseAnd(PythonLikeObject other) {
@@ -613,7 +808,10 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger bitwiseAnd(PythonInteger other) {
-        return new PythonInteger(value.and(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            return valueOf(smallValue & other.smallValue);
+        }
+        return valueOf(getValue().and(other.getValue()));
     }
 
     public PythonLikeObject bitwiseOr(PythonLikeObject other) {
@@ -625,7 +823,10 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger bitwiseOr(PythonInteger other) {
-        return new PythonInteger(value.or(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            return valueOf(smallValue | other.smallValue);
+        }
+        return valueOf(getValue().or(other.getValue()));
     }
 
     public PythonLikeObject bitwiseXor(PythonLikeObject other) {
@@ -637,7 +838,10 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonInteger bitwiseXor(PythonInteger other) {
-        return new PythonInteger(value.xor(other.value));
+        if (largeValue == null && other.largeValue == null) {
+            return valueOf(smallValue ^ other.smallValue);
+        }
+        return valueOf(getValue().xor(other.getValue()));
     }
 
     public PythonLikeObject equal(PythonLikeObject other) {
@@ -701,59 +905,59 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
     }
 
     public PythonBoolean equal(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) == 0);
+        return PythonBoolean.valueOf(compareTo(other) == 0);
     }
 
     public PythonBoolean notEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) != 0);
+        return PythonBoolean.valueOf(compareTo(other) != 0);
     }
 
     public PythonBoolean lessThan(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) < 0);
+        return PythonBoolean.valueOf(compareTo(other) < 0);
     }
 
     public PythonBoolean lessThanOrEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) <= 0);
+        return PythonBoolean.valueOf(compareTo(other) <= 0);
     }
 
     public PythonBoolean greaterThan(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) > 0);
+        return PythonBoolean.valueOf(compareTo(other) > 0);
     }
 
     public PythonBoolean greaterThanOrEqual(PythonInteger other) {
-        return PythonBoolean.valueOf(value.compareTo(other.value) >= 0);
+        return PythonBoolean.valueOf(compareTo(other) >= 0);
     }
 
     public PythonBoolean equal(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() == other.value);
+        return PythonBoolean.valueOf(doubleValue() == other.value);
     }
 
     public PythonBoolean notEqual(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() != other.value);
+        return PythonBoolean.valueOf(doubleValue() != other.value);
     }
 
     public PythonBoolean lessThan(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() < other.value);
+        return PythonBoolean.valueOf(doubleValue() < other.value);
     }
 
     public PythonBoolean lessThanOrEqual(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() <= other.value);
+        return PythonBoolean.valueOf(doubleValue() <= other.value);
     }
 
     public PythonBoolean greaterThan(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() > other.value);
+        return PythonBoolean.valueOf(doubleValue() > other.value);
     }
 
     public PythonBoolean greaterThanOrEqual(PythonFloat other) {
-        return PythonBoolean.valueOf(value.doubleValue() >= other.value);
+        return PythonBoolean.valueOf(doubleValue() >= other.value);
     }
 
     public PythonString asString() {
-        return PythonString.valueOf(value.toString());
+        return PythonString.valueOf(valueToString());
     }
 
     public PythonString $method$__format__() {
-        return PythonString.valueOf(value.toString());
+        return PythonString.valueOf(valueToString());
     }
 
     public PythonString $method$__format__(PythonLikeObject specObject) {
@@ -766,6 +970,7 @@ public class PythonInteger extends AbstractPythonLikeObject implements PythonNum
             throw new TypeError("__format__ argument 0 has incorrect type (expecting str or None)");
         }
         DefaultFormatSpec formatSpec = DefaultFormatSpec.fromSpec(spec);
+        BigInteger value = getValue();
 
         StringBuilder out = new StringBuilder();
 
@@ -5,9 +5,9 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,8 +18,9 @@ import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 
 public class JavaObjectWrapper implements PythonLikeObject, Comparable<JavaObjectWrapper> {
 
-    final static Map<Class<?>, PythonLikeType> classToPythonTypeMap = new HashMap<>();
-    final static Map<Class<?>, Map<String, List<Member>>> classToAttributeNameToMemberListMap = new HashMap<>();
+    final static Map<Class<?>, PythonLikeType> classToPythonTypeMap = new ConcurrentHashMap<>();
+    final static Map<Class<?>, Map<String, List<Member>>> classToAttributeNameToMemberListMap =
+            new ConcurrentHashMap<>();
 
     private final PythonLikeType type;
 
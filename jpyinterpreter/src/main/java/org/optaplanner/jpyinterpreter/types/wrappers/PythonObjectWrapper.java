@@ -108,7 +108,7 @@ public class PythonObjectWrapper extends CPythonBackedPythonLikeObject
         PythonLikeFunction hash = (PythonLikeFunction) maybeHash;
         PythonLikeObject result = hash.$call(List.of(this), Map.of(), null);
         if (result instanceof PythonInteger) {
-            return ((PythonInteger) result).value.hashCode();
+            return ((PythonInteger) result).getValue().hashCode();
         } else {
             return System.identityHashCode(this);
         }
@@ -0,0 +1,196 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SwitchPoint;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.FieldDescriptor;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.builtins.BinaryDunderBuiltin;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+
+/**
+ * A polymorphic inline cache for LOAD_ATTR and LOAD_METHOD, keyed on the receiver's {@link PythonLikeType}.
+ * Each entry is guarded by the {@link PythonLikeType#getAttributeSwitchPoint()} of every type in the
+ * receiver type's MRO, so changing the {@code __dir__} of any of those types invalidates the entry.
+ */
+public class AttributeCallSite extends PolymorphicCallSite {
+    public static final Handle LOAD_ATTRIBUTE_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+            Type.getInternalName(AttributeCallSite.class), "bootstrapLoadAttribute",
+            Type.getMethodDescriptor(Type.getType(CallSite.class), Type.getType(MethodHandles.Lookup.class),
+                    Type.getType(String.class), Type.getType(MethodType.class), Type.getType(String.class)),
+            false);
+
+    public static final Handle LOAD_METHOD_BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+            Type.getInternalName(AttributeCallSite.class), "bootstrapLoadMethod",
+            Type.getMethodDescriptor(Type.getType(CallSite.class), Type.getType(MethodHandles.Lookup.class),
+                    Type.getType(String.class), Type.getType(MethodType.class), Type.getType(String.class)),
+            false);
+
+    public static final String CALL_SITE_DESCRIPTOR =
+            Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.getType(PythonLikeObject.class));
+
+    private static final MethodType CALL_SITE_TYPE = MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class);
+    private static final MethodHandle IS_TYPE;
+    private static final MethodHandle IS_TYPE_AND_CLASS;
+    private static final MethodHandle IS_NOT_NULL;
+    private static final MethodHandle GET_ATTRIBUTE;
+    private static final MethodHandle CALL_GET_ATTRIBUTE;
+    private static final MethodHandle LOAD_ATTRIBUTE_FALLBACK;
+    private static final MethodHandle LOAD_ATTRIBUTE_UNCACHED;
+    private static final MethodHandle LOAD_METHOD_FALLBACK;
+    private static final MethodHandle LOAD_METHOD_UNCACHED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            IS_TYPE = lookup.findStatic(AttributeCallSite.class, "isType",
+                    MethodType.methodType(boolean.class, PythonLikeType.class, PythonLikeObject.class));
+            IS_TYPE_AND_CLASS = lookup.findStatic(AttributeCallSite.class, "isTypeAndClass",
+                    MethodType.methodType(boolean.class, PythonLikeType.class, Class.class, PythonLikeObject.class));
+            IS_NOT_NULL = lookup.findStatic(Objects.class, "nonNull",
+                    MethodType.methodType(boolean.class, Object.class))
+                    .asType(MethodType.methodType(boolean.class, PythonLikeObject.class));
+            GET_ATTRIBUTE = lookup.findVirtual(PythonLikeObject.class, "$method$__getattribute__",
+                    MethodType.methodType(PythonLikeObject.class, PythonString.class));
+            CALL_GET_ATTRIBUTE = lookup.findStatic(AttributeCallSite.class, "callGetAttribute",
+                    MethodType.methodType(PythonLikeObject.class, PythonLikeFunction.class, PythonString.class,
+                            PythonLikeObject.class));
+            LOAD_ATTRIBUTE_FALLBACK = lookup.findVirtual(AttributeCallSite.class, "loadAttributeFallback", CALL_SITE_TYPE);
+            LOAD_ATTRIBUTE_UNCACHED = lookup.findVirtual(AttributeCallSite.class, "loadAttributeUncached", CALL_SITE_TYPE);
+            LOAD_METHOD_FALLBACK = lookup.findVirtual(AttributeCallSite.class, "loadMethodFallback", CALL_SITE_TYPE);
+            LOAD_METHOD_UNCACHED = lookup.findVirtual(AttributeCallSite.class, "loadMethodUncached", CALL_SITE_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String attributeName;
+    private final PythonString pythonAttributeName;
+
+    private AttributeCallSite(String attributeName, MethodHandle fallback, MethodHandle uncached) {
+        super(CALL_SITE_TYPE);
+        this.attributeName = attributeName;
+        this.pythonAttributeName = PythonString.valueOf(attributeName);
+        initialize(fallback.bindTo(this), uncached.bindTo(this));
+    }
+
+    /**
+     * Bootstrap method for a LOAD_ATTR call site with signature {@code (PythonLikeObject)PythonLikeObject},
+     * which returns the result of {@code receiver.__getattribute__(attributeName)}.
+     */
+    public static CallSite bootstrapLoadAttribute(MethodHandles.Lookup lookup, String name, MethodType type,
+            String attributeName) {
+        return new AttributeCallSite(attributeName, LOAD_ATTRIBUTE_FALLBACK, LOAD_ATTRIBUTE_UNCACHED);
+    }
+
+    /**
+     * Bootstrap method for a LOAD_METHOD call site with signature {@code (PythonLikeObject)PythonLikeObject},
+     * which returns the result of {@code receiver.__getType().loadMethod(attributeName)}.
+     */
+    public static CallSite bootstrapLoadMethod(MethodHandles.Lookup lookup, String name, MethodType type,
+            String attributeName) {
+        return new AttributeCallSite(attributeName, LOAD_METHOD_FALLBACK, LOAD_METHOD_UNCACHED);
+    }
+
+    private static boolean isType(PythonLikeType type, PythonLikeObject receiver) {
+        return receiver.__getType() == type;
+    }
+
+    private static boolean isTypeAndClass(PythonLikeType type, Class<?> javaClass, PythonLikeObject receiver) {
+        return receiver.getClass() == javaClass && receiver.__getType() == type;
+    }
+
+    private static PythonLikeObject callGetAttribute(PythonLikeFunction getAttribute, PythonString attributeName,
+            PythonLikeObject receiver) {
+        return getAttribute.$call(List.of(receiver, attributeName), Map.of(), null);
+    }
+
+    private PythonLikeObject loadAttributeUncached(PythonLikeObject receiver) {
+        return BinaryDunderBuiltin.GET_ATTRIBUTE.invoke(receiver, pythonAttributeName);
+    }
+
+    private PythonLikeObject loadAttributeFallback(PythonLikeObject receiver) {
+        PythonLikeType type = receiver.__getType();
+        SwitchPoint[] switchPoints = getSwitchPoints(type);
+        PythonLikeObject out = loadAttributeUncached(receiver);
+
+        Class<?> javaClass = receiver.getClass();
+        MethodHandle test = MethodHandles.insertArguments(IS_TYPE_AND_CLASS, 0, type, javaClass);
+        PythonLikeObject getAttribute = type.__getAttributeOrError("__getattribute__");
+        MethodHandle target;
+        if (getAttribute == BuiltinTypes.BASE_TYPE.__getAttributeOrNull("__getattribute__")) {
+            // object.__getattribute__ just calls the Java method, so call it directly
+            target = MethodHandles.insertArguments(GET_ATTRIBUTE, 1, pythonAttributeName);
+            MethodHandle fieldGetter = getFieldGetterOrNull(type, receiver, out);
+            if (fieldGetter != null) {
+                // Read the field directly; if it is null (i.e. deleted), use __getattribute__ to raise the error
+                target = MethodHandles.guardWithTest(MethodHandles.filterReturnValue(fieldGetter, IS_NOT_NULL),
+                        fieldGetter, target);
+            }
+        } else {
+            target = MethodHandles.insertArguments(CALL_GET_ATTRIBUTE, 0, getAttribute, pythonAttributeName);
+        }
+        addCacheEntry(new Object[] { type, javaClass }, test, target, switchPoints);
+        return out;
+    }
+
+    /**
+     * Returns a {@code (PythonLikeObject)PythonLikeObject} getter for the Java field that stores the attribute
+     * on {@code receiver}, or null if the attribute cannot be read directly from a field (for instance, if
+     * {@code __getattribute__} is overridden).
+     */
+    private MethodHandle getFieldGetterOrNull(PythonLikeType type, PythonLikeObject receiver, PythonLikeObject result) {
+        Optional<FieldDescriptor> maybeFieldDescriptor = type.getInstanceFieldDescriptor(attributeName);
+        if (maybeFieldDescriptor.isEmpty() || !maybeFieldDescriptor.get().isTrueFieldDescriptor()) {
+            return null;
+        }
+        Class<?> javaClass = receiver.getClass();
+        if (!Modifier.isPublic(javaClass.getModifiers())) {
+            return null;
+        }
+        try {
+            if (javaClass.getMethod("$method$__getattribute__", PythonString.class)
+                    .getDeclaringClass() != PythonLikeObject.class) {
+                return null;
+            }
+            Field field = javaClass.getField(maybeFieldDescriptor.get().getJavaFieldName());
+            if (Modifier.isStatic(field.getModifiers()) || field.get(receiver) != result) {
+                return null;
+            }
+            return MethodHandles.publicLookup().unreflectGetter(field).asType(CALL_SITE_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private PythonLikeObject loadMethodUncached(PythonLikeObject receiver) {
+        return receiver.__getType().loadMethod(attributeName);
+    }
+
+    private PythonLikeObject loadMethodFallback(PythonLikeObject receiver) {
+        PythonLikeType type = receiver.__getType();
+        SwitchPoint[] switchPoints = getSwitchPoints(type);
+        PythonLikeObject out = type.loadMethod(attributeName);
+
+        MethodHandle test = MethodHandles.insertArguments(IS_TYPE, 0, type);
+        MethodHandle target = MethodHandles.dropArguments(MethodHandles.constant(PythonLikeObject.class, out),
+                0, PythonLikeObject.class);
+        addCacheEntry(new Object[] { type }, test, target, switchPoints);
+        return out;
+    }
+}
@@ -0,0 +1,223 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SwitchPoint;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.MethodDescriptor;
+import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
+import org.optaplanner.jpyinterpreter.PythonFunctionSignature;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.NotImplemented;
+import org.optaplanner.jpyinterpreter.types.PythonKnownFunctionType;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+
+/**
+ * A polymorphic inline cache for binary dunder operators (such as {@code a + b} and {@code a < b})
+ * whose operand types are not known at compile time. The cache is keyed on the types of both operands;
+ * when the left operand's type has a typed Java method for the dunder method that accepts the right
+ * operand's type (i.e. one registered via {@link PythonLikeType#addBinaryMethod}), the call site links
+ * directly to it, avoiding the argument list allocation and {@link PythonLikeFunction#$call} dispatch.
+ * Otherwise, it uses {@link #binaryOperator(PythonBinaryOperators, PythonLikeObject, PythonLikeObject)}.
+ */
+public class BinaryDunderCallSite extends PolymorphicCallSite {
+    public static final Handle BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+            Type.getInternalName(BinaryDunderCallSite.class), "bootstrap",
+            Type.getMethodDescriptor(Type.getType(CallSite.class), Type.getType(MethodHandles.Lookup.class),
+                    Type.getType(String.class), Type.getType(MethodType.class), Type.getType(String.class)),
+            false);
+
+    public static final String CALL_SITE_DESCRIPTOR =
+            Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.getType(PythonLikeObject.class),
+                    Type.getType(PythonLikeObject.class));
+
+    private static final MethodType CALL_SITE_TYPE =
+            MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class, PythonLikeObject.class);
+    private static final MethodHandle IS_TYPES;
+    private static final MethodHandle IS_NOT_IMPLEMENTED;
+    private static final MethodHandle BINARY_OPERATOR;
+    private static final MethodHandle BINARY_OPERATOR_WITHOUT_LEFT;
+    private static final MethodHandle FALLBACK;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            IS_TYPES = lookup.findStatic(BinaryDunderCallSite.class, "isTypes",
+                    MethodType.methodType(boolean.class, PythonLikeType.class, PythonLikeType.class,
+                            PythonLikeObject.class, PythonLikeObject.class));
+            IS_NOT_IMPLEMENTED = lookup.findStatic(BinaryDunderCallSite.class, "isNotImplemented",
+                    MethodType.methodType(boolean.class, PythonLikeObject.class));
+            BINARY_OPERATOR = lookup.findStatic(BinaryDunderCallSite.class, "binaryOperator",
+                    CALL_SITE_TYPE.insertParameterTypes(0, PythonBinaryOperators.class));
+            BINARY_OPERATOR_WITHOUT_LEFT = lookup.findStatic(BinaryDunderCallSite.class, "binaryOperatorWithoutLeft",
+                    CALL_SITE_TYPE.insertParameterTypes(0, PythonBinaryOperators.class));
+            FALLBACK = lookup.findVirtual(BinaryDunderCallSite.class, "fallback", CALL_SITE_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final PythonBinaryOperators operator;
+
+    private BinaryDunderCallSite(PythonBinaryOperators operator) {
+        super(CALL_SITE_TYPE);
+        this.operator = operator;
+        initialize(FALLBACK.bindTo(this), MethodHandles.insertArguments(BINARY_OPERATOR, 0, operator));
+    }
+
+    /**
+     * Bootstrap method for a binary operator call site with signature
+     * {@code (PythonLikeObject, PythonLikeObject)PythonLikeObject}.
+     *
+     * @param operatorName the {@link PythonBinaryOperators#name()} of the operator
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type, String operatorName) {
+        return new BinaryDunderCallSite(PythonBinaryOperators.valueOf(operatorName));
+    }
+
+    private static boolean isTypes(PythonLikeType leftType, PythonLikeType rightType,
+            PythonLikeObject left, PythonLikeObject right) {
+        return left.__getType() == leftType && right.__getType() == rightType;
+    }
+
+    private static boolean isNotImplemented(PythonLikeObject result) {
+        return result == NotImplemented.INSTANCE;
+    }
+
+    private PythonLikeObject fallback(PythonLikeObject left, PythonLikeObject right) {
+        PythonLikeType leftType = left.__getType();
+        PythonLikeType rightType = right.__getType();
+        SwitchPoint[] switchPoints = getSwitchPoints(leftType, rightType);
+
+        MethodHandle target = getTypedMethodHandle(leftType, rightType).orElse(getUncached());
+        addCacheEntry(new Object[] { leftType, rightType }, MethodHandles.insertArguments(IS_TYPES, 0, leftType, rightType),
+                target, switchPoints);
+
+        try {
+            return (PythonLikeObject) target.invokeExact(left, right);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a method handle that calls the typed Java method for the left operand's dunder method, and
+     * if that returns NotImplemented, tries the fallback or right dunder method.
+     */
+    private Optional<MethodHandle> getTypedMethodHandle(PythonLikeType leftType, PythonLikeType rightType) {
+        Optional<PythonKnownFunctionType> maybeKnownFunctionType = leftType.getMethodType(operator.getDunderMethod());
+        if (maybeKnownFunctionType.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<PythonFunctionSignature> maybeFunctionSignature =
+                maybeKnownFunctionType.get().getFunctionForParameters(rightType);
+        if (maybeFunctionSignature.isEmpty()) {
+            return Optional.empty();
+        }
+        PythonFunctionSignature functionSignature = maybeFunctionSignature.get();
+        MethodDescriptor methodDescriptor = functionSignature.getMethodDescriptor();
+
+        MethodHandle typedMethodHandle;
+        try {
+            Class<?> declaringClass = Class.forName(methodDescriptor.getDeclaringClassInternalName().replace('/', '.'),
+                    true, BuiltinTypes.asmClassLoader);
+            MethodType methodType = MethodType.fromMethodDescriptorString(methodDescriptor.getMethodDescriptor(),
+                    BuiltinTypes.asmClassLoader);
+            switch (methodDescriptor.getMethodType()) {
+                case VIRTUAL:
+                case INTERFACE:
+                    if (methodType.parameterCount() != 1) {
+                        return Optional.empty();
+                    }
+                    typedMethodHandle = MethodHandles.publicLookup().findVirtual(declaringClass,
+                            methodDescriptor.getMethodName(), methodType);
+                    break;
+                case STATIC_AS_VIRTUAL:
+                    if (methodType.parameterCount() != 2) {
+                        return Optional.empty();
+                    }
+                    typedMethodHandle = MethodHandles.publicLookup().findStatic(declaringClass,
+                            methodDescriptor.getMethodName(), methodType);
+                    break;
+                default:
+                    return Optional.empty();
+            }
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return Optional.empty();
+        }
+        typedMethodHandle = typedMethodHandle.asType(CALL_SITE_TYPE);
+
+        boolean needToCheckForNotImplemented =
+                (operator.hasRightDunderMethod() || operator.getFallbackOperation().isPresent())
+                        && BuiltinTypes.NOT_IMPLEMENTED_TYPE.isSubclassOf(functionSignature.getReturnType());
+        if (!needToCheckForNotImplemented) {
+            return Optional.of(typedMethodHandle);
+        }
+
+        // (result, left, right) -> (result != NotImplemented)? result : binaryOperatorWithoutLeft(left, right)
+        MethodHandle returnResult = MethodHandles.dropArguments(MethodHandles.identity(PythonLikeObject.class), 1,
+                PythonLikeObject.class, PythonLikeObject.class);
+        MethodHandle withoutLeft = MethodHandles.dropArguments(
+                MethodHandles.insertArguments(BINARY_OPERATOR_WITHOUT_LEFT, 0, operator), 0, PythonLikeObject.class);
+        MethodHandle checkResult = MethodHandles.guardWithTest(
+                MethodHandles.dropArguments(IS_NOT_IMPLEMENTED, 1, PythonLikeObject.class, PythonLikeObject.class),
+                withoutLeft, returnResult);
+        return Optional.of(MethodHandles.foldArguments(checkResult, typedMethodHandle));
+    }
+
+    /**
+     * Performs {@code left operator right} by looking up the dunder methods on the operands' types.
+     * This is the runtime equivalent of the bytecode generated by
+     * {@link org.optaplanner.jpyinterpreter.implementors.DunderOperatorImplementor} for operands of unknown types.
+     */
+    public static PythonLikeObject binaryOperator(PythonBinaryOperators operator, PythonLikeObject left,
+            PythonLikeObject right) {
+        PythonLikeObject leftMethod = left.__getType().__getAttributeOrNull(operator.getDunderMethod());
+        if (leftMethod != null) {
+            PythonLikeObject result = ((PythonLikeFunction) leftMethod).$call(List.of(left, right), Map.of(), null);
+            if (result != NotImplemented.INSTANCE) {
+                return result;
+            }
+        }
+        return binaryOperatorWithoutLeft(operator, left, right);
+    }
+
+    /**
+     * Performs {@code left operator right} when the left operand's dunder method is missing or returned
+     * NotImplemented.
+     */
+    private static PythonLikeObject binaryOperatorWithoutLeft(PythonBinaryOperators operator, PythonLikeObject left,
+            PythonLikeObject right) {
+        if (operator.getFallbackOperation().isPresent()) {
+            return binaryOperator(operator.getFallbackOperation().get(), left, right);
+        }
+        if (operator.hasRightDunderMethod()) {
+            PythonLikeObject rightMethod = right.__getType().__getAttributeOrNull(operator.getRightDunderMethod());
+            if (rightMethod != null) {
+                PythonLikeObject result = ((PythonLikeFunction) rightMethod).$call(List.of(right, left), Map.of(), null);
+                if (result != NotImplemented.INSTANCE) {
+                    return result;
+                }
+            }
+        }
+
+        if (operator.getOperatorSymbol().isEmpty()) {
+            throw new TypeError();
+        }
+        throw new TypeError("unsupported operand type(s) for " + operator.getOperatorSymbol() + ": '"
+                + left.__getType().getTypeName() + "' and '" + right.__getType().getTypeName() + "'");
+    }
+}
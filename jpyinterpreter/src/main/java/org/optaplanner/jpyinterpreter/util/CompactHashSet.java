@@ -0,0 +1,434 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A hash set laid out like CPython's set: elements are stored in an open addressing table next to their
+ * hashes. The stored hashes mean an element's {@link Object#hashCode()} is only computed when it is added
+ * or looked up, {@link Object#equals(Object)} is only called on elements with the same hash, and copying
+ * a set or combining two sets (see {@link #union(Collection, Collection)} and friends) does not hash
+ * any element again. For the same reason, {@link #hashCode()} does not call the elements' hashCode.
+ * <p>
+ * Like {@link java.util.HashSet}, the set is unordered and its iterators are fail-fast.
+ *
+ * @param <Element_> The type of the elements of the set
+ */
+public class CompactHashSet<Element_> extends AbstractSet<Element_> {
+    private static final int MINIMUM_TABLE_LENGTH = 8;
+
+    // Marks a removed element, so lookups continue past it
+    private static final Object DELETED = new Object();
+    // Stands in for null, since an empty slot is null
+    private static final Object NULL_ELEMENT = new Object();
+
+    private Object[] table;
+    private int[] hashes;
+
+    private int size;
+    // Number of slots that are not empty, including removed elements
+    private int usedSlotCount;
+    private int modCount;
+
+    // Where the next removeAny() starts looking, so repeatedly calling it does not rescan emptied slots
+    private int removeAnyStart;
+
+    public CompactHashSet() {
+        this(0);
+    }
+
+    public CompactHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize (" + expectedSize + ") is negative.");
+        }
+        allocate(getTableLength(expectedSize));
+    }
+
+    public CompactHashSet(Collection<? extends Element_> source) {
+        this(source.size());
+        addAll(source);
+    }
+
+    /**
+     * Returns a new set with the elements of both a and b.
+     */
+    public static <Element_> CompactHashSet<Element_> union(Collection<? extends Element_> a,
+            Collection<? extends Element_> b) {
+        CompactHashSet<Element_> out = new CompactHashSet<>(a.size() + b.size());
+        out.addAll(a);
+        out.addAll(b);
+        return out;
+    }
+
+    /**
+     * Returns a new set with the elements of a that are also in b.
+     */
+    public static <Element_> CompactHashSet<Element_> intersection(Set<? extends Element_> a, Set<? extends Element_> b) {
+        // Probe the larger set with the elements of the smaller one
+        Set<? extends Element_> smaller = (a.size() <= b.size()) ? a : b;
+        Set<? extends Element_> larger = (smaller == a) ? b : a;
+        CompactHashSet<Element_> out = new CompactHashSet<>(smaller.size());
+        if (smaller instanceof CompactHashSet) {
+            CompactHashSet<? extends Element_> source = (CompactHashSet<? extends Element_>) smaller;
+            for (int slot = 0; slot < source.table.length; slot++) {
+                Object element = source.table[slot];
+                if (isElement(element) && containsHashed(larger, element, source.hashes[slot])) {
+                    out.addHashed(element, source.hashes[slot]);
+                }
+            }
+        } else {
+            for (Element_ element : smaller) {
+                if (larger.contains(element)) {
+                    out.add(element);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Returns a new set with the elements of a that are not in b.
+     */
+    public static <Element_> CompactHashSet<Element_> difference(Collection<? extends Element_> a, Collection<?> b) {
+        CompactHashSet<Element_> out = new CompactHashSet<>(a.size());
+        addElementsNotIn(out, a, b);
+        return out;
+    }
+
+    /**
+     * Returns a new set with the elements that are in exactly one of a and b.
+     */
+    public static <Element_> CompactHashSet<Element_> symmetricDifference(Collection<? extends Element_> a,
+            Collection<? extends Element_> b) {
+        CompactHashSet<Element_> out = new CompactHashSet<>(a.size() + b.size());
+        addElementsNotIn(out, a, b);
+        addElementsNotIn(out, b, a);
+        return out;
+    }
+
+    private static <Element_> void addElementsNotIn(CompactHashSet<Element_> out, Collection<? extends Element_> source,
+            Collection<?> excluded) {
+        if (source instanceof CompactHashSet) {
+            CompactHashSet<? extends Element_> sourceSet = (CompactHashSet<? extends Element_>) source;
+            for (int slot = 0; slot < sourceSet.table.length; slot++) {
+                Object element = sourceSet.table[slot];
+                if (isElement(element) && !containsHashed(excluded, element, sourceSet.hashes[slot])) {
+                    out.addHashed(element, sourceSet.hashes[slot]);
+                }
+            }
+        } else {
+            for (Element_ element : source) {
+                if (!excluded.contains(element)) {
+                    out.add(element);
+                }
+            }
+        }
+    }
+
+    private static boolean containsHashed(Collection<?> collection, Object storedElement, int hash) {
+        if (collection instanceof CompactHashSet) {
+            return ((CompactHashSet<?>) collection).findSlot(storedElement, hash) != -1;
+        }
+        return collection.contains(unmask(storedElement));
+    }
+
+    private static boolean isElement(Object slotValue) {
+        return slotValue != null && slotValue != DELETED;
+    }
+
+    private static Object mask(Object element) {
+        return (element != null) ? element : NULL_ELEMENT;
+    }
+
+    private static Object unmask(Object storedElement) {
+        return (storedElement != NULL_ELEMENT) ? storedElement : null;
+    }
+
+    private static int getHash(Object element) {
+        return (element != null) ? element.hashCode() : 0;
+    }
+
+    private static int getIdealSlot(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int getTableLength(int expectedSize) {
+        // Keep at least a third of the table empty, so probe sequences stay short
+        int tableLength = MINIMUM_TABLE_LENGTH;
+        while (tableLength * 2 < expectedSize * 3) {
+            tableLength *= 2;
+        }
+        return tableLength;
+    }
+
+    private void allocate(int tableLength) {
+        table = new Object[tableLength];
+        hashes = new int[tableLength];
+        size = 0;
+        usedSlotCount = 0;
+        removeAnyStart = 0;
+    }
+
+    /**
+     * Returns the slot of the given (masked) element, or -1 if it is not in the set.
+     */
+    private int findSlot(Object storedElement, int hash) {
+        int mask = table.length - 1;
+        for (int slot = getIdealSlot(hash, mask);; slot = (slot + 1) & mask) {
+            Object slotValue = table[slot];
+            if (slotValue == null) {
+                return -1;
+            }
+            if (slotValue != DELETED && hashes[slot] == hash
+                    && (slotValue == storedElement || storedElement.equals(slotValue))) {
+                return slot;
+            }
+        }
+    }
+
+    private boolean addHashed(Object storedElement, int hash) {
+        int mask = table.length - 1;
+        int insertSlot = -1;
+        int slot = getIdealSlot(hash, mask);
+        for (;; slot = (slot + 1) & mask) {
+            Object slotValue = table[slot];
+            if (slotValue == null) {
+                break;
+            }
+            if (slotValue == DELETED) {
+                if (insertSlot == -1) {
+                    insertSlot = slot;
+                }
+            } else if (hashes[slot] == hash && (slotValue == storedElement || storedElement.equals(slotValue))) {
+                return false;
+            }
+        }
+        if (insertSlot == -1) {
+            insertSlot = slot;
+            usedSlotCount++;
+        }
+        table[insertSlot] = storedElement;
+        hashes[insertSlot] = hash;
+        size++;
+        modCount++;
+        if (usedSlotCount * 3 > table.length * 2) {
+            // Removed elements are dropped, so the table only grows if it is mostly full of elements
+            resize(getTableLength(size * 2));
+        }
+        return true;
+    }
+
+    private void resize(int tableLength) {
+        Object[] oldTable = table;
+        int[] oldHashes = hashes;
+        allocate(tableLength);
+        int mask = tableLength - 1;
+        for (int i = 0; i < oldTable.length; i++) {
+            if (isElement(oldTable[i])) {
+                int slot = getIdealSlot(oldHashes[i], mask);
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = oldTable[i];
+                hashes[slot] = oldHashes[i];
+                size++;
+                usedSlotCount++;
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        table[slot] = DELETED;
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns an arbitrary element of the set, like Python's {@code set.pop()}.
+     *
+     * @throws NoSuchElementException if the set is empty
+     */
+    public Element_ removeAny() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        for (int slot = removeAnyStart;; slot = (slot + 1) & (table.length - 1)) {
+            if (isElement(table[slot])) {
+                Element_ out = (Element_) unmask(table[slot]);
+                removeSlot(slot);
+                removeAnyStart = (slot + 1) & (table.length - 1);
+                return out;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return findSlot(mask(o), getHash(o)) != -1;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        if (collection instanceof CompactHashSet) {
+            CompactHashSet<?> other = (CompactHashSet<?>) collection;
+            for (int slot = 0; slot < other.table.length; slot++) {
+                if (isElement(other.table[slot]) && findSlot(other.table[slot], other.hashes[slot]) == -1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.containsAll(collection);
+    }
+
+    @Override
+    public boolean add(Element_ element) {
+        return addHashed(mask(element), getHash(element));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Element_> collection) {
+        if (usedSlotCount + collection.size() > table.length * 2 / 3) {
+            resize(getTableLength(size + collection.size()));
+        }
+        if (collection instanceof CompactHashSet) {
+            CompactHashSet<? extends Element_> other = (CompactHashSet<? extends Element_>) collection;
+            boolean modified = false;
+            for (int slot = 0; slot < other.table.length; slot++) {
+                if (isElement(other.table[slot])) {
+                    modified |= addHashed(other.table[slot], other.hashes[slot]);
+                }
+            }
+            return modified;
+        }
+        return super.addAll(collection);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int slot = findSlot(mask(o), getHash(o));
+        if (slot == -1) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        boolean modified = false;
+        for (int slot = 0; slot < table.length; slot++) {
+            if (isElement(table[slot]) && !containsHashed(collection, table[slot], hashes[slot])) {
+                removeSlot(slot);
+                modified = true;
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        boolean modified = false;
+        if (collection instanceof CompactHashSet) {
+            CompactHashSet<?> other = (CompactHashSet<?>) collection;
+            for (int otherSlot = 0; otherSlot < other.table.length; otherSlot++) {
+                if (isElement(other.table[otherSlot])) {
+                    int slot = findSlot(other.table[otherSlot], other.hashes[otherSlot]);
+                    if (slot != -1) {
+                        removeSlot(slot);
+                        modified = true;
+                    }
+                }
+            }
+            return modified;
+        }
+        for (Object element : collection) {
+            modified |= remove(element);
+        }
+        return modified;
+    }
+
+    @Override
+    public void clear() {
+        allocate(MINIMUM_TABLE_LENGTH);
+        modCount++;
+    }
+
+    /**
+     * Returns the sum of the hashes of the elements, as specified by {@link Set#hashCode()};
+     * the stored hashes are used, so the elements' hashCode is not called.
+     */
+    @Override
+    public int hashCode() {
+        int out = 0;
+        for (int slot = 0; slot < table.length; slot++) {
+            if (isElement(table[slot])) {
+                out += hashes[slot];
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public Iterator<Element_> iterator() {
+        return new Iterator<>() {
+            private int nextSlot = findNextSlot(0);
+            private int lastReturnedSlot = -1;
+            private int expectedModCount = modCount;
+
+            private int findNextSlot(int start) {
+                for (int slot = start; slot < table.length; slot++) {
+                    if (isElement(table[slot])) {
+                        return slot;
+                    }
+                }
+                return table.length;
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return nextSlot < table.length;
+            }
+
+            @Override
+            public Element_ next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturnedSlot = nextSlot;
+                nextSlot = findNextSlot(nextSlot + 1);
+                return (Element_) unmask(table[lastReturnedSlot]);
+            }
+
+            @Override
+            public void remove() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (lastReturnedSlot == -1) {
+                    throw new IllegalStateException("next() was not called since the last remove().");
+                }
+                removeSlot(lastReturnedSlot);
+                lastReturnedSlot = -1;
+                expectedModCount = modCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,596 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.apache.commons.collections4.OrderedMap;
+import org.apache.commons.collections4.OrderedMapIterator;
+
+/**
+ * An insertion ordered map laid out like CPython's dict: entries are appended to dense key, value and hash
+ * arrays, and an open addressing index maps hashes to positions in those arrays. Compared to
+ * {@link org.apache.commons.collections4.map.LinkedMap}, there is no entry object per key, iteration walks
+ * arrays, and the stored hashes mean a key's {@link Object#hashCode()} is only computed when it is looked up
+ * or inserted, and {@link Object#equals(Object)} is only called on keys with the same hash.
+ * <p>
+ * Removing an entry leaves a hole in the entry arrays (and a tombstone in the index), which is reclaimed
+ * when the map next grows. Like {@link java.util.LinkedHashMap}, iterators are fail-fast.
+ *
+ * @param <Key_> The type of the keys of the map
+ * @param <Value_> The type of the values of the map
+ */
+public class CompactOrderedMap<Key_, Value_> extends AbstractMap<Key_, Value_> implements OrderedMap<Key_, Value_> {
+    private static final int MINIMUM_INDEX_LENGTH = 8;
+
+    // Index slots store the position of their entry plus one, so a new index is filled with EMPTY_SLOT
+    private static final int EMPTY_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
+    // Marks a removed entry; keys can be null, so null cannot be used
+    private static final Object DELETED_KEY = new Object();
+
+    private int[] index;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+
+    // Number of used positions in the entry arrays, including removed entries
+    private int entryCount;
+    private int size;
+    // Number of index slots that are not empty, including tombstones
+    private int usedSlotCount;
+    private int modCount;
+
+    public CompactOrderedMap() {
+        // The arrays are created on the first insert, since many dicts (such as keyword arguments) stay empty
+    }
+
+    public CompactOrderedMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize (" + expectedSize + ") is negative.");
+        }
+        if (expectedSize > 0) {
+            allocate(expectedSize);
+        }
+    }
+
+    public CompactOrderedMap(Map<? extends Key_, ? extends Value_> source) {
+        if (source instanceof CompactOrderedMap) {
+            CompactOrderedMap<? extends Key_, ? extends Value_> other =
+                    (CompactOrderedMap<? extends Key_, ? extends Value_>) source;
+            if (other.size != 0) {
+                // The hashes are reused, so the keys are not hashed again
+                allocate(other.size);
+                for (int i = 0; i < other.entryCount; i++) {
+                    if (other.keys[i] != DELETED_KEY) {
+                        appendEntry(other.keys[i], other.values[i], other.hashes[i]);
+                    }
+                }
+            }
+        } else {
+            if (!source.isEmpty()) {
+                allocate(source.size());
+            }
+            putAll(source);
+        }
+    }
+
+    private static int getHash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int getIndexLength(int entryCapacity) {
+        // Keep at least a third of the index empty, so probe sequences stay short
+        int indexLength = MINIMUM_INDEX_LENGTH;
+        while (indexLength * 2 < entryCapacity * 3) {
+            indexLength *= 2;
+        }
+        return indexLength;
+    }
+
+    private void allocate(int entryCapacity) {
+        int indexLength = getIndexLength(entryCapacity);
+        index = new int[indexLength];
+        int capacity = indexLength * 2 / 3;
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        entryCount = 0;
+        size = 0;
+        usedSlotCount = 0;
+    }
+
+    /**
+     * Returns the position of key in the entry arrays, or -1 if it is not in the map.
+     */
+    private int findEntry(Object key, int hash) {
+        if (index == null) {
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            int slotValue = index[slot];
+            if (slotValue == EMPTY_SLOT) {
+                return -1;
+            }
+            if (slotValue != DELETED_SLOT) {
+                int entry = slotValue - 1;
+                if (hashes[entry] == hash) {
+                    Object entryKey = keys[entry];
+                    if (entryKey == key || (key != null && key.equals(entryKey))) {
+                        return entry;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index slot that refers to the entry at the given position.
+     */
+    private int findSlotOfEntry(int entry) {
+        int mask = index.length - 1;
+        for (int slot = hashes[entry] & mask;; slot = (slot + 1) & mask) {
+            if (index[slot] == entry + 1) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Adds a key that is not in the map; the caller must make sure there is room for it.
+     */
+    private void appendEntry(Object key, Object value, int hash) {
+        int entry = entryCount++;
+        keys[entry] = key;
+        values[entry] = value;
+        hashes[entry] = hash;
+
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] > EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        if (index[slot] == EMPTY_SLOT) {
+            usedSlotCount++;
+        }
+        index[slot] = entry + 1;
+        size++;
+    }
+
+    private void ensureRoomForNewEntry() {
+        if (index == null) {
+            allocate(1);
+        } else if (entryCount == keys.length || (usedSlotCount + 1) * 3 > index.length * 2) {
+            // Removed entries are dropped, so the map only grows if it is mostly full of live entries
+            resize(Math.max(size + 1, size * 2));
+        }
+    }
+
+    private void resize(int entryCapacity) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldEntryCount = entryCount;
+        allocate(entryCapacity);
+        for (int i = 0; i < oldEntryCount; i++) {
+            if (oldKeys[i] != DELETED_KEY) {
+                appendEntry(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    private Value_ removeEntry(int entry) {
+        Value_ out = (Value_) values[entry];
+        index[findSlotOfEntry(entry)] = DELETED_SLOT;
+        keys[entry] = DELETED_KEY;
+        values[entry] = null;
+        size--;
+        modCount++;
+
+        // Removing the last entries (such as with popitem()) frees their positions immediately
+        while (entryCount > 0 && keys[entryCount - 1] == DELETED_KEY) {
+            entryCount--;
+        }
+        return out;
+    }
+
+    private int nextEntry(int start) {
+        for (int i = start; i < entryCount; i++) {
+            if (keys[i] != DELETED_KEY) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int previousEntry(int start) {
+        for (int i = Math.min(start, entryCount - 1); i >= 0; i--) {
+            if (keys[i] != DELETED_KEY) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findEntry(key, getHash(key)) != -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < entryCount; i++) {
+            if (keys[i] != DELETED_KEY && (value == values[i] || (value != null && value.equals(values[i])))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Value_ get(Object key) {
+        int entry = findEntry(key, getHash(key));
+        return (entry != -1) ? (Value_) values[entry] : null;
+    }
+
+    @Override
+    public Value_ put(Key_ key, Value_ value) {
+        int hash = getHash(key);
+        int entry = findEntry(key, hash);
+        if (entry != -1) {
+            Value_ old = (Value_) values[entry];
+            values[entry] = value;
+            return old;
+        }
+        ensureRoomForNewEntry();
+        appendEntry(key, value, hash);
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends Key_, ? extends Value_> map) {
+        if (index == null) {
+            if (!map.isEmpty()) {
+                allocate(map.size());
+            }
+        } else if (size + map.size() > keys.length) {
+            resize(size + map.size());
+        }
+        for (Entry<? extends Key_, ? extends Value_> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Value_ remove(Object key) {
+        int entry = findEntry(key, getHash(key));
+        return (entry != -1) ? removeEntry(entry) : null;
+    }
+
+    @Override
+    public void clear() {
+        index = null;
+        keys = null;
+        values = null;
+        hashes = null;
+        entryCount = 0;
+        size = 0;
+        usedSlotCount = 0;
+        modCount++;
+    }
+
+    @Override
+    public Key_ firstKey() {
+        int entry = nextEntry(0);
+        if (entry == -1) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return (Key_) keys[entry];
+    }
+
+    @Override
+    public Key_ lastKey() {
+        int entry = previousEntry(entryCount - 1);
+        if (entry == -1) {
+            throw new NoSuchElementException("Map is empty");
+        }
+        return (Key_) keys[entry];
+    }
+
+    @Override
+    public Key_ nextKey(Key_ key) {
+        int entry = findEntry(key, getHash(key));
+        if (entry == -1) {
+            return null;
+        }
+        int next = nextEntry(entry + 1);
+        return (next != -1) ? (Key_) keys[next] : null;
+    }
+
+    @Override
+    public Key_ previousKey(Key_ key) {
+        int entry = findEntry(key, getHash(key));
+        if (entry == -1) {
+            return null;
+        }
+        int previous = previousEntry(entry - 1);
+        return (previous != -1) ? (Key_) keys[previous] : null;
+    }
+
+    @Override
+    public OrderedMapIterator<Key_, Value_> mapIterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public Set<Key_> keySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Key_> iterator() {
+                EntryIterator iterator = new EntryIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Key_ next() {
+                        return iterator.next();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                int entry = findEntry(o, getHash(o));
+                if (entry == -1) {
+                    return false;
+                }
+                removeEntry(entry);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                CompactOrderedMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Collection<Value_> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Value_> iterator() {
+                EntryIterator iterator = new EntryIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Value_ next() {
+                        iterator.next();
+                        return iterator.getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsValue(o);
+            }
+
+            @Override
+            public void clear() {
+                CompactOrderedMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<Key_, Value_>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Key_, Value_>> iterator() {
+                EntryIterator iterator = new EntryIterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Key_, Value_> next() {
+                        Key_ key = iterator.next();
+                        return new WriteThroughEntry(key, iterator.getValue());
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                Entry<?, ?> entry = (Entry<?, ?>) o;
+                int position = findEntry(entry.getKey(), getHash(entry.getKey()));
+                if (position == -1) {
+                    return false;
+                }
+                Object value = values[position];
+                return value == entry.getValue() || (value != null && value.equals(entry.getValue()));
+            }
+
+            @Override
+            public boolean remove(Object o) {
+                if (!contains(o)) {
+                    return false;
+                }
+                CompactOrderedMap.this.remove(((Entry<?, ?>) o).getKey());
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                CompactOrderedMap.this.clear();
+            }
+        };
+    }
+
+    private class WriteThroughEntry extends SimpleEntry<Key_, Value_> {
+        WriteThroughEntry(Key_ key, Value_ value) {
+            super(key, value);
+        }
+
+        @Override
+        public Value_ setValue(Value_ value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    private class EntryIterator implements OrderedMapIterator<Key_, Value_> {
+        // Position in the entry arrays between the previous and next entries
+        private int cursor = 0;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        private void checkForModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkForModification();
+            return nextEntry(cursor) != -1;
+        }
+
+        @Override
+        public Key_ next() {
+            checkForModification();
+            int entry = nextEntry(cursor);
+            if (entry == -1) {
+                throw new NoSuchElementException();
+            }
+            cursor = entry + 1;
+            lastReturned = entry;
+            return (Key_) keys[entry];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            checkForModification();
+            return previousEntry(cursor - 1) != -1;
+        }
+
+        @Override
+        public Key_ previous() {
+            checkForModification();
+            int entry = previousEntry(cursor - 1);
+            if (entry == -1) {
+                throw new NoSuchElementException();
+            }
+            cursor = entry;
+            lastReturned = entry;
+            return (Key_) keys[entry];
+        }
+
+        private void checkLastReturned() {
+            checkForModification();
+            if (lastReturned == -1) {
+                throw new IllegalStateException("next() or previous() was not called since the last remove().");
+            }
+        }
+
+        @Override
+        public Key_ getKey() {
+            checkLastReturned();
+            return (Key_) keys[lastReturned];
+        }
+
+        @Override
+        public Value_ getValue() {
+            checkLastReturned();
+            return (Value_) values[lastReturned];
+        }
+
+        @Override
+        public Value_ setValue(Value_ value) {
+            checkLastReturned();
+            Value_ old = (Value_) values[lastReturned];
+            values[lastReturned] = value;
+            return old;
+        }
+
+        @Override
+        public void remove() {
+            checkLastReturned();
+            removeEntry(lastReturned);
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
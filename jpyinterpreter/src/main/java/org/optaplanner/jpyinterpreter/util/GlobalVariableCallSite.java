@@ -0,0 +1,96 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SwitchPoint;
+import java.util.Map;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.PythonGlobalsMap;
+import org.optaplanner.jpyinterpreter.PythonInterpreter;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.builtins.GlobalBuiltins;
+
+/**
+ * An inline cache for LOAD_GLOBAL. The first lookup of a global goes through
+ * {@link PythonInterpreter#getGlobal(Map, String)}; its result is then bound to the call site as a
+ * constant, guarded by the {@link PythonGlobalsMap#getSwitchPoint() switch point} of the globals map
+ * and the {@link GlobalBuiltins#getBuiltinsSwitchPoint() builtins switch point}, so it is looked up
+ * again only after a global or builtin changes. Lookups in globals maps that are not a
+ * {@link PythonGlobalsMap} are not cached.
+ */
+public class GlobalVariableCallSite extends PolymorphicCallSite {
+    public static final Handle BOOTSTRAP = new Handle(Opcodes.H_INVOKESTATIC,
+            Type.getInternalName(GlobalVariableCallSite.class), "bootstrap",
+            Type.getMethodDescriptor(Type.getType(CallSite.class), Type.getType(MethodHandles.Lookup.class),
+                    Type.getType(String.class), Type.getType(MethodType.class), Type.getType(String.class)),
+            false);
+
+    public static final String CALL_SITE_DESCRIPTOR =
+            Type.getMethodDescriptor(Type.getType(PythonLikeObject.class), Type.getType(PythonInterpreter.class),
+                    Type.getType(Map.class));
+
+    private static final MethodType CALL_SITE_TYPE =
+            MethodType.methodType(PythonLikeObject.class, PythonInterpreter.class, Map.class);
+    private static final MethodHandle IS_SAME_SCOPE;
+    private static final MethodHandle GET_GLOBAL;
+    private static final MethodHandle FALLBACK;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            IS_SAME_SCOPE = lookup.findStatic(GlobalVariableCallSite.class, "isSameScope",
+                    MethodType.methodType(boolean.class, PythonInterpreter.class, Map.class,
+                            PythonInterpreter.class, Map.class));
+            GET_GLOBAL = lookup.findVirtual(PythonInterpreter.class, "getGlobal",
+                    MethodType.methodType(PythonLikeObject.class, Map.class, String.class));
+            FALLBACK = lookup.findVirtual(GlobalVariableCallSite.class, "fallback", CALL_SITE_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String globalName;
+
+    private GlobalVariableCallSite(String globalName) {
+        super(CALL_SITE_TYPE);
+        this.globalName = globalName;
+        initialize(FALLBACK.bindTo(this), MethodHandles.insertArguments(GET_GLOBAL, 2, globalName));
+    }
+
+    /**
+     * Bootstrap method for a LOAD_GLOBAL call site with signature {@code (PythonInterpreter, Map)PythonLikeObject}.
+     *
+     * @param globalName the name of the global to load
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type, String globalName) {
+        return new GlobalVariableCallSite(globalName);
+    }
+
+    private static boolean isSameScope(PythonInterpreter cachedInterpreter, Map<?, ?> cachedGlobalsMap,
+            PythonInterpreter interpreter, Map<?, ?> globalsMap) {
+        return interpreter == cachedInterpreter && globalsMap == cachedGlobalsMap;
+    }
+
+    private PythonLikeObject fallback(PythonInterpreter interpreter, Map globalsMap) {
+        if (!(globalsMap instanceof PythonGlobalsMap)) {
+            return interpreter.getGlobal(globalsMap, globalName);
+        }
+        // Switch points must be obtained before the lookup, so a concurrent change invalidates the entry
+        SwitchPoint[] switchPoints = new SwitchPoint[] {
+                ((PythonGlobalsMap) globalsMap).getSwitchPoint(),
+                GlobalBuiltins.getBuiltinsSwitchPoint()
+        };
+        PythonLikeObject out = interpreter.getGlobal(globalsMap, globalName);
+
+        MethodHandle target = MethodHandles.dropArguments(MethodHandles.constant(PythonLikeObject.class, out), 0,
+                PythonInterpreter.class, Map.class);
+        addCacheEntry(new Object[] { interpreter, globalsMap },
+                MethodHandles.insertArguments(IS_SAME_SCOPE, 0, interpreter, globalsMap), target, switchPoints);
+        return out;
+    }
+}
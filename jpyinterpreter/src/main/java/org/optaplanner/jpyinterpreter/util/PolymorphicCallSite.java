@@ -0,0 +1,141 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+
+/**
+ * Base class for call sites that implement a polymorphic inline cache. Subclasses link a fallback
+ * method handle that performs the uncached operation and calls {@link #addCacheEntry} with a
+ * specialized target for the operand types it saw. Cached targets are tested in turn by a chain of
+ * {@link MethodHandles#guardWithTest} handles, and each entry is guarded by {@link SwitchPoint}s so
+ * it can be invalidated when a type changes. Once more than {@link #MAX_CACHED_TYPES} keys are seen,
+ * the call site becomes megamorphic and is permanently linked to the uncached operation.
+ */
+public abstract class PolymorphicCallSite extends MutableCallSite {
+    public static final int MAX_CACHED_TYPES = 4;
+
+    private final List<CacheEntry> cacheEntryList;
+    private MethodHandle fallback;
+    private MethodHandle uncached;
+    private boolean isMegamorphic;
+
+    protected PolymorphicCallSite(MethodType type) {
+        super(type);
+        this.cacheEntryList = new ArrayList<>(MAX_CACHED_TYPES);
+        this.isMegamorphic = false;
+    }
+
+    /**
+     * Links this call site to {@code fallback}. Must be called by subclass constructors.
+     *
+     * @param fallback performs the operation and calls {@link #addCacheEntry}
+     * @param uncached performs the operation without caching
+     */
+    protected void initialize(MethodHandle fallback, MethodHandle uncached) {
+        this.fallback = fallback;
+        this.uncached = uncached;
+        setTarget(fallback);
+    }
+
+    protected MethodHandle getUncached() {
+        return uncached;
+    }
+
+    /**
+     * Returns the attribute switch points for every type in the MRO of the given types. Must be called before
+     * looking up the attributes the cache entry depends on, so a concurrent change invalidates the entry.
+     */
+    protected static SwitchPoint[] getSwitchPoints(PythonLikeType... types) {
+        List<SwitchPoint> out = new ArrayList<>();
+        for (PythonLikeType type : types) {
+            for (PythonLikeType mroType : type.MRO) {
+                out.add(mroType.getAttributeSwitchPoint());
+            }
+        }
+        return out.toArray(new SwitchPoint[0]);
+    }
+
+    /**
+     * Adds a cache entry to this call site.
+     *
+     * @param key identifies the entry; entries whose keys have identical elements are considered duplicates
+     * @param test returns true if {@code target} should be used for the arguments
+     * @param target the specialized operation for arguments that pass {@code test}
+     * @param switchPoints switch points that invalidate the entry
+     */
+    protected synchronized void addCacheEntry(Object[] key, MethodHandle test, MethodHandle target,
+            SwitchPoint[] switchPoints) {
+        if (isMegamorphic) {
+            return;
+        }
+        CacheEntry cacheEntry = new CacheEntry(key, test, target, switchPoints);
+        cacheEntryList.removeIf(CacheEntry::isInvalidated);
+        if (cacheEntry.isInvalidated() || cacheEntryList.stream().anyMatch(entry -> entry.hasSameKey(cacheEntry))) {
+            // Either a type changed during lookup or another thread already cached this key
+            return;
+        }
+        if (cacheEntryList.size() >= MAX_CACHED_TYPES) {
+            isMegamorphic = true;
+            cacheEntryList.clear();
+            setTarget(uncached);
+            return;
+        }
+        cacheEntryList.add(cacheEntry);
+
+        MethodHandle newTarget = fallback;
+        for (CacheEntry entry : cacheEntryList) {
+            newTarget = entry.guard(newTarget);
+        }
+        setTarget(newTarget);
+    }
+
+    private static final class CacheEntry {
+        final Object[] key;
+        final MethodHandle test;
+        final MethodHandle target;
+        final SwitchPoint[] switchPoints;
+
+        CacheEntry(Object[] key, MethodHandle test, MethodHandle target, SwitchPoint[] switchPoints) {
+            this.key = key;
+            this.test = test;
+            this.target = target;
+            this.switchPoints = switchPoints;
+        }
+
+        boolean hasSameKey(CacheEntry other) {
+            if (key.length != other.key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != other.key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isInvalidated() {
+            for (SwitchPoint switchPoint : switchPoints) {
+                if (switchPoint.hasBeenInvalidated()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        MethodHandle guard(MethodHandle next) {
+            MethodHandle out = MethodHandles.guardWithTest(test, target, next);
+            for (SwitchPoint switchPoint : switchPoints) {
+                out = switchPoint.guardWithTest(out, next);
+            }
+            return out;
+        }
+    }
+}
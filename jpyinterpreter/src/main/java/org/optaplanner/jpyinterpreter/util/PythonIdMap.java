@@ -0,0 +1,319 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map keyed by Python object ids (the result of {@code id()}), used to map Python objects to the Java
+ * objects they were converted to. Keys are stored as primitive longs in an open addressing table, so lookups
+ * do not box their key or compute {@link Long#hashCode()}; {@link Number} keys are compared by their
+ * {@link Number#longValue()}.
+ * <p>
+ * A map can be created as an overlay of a parent map. An overlay is created without copying the parent:
+ * lookups fall through to the parent (and see entries later added to it), while new entries are only added
+ * to the overlay. An overlay does not allow replacing or removing entries
+ * of its parent.
+ *
+ * @param <Value_> The type of the values of the map
+ */
+public class PythonIdMap<Value_> extends AbstractMap<Number, Value_> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // id() returns an address, so 0 is never used as a key in practice; it is still supported
+    private static final long EMPTY_KEY = 0L;
+
+    private final Map<Number, Value_> parentMap;
+    private final PythonIdMap<Value_> parentIdMap;
+
+    // Allocated on the first put, since most instance maps stay empty
+    private long[] keys;
+    private Object[] values;
+    private int ownSize;
+
+    private boolean hasZeroKey;
+    private Value_ zeroKeyValue;
+
+    public PythonIdMap() {
+        this(null);
+    }
+
+    /**
+     * Creates an overlay of parentMap.
+     */
+    public PythonIdMap(Map<Number, Value_> parentMap) {
+        this.parentMap = parentMap;
+        this.parentIdMap = (parentMap instanceof PythonIdMap) ? (PythonIdMap<Value_>) parentMap : null;
+        this.ownSize = 0;
+    }
+
+    private static int getIdealSlot(long key, int mask) {
+        // Object addresses are aligned, so their low bits need to be mixed in
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private int getOwnSlot(long key) {
+        if (keys == null) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int slot = getIdealSlot(key, mask);; slot = (slot + 1) & mask) {
+            long slotKey = keys[slot];
+            if (slotKey == key) {
+                return slot;
+            }
+            if (slotKey == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    private boolean ownContainsKey(long key) {
+        return (key == EMPTY_KEY) ? hasZeroKey : getOwnSlot(key) != -1;
+    }
+
+    private boolean parentContainsKey(long key) {
+        if (parentIdMap != null) {
+            return parentIdMap.containsId(key);
+        }
+        return parentMap != null && parentMap.containsKey(key);
+    }
+
+    public boolean containsId(long key) {
+        return ownContainsKey(key) || parentContainsKey(key);
+    }
+
+    public Value_ getById(long key) {
+        if (key == EMPTY_KEY) {
+            if (hasZeroKey) {
+                return zeroKeyValue;
+            }
+        } else {
+            int slot = getOwnSlot(key);
+            if (slot != -1) {
+                return (Value_) values[slot];
+            }
+        }
+        if (parentIdMap != null) {
+            return parentIdMap.getById(key);
+        }
+        return (parentMap != null) ? parentMap.get(key) : null;
+    }
+
+    public Value_ putById(long key, Value_ value) {
+        if (parentMap != null && !ownContainsKey(key) && parentContainsKey(key)) {
+            throw new IllegalArgumentException("Cannot set value for key (" + key + ") because it is in the parent map.");
+        }
+        if (key == EMPTY_KEY) {
+            Value_ old = zeroKeyValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                ownSize++;
+            }
+            zeroKeyValue = value;
+            return old;
+        }
+
+        if (keys == null) {
+            keys = new long[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+        }
+        int mask = keys.length - 1;
+        int slot = getIdealSlot(key, mask);
+        while (keys[slot] != EMPTY_KEY) {
+            if (keys[slot] == key) {
+                Value_ old = (Value_) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        ownSize++;
+        if (ownSize * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry for key from this map; entries of the parent map are never removed.
+     */
+    public Value_ removeById(long key) {
+        if (key == EMPTY_KEY) {
+            Value_ old = zeroKeyValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroKeyValue = null;
+                ownSize--;
+            }
+            return old;
+        }
+
+        int slot = getOwnSlot(key);
+        if (slot == -1) {
+            return null;
+        }
+        Value_ old = (Value_) values[slot];
+        ownSize--;
+
+        // Shift back the entries after the removed one, so lookups do not stop at the new gap
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != EMPTY_KEY; next = (next + 1) & mask) {
+            int idealSlot = getIdealSlot(keys[next], mask);
+            if (((next - idealSlot) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = EMPTY_KEY;
+        values[gap] = null;
+        return old;
+    }
+
+    private void resize(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new Object[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int slot = getIdealSlot(key, mask);
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Number && containsId(((Number) key).longValue());
+    }
+
+    @Override
+    public Value_ get(Object key) {
+        return (key instanceof Number) ? getById(((Number) key).longValue()) : null;
+    }
+
+    @Override
+    public Value_ put(Number key, Value_ value) {
+        return putById(key.longValue(), value);
+    }
+
+    @Override
+    public Value_ remove(Object key) {
+        return (key instanceof Number) ? removeById(((Number) key).longValue()) : null;
+    }
+
+    @Override
+    public int size() {
+        if (parentMap == null) {
+            return ownSize;
+        }
+        // Own entries shadow entries added to the parent after them; do not count those twice
+        int size = ownSize + parentMap.size();
+        if (hasZeroKey && parentContainsKey(EMPTY_KEY)) {
+            size--;
+        }
+        if (keys != null) {
+            for (long key : keys) {
+                if (key != EMPTY_KEY && parentContainsKey(key)) {
+                    size--;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ownSize == 0 && (parentMap == null || parentMap.isEmpty());
+    }
+
+    /**
+     * Removes the entries of this map; entries of the parent map are never removed.
+     */
+    @Override
+    public void clear() {
+        keys = null;
+        values = null;
+        ownSize = 0;
+        hasZeroKey = false;
+        zeroKeyValue = null;
+    }
+
+    @Override
+    public Set<Entry<Number, Value_>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Number, Value_>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PythonIdMap.this.size();
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Entry<Number, Value_>> {
+        private final Iterator<Entry<Number, Value_>> parentIterator =
+                (parentMap != null) ? parentMap.entrySet().iterator() : null;
+        private final long[] ownKeys = (keys != null) ? keys : new long[0];
+        private int slot = hasZeroKey ? -1 : nextOwnSlot(0);
+        private Entry<Number, Value_> nextParentEntry;
+
+        private int nextOwnSlot(int start) {
+            for (int i = start; i < ownKeys.length; i++) {
+                if (ownKeys[i] != EMPTY_KEY) {
+                    return i;
+                }
+            }
+            return ownKeys.length;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (slot < ownKeys.length) {
+                return true;
+            }
+            while (nextParentEntry == null && parentIterator != null && parentIterator.hasNext()) {
+                Entry<Number, Value_> parentEntry = parentIterator.next();
+                // Own entries shadow entries added to the parent after them
+                if (!ownContainsKey(parentEntry.getKey().longValue())) {
+                    nextParentEntry = parentEntry;
+                }
+            }
+            return nextParentEntry != null;
+        }
+
+        @Override
+        public Entry<Number, Value_> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (slot < ownKeys.length) {
+                Entry<Number, Value_> out = (slot == -1) ? new SimpleImmutableEntry<>(EMPTY_KEY, zeroKeyValue)
+                        : new SimpleImmutableEntry<>(ownKeys[slot], (Value_) values[slot]);
+                slot = nextOwnSlot(slot + 1);
+                return out;
+            }
+            Entry<Number, Value_> out = nextParentEntry;
+            nextParentEntry = null;
+            return out;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe map from Python object ids to the Java objects they were converted to, that does not keep
+ * the converted objects alive. Entries are removed once their converted object is garbage collected.
+ * <p>
+ * A Python id is only unique while its object is alive, so an entry added with
+ * {@link #register(long, Object, Object)} also keeps the Python object alive for as long as the entry exists.
+ * That prevents a later Python object that reuses the id from being mistaken for the original one.
+ * Entries added with {@link #put(Number, Object)} do not keep their Python object alive, and should only be
+ * used for Python objects that are known to outlive them.
+ */
+public class PythonObjectRegistry extends AbstractMap<Number, Object> {
+    private final Map<Long, RegistryEntry> idToEntryMap = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedValueQueue = new ReferenceQueue<>();
+
+    private static final class RegistryEntry extends WeakReference<Object> {
+        private final long id;
+
+        @SuppressWarnings("unused")
+        private final Object pythonObject;
+
+        private RegistryEntry(long id, Object value, Object pythonObject, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.id = id;
+            this.pythonObject = pythonObject;
+        }
+    }
+
+    private void removeCollectedEntries() {
+        Reference<?> collected;
+        while ((collected = collectedValueQueue.poll()) != null) {
+            RegistryEntry entry = (RegistryEntry) collected;
+            idToEntryMap.remove(entry.id, entry);
+        }
+    }
+
+    /**
+     * Maps the Python object with the given id to value.
+     *
+     * @param pythonObject a reference to the Python object, which is kept alive while value is
+     */
+    public Object register(long id, Object value, Object pythonObject) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot register a null value for Python object id (" + id + ").");
+        }
+        removeCollectedEntries();
+        RegistryEntry old = idToEntryMap.put(id, new RegistryEntry(id, value, pythonObject, collectedValueQueue));
+        return (old != null) ? old.get() : null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof Number)) {
+            return null;
+        }
+        RegistryEntry entry = idToEntryMap.get(((Number) key).longValue());
+        return (entry != null) ? entry.get() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Object put(Number key, Object value) {
+        return register(key.longValue(), value, null);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof Number)) {
+            return null;
+        }
+        RegistryEntry old = idToEntryMap.remove(((Number) key).longValue());
+        return (old != null) ? old.get() : null;
+    }
+
+    @Override
+    public int size() {
+        removeCollectedEntries();
+        return idToEntryMap.size();
+    }
+
+    @Override
+    public void clear() {
+        idToEntryMap.clear();
+    }
+
+    /**
+     * Returns a snapshot of the entries whose converted object is still alive.
+     */
+    @Override
+    public Set<Entry<Number, Object>> entrySet() {
+        removeCollectedEntries();
+        List<Entry<Number, Object>> entryList = new ArrayList<>(idToEntryMap.size());
+        idToEntryMap.forEach((id, entry) -> {
+            Object value = entry.get();
+            if (value != null) {
+                entryList.add(new SimpleImmutableEntry<>(id, value));
+            }
+        });
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Number, Object>> iterator() {
+                return Collections.unmodifiableList(entryList).iterator();
+            }
+
+            @Override
+            public int size() {
+                return entryList.size();
+            }
+        };
+    }
+}
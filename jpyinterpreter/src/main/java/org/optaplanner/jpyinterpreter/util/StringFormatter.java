@@ -275,7 +275,7 @@ public class StringFormatter {
                 if (!(toConvert instanceof PythonInteger)) {
                     throw new TypeError("%d format: a real number is required, not " + toConvert.__getType().getTypeName());
                 }
-                result = ((PythonInteger) toConvert).value.toString(10);
+                result = ((PythonInteger) toConvert).getValue().toString(10);
                 break;
             }
             case SIGNED_INTEGER_OCTAL: {
@@ -285,7 +285,7 @@ public class StringFormatter {
                 if (!(toConvert instanceof PythonInteger)) {
                     throw new TypeError("%o format: a real number is required, not " + toConvert.__getType().getTypeName());
                 }
-                result = ((PythonInteger) toConvert).value.toString(8);
+                result = ((PythonInteger) toConvert).getValue().toString(8);
                 if (useAlternateForm) {
                     result = (result.startsWith("-")) ? "-0o" + result.substring(1) : "0o" + result;
                 }
@@ -298,7 +298,7 @@ public class StringFormatter {
                 if (!(toConvert instanceof PythonInteger)) {
                     throw new TypeError("%x format: a real number is required, not " + toConvert.__getType().getTypeName());
                 }
-                result = ((PythonInteger) toConvert).value.toString(16);
+                result = ((PythonInteger) toConvert).getValue().toString(16);
                 if (useAlternateForm) {
                     result = (result.startsWith("-")) ? "-0x" + result.substring(1) : "0x" + result;
                 }
@@ -311,7 +311,7 @@ public class StringFormatter {
                 if (!(toConvert instanceof PythonInteger)) {
                     throw new TypeError("%X format: a real number is required, not " + toConvert.__getType().getTypeName());
                 }
-                result = ((PythonInteger) toConvert).value.toString(16).toUpperCase();
+                result = ((PythonInteger) toConvert).getValue().toString(16).toUpperCase();
                 if (useAlternateForm) {
                     result = (result.startsWith("-")) ? "-0X" + result.substring(1) : "0X" + result;
                 }
@@ -413,7 +413,7 @@ public class StringFormatter {
                         }
                         result = convertedCharacter.value;
                     } else {
-                        result = Character.toString(((PythonInteger) toConvert).value.intValueExact());
+                        result = Character.toString(((PythonInteger) toConvert).intValueExact());
                     }
                 } else {
                     if (toConvert instanceof PythonBytes) {
@@ -429,7 +429,7 @@ public class StringFormatter {
                         }
                         result = convertedCharacter.asCharSequence().toString();
                     } else {
-                        result = Character.toString(((PythonInteger) toConvert).value.intValueExact());
+                        result = Character.toString(((PythonInteger) toConvert).intValueExact());
                     }
                 }
                 break;
@@ -52,8 +52,13 @@ def init(*args, path: List[str] = None, include_translator_jars: bool = True,
         GetAttributePointerArrayOnPythonObject()
     CPythonBackedPythonInterpreter.lookupAttributeOnPythonReferenceWithMapPythonFunction = \
         GetAttributeOnPythonObjectWithMap()
+    CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferenceWithMapPythonFunction = \
+        GetAttributesOnPythonObjectWithMap()
+    CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferencesWithMapPythonFunction = \
+        GetAttributesOnPythonObjectsWithMap()
     CPythonBackedPythonInterpreter.lookupDictOnPythonReferencePythonFunction = GetDictOnPythonObject()
     CPythonBackedPythonInterpreter.setAttributeOnPythonReferencePythonFunction = SetAttributeOnPythonObject()
+    CPythonBackedPythonInterpreter.setAttributesOnPythonReferencePythonFunction = SetAttributesOnPythonObject()
     CPythonBackedPythonInterpreter.deleteAttributeOnPythonReferencePythonFunction = DeleteAttributeOnPythonObject()
     CPythonBackedPythonInterpreter.callPythonFunction = CallPythonFunction()
     CPythonBackedPythonInterpreter.createFunctionFromCodeFunction = CreateFunctionFromCode()
@@ -129,6 +134,46 @@ class GetAttributeOnPythonObjectWithMap:
             raise e
 
 
+def get_attributes_on_python_object_with_map(python_object, attribute_names, instance_map):
+    from .python_to_java_bytecode_translator import convert_to_java_python_like_object
+    from org.optaplanner.jpyinterpreter import PythonLikeObject
+    out = PythonLikeObject[len(attribute_names)]
+    for i in range(len(attribute_names)):
+        attribute_name = attribute_names[i]
+        if hasattr(python_object, attribute_name):
+            out[i] = convert_to_java_python_like_object(getattr(python_object, attribute_name), instance_map)
+    return out
+
+
+@jpype.JImplements('org.optaplanner.jpyinterpreter.util.function.TriFunction', deferred=True)
+class GetAttributesOnPythonObjectWithMap:
+    @jpype.JOverride()
+    def apply(self, python_object, attribute_names, instance_map):
+        try:
+            return get_attributes_on_python_object_with_map(python_object, attribute_names, instance_map)
+        except Exception as e:
+            import traceback
+            traceback.print_exception(e)
+            raise e
+
+
+@jpype.JImplements('org.optaplanner.jpyinterpreter.util.function.TriFunction', deferred=True)
+class GetAttributesOnPythonObjectsWithMap:
+    @jpype.JOverride()
+    def apply(self, python_objects, attribute_names, instance_maps):
+        from org.optaplanner.jpyinterpreter import PythonLikeObject
+        try:
+            out = jpype.JArray(PythonLikeObject, 2)(len(python_objects))
+            for i in range(len(python_objects)):
+                out[i] = get_attributes_on_python_object_with_map(python_objects[i], attribute_names[i],
+                                                                   instance_maps.get(i))
+            return out
+        except Exception as e:
+            import traceback
+            traceback.print_exception(e)
+            raise e
+
+
 @jpype.JImplements('org.optaplanner.jpyinterpreter.util.function.TriConsumer', deferred=True)
 class SetAttributeOnPythonObject:
     @jpype.JOverride()
@@ -137,6 +182,15 @@ class SetAttributeOnPythonObject:
         setattr(python_object, attribute_name, unwrap_python_like_object(value))
 
 
+@jpype.JImplements('org.optaplanner.jpyinterpreter.util.function.TriConsumer', deferred=True)
+class SetAttributesOnPythonObject:
+    @jpype.JOverride()
+    def accept(self, python_object, attribute_names, values):
+        from .python_to_java_bytecode_translator import unwrap_python_like_object
+        for i in range(len(attribute_names)):
+            setattr(python_object, attribute_names[i], unwrap_python_like_object(values[i]))
+
+
 @jpype.JImplements('java.util.function.BiConsumer', deferred=True)
 class DeleteAttributeOnPythonObject:
     @jpype.JOverride()
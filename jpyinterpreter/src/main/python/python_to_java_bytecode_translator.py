@@ -15,6 +15,7 @@ global_dict_to_instance = dict()
 global_dict_to_key_set = dict()
 type_to_compiled_java_class = dict()
 function_interface_pair_to_instance = dict()
+function_interface_pair_to_tiered_instance = dict()
 function_interface_pair_to_class = dict()
 
 
@@ -176,8 +177,14 @@ def remove_from_instance_map(instance_map, object_id):
 
 
 def put_in_instance_map(instance_map, python_object, java_object):
-    global objects_without_weakref_id_set
-    instance_map.put(id(python_object), java_object)
+    from org.optaplanner.jpyinterpreter.util import PythonObjectRegistry
+    from org.optaplanner.jpyinterpreter.types.wrappers import OpaquePythonReference
+    if isinstance(instance_map, PythonObjectRegistry):
+        # The registry keeps python_object alive while java_object is, so its id is not reused
+        instance_map.register(JLong(id(python_object)), java_object,
+                              JProxy(OpaquePythonReference, inst=python_object, convert=True))
+    else:
+        instance_map.put(id(python_object), java_object)
 
 
 class CodeWrapper:
@@ -331,8 +338,10 @@ def convert_to_java_python_like_object(value, instance_map=None):
     if instance_map is None:
         instance_map = HashMap()
 
-    if instance_map.containsKey(JLong(id(value))):
-        return instance_map.get(JLong(id(value)))
+    # A single lookup, since converted objects in a PythonObjectRegistry can be collected between two lookups
+    existing = instance_map.get(JLong(id(value)))
+    if existing is not None:
+        return existing
     elif isinstance(value, PythonLikeObject):
         put_in_instance_map(instance_map, value, value)
         return value
@@ -724,15 +733,14 @@ def copy_closure(closure):
 def copy_globals(globals_dict, co_names):
     global global_dict_to_instance
     global global_dict_to_key_set
-    from java.util import HashMap
-    from org.optaplanner.jpyinterpreter import CPythonBackedPythonInterpreter
+    from org.optaplanner.jpyinterpreter import CPythonBackedPythonInterpreter, PythonGlobalsMap
 
     globals_dict_key = id(globals_dict)
     if globals_dict_key in global_dict_to_instance:
         out = global_dict_to_instance[globals_dict_key]
         key_set = global_dict_to_key_set[globals_dict_key]
     else:
-        out = HashMap()
+        out = PythonGlobalsMap()
         key_set = set()
         global_dict_to_instance[globals_dict_key] = out
         global_dict_to_key_set[globals_dict_key] = key_set
@@ -860,7 +868,8 @@ def get_static_function_bytecode_object(the_class, python_function):
 
 def get_code_bytecode_object(python_code):
     from java.util import ArrayList, HashMap
-    from org.optaplanner.jpyinterpreter import PythonBytecodeInstruction, PythonCompiledFunction, PythonVersion, OpcodeIdentifier # noqa
+    from org.optaplanner.jpyinterpreter import PythonBytecodeInstruction, PythonCompiledFunction, PythonVersion, \
+        OpcodeIdentifier, PythonGlobalsMap # noqa
 
     init_type_to_compiled_java_class()
 
@@ -896,7 +905,7 @@ def get_code_bytecode_object(python_code):
     python_compiled_function.co_argcount = python_code.co_argcount
     python_compiled_function.co_kwonlyargcount = python_code.co_kwonlyargcount
     python_compiled_function.closure = copy_closure(None)
-    python_compiled_function.globalsMap = HashMap()
+    python_compiled_function.globalsMap = PythonGlobalsMap()
     python_compiled_function.typeAnnotations = HashMap()
     python_compiled_function.defaultPositionalArguments = convert_to_java_python_like_object(tuple())
     python_compiled_function.defaultKeywordArguments = convert_to_java_python_like_object(dict())
@@ -927,6 +936,46 @@ def translate_python_bytecode_to_java_bytecode(python_function, java_function_ty
         return out
 
 
+def translate_python_bytecode_to_java_bytecode_in_background(python_function, python_implementation,
+                                                            java_function_type, *type_args):
+    """
+    Returns an implementation of java_function_type that calls python_implementation until
+    python_function is translated to Java bytecode on a background thread, and the translated
+    bytecode afterwards. If translation fails, python_implementation is used for every call.
+    """
+    from org.optaplanner.jpyinterpreter import TieredFunctionTranslator # noqa
+    if (python_function, java_function_type, type_args) in function_interface_pair_to_instance:
+        return function_interface_pair_to_instance[(python_function, java_function_type, type_args)]
+    if (python_function, java_function_type, type_args) in function_interface_pair_to_tiered_instance:
+        return function_interface_pair_to_tiered_instance[(python_function, java_function_type, type_args)]
+
+    # Reading the bytecode needs the Python interpreter, so it is done on the calling thread
+    python_compiled_function = get_function_bytecode_object(python_function)
+
+    out = TieredFunctionTranslator.translatePythonBytecodeInBackground(python_compiled_function,
+                                                                      java_function_type,
+                                                                      copy_iterable(type_args),
+                                                                      python_implementation)
+    function_interface_pair_to_tiered_instance[(python_function, java_function_type, type_args)] = out
+    return out
+
+
+def translate_python_bytecode_to_java_bytecode_in_batch(batch_function_translator, python_function,
+                                                       python_implementation, java_function_type, *type_args):
+    """
+    Returns an implementation of java_function_type that calls python_implementation until
+    batch_function_translator.translateAll() translates python_function, in parallel with the other
+    functions of the batch. If translation fails, python_implementation is used for every call.
+    """
+    if (python_function, java_function_type, type_args) in function_interface_pair_to_instance:
+        return function_interface_pair_to_instance[(python_function, java_function_type, type_args)]
+
+    # Reading the bytecode needs the Python interpreter, so it is done on the calling thread
+    python_compiled_function = get_function_bytecode_object(python_function)
+    return batch_function_translator.addFunction(python_compiled_function, java_function_type,
+                                                 copy_iterable(type_args), python_implementation)
+
+
 def _force_translate_python_bytecode_to_generator_java_bytecode(python_function, java_function_type):
     from org.optaplanner.jpyinterpreter import PythonBytecodeToJavaBytecodeTranslator # noqa
     if (python_function, java_function_type) in function_interface_pair_to_instance:
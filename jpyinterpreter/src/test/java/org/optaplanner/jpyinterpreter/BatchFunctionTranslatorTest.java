@@ -0,0 +1,70 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+public class BatchFunctionTranslatorTest {
+    private static PythonCompiledFunction equalTo(String value) {
+        return PythonFunctionBuilder.newFunction("a")
+                .loadParameter("a")
+                .loadConstant(value)
+                .compare(CompareOp.EQUALS)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+    }
+
+    @Test
+    public void testSwapsToTranslatedImplementations() {
+        BatchFunctionTranslator batchFunctionTranslator = new BatchFunctionTranslator();
+        Predicate<PythonString> pythonImplementation = value -> false;
+
+        Predicate<PythonString> isA = batchFunctionTranslator.addFunction(equalTo("a"), Predicate.class,
+                List.of(PythonString.class), pythonImplementation);
+        Predicate<PythonString> isB = batchFunctionTranslator.addFunction(equalTo("b"), Predicate.class,
+                List.of(PythonString.class), pythonImplementation);
+        Predicate<PythonString> isC = batchFunctionTranslator.addFunction(equalTo("c"), Predicate.class,
+                List.of(PythonString.class), pythonImplementation);
+
+        assertThat(TieredFunctionTranslator.getDelegate(isA)).isSameAs(pythonImplementation);
+        assertThat(isA.test(PythonString.valueOf("a"))).isFalse();
+
+        assertThat(batchFunctionTranslator.translateAll()).containsExactly(null, null, null);
+
+        assertThat(isA.test(PythonString.valueOf("a"))).isTrue();
+        assertThat(isA.test(PythonString.valueOf("b"))).isFalse();
+        assertThat(isB.test(PythonString.valueOf("b"))).isTrue();
+        assertThat(isC.test(PythonString.valueOf("c"))).isTrue();
+        assertThat(isC.test(PythonString.valueOf("a"))).isFalse();
+
+        // Functions are only translated once
+        assertThat(batchFunctionTranslator.translateAll()).isEmpty();
+    }
+
+    @Test
+    public void testKeepsPythonImplementationIfTranslationFails() {
+        BatchFunctionTranslator batchFunctionTranslator = new BatchFunctionTranslator();
+        PythonCompiledFunction invalidFunction = equalTo("a");
+        invalidFunction.instructionList = List.of();
+        Predicate<PythonString> pythonImplementation = value -> true;
+
+        Predicate<PythonString> invalidPredicate = batchFunctionTranslator.addFunction(invalidFunction, Predicate.class,
+                List.of(PythonString.class), pythonImplementation);
+        Predicate<PythonString> validPredicate = batchFunctionTranslator.addFunction(equalTo("a"), Predicate.class,
+                List.of(PythonString.class), pythonImplementation);
+
+        List<Throwable> errorList = batchFunctionTranslator.translateAll();
+        assertThat(errorList).hasSize(2);
+        assertThat(errorList.get(0)).isNotNull();
+        assertThat(errorList.get(1)).isNull();
+
+        assertThat(TieredFunctionTranslator.getDelegate(invalidPredicate)).isSameAs(pythonImplementation);
+        assertThat(invalidPredicate.test(PythonString.valueOf("b"))).isTrue();
+        assertThat(validPredicate.test(PythonString.valueOf("b"))).isFalse();
+    }
+}
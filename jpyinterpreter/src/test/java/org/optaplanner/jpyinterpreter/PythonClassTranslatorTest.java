@@ -2,8 +2,13 @@ package org.optaplanner.jpyinterpreter;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -204,4 +209,57 @@ public class PythonClassTranslatorTest {
         assertThat(object3.hashCode())
                 .isEqualTo(PythonInteger.valueOf(Long.MAX_VALUE).hashCode());
     }
+
+    @Test
+    public void testConcurrentTranslation() throws Exception {
+        int classCount = 8;
+        int methodCount = 6;
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PythonLikeType>> classTypeFutureList = new ArrayList<>(classCount);
+            for (int i = 0; i < classCount; i++) {
+                PythonCompiledClass compiledClass = new PythonCompiledClass();
+                Map<String, PythonCompiledFunction> instanceFunctionMap = new HashMap<>();
+                instanceFunctionMap.put("__init__", PythonFunctionBuilder.newFunction("self", "value")
+                        .loadParameter("value")
+                        .loadParameter("self")
+                        .storeAttribute("value")
+                        .loadConstant(null)
+                        .op(OpcodeIdentifier.RETURN_VALUE)
+                        .build());
+                for (int j = 0; j < methodCount; j++) {
+                    instanceFunctionMap.put("add_" + j, PythonFunctionBuilder.newFunction("self")
+                            .loadParameter("self")
+                            .getAttribute("value")
+                            .loadConstant(j)
+                            .op(OpcodeIdentifier.BINARY_ADD)
+                            .op(OpcodeIdentifier.RETURN_VALUE)
+                            .build());
+                }
+
+                compiledClass.className = "ConcurrentClass";
+                compiledClass.superclassList = List.of(BuiltinTypes.BASE_TYPE);
+                compiledClass.staticAttributeNameToObject = Map.of();
+                compiledClass.staticAttributeNameToClassInstance = Map.of();
+                compiledClass.typeAnnotations = Map.of("value", BuiltinTypes.INT_TYPE);
+                compiledClass.instanceFunctionNameToPythonBytecode = instanceFunctionMap;
+                compiledClass.staticFunctionNameToPythonBytecode = Map.of();
+                compiledClass.classFunctionNameToPythonBytecode = Map.of();
+                classTypeFutureList
+                        .add(executorService.submit(() -> PythonClassTranslator.translatePythonClass(compiledClass)));
+            }
+
+            for (int i = 0; i < classCount; i++) {
+                PythonLikeType classType = classTypeFutureList.get(i).get();
+                PythonLikeObject classObject = classType.$call(List.of(PythonInteger.valueOf(i)), Map.of(), null);
+                for (int j = 0; j < methodCount; j++) {
+                    PythonLikeFunction addFunction =
+                            (PythonLikeFunction) classObject.$method$__getattribute__(PythonString.valueOf("add_" + j));
+                    assertThat(addFunction.$call(List.of(), Map.of(), null)).isEqualTo(PythonInteger.valueOf(i + j));
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+public class TieredFunctionTranslatorTest {
+    @Test
+    public void testSwapsToTranslatedImplementation() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a")
+                .loadParameter("a")
+                .loadConstant("a")
+                .compare(CompareOp.EQUALS)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        List<Runnable> pendingTaskList = new ArrayList<>();
+        Predicate<PythonString> pythonImplementation = value -> false;
+
+        Predicate<PythonString> tieredPredicate = TieredFunctionTranslator.translatePythonBytecodeInBackground(
+                pythonCompiledFunction, Predicate.class, List.of(PythonString.class), pythonImplementation,
+                pendingTaskList::add);
+
+        assertThat(TieredFunctionTranslator.getDelegate(tieredPredicate)).isSameAs(pythonImplementation);
+        assertThat(tieredPredicate.test(PythonString.valueOf("a"))).isFalse();
+        assertThat(TieredFunctionTranslator.getTranslation(tieredPredicate)).isNotDone();
+
+        assertThat(pendingTaskList).hasSize(1);
+        pendingTaskList.get(0).run();
+
+        assertThat(TieredFunctionTranslator.getTranslation(tieredPredicate)).isCompletedWithValue(true);
+        assertThat(TieredFunctionTranslator.getDelegate(tieredPredicate)).isNotSameAs(pythonImplementation);
+        assertThat(tieredPredicate.test(PythonString.valueOf("a"))).isTrue();
+        assertThat(tieredPredicate.test(PythonString.valueOf("b"))).isFalse();
+    }
+
+    @Test
+    public void testKeepsPythonImplementationIfTranslationFails() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a")
+                .loadParameter("a")
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.instructionList = List.of();
+        List<Runnable> pendingTaskList = new ArrayList<>();
+        Predicate<PythonString> pythonImplementation = value -> true;
+
+        Predicate<PythonString> tieredPredicate = TieredFunctionTranslator.translatePythonBytecodeInBackground(
+                pythonCompiledFunction, Predicate.class, List.of(PythonString.class), pythonImplementation,
+                pendingTaskList::add);
+        pendingTaskList.forEach(Runnable::run);
+
+        assertThat(TieredFunctionTranslator.getTranslation(tieredPredicate)).isCompletedWithValue(false);
+        assertThat(TieredFunctionTranslator.getDelegate(tieredPredicate)).isSameAs(pythonImplementation);
+        assertThat(tieredPredicate.test(PythonString.valueOf("a"))).isTrue();
+    }
+}
@@ -0,0 +1,114 @@
+package org.optaplanner.jpyinterpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+public class TranslatedClassCacheTest {
+    @TempDir
+    Path cacheDirectory;
+
+    @BeforeEach
+    public void enableCache() {
+        InterpreterStartupOptions.translatedClassCachePath = cacheDirectory;
+    }
+
+    @AfterEach
+    public void disableCache() {
+        InterpreterStartupOptions.translatedClassCachePath = null;
+    }
+
+    private long getCacheEntryCount() throws IOException {
+        try (Stream<Path> cacheEntries = Files.list(cacheDirectory)) {
+            return cacheEntries.count();
+        }
+    }
+
+    private static PythonCompiledFunction addConstantFunction(int constant) {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a")
+                .loadParameter("a")
+                .loadConstant(constant)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+        pythonCompiledFunction.qualifiedName = "TranslatedClassCacheTest.addConstant";
+        return pythonCompiledFunction;
+    }
+
+    /**
+     * Makes the next translation of {@code pythonCompiledFunction} reuse the class name of the last translation, as if
+     * it was translated in a new JVM.
+     */
+    private static void forgetLastTranslation(PythonCompiledFunction pythonCompiledFunction, Class<?> lastClass) {
+        String baseClassName = PythonBytecodeToJavaBytecodeTranslator.USER_PACKAGE_BASE +
+                pythonCompiledFunction.getGeneratedClassBaseName();
+        PythonBytecodeToJavaBytecodeTranslator.classNameToSharedInstanceCount.merge(baseClassName, -1, Integer::sum);
+        BuiltinTypes.classNameToBytecode.remove(lastClass.getName());
+    }
+
+    @Test
+    public void testCacheHit() throws IOException {
+        PythonCompiledFunction pythonCompiledFunction = addConstantFunction(1);
+        Class<?> translatedClass = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(
+                pythonCompiledFunction, PythonLikeFunction.class);
+        byte[] translatedBytecode = BuiltinTypes.classNameToBytecode.get(translatedClass.getName());
+        assertThat(getCacheEntryCount()).isEqualTo(1L);
+
+        forgetLastTranslation(pythonCompiledFunction, translatedClass);
+        Class<?> cachedClass = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecodeToClass(
+                pythonCompiledFunction, PythonLikeFunction.class);
+        assertThat(cachedClass.getName()).isEqualTo(translatedClass.getName());
+        assertThat(BuiltinTypes.classNameToBytecode.get(cachedClass.getName())).isEqualTo(translatedBytecode);
+        assertThat(getCacheEntryCount()).isEqualTo(1L);
+
+        PythonLikeFunction function =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction,
+                        PythonLikeFunction.class);
+        assertThat(function.$call(List.of(PythonInteger.valueOf(2)), Map.of(), null))
+                .isEqualTo(PythonInteger.valueOf(3));
+    }
+
+    @Test
+    public void testInterpreterBuildHash() {
+        // Hashes the interpreter's code, so the cache is not reused across builds (which share the same version)
+        assertThat(TranslatedClassCache.getInterpreterBuildHash()).matches("[0-9a-f]{64}");
+        assertThat(TranslatedClassCache.getInterpreterBuildHash()).isSameAs(TranslatedClassCache.getInterpreterBuildHash());
+    }
+
+    @Test
+    public void testCacheKey() {
+        String className = "org.jpyinterpreter.user.CacheKeyTest";
+        String key = TranslatedClassCache.getCacheKey(addConstantFunction(1), className, "signature");
+
+        assertThat(TranslatedClassCache.getCacheKey(addConstantFunction(1), className, "signature")).isEqualTo(key);
+        assertThat(TranslatedClassCache.getCacheKey(addConstantFunction(2), className, "signature")).isNotEqualTo(key);
+        assertThat(TranslatedClassCache.getCacheKey(addConstantFunction(1), className + "$$2", "signature"))
+                .isNotEqualTo(key);
+        assertThat(TranslatedClassCache.getCacheKey(addConstantFunction(1), className, "other signature"))
+                .isNotEqualTo(key);
+
+        PythonCompiledFunction withGlobal = addConstantFunction(1);
+        withGlobal.co_names = List.of("x");
+        withGlobal.globalsMap = Map.of("x", PythonInteger.valueOf(1));
+        String globalKey = TranslatedClassCache.getCacheKey(withGlobal, className, "signature");
+        withGlobal.globalsMap = Map.of("x", PythonInteger.valueOf(2));
+        assertThat(TranslatedClassCache.getCacheKey(withGlobal, className, "signature")).isEqualTo(globalKey);
+        withGlobal.globalsMap = Map.of("x", PythonString.valueOf("x"));
+        assertThat(TranslatedClassCache.getCacheKey(withGlobal, className, "signature")).isNotEqualTo(globalKey);
+    }
+}
@@ -17,6 +17,7 @@ import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
 import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.collections.FixedSizePythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
 import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
@@ -188,6 +189,38 @@ public class CollectionImplementorTest {
         assertThat(out).asList().containsExactly(1, 2, 3);
     }
 
+    @Test
+    public void testBuildTuple() {
+        PythonCompiledFunction smallTupleFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(1)
+                .loadConstant(2)
+                .loadConstant(3)
+                .tuple(3)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(smallTupleFunction, Supplier.class);
+        Object out = javaFunction.get();
+        assertThat(out).isInstanceOf(FixedSizePythonLikeTuple.class);
+        assertThat(out).asList().containsExactly(1, 2, 3);
+
+        PythonCompiledFunction largeTupleFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(1)
+                .loadConstant(2)
+                .loadConstant(3)
+                .loadConstant(4)
+                .loadConstant(5)
+                .tuple(5)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        javaFunction = PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(largeTupleFunction, Supplier.class);
+        out = javaFunction.get();
+        assertThat(out).isInstanceOf(PythonLikeTuple.class).isNotInstanceOf(FixedSizePythonLikeTuple.class);
+        assertThat(out).asList().containsExactly(1, 2, 3, 4, 5);
+    }
+
     @Test
     public void testUnpackSequence() {
         PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("sequence")
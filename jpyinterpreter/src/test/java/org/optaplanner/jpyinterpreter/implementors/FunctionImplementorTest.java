@@ -15,9 +15,11 @@ import org.optaplanner.jpyinterpreter.MyObject;
 import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
 import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
 import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
 import org.optaplanner.jpyinterpreter.types.PythonCode;
 import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
 import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
 import org.optaplanner.jpyinterpreter.types.wrappers.JavaMethodReference;
 import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
 
@@ -142,6 +144,56 @@ public class FunctionImplementorTest {
         assertThat(javaFunction.apply(object)).isEqualTo("My name is awesome!");
     }
 
+    @Test
+    public void testCallFunctionWithFixedArity() {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("function")
+                .loadParameter("function")
+                .loadConstant(1)
+                .loadConstant(2)
+                .callFunction(2)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Function javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Function.class);
+        PythonLikeFunction pythonLikeFunction = new PythonLikeFunction() {
+            @Override
+            public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                    Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public PythonLikeObject $call2(PythonLikeObject arg0, PythonLikeObject arg1) {
+                return ((PythonInteger) arg0).subtract((PythonInteger) arg1);
+            }
+        };
+        assertThat(javaFunction.apply(pythonLikeFunction)).isEqualTo(-1);
+    }
+
+    @Test
+    public void testFixedArityEntryPoint() throws NoSuchMethodException {
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction("a", "b")
+                .loadParameter("a")
+                .loadParameter("b")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        PythonLikeFunction function =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction,
+                        PythonLikeFunction.class);
+        assertThat(function.getClass().getMethod("$call2", PythonLikeObject.class, PythonLikeObject.class)
+                .getDeclaringClass()).isEqualTo(function.getClass());
+
+        PythonInteger a = PythonInteger.valueOf(5);
+        PythonInteger b = PythonInteger.valueOf(3);
+        assertThat(function.$call2(a, b)).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(function.$call(List.of(a, b), Map.of(), null)).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(function.$call(List.of(a), Map.of(PythonString.valueOf("b"), b), null))
+                .isEqualTo(PythonInteger.valueOf(2));
+    }
+
     @Test
     public void testMakeFunction() {
         PythonCompiledFunction dependentFunction = PythonFunctionBuilder.newFunction()
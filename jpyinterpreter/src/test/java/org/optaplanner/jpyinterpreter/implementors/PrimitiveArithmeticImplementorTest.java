@@ -0,0 +1,82 @@
+package org.optaplanner.jpyinterpreter.implementors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
+import org.optaplanner.jpyinterpreter.PythonBytecodeToJavaBytecodeTranslator;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class PrimitiveArithmeticImplementorTest {
+
+    private Supplier getPolynomialFunction(Object x, Object y) {
+        // x * y + y - x
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(x)
+                .storeVariable("x")
+                .loadConstant(y)
+                .storeVariable("y")
+                .loadVariable("x")
+                .loadVariable("y")
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadVariable("y")
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .loadVariable("x")
+                .op(OpcodeIdentifier.BINARY_SUBTRACT)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        return PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+    }
+
+    @Test
+    public void testIntRun() {
+        assertThat(getPolynomialFunction(3L, 4L).get()).isEqualTo(13L);
+        assertThat(getPolynomialFunction(-3L, 4L).get()).isEqualTo(-5L);
+    }
+
+    @Test
+    public void testFloatRun() {
+        assertThat(getPolynomialFunction(2.5d, 4.0d).get()).isEqualTo(11.5d);
+    }
+
+    @Test
+    public void testMixedRun() {
+        assertThat(getPolynomialFunction(2.5d, 4L).get()).isEqualTo(11.5d);
+        assertThat(getPolynomialFunction(3L, 0.5d).get()).isEqualTo(-1.0d);
+    }
+
+    @Test
+    public void testIntRunOverflow() {
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        assertThat(getPolynomialFunction(Long.MAX_VALUE, Long.MAX_VALUE).get())
+                .isEqualTo(PythonInteger.valueOf(max.multiply(max)));
+        assertThat(getPolynomialFunction(Long.MIN_VALUE, -1L).get())
+                .isEqualTo(PythonInteger.valueOf(BigInteger.TWO.pow(64).subtract(BigInteger.ONE)));
+    }
+
+    @Test
+    public void testRunWithConstants() {
+        // x * 2 + 1
+        PythonCompiledFunction pythonCompiledFunction = PythonFunctionBuilder.newFunction()
+                .loadConstant(20L)
+                .storeVariable("x")
+                .loadVariable("x")
+                .loadConstant(2L)
+                .op(OpcodeIdentifier.BINARY_MULTIPLY)
+                .loadConstant(1.5d)
+                .op(OpcodeIdentifier.BINARY_ADD)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        Supplier javaFunction =
+                PythonBytecodeToJavaBytecodeTranslator.translatePythonBytecode(pythonCompiledFunction, Supplier.class);
+        assertThat(javaFunction.get()).isEqualTo(41.5d);
+    }
+}
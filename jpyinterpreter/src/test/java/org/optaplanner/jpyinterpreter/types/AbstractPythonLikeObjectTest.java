@@ -0,0 +1,73 @@
+package org.optaplanner.jpyinterpreter.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.errors.AttributeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class AbstractPythonLikeObjectTest {
+    private static final PythonLikeType TEST_TYPE = new PythonLikeType("Test", AbstractPythonLikeObject.class);
+
+    private static PythonLikeObject newInstance() {
+        return new AbstractPythonLikeObject(TEST_TYPE) {
+        };
+    }
+
+    @Test
+    public void testAttributes() {
+        PythonLikeObject object = newInstance();
+        assertThat(object.__getAttributeOrNull("a")).isNull();
+
+        object.__setAttribute("a", PythonInteger.valueOf(1));
+        object.__setAttribute("b", PythonInteger.valueOf(2));
+        assertThat(object.__getAttributeOrNull("a")).isEqualTo(PythonInteger.valueOf(1));
+        assertThat(object.__getAttributeOrNull("b")).isEqualTo(PythonInteger.valueOf(2));
+
+        object.__setAttribute("a", PythonInteger.valueOf(3));
+        assertThat(object.__getAttributeOrNull("a")).isEqualTo(PythonInteger.valueOf(3));
+        assertThat(object.__getAttributeOrNull("c")).isNull();
+    }
+
+    @Test
+    public void testSameAttributeOrderSharesShape() {
+        ObjectShape shape = ObjectShape.EMPTY.withAttribute("a").withAttribute("b");
+        assertThat(ObjectShape.EMPTY.withAttribute("a").withAttribute("b")).isSameAs(shape);
+        assertThat(ObjectShape.EMPTY.withAttribute("b").withAttribute("a")).isNotSameAs(shape);
+        assertThat(shape.getSlot("a")).isEqualTo(0);
+        assertThat(shape.getSlot("b")).isEqualTo(1);
+        assertThat(shape.getSlot("c")).isEqualTo(-1);
+        assertThat(shape.getSlotCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDeleteAttribute() {
+        PythonLikeObject object = newInstance();
+        object.__setAttribute("a", PythonInteger.valueOf(1));
+        object.__setAttribute("b", PythonInteger.valueOf(2));
+
+        assertThatThrownBy(() -> object.__deleteAttribute("c")).isInstanceOf(AttributeError.class);
+        assertThatCode(() -> object.__deleteAttribute("a")).doesNotThrowAnyException();
+        assertThat(object.__getAttributeOrNull("a")).isNull();
+        assertThat(object.__getAttributeOrNull("b")).isEqualTo(PythonInteger.valueOf(2));
+        assertThatThrownBy(() -> object.__deleteAttribute("a")).isInstanceOf(AttributeError.class);
+
+        object.__setAttribute("a", PythonInteger.valueOf(3));
+        assertThat(object.__getAttributeOrNull("a")).isEqualTo(PythonInteger.valueOf(3));
+    }
+
+    @Test
+    public void testManyAttributes() {
+        PythonLikeObject object = newInstance();
+        int attributeCount = ObjectShape.MAX_SLOTS * 2;
+        for (int i = 0; i < attributeCount; i++) {
+            object.__setAttribute("attribute" + i, PythonInteger.valueOf(i));
+        }
+        for (int i = 0; i < attributeCount; i++) {
+            assertThat(object.__getAttributeOrNull("attribute" + i)).isEqualTo(PythonInteger.valueOf(i));
+        }
+    }
+}
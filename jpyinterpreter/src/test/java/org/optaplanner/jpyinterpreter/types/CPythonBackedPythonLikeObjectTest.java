@@ -0,0 +1,151 @@
+package org.optaplanner.jpyinterpreter.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
+import org.optaplanner.jpyinterpreter.OpcodeIdentifier;
+import org.optaplanner.jpyinterpreter.PythonClassTranslator;
+import org.optaplanner.jpyinterpreter.PythonCompiledClass;
+import org.optaplanner.jpyinterpreter.PythonCompiledFunction;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.jpyinterpreter.util.PythonFunctionBuilder;
+import org.optaplanner.jpyinterpreter.util.function.TriConsumer;
+import org.optaplanner.jpyinterpreter.util.function.TriFunction;
+
+public class CPythonBackedPythonLikeObjectTest {
+    private static class FakePythonObject implements OpaquePythonReference {
+        final Map<String, PythonLikeObject> attributeMap = new HashMap<>();
+    }
+
+    private TriFunction<OpaquePythonReference, String[], Map<Number, PythonLikeObject>, PythonLikeObject[]> oldLookupAttributes;
+    private TriFunction<OpaquePythonReference[], String[][], List<Map<Number, PythonLikeObject>>, PythonLikeObject[][]> oldLookupAttributesBatch;
+    private TriConsumer<OpaquePythonReference, String[], Object[]> oldSetAttributes;
+    private int pythonCallCount;
+
+    private static PythonLikeObject[] getAttributes(OpaquePythonReference reference, String[] attributeNames) {
+        FakePythonObject pythonObject = (FakePythonObject) reference;
+        return Arrays.stream(attributeNames).map(pythonObject.attributeMap::get).toArray(PythonLikeObject[]::new);
+    }
+
+    @BeforeEach
+    public void stubPythonFunctions() {
+        oldLookupAttributes = CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferenceWithMapPythonFunction;
+        oldLookupAttributesBatch = CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferencesWithMapPythonFunction;
+        oldSetAttributes = CPythonBackedPythonInterpreter.setAttributesOnPythonReferencePythonFunction;
+
+        pythonCallCount = 0;
+        CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferenceWithMapPythonFunction =
+                (reference, attributeNames, instanceMap) -> {
+                    pythonCallCount++;
+                    return getAttributes(reference, attributeNames);
+                };
+        CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferencesWithMapPythonFunction =
+                (references, attributeNames, instanceMaps) -> {
+                    pythonCallCount++;
+                    PythonLikeObject[][] out = new PythonLikeObject[references.length][];
+                    for (int i = 0; i < references.length; i++) {
+                        out[i] = getAttributes(references[i], attributeNames[i]);
+                    }
+                    return out;
+                };
+        CPythonBackedPythonInterpreter.setAttributesOnPythonReferencePythonFunction =
+                (reference, attributeNames, values) -> {
+                    pythonCallCount++;
+                    for (int i = 0; i < attributeNames.length; i++) {
+                        ((FakePythonObject) reference).attributeMap.put(attributeNames[i], (PythonLikeObject) values[i]);
+                    }
+                };
+    }
+
+    @AfterEach
+    public void restorePythonFunctions() {
+        CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferenceWithMapPythonFunction = oldLookupAttributes;
+        CPythonBackedPythonInterpreter.lookupAttributesOnPythonReferencesWithMapPythonFunction = oldLookupAttributesBatch;
+        CPythonBackedPythonInterpreter.setAttributesOnPythonReferencePythonFunction = oldSetAttributes;
+    }
+
+    private static PythonLikeType translatePointClass() {
+        PythonCompiledFunction initFunction = PythonFunctionBuilder.newFunction("self", "x", "y")
+                .loadParameter("x")
+                .loadParameter("self")
+                .storeAttribute("x")
+                .loadParameter("y")
+                .loadParameter("self")
+                .storeAttribute("y")
+                .loadConstant(null)
+                .op(OpcodeIdentifier.RETURN_VALUE)
+                .build();
+
+        PythonCompiledClass compiledClass = new PythonCompiledClass();
+        compiledClass.className = "Point";
+        compiledClass.superclassList = List.of(CPythonBackedPythonLikeObject.CPYTHON_BACKED_OBJECT_TYPE);
+        compiledClass.staticAttributeNameToObject = Map.of();
+        compiledClass.staticAttributeNameToClassInstance = Map.of();
+        compiledClass.typeAnnotations = Map.of("x", BuiltinTypes.INT_TYPE, "y", BuiltinTypes.INT_TYPE);
+        compiledClass.instanceFunctionNameToPythonBytecode = Map.of("__init__", initFunction);
+        compiledClass.staticFunctionNameToPythonBytecode = Map.of();
+        compiledClass.classFunctionNameToPythonBytecode = Map.of();
+        return PythonClassTranslator.translatePythonClass(compiledClass);
+    }
+
+    private static CPythonBackedPythonLikeObject newPoint(PythonLikeType pointType, FakePythonObject pythonObject) {
+        CPythonBackedPythonLikeObject out = (CPythonBackedPythonLikeObject) pointType.$call(
+                List.of(PythonInteger.valueOf(0), PythonInteger.valueOf(0)), Map.of(), null);
+        out.$setCPythonReference(pythonObject);
+        return out;
+    }
+
+    @Test
+    public void testReadAndWriteFieldsInSingleCall() {
+        PythonLikeType pointType = translatePointClass();
+        FakePythonObject pythonObject = new FakePythonObject();
+        pythonObject.attributeMap.put("x", PythonInteger.valueOf(1));
+        pythonObject.attributeMap.put("y", PythonNone.INSTANCE);
+        CPythonBackedPythonLikeObject point = newPoint(pointType, pythonObject);
+
+        assertThat(point.$getCPythonAttributeNames()).containsExactlyInAnyOrder("x", "y");
+
+        point.$readFieldsFromCPythonReference();
+        assertThat(pythonCallCount).isEqualTo(1);
+        assertThat(point.__getAttributeOrNull("x")).isEqualTo(PythonInteger.valueOf(1));
+
+        point.__setAttribute("x", PythonInteger.valueOf(2));
+        point.__setAttribute("y", PythonInteger.valueOf(3));
+        point.$writeFieldsToCPythonReference();
+        assertThat(pythonCallCount).isEqualTo(2);
+        assertThat(pythonObject.attributeMap.get("x")).isEqualTo(PythonInteger.valueOf(2));
+        assertThat(pythonObject.attributeMap.get("y")).isEqualTo(PythonInteger.valueOf(3));
+    }
+
+    @Test
+    public void testReadFieldsOfManyObjectsInSingleCall() {
+        PythonLikeType pointType = translatePointClass();
+        List<CPythonBackedPythonLikeObject> pointList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            FakePythonObject pythonObject = new FakePythonObject();
+            pythonObject.attributeMap.put("x", PythonInteger.valueOf(i));
+            pythonObject.attributeMap.put("y", PythonInteger.valueOf(-i));
+            pointList.add(newPoint(pointType, pythonObject));
+        }
+        pointList.add(newPoint(pointType, null));
+
+        CPythonBackedPythonInterpreter.readFieldsFromCPythonReferences(pointList);
+        assertThat(pythonCallCount).isEqualTo(1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(pointList.get(i).__getAttributeOrNull("x")).isEqualTo(PythonInteger.valueOf(i));
+            assertThat(pointList.get(i).__getAttributeOrNull("y")).isEqualTo(PythonInteger.valueOf(-i));
+        }
+        assertThat(pointList.get(10).__getAttributeOrNull("x")).isEqualTo(PythonInteger.valueOf(0));
+    }
+}
@@ -0,0 +1,49 @@
+package org.optaplanner.jpyinterpreter.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonLikeFunctionTest {
+    private static class RecordingFunction implements PythonLikeFunction {
+        List<PythonLikeObject> positionalArguments;
+        Map<PythonString, PythonLikeObject> namedArguments;
+
+        @Override
+        public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+            this.positionalArguments = new ArrayList<>(positionalArguments);
+            this.namedArguments = namedArguments;
+            // Looking up a missing keyword, as argument specs do, must not throw
+            return namedArguments.containsKey(null) ? PythonInteger.ONE : PythonInteger.ZERO;
+        }
+    }
+
+    @Test
+    public void testFixedArityCallsAllowNullArguments() {
+        RecordingFunction function = new RecordingFunction();
+        PythonInteger one = PythonInteger.valueOf(1);
+
+        assertThat(function.$call0()).isEqualTo(PythonInteger.ZERO);
+        assertThat(function.positionalArguments).isEmpty();
+        assertThat(function.namedArguments).isEmpty();
+
+        function.$call1(null);
+        assertThat(function.positionalArguments).containsExactly((PythonLikeObject) null);
+
+        function.$call2(one, null);
+        assertThat(function.positionalArguments).containsExactly(one, null);
+
+        function.$call3(null, one, null);
+        assertThat(function.positionalArguments).containsExactly(null, one, null);
+
+        assertThat(function.$call4(one, null, one, null)).isEqualTo(PythonInteger.ZERO);
+        assertThat(function.positionalArguments).containsExactly(one, null, one, null);
+    }
+}
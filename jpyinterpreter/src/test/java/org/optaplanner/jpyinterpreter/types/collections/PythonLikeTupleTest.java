@@ -0,0 +1,99 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonLikeTupleTest {
+
+    private static List<PythonLikeObject> items(int count) {
+        List<PythonLikeObject> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            out.add(PythonInteger.valueOf(i));
+        }
+        return out;
+    }
+
+    private static PythonLikeTuple generalTuple(List<PythonLikeObject> items) {
+        PythonLikeTuple out = new PythonLikeTuple();
+        out.addAll(items);
+        return out;
+    }
+
+    @Test
+    public void testFromListSpecializesSmallTuples() {
+        assertThat(PythonLikeTuple.fromList(items(0))).isSameAs(PythonLikeTuple.EMPTY);
+        assertThat(PythonLikeTuple.fromList(items(1))).isInstanceOf(FixedSizePythonLikeTuple.Tuple1.class);
+        assertThat(PythonLikeTuple.fromList(items(2))).isInstanceOf(FixedSizePythonLikeTuple.Tuple2.class);
+        assertThat(PythonLikeTuple.fromList(items(3))).isInstanceOf(FixedSizePythonLikeTuple.Tuple3.class);
+        assertThat(PythonLikeTuple.fromList(items(4))).isInstanceOf(FixedSizePythonLikeTuple.Tuple4.class);
+        assertThat(PythonLikeTuple.fromList(items(5))).isNotInstanceOf(FixedSizePythonLikeTuple.class);
+    }
+
+    @Test
+    public void testSpecializedTuplesMatchGeneralTuples() {
+        for (int size = 0; size <= FixedSizePythonLikeTuple.MAX_SIZE; size++) {
+            List<PythonLikeObject> items = items(size);
+            PythonLikeTuple specialized = PythonLikeTuple.fromList(items);
+            PythonLikeTuple general = generalTuple(items);
+
+            assertThat(specialized).isEqualTo(general).isEqualTo(items);
+            assertThat(general).isEqualTo(specialized);
+            assertThat(specialized.hashCode()).isEqualTo(general.hashCode()).isEqualTo(31 + items.hashCode());
+            assertThat(specialized.toString()).isEqualTo(general.toString()).isEqualTo(items.toString());
+            assertThat(new ArrayList<>(specialized)).isEqualTo(items);
+            assertThat(specialized.getLength()).isEqualTo(PythonInteger.valueOf(size));
+            assertThat(specialized.getSlice(new PythonSlice(PythonInteger.valueOf(1), PythonInteger.valueOf(size),
+                    PythonInteger.ONE))).isEqualTo(items.subList(Math.min(1, size), size));
+        }
+    }
+
+    @Test
+    public void testSpecializedTuplesAreImmutable() {
+        PythonLikeTuple tuple = PythonLikeTuple.of(PythonInteger.ONE, PythonInteger.TWO);
+        assertThat(tuple.get(1)).isEqualTo(PythonInteger.TWO);
+        assertThat(tuple.indexOf(PythonInteger.TWO)).isEqualTo(1);
+        assertThatCode(() -> tuple.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> tuple.add(PythonInteger.ZERO)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> tuple.set(0, PythonInteger.ZERO)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> tuple.subList(0, 1).clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(tuple).containsExactly(PythonInteger.ONE, PythonInteger.TWO);
+    }
+
+    @Test
+    public void testSliceIsView() {
+        PythonLikeTuple tuple = generalTuple(items(10));
+        PythonLikeTuple tail = tuple.getSlice(new PythonSlice(PythonInteger.valueOf(2), PythonInteger.valueOf(9),
+                PythonInteger.ONE));
+        assertThat(tail).isEqualTo(items(10).subList(2, 9));
+        assertThat(tail.hashCode()).isEqualTo(31 + items(10).subList(2, 9).hashCode());
+        assertThatCode(() -> tail.add(PythonInteger.ZERO)).isInstanceOf(UnsupportedOperationException.class);
+
+        PythonLikeTuple small = tuple.getSlice(new PythonSlice(PythonInteger.valueOf(-3), PythonInteger.valueOf(100),
+                PythonInteger.ONE));
+        assertThat(small).isInstanceOf(FixedSizePythonLikeTuple.Tuple3.class);
+        assertThat(small).isEqualTo(items(10).subList(7, 10));
+    }
+
+    @Test
+    public void testMutatorsResetCachedHash() {
+        PythonLikeTuple tuple = generalTuple(items(6));
+        int hashBefore = tuple.hashCode();
+        assertThat(tuple.hashCode()).isEqualTo(hashBefore);
+
+        tuple.add(PythonInteger.valueOf(6));
+        assertThat(tuple.hashCode()).isEqualTo(31 + items(7).hashCode());
+
+        tuple.set(0, PythonInteger.valueOf(100));
+        List<PythonLikeObject> expected = items(7);
+        expected.set(0, PythonInteger.valueOf(100));
+        assertThat(tuple.hashCode()).isEqualTo(31 + expected.hashCode());
+    }
+}
@@ -0,0 +1,219 @@
+package org.optaplanner.jpyinterpreter.types.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.PythonNone;
+import org.optaplanner.jpyinterpreter.types.PythonSlice;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class StrategyListTest {
+
+    @Test
+    public void testStrategyFollowsItems() {
+        StrategyList list = new StrategyList();
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.EMPTY);
+
+        list.add(PythonInteger.valueOf(1));
+        list.add(PythonInteger.valueOf(2));
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.INT);
+
+        // bool is an int in Python, but not an int that can be stored unboxed
+        list.add(PythonBoolean.TRUE);
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        assertThat(list).containsExactly(PythonInteger.valueOf(1), PythonInteger.valueOf(2), PythonBoolean.TRUE);
+        assertThat(list.get(2)).isSameAs(PythonBoolean.TRUE);
+
+        list.clear();
+        list.add(PythonFloat.valueOf(1.5));
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.FLOAT);
+        list.set(0, PythonInteger.valueOf(new BigInteger("100000000000000000000")));
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        assertThat(list).containsExactly(PythonInteger.valueOf(new BigInteger("100000000000000000000")));
+    }
+
+    @Test
+    public void testMatchesArrayList() {
+        Random random = new Random(0);
+        StrategyList list = new StrategyList();
+        List<Object> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            PythonLikeObject item = (i < 4_000) ? PythonInteger.valueOf(random.nextInt(100))
+                    : PythonString.valueOf("s" + random.nextInt(100));
+            int index = expected.isEmpty() ? 0 : random.nextInt(expected.size());
+            switch (random.nextInt(5)) {
+                case 0:
+                    list.add(index, item);
+                    expected.add(index, item);
+                    break;
+                case 1:
+                    if (!expected.isEmpty()) {
+                        assertThat(list.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        assertThat(list.set(index, item)).isEqualTo(expected.set(index, item));
+                    }
+                    break;
+                default:
+                    list.add(item);
+                    expected.add(item);
+                    break;
+            }
+            if (i == 3_999) {
+                assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.INT);
+            }
+        }
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        assertThat(list).isEqualTo(expected);
+        for (int i = 0; i < 100; i++) {
+            PythonInteger item = PythonInteger.valueOf(i);
+            assertThat(list.indexOf(item)).isEqualTo(expected.indexOf(item));
+            assertThat(list.lastIndexOf(item)).isEqualTo(expected.lastIndexOf(item));
+        }
+
+        list.subList(10, 20).clear();
+        expected.subList(10, 20).clear();
+        assertThat(list).isEqualTo(expected);
+    }
+
+    @Test
+    public void testSpecialize() {
+        StrategyList list = StrategyList.ofNulls(3);
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        list.set(2, PythonInteger.valueOf(3));
+        list.set(1, PythonInteger.valueOf(2));
+        list.set(0, PythonInteger.valueOf(1));
+        list.specialize();
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.INT);
+        assertThat(list).containsExactly(PythonInteger.valueOf(1), PythonInteger.valueOf(2), PythonInteger.valueOf(3));
+
+        PythonLikeList<PythonLikeObject> mixed = new PythonLikeList<>(2);
+        mixed.reverseAdd(PythonString.valueOf("a"));
+        mixed.reverseAdd(PythonInteger.valueOf(1));
+        assertThat(((StrategyList) mixed.getDelegate()).getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        assertThat(mixed).containsExactly(PythonInteger.valueOf(1), PythonString.valueOf("a"));
+    }
+
+    @Test
+    public void testAddAllCopiesStorage() {
+        PythonLikeList<PythonLikeObject> source = new PythonLikeList<>();
+        for (int i = 0; i < 20; i++) {
+            source.add(PythonFloat.valueOf(i / 2.0));
+        }
+        PythonLikeList<PythonLikeObject> copy = source.copy();
+        assertThat(((StrategyList) copy.getDelegate()).getStrategy()).isEqualTo(StrategyList.Strategy.FLOAT);
+        assertThat(copy).isEqualTo(source);
+
+        copy.addAll(source);
+        copy.add(PythonInteger.ONE);
+        assertThat(((StrategyList) copy.getDelegate()).getStrategy()).isEqualTo(StrategyList.Strategy.OBJECT);
+        assertThat(copy).hasSize(41);
+        assertThat(copy.get(39)).isEqualTo(PythonFloat.valueOf(9.5));
+    }
+
+    @Test
+    public void testSumMinMax() {
+        StrategyList ints = new StrategyList();
+        ints.add(PythonInteger.valueOf(Long.MAX_VALUE));
+        ints.add(PythonInteger.valueOf(-5));
+        ints.add(PythonInteger.valueOf(10));
+        assertThat(ints.sum(PythonInteger.ONE)).isEqualTo(PythonInteger.valueOf(
+                BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(6))));
+        assertThat(ints.sum(PythonFloat.valueOf(1.0))).isNull();
+        assertThat(ints.min()).isEqualTo(PythonInteger.valueOf(-5));
+        assertThat(ints.max()).isEqualTo(PythonInteger.valueOf(Long.MAX_VALUE));
+
+        StrategyList floats = new StrategyList();
+        floats.add(PythonFloat.valueOf(0.5));
+        floats.add(PythonFloat.valueOf(-2.0));
+        assertThat(floats.sum(PythonInteger.ONE)).isEqualTo(PythonFloat.valueOf(-0.5));
+        assertThat(floats.min()).isEqualTo(PythonFloat.valueOf(-2.0));
+        assertThat(floats.max()).isEqualTo(PythonFloat.valueOf(0.5));
+
+        StrategyList objects = new StrategyList();
+        objects.add(PythonString.valueOf("a"));
+        assertThat(objects.sum(PythonInteger.ZERO)).isNull();
+        assertThat(objects.min()).isNull();
+        assertThat(new StrategyList().max()).isNull();
+    }
+
+    @Test
+    public void testSliceIsCopyOnWrite() {
+        StrategyList list = new StrategyList();
+        for (int i = 0; i < 10; i++) {
+            list.add(PythonInteger.valueOf(i));
+        }
+        StrategyList slice = list.slice(2, 6);
+        StrategyList sliceOfSlice = slice.slice(1, 3);
+        assertThat(slice).containsExactly(PythonInteger.valueOf(2), PythonInteger.valueOf(3), PythonInteger.valueOf(4),
+                PythonInteger.valueOf(5));
+        assertThat(sliceOfSlice).containsExactly(PythonInteger.valueOf(3), PythonInteger.valueOf(4));
+        assertThat(slice.indexOf(PythonInteger.valueOf(4))).isEqualTo(2);
+        assertThat(slice.sum(PythonInteger.ZERO)).isEqualTo(PythonInteger.valueOf(14));
+        assertThat(slice.max()).isEqualTo(PythonInteger.valueOf(5));
+
+        // Writes to the parent are not seen by the slices, and writes to a slice are not seen by the parent
+        list.set(3, PythonInteger.valueOf(100));
+        slice.add(PythonString.valueOf("a"));
+        sliceOfSlice.remove(0);
+        assertThat(list.get(3)).isEqualTo(PythonInteger.valueOf(100));
+        assertThat(list).hasSize(10);
+        assertThat(slice).containsExactly(PythonInteger.valueOf(2), PythonInteger.valueOf(3), PythonInteger.valueOf(4),
+                PythonInteger.valueOf(5), PythonString.valueOf("a"));
+        assertThat(sliceOfSlice).containsExactly(PythonInteger.valueOf(4));
+
+        StrategyList copy = new StrategyList();
+        copy.addAll(list.slice(8, 10));
+        assertThat(copy).containsExactly(PythonInteger.valueOf(8), PythonInteger.valueOf(9));
+        assertThat(list.slice(4, 4)).isEmpty();
+    }
+
+    @Test
+    public void testListGetSlice() {
+        PythonLikeList<PythonLikeObject> list = new PythonLikeList<>();
+        for (int i = 0; i < 5; i++) {
+            list.add(PythonInteger.valueOf(i));
+        }
+        PythonLikeList<PythonLikeObject> tail =
+                list.getSlice(new PythonSlice(PythonInteger.valueOf(-100), PythonNone.INSTANCE, PythonNone.INSTANCE));
+        assertThat(tail).isEqualTo(list);
+        tail.append(PythonInteger.valueOf(5));
+        assertThat(list).hasSize(5);
+
+        assertThat(list.getSlice(new PythonSlice(PythonInteger.valueOf(3), PythonInteger.ONE, PythonNone.INSTANCE)))
+                .isEmpty();
+        assertThat(list.getSlice(new PythonSlice(PythonInteger.valueOf(-2), PythonNone.INSTANCE, PythonNone.INSTANCE)))
+                .containsExactly(PythonInteger.valueOf(3), PythonInteger.valueOf(4));
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void testSort() {
+        // Raw, like the comparators sorted() uses
+        Comparator naturalOrder = Comparator.naturalOrder();
+        Comparator reverseOrder = Comparator.reverseOrder();
+        StrategyList list = new StrategyList();
+        for (int i : new int[] { 3, -1, 2, 2, 10 }) {
+            list.add(PythonInteger.valueOf(i));
+        }
+        list.sort(naturalOrder);
+        assertThat(list).containsExactly(PythonInteger.valueOf(-1), PythonInteger.valueOf(2), PythonInteger.valueOf(2),
+                PythonInteger.valueOf(3), PythonInteger.valueOf(10));
+        list.sort(reverseOrder);
+        assertThat(list).containsExactly(PythonInteger.valueOf(10), PythonInteger.valueOf(3), PythonInteger.valueOf(2),
+                PythonInteger.valueOf(2), PythonInteger.valueOf(-1));
+        assertThat(list.getStrategy()).isEqualTo(StrategyList.Strategy.INT);
+    }
+}
@@ -0,0 +1,85 @@
+package org.optaplanner.jpyinterpreter.types.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeTuple;
+
+public class PythonIntegerTest {
+    private static final PythonInteger MAX_LONG = PythonInteger.valueOf(Long.MAX_VALUE);
+    private static final PythonInteger MIN_LONG = PythonInteger.valueOf(Long.MIN_VALUE);
+
+    private static PythonInteger big(String value) {
+        return PythonInteger.valueOf(new BigInteger(value));
+    }
+
+    @Test
+    public void testSmallValuesAreNotBackedByBigInteger() {
+        assertThat(PythonInteger.valueOf(1).isSmall()).isTrue();
+        assertThat(MAX_LONG.isSmall()).isTrue();
+        assertThat(MIN_LONG.isSmall()).isTrue();
+        assertThat(PythonInteger.valueOf(BigInteger.TEN).isSmall()).isTrue();
+        assertThat(big("9223372036854775808").isSmall()).isFalse();
+    }
+
+    @Test
+    public void testOverflowPromotesToBigInteger() {
+        assertThat(MAX_LONG.add(PythonInteger.ONE)).isEqualTo(big("9223372036854775808"));
+        assertThat(MIN_LONG.subtract(PythonInteger.ONE)).isEqualTo(big("-9223372036854775809"));
+        assertThat(MAX_LONG.multiply(PythonInteger.TWO)).isEqualTo(big("18446744073709551614"));
+        assertThat(MIN_LONG.negative()).isEqualTo(big("9223372036854775808"));
+        assertThat(MIN_LONG.abs()).isEqualTo(big("9223372036854775808"));
+        assertThat(PythonInteger.TWO.power(PythonInteger.valueOf(64))).isEqualTo(big("18446744073709551616"));
+        assertThat(PythonInteger.ONE.shiftLeft(PythonInteger.valueOf(63))).isEqualTo(big("9223372036854775808"));
+        assertThat(MIN_LONG.floorDivide(PythonInteger.valueOf(-1))).isEqualTo(big("9223372036854775808"));
+    }
+
+    @Test
+    public void testDemotesToLongWhenResultFits() {
+        PythonInteger result = MAX_LONG.add(PythonInteger.ONE).subtract(PythonInteger.ONE);
+        assertThat(result.isSmall()).isTrue();
+        assertThat(result).isEqualTo(MAX_LONG);
+    }
+
+    @Test
+    public void testSmallArithmetic() {
+        PythonInteger seven = PythonInteger.valueOf(7);
+        PythonInteger minusTwo = PythonInteger.valueOf(-2);
+
+        assertThat(seven.add(minusTwo)).isEqualTo(PythonInteger.valueOf(5));
+        assertThat(seven.subtract(minusTwo)).isEqualTo(PythonInteger.valueOf(9));
+        assertThat(seven.multiply(minusTwo)).isEqualTo(PythonInteger.valueOf(-14));
+        assertThat(seven.modulo(minusTwo)).isEqualTo(PythonInteger.valueOf(-1));
+        assertThat(seven.negative().modulo(PythonInteger.TWO)).isEqualTo(PythonInteger.ONE);
+        assertThat(seven.divmod(minusTwo))
+                .isEqualTo(PythonLikeTuple.fromList(List.of(PythonInteger.valueOf(-4), PythonInteger.valueOf(-1))));
+        assertThat(minusTwo.power(PythonInteger.valueOf(3))).isEqualTo(PythonInteger.valueOf(-8));
+        assertThat(minusTwo.shiftRight(PythonInteger.valueOf(100))).isEqualTo(PythonInteger.valueOf(-1));
+        assertThat(seven.invert()).isEqualTo(PythonInteger.valueOf(-8));
+        assertThat(seven.bitwiseXor(minusTwo)).isEqualTo(PythonInteger.valueOf(7 ^ -2));
+    }
+
+    @Test
+    public void testMixedRepresentationComparison() {
+        PythonInteger large = big("100000000000000000000");
+        assertThat(large.greaterThan(MAX_LONG)).isEqualTo(PythonBoolean.TRUE);
+        assertThat(MIN_LONG.lessThan(large.negative())).isEqualTo(PythonBoolean.FALSE);
+        assertThat(large.equal(MAX_LONG)).isEqualTo(PythonBoolean.FALSE);
+        assertThat(large.compareTo(large.add(PythonInteger.ZERO))).isEqualTo(0);
+    }
+
+    @Test
+    public void testHashMatchesBigIntegerComputation() {
+        for (PythonInteger value : new PythonInteger[] {
+                PythonInteger.ZERO, PythonInteger.valueOf(-1), PythonInteger.valueOf(12345),
+                PythonInteger.valueOf((1L << 61) - 1), PythonInteger.valueOf(1L << 61), MAX_LONG,
+                PythonInteger.valueOf(-(1L << 62)), MIN_LONG.add(PythonInteger.ONE) }) {
+            assertThat(value.$method$__hash__()).isEqualTo(PythonNumber.computeHash(value, PythonInteger.ONE));
+        }
+        assertThat(PythonInteger.valueOf(-1).$method$__hash__()).isEqualTo(PythonInteger.valueOf(-2));
+        assertThat(PythonInteger.valueOf(2).hashCode()).isEqualTo(PythonFloat.valueOf(2.0).hashCode());
+    }
+}
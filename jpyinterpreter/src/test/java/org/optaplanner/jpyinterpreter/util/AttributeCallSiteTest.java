@@ -0,0 +1,205 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Type;
+import org.optaplanner.jpyinterpreter.FieldDescriptor;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.AbstractPythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.errors.AttributeError;
+
+public class AttributeCallSiteTest {
+    private static final MethodType CALL_SITE_TYPE = MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class);
+
+    private static MethodHandle loadMethod(String name) {
+        return AttributeCallSite.bootstrapLoadMethod(MethodHandles.lookup(), "loadMethod", CALL_SITE_TYPE, name)
+                .dynamicInvoker();
+    }
+
+    private static MethodHandle loadAttribute(String name) {
+        return AttributeCallSite.bootstrapLoadAttribute(MethodHandles.lookup(), "loadAttribute", CALL_SITE_TYPE, name)
+                .dynamicInvoker();
+    }
+
+    private static PythonLikeObject newInstance(PythonLikeType type) {
+        return new AbstractPythonLikeObject(type) {
+        };
+    }
+
+    private static PythonLikeFunction newFunction() {
+        return new PythonLikeFunction() {
+            @Override
+            public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                    Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+                return null;
+            }
+
+            @Override
+            public PythonLikeType __getType() {
+                return BuiltinTypes.FUNCTION_TYPE;
+            }
+        };
+    }
+
+    @Test
+    public void testLoadMethodIsInvalidatedWhenTypeChanges() throws Throwable {
+        PythonLikeType type = new PythonLikeType("MyType", AbstractPythonLikeObject.class);
+        PythonLikeFunction first = newFunction();
+        PythonLikeFunction second = newFunction();
+        PythonLikeObject instance = newInstance(type);
+        MethodHandle callSite = loadMethod("method");
+
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isNull();
+
+        type.__setAttribute("method", first);
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isSameAs(first);
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isSameAs(first);
+
+        type.__dir__.put("method", second);
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isSameAs(second);
+
+        type.__deleteAttribute("method");
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isNull();
+    }
+
+    @Test
+    public void testLoadMethodIsInvalidatedWhenParentChanges() throws Throwable {
+        PythonLikeType parent = new PythonLikeType("Parent", AbstractPythonLikeObject.class);
+        PythonLikeType child = new PythonLikeType("Child", AbstractPythonLikeObject.class, List.of(parent));
+        PythonLikeFunction parentMethod = newFunction();
+        PythonLikeFunction replacementMethod = newFunction();
+        PythonLikeObject instance = newInstance(child);
+        MethodHandle callSite = loadMethod("method");
+
+        parent.__setAttribute("method", parentMethod);
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isSameAs(parentMethod);
+
+        parent.__setAttribute("method", replacementMethod);
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isSameAs(replacementMethod);
+    }
+
+    @Test
+    public void testPolymorphicAndMegamorphicCallSite() throws Throwable {
+        MethodHandle callSite = loadMethod("method");
+        int typeCount = AttributeCallSite.MAX_CACHED_TYPES * 2;
+        PythonLikeObject[] instances = new PythonLikeObject[typeCount];
+        PythonLikeFunction[] methods = new PythonLikeFunction[typeCount];
+
+        for (int i = 0; i < typeCount; i++) {
+            PythonLikeType type = new PythonLikeType("MyType" + i, AbstractPythonLikeObject.class);
+            methods[i] = newFunction();
+            type.__setAttribute("method", methods[i]);
+            instances[i] = newInstance(type);
+        }
+
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < typeCount; i++) {
+                assertThat((PythonLikeObject) callSite.invokeExact(instances[i])).isSameAs(methods[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testLoadAttribute() throws Throwable {
+        PythonLikeType type = new PythonLikeType("MyType", AbstractPythonLikeObject.class);
+        PythonLikeObject typeAttribute = PythonString.valueOf("type value");
+        type.__setAttribute("typeAttribute", typeAttribute);
+
+        PythonLikeObject instance = newInstance(type);
+        instance.__setAttribute("instanceAttribute", PythonString.valueOf("value"));
+
+        MethodHandle instanceAttributeCallSite = loadAttribute("instanceAttribute");
+        MethodHandle typeAttributeCallSite = loadAttribute("typeAttribute");
+        MethodHandle missingAttributeCallSite = loadAttribute("missing");
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            assertThat((PythonLikeObject) instanceAttributeCallSite.invokeExact(instance))
+                    .isEqualTo(PythonString.valueOf("value"));
+            assertThat((PythonLikeObject) typeAttributeCallSite.invokeExact(instance)).isSameAs(typeAttribute);
+            assertThatThrownBy(() -> {
+                PythonLikeObject ignored = (PythonLikeObject) missingAttributeCallSite.invokeExact(instance);
+            }).isInstanceOf(AttributeError.class);
+        }
+    }
+
+    @Test
+    public void testLoadAttributeUsesOverriddenGetAttribute() throws Throwable {
+        PythonLikeType type = new PythonLikeType("MyType", AbstractPythonLikeObject.class);
+        PythonLikeObject instance = newInstance(type);
+        instance.__setAttribute("instanceAttribute", PythonString.valueOf("value"));
+        MethodHandle callSite = loadAttribute("instanceAttribute");
+
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isEqualTo(PythonString.valueOf("value"));
+
+        type.__setAttribute("__getattribute__", new PythonLikeFunction() {
+            @Override
+            public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                    Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+                assertThat(positionalArguments).containsExactly(instance, PythonString.valueOf("instanceAttribute"));
+                return PythonString.valueOf("overridden");
+            }
+
+            @Override
+            public PythonLikeType __getType() {
+                return BuiltinTypes.FUNCTION_TYPE;
+            }
+        });
+        for (int repeat = 0; repeat < 2; repeat++) {
+            assertThat((PythonLikeObject) callSite.invokeExact(instance)).isEqualTo(PythonString.valueOf("overridden"));
+        }
+
+        type.__deleteAttribute("__getattribute__");
+        assertThat((PythonLikeObject) callSite.invokeExact(instance)).isEqualTo(PythonString.valueOf("value"));
+    }
+
+    @Test
+    public void testLoadAttributeFromField() throws Throwable {
+        PythonLikeType type = new PythonLikeType("FieldObject", FieldObject.class);
+        type.addInstanceField(new FieldDescriptor("value", "value", Type.getInternalName(FieldObject.class),
+                Type.getDescriptor(PythonLikeObject.class), BuiltinTypes.BASE_TYPE, true));
+        FieldObject first = new FieldObject(type, PythonString.valueOf("first"));
+        FieldObject second = new FieldObject(type, PythonString.valueOf("second"));
+        MethodHandle callSite = loadAttribute("value");
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            assertThat((PythonLikeObject) callSite.invokeExact((PythonLikeObject) first))
+                    .isEqualTo(PythonString.valueOf("first"));
+            assertThat((PythonLikeObject) callSite.invokeExact((PythonLikeObject) second))
+                    .isEqualTo(PythonString.valueOf("second"));
+        }
+
+        second.value = null;
+        assertThatThrownBy(() -> {
+            PythonLikeObject ignored = (PythonLikeObject) callSite.invokeExact((PythonLikeObject) second);
+        }).isInstanceOf(AttributeError.class);
+    }
+
+    public static class FieldObject extends AbstractPythonLikeObject {
+        public PythonLikeObject value;
+
+        public FieldObject(PythonLikeType type, PythonLikeObject value) {
+            super(type);
+            this.value = value;
+        }
+
+        @Override
+        public PythonLikeObject __getAttributeOrNull(String attributeName) {
+            if (attributeName.equals("value")) {
+                return value;
+            }
+            return super.__getAttributeOrNull(attributeName);
+        }
+    }
+}
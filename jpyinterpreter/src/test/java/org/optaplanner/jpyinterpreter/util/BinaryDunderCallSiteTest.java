@@ -0,0 +1,143 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.PythonBinaryOperators;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.AbstractPythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.BuiltinTypes;
+import org.optaplanner.jpyinterpreter.types.NotImplemented;
+import org.optaplanner.jpyinterpreter.types.PythonLikeFunction;
+import org.optaplanner.jpyinterpreter.types.PythonLikeType;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class BinaryDunderCallSiteTest {
+    private static final MethodType CALL_SITE_TYPE =
+            MethodType.methodType(PythonLikeObject.class, PythonLikeObject.class, PythonLikeObject.class);
+
+    private static MethodHandle binaryOperator(PythonBinaryOperators operator) {
+        return BinaryDunderCallSite.bootstrap(MethodHandles.lookup(), operator.getDunderMethod(), CALL_SITE_TYPE,
+                operator.name()).dynamicInvoker();
+    }
+
+    private static PythonLikeObject newInstance(PythonLikeType type) {
+        return new AbstractPythonLikeObject(type) {
+        };
+    }
+
+    private static PythonLikeFunction returning(PythonLikeObject value) {
+        return new PythonLikeFunction() {
+            @Override
+            public PythonLikeObject $call(List<PythonLikeObject> positionalArguments,
+                    Map<PythonString, PythonLikeObject> namedArguments, PythonLikeObject callerInstance) {
+                return value;
+            }
+
+            @Override
+            public PythonLikeType __getType() {
+                return BuiltinTypes.FUNCTION_TYPE;
+            }
+        };
+    }
+
+    @Test
+    public void testTypedOperands() throws Throwable {
+        MethodHandle add = binaryOperator(PythonBinaryOperators.ADD);
+        MethodHandle lessThan = binaryOperator(PythonBinaryOperators.LESS_THAN);
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            assertThat((PythonLikeObject) add.invokeExact((PythonLikeObject) PythonInteger.valueOf(1),
+                    (PythonLikeObject) PythonInteger.valueOf(2))).isEqualTo(PythonInteger.valueOf(3));
+            assertThat((PythonLikeObject) add.invokeExact((PythonLikeObject) PythonInteger.valueOf(1),
+                    (PythonLikeObject) PythonFloat.valueOf(0.5))).isEqualTo(PythonFloat.valueOf(1.5));
+            assertThat((PythonLikeObject) add.invokeExact((PythonLikeObject) PythonString.valueOf("a"),
+                    (PythonLikeObject) PythonString.valueOf("b"))).isEqualTo(PythonString.valueOf("ab"));
+            assertThat((PythonLikeObject) lessThan.invokeExact((PythonLikeObject) PythonInteger.valueOf(1),
+                    (PythonLikeObject) PythonInteger.valueOf(2))).isEqualTo(PythonBoolean.TRUE);
+            assertThat((PythonLikeObject) lessThan.invokeExact((PythonLikeObject) PythonInteger.valueOf(2),
+                    (PythonLikeObject) PythonInteger.valueOf(1))).isEqualTo(PythonBoolean.FALSE);
+        }
+    }
+
+    @Test
+    public void testUnsupportedOperands() throws Throwable {
+        MethodHandle add = binaryOperator(PythonBinaryOperators.ADD);
+
+        for (int repeat = 0; repeat < 2; repeat++) {
+            assertThatThrownBy(() -> {
+                PythonLikeObject ignored = (PythonLikeObject) add.invokeExact(
+                        (PythonLikeObject) PythonString.valueOf("a"), (PythonLikeObject) PythonInteger.valueOf(1));
+            }).isInstanceOf(TypeError.class);
+        }
+    }
+
+    @Test
+    public void testRightDunderMethod() throws Throwable {
+        PythonLikeType leftType = new PythonLikeType("Left", AbstractPythonLikeObject.class);
+        PythonLikeType rightType = new PythonLikeType("Right", AbstractPythonLikeObject.class);
+        PythonLikeObject left = newInstance(leftType);
+        PythonLikeObject right = newInstance(rightType);
+        MethodHandle add = binaryOperator(PythonBinaryOperators.ADD);
+
+        leftType.__setAttribute("__add__", returning(NotImplemented.INSTANCE));
+        rightType.__setAttribute("__radd__", returning(PythonString.valueOf("right")));
+        assertThat((PythonLikeObject) add.invokeExact(left, right)).isEqualTo(PythonString.valueOf("right"));
+        assertThat((PythonLikeObject) add.invokeExact(left, right)).isEqualTo(PythonString.valueOf("right"));
+
+        leftType.__setAttribute("__add__", returning(PythonString.valueOf("left")));
+        assertThat((PythonLikeObject) add.invokeExact(left, right)).isEqualTo(PythonString.valueOf("left"));
+
+        rightType.__deleteAttribute("__radd__");
+        leftType.__deleteAttribute("__add__");
+        assertThatThrownBy(() -> {
+            PythonLikeObject ignored = (PythonLikeObject) add.invokeExact(left, right);
+        }).isInstanceOf(TypeError.class);
+    }
+
+    @Test
+    public void testFallbackOperation() throws Throwable {
+        PythonLikeType type = new PythonLikeType("MyType", AbstractPythonLikeObject.class);
+        PythonLikeObject instance = newInstance(type);
+        MethodHandle inplaceAdd = binaryOperator(PythonBinaryOperators.INPLACE_ADD);
+
+        type.__setAttribute("__add__", returning(PythonString.valueOf("add")));
+        assertThat((PythonLikeObject) inplaceAdd.invokeExact(instance, instance)).isEqualTo(PythonString.valueOf("add"));
+
+        type.__setAttribute("__iadd__", returning(PythonString.valueOf("iadd")));
+        assertThat((PythonLikeObject) inplaceAdd.invokeExact(instance, instance)).isEqualTo(PythonString.valueOf("iadd"));
+    }
+
+    @Test
+    public void testPolymorphicAndMegamorphicCallSite() throws Throwable {
+        MethodHandle add = binaryOperator(PythonBinaryOperators.ADD);
+        int typeCount = BinaryDunderCallSite.MAX_CACHED_TYPES * 2;
+        PythonLikeObject[] instances = new PythonLikeObject[typeCount];
+
+        for (int i = 0; i < typeCount; i++) {
+            PythonLikeType type = new PythonLikeType("MyType" + i, AbstractPythonLikeObject.class);
+            type.__setAttribute("__add__", returning(PythonInteger.valueOf(i)));
+            instances[i] = newInstance(type);
+        }
+
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < typeCount; i++) {
+                assertThat((PythonLikeObject) add.invokeExact(instances[i], instances[i]))
+                        .isEqualTo(PythonInteger.valueOf(i));
+            }
+            assertThat((PythonLikeObject) add.invokeExact((PythonLikeObject) PythonInteger.valueOf(1),
+                    (PythonLikeObject) PythonInteger.valueOf(2))).isEqualTo(PythonInteger.valueOf(3));
+        }
+    }
+}
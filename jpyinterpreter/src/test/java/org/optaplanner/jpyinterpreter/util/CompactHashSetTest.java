@@ -0,0 +1,154 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactHashSetTest {
+
+    // An element whose hash is chosen by the test, so collisions can be forced; counts hashCode calls
+    private static class Element {
+        static int hashCodeCallCount = 0;
+
+        final int id;
+
+        Element(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Element && ((Element) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            hashCodeCallCount++;
+            return id % 29;
+        }
+    }
+
+    private static CompactHashSet<Element> elements(int... ids) {
+        CompactHashSet<Element> out = new CompactHashSet<>();
+        for (int id : ids) {
+            out.add(new Element(id));
+        }
+        return out;
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        CompactHashSet<String> set = new CompactHashSet<>();
+        assertThat(set.add("a")).isTrue();
+        assertThat(set.add("b")).isTrue();
+        assertThat(set.add(null)).isTrue();
+        assertThat(set.add("a")).isFalse();
+
+        assertThat(set.contains("a")).isTrue();
+        assertThat(set.contains(null)).isTrue();
+        assertThat(set.contains("c")).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+
+        assertThat(set.remove("b")).isTrue();
+        assertThat(set.remove("b")).isFalse();
+        assertThat(set.remove(null)).isTrue();
+        assertThat(set).isEqualTo(Set.of("a"));
+        assertThat(set.hashCode()).isEqualTo(Set.of("a").hashCode());
+
+        set.clear();
+        assertThat(set).isEmpty();
+    }
+
+    @Test
+    public void testMatchesHashSet() {
+        Random random = new Random(0);
+        CompactHashSet<Element> set = new CompactHashSet<>();
+        Set<Element> expected = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            Element element = new Element(random.nextInt(500));
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(element)).isEqualTo(expected.remove(element));
+            } else {
+                assertThat(set.add(element)).isEqualTo(expected.add(element));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int id = 0; id < 500; id++) {
+            assertThat(set.contains(new Element(id))).isEqualTo(expected.contains(new Element(id)));
+        }
+        assertThat(set).isEqualTo(expected);
+        assertThat(expected).isEqualTo(set);
+        assertThat(set.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void testSetAlgebra() {
+        CompactHashSet<Element> a = elements(1, 2, 3, 30, 31);
+        CompactHashSet<Element> b = elements(2, 3, 4, 31, 60);
+        Set<Element> otherB = new HashSet<>(b);
+
+        assertThat(CompactHashSet.union(a, b)).isEqualTo(elements(1, 2, 3, 4, 30, 31, 60));
+        assertThat(CompactHashSet.intersection(a, b)).isEqualTo(elements(2, 3, 31));
+        assertThat(CompactHashSet.difference(a, b)).isEqualTo(elements(1, 30));
+        assertThat(CompactHashSet.symmetricDifference(a, b)).isEqualTo(elements(1, 4, 30, 60));
+
+        assertThat(CompactHashSet.union(a, otherB)).isEqualTo(elements(1, 2, 3, 4, 30, 31, 60));
+        assertThat(CompactHashSet.intersection(otherB, a)).isEqualTo(elements(2, 3, 31));
+        assertThat(CompactHashSet.difference(otherB, a)).isEqualTo(elements(4, 60));
+        assertThat(CompactHashSet.symmetricDifference(otherB, a)).isEqualTo(elements(1, 4, 30, 60));
+    }
+
+    @Test
+    public void testStoredHashesAreReused() {
+        CompactHashSet<Element> a = elements(1, 2, 3, 30, 31);
+        CompactHashSet<Element> b = elements(2, 3, 4, 31, 60);
+
+        Element.hashCodeCallCount = 0;
+        CompactHashSet<Element> copy = new CompactHashSet<>(a);
+        CompactHashSet.union(a, b);
+        CompactHashSet.intersection(a, b);
+        CompactHashSet.difference(a, b);
+        CompactHashSet.symmetricDifference(a, b);
+        copy.retainAll(b);
+        copy.removeAll(b);
+        a.hashCode();
+        assertThat(a.containsAll(copy)).isTrue();
+        assertThat(Element.hashCodeCallCount).isZero();
+    }
+
+    @Test
+    public void testRemoveAny() {
+        CompactHashSet<Integer> set = new CompactHashSet<>();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+            expected.add(i);
+        }
+        while (!set.isEmpty()) {
+            assertThat(expected.remove(set.removeAny())).isTrue();
+        }
+        assertThat(expected).isEmpty();
+        assertThatCode(set::removeAny).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testIterator() {
+        CompactHashSet<Integer> set = new CompactHashSet<>(List.of(1, 2, 3, 4, 5, 6));
+        set.removeIf(i -> i % 2 == 0);
+        assertThat(set).isEqualTo(Set.of(1, 3, 5));
+
+        Iterator<Integer> iterator = set.iterator();
+        iterator.next();
+        set.add(7);
+        assertThatCode(iterator::hasNext).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.apache.commons.collections4.OrderedMapIterator;
+import org.junit.jupiter.api.Test;
+
+public class CompactOrderedMapTest {
+
+    // A key whose hash is chosen by the test, so collisions can be forced
+    private static class Key {
+        final int id;
+        final int hash;
+
+        Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "Key" + id;
+        }
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        assertThat(map.get("a")).isNull();
+        assertThat(map.put("a", 1)).isNull();
+        assertThat(map.put("b", 2)).isNull();
+        assertThat(map.put(null, 3)).isNull();
+        assertThat(map.put("a", 4)).isEqualTo(1);
+
+        assertThat(map.get("a")).isEqualTo(4);
+        assertThat(map.get(null)).isEqualTo(3);
+        assertThat(map.containsValue(2)).isTrue();
+        assertThat(map.size()).isEqualTo(3);
+
+        assertThat(map.remove("b")).isEqualTo(2);
+        assertThat(map.remove("b")).isNull();
+        assertThat(map.containsKey("b")).isFalse();
+        assertThat(map.keySet()).containsExactly("a", null);
+        assertThat(map.toString()).isEqualTo("{a=4, null=3}");
+        map.remove(null);
+        assertThat(map).isEqualTo(Map.of("a", 4)).isNotEqualTo(Map.of("a", 4, "b", 2));
+
+        map.clear();
+        assertThat(map).isEmpty();
+        map.put("c", 5);
+        assertThat(map).isEqualTo(Map.of("c", 5));
+    }
+
+    @Test
+    public void testKeepsInsertionOrder() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.remove("a");
+        map.put("a", 4);
+        map.put("c", 5);
+
+        assertThat(map.keySet()).containsExactly("c", "b", "a");
+        assertThat(map.values()).containsExactly(5, 3, 4);
+        assertThat(map.firstKey()).isEqualTo("c");
+        assertThat(map.lastKey()).isEqualTo("a");
+        assertThat(map.nextKey("c")).isEqualTo("b");
+        assertThat(map.nextKey("a")).isNull();
+        assertThat(map.previousKey("a")).isEqualTo("b");
+        assertThat(map.previousKey("c")).isNull();
+        assertThat(map.nextKey("missing")).isNull();
+
+        map.clear();
+        assertThatCode(map::lastKey).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testMatchesLinkedHashMap() {
+        // Few distinct hashes, so most lookups probe past colliding keys and tombstones
+        Random random = new Random(0);
+        CompactOrderedMap<Key, Integer> map = new CompactOrderedMap<>();
+        Map<Key, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(500);
+            Key key = new Key(id, id % 37);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(new ArrayList<>(map.entrySet())).isEqualTo(new ArrayList<>(expected.entrySet()));
+        for (int id = 0; id < 500; id++) {
+            Key key = new Key(id, id % 37);
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void testCopy() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.remove("b");
+
+        CompactOrderedMap<String, Integer> copy = new CompactOrderedMap<>(map);
+        copy.put("d", 4);
+        assertThat(copy.keySet()).containsExactly("a", "c", "d");
+        assertThat(map.keySet()).containsExactly("a", "c");
+
+        CompactOrderedMap<String, Integer> copyOfOtherMap = new CompactOrderedMap<>(Map.of("x", 1));
+        assertThat(copyOfOtherMap).isEqualTo(Map.of("x", 1));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        CompactOrderedMap<Integer, String> map = new CompactOrderedMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, "v" + i);
+        }
+        map.keySet().removeIf(key -> key % 2 == 0);
+        assertThat(map.keySet()).containsExactly(1, 3, 5, 7, 9);
+
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() + "!");
+        }
+        assertThat(map.get(3)).isEqualTo("v3!");
+
+        map.values().removeIf(value -> value.startsWith("v9"));
+        assertThat(map.lastKey()).isEqualTo(7);
+        map.put(11, "v11");
+        assertThat(map.keySet()).containsExactly(1, 3, 5, 7, 11);
+    }
+
+    @Test
+    public void testMapIterator() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        OrderedMapIterator<String, Integer> iterator = map.mapIterator();
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThat(iterator.next()).isEqualTo("a");
+        assertThat(iterator.next()).isEqualTo("b");
+        assertThat(iterator.getValue()).isEqualTo(2);
+        iterator.setValue(20);
+        assertThat(iterator.previous()).isEqualTo("b");
+        assertThat(iterator.previous()).isEqualTo("a");
+        iterator.remove();
+        assertThat(iterator.hasPrevious()).isFalse();
+        assertThat(iterator.next()).isEqualTo("b");
+
+        List<String> keys = new ArrayList<>();
+        map.keySet().forEach(keys::add);
+        assertThat(keys).containsExactly("b", "c");
+        assertThat(map.get("b")).isEqualTo(20);
+    }
+
+    @Test
+    public void testIteratorIsFailFast() {
+        CompactOrderedMap<String, Integer> map = new CompactOrderedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        Iterator<String> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put("a", 3); // replacing a value does not change the structure
+        iterator.next();
+        map.put("c", 4);
+        assertThatCode(iterator::hasNext).isInstanceOf(ConcurrentModificationException.class);
+    }
+}
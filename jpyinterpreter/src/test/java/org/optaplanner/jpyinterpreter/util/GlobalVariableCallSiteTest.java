@@ -0,0 +1,106 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
+import org.optaplanner.jpyinterpreter.PythonGlobalsMap;
+import org.optaplanner.jpyinterpreter.PythonInterpreter;
+import org.optaplanner.jpyinterpreter.PythonLikeObject;
+import org.optaplanner.jpyinterpreter.builtins.GlobalBuiltins;
+import org.optaplanner.jpyinterpreter.builtins.UnaryDunderBuiltin;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class GlobalVariableCallSiteTest {
+    private static final MethodType CALL_SITE_TYPE =
+            MethodType.methodType(PythonLikeObject.class, PythonInterpreter.class, Map.class);
+
+    private static MethodHandle loadGlobal(String globalName) {
+        return GlobalVariableCallSite.bootstrap(MethodHandles.lookup(), "getGlobal", CALL_SITE_TYPE, globalName)
+                .dynamicInvoker();
+    }
+
+    private static class CountingInterpreter extends CPythonBackedPythonInterpreter {
+        int lookupCount = 0;
+
+        @Override
+        public PythonLikeObject getGlobal(Map<String, PythonLikeObject> globalsMap, String name) {
+            lookupCount++;
+            return super.getGlobal(globalsMap, name);
+        }
+    }
+
+    @Test
+    public void testGlobalIsCachedUntilChanged() throws Throwable {
+        CountingInterpreter interpreter = new CountingInterpreter();
+        Map<String, PythonLikeObject> globalsMap = new PythonGlobalsMap();
+        globalsMap.put("x", PythonInteger.valueOf(1));
+        MethodHandle loadX = loadGlobal("x");
+
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(1));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(1));
+        assertThat(interpreter.lookupCount).isEqualTo(1);
+
+        globalsMap.put("x", PythonInteger.valueOf(2));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat(interpreter.lookupCount).isEqualTo(2);
+
+        Map<String, PythonLikeObject> otherGlobalsMap = new PythonGlobalsMap();
+        otherGlobalsMap.put("x", PythonInteger.valueOf(3));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, otherGlobalsMap))
+                .isEqualTo(PythonInteger.valueOf(3));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat(interpreter.lookupCount).isEqualTo(3);
+    }
+
+    @Test
+    public void testBuiltinIsCachedUntilShadowedOrBuiltinsChange() throws Throwable {
+        CountingInterpreter interpreter = new CountingInterpreter();
+        Map<String, PythonLikeObject> globalsMap = new PythonGlobalsMap();
+        MethodHandle loadLen = loadGlobal("len");
+
+        assertThat((PythonLikeObject) loadLen.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isSameAs(UnaryDunderBuiltin.LENGTH);
+        assertThat((PythonLikeObject) loadLen.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isSameAs(UnaryDunderBuiltin.LENGTH);
+        assertThat(interpreter.lookupCount).isEqualTo(1);
+
+        GlobalBuiltins.addBuiltinConstant("__global_variable_call_site_test__", PythonString.valueOf("value"));
+        assertThat((PythonLikeObject) loadLen.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isSameAs(UnaryDunderBuiltin.LENGTH);
+        assertThat(interpreter.lookupCount).isEqualTo(2);
+
+        globalsMap.put("len", PythonString.valueOf("shadowed"));
+        assertThat((PythonLikeObject) loadLen.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonString.valueOf("shadowed"));
+        assertThat(interpreter.lookupCount).isEqualTo(3);
+    }
+
+    @Test
+    public void testUnversionedGlobalsAreNotCached() throws Throwable {
+        CountingInterpreter interpreter = new CountingInterpreter();
+        Map<String, PythonLikeObject> globalsMap = new HashMap<>();
+        globalsMap.put("x", PythonInteger.valueOf(1));
+        MethodHandle loadX = loadGlobal("x");
+
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(1));
+        globalsMap.put("x", PythonInteger.valueOf(2));
+        assertThat((PythonLikeObject) loadX.invokeExact((PythonInterpreter) interpreter, globalsMap))
+                .isEqualTo(PythonInteger.valueOf(2));
+        assertThat(interpreter.lookupCount).isEqualTo(2);
+    }
+}
@@ -0,0 +1,103 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PythonIdMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        PythonIdMap<String> map = new PythonIdMap<>();
+        map.put(140234L, "a");
+        map.put(Integer.valueOf(16), "b");
+        map.put(0L, "zero");
+
+        assertThat(map.get(140234L)).isEqualTo("a");
+        assertThat(map.get(Long.valueOf(16))).isEqualTo("b");
+        assertThat(map.get((Object) 0L)).isEqualTo("zero");
+        assertThat(map.get("a")).isNull();
+        assertThat(map.size()).isEqualTo(3);
+
+        assertThat(map.remove(16L)).isEqualTo("b");
+        assertThat(map.containsKey(16L)).isFalse();
+        assertThat(map.remove(0L)).isEqualTo("zero");
+        assertThat(map).isEqualTo(Map.of(140234L, "a"));
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        // Aligned keys, like the addresses returned by id(), collide in a naively hashed table
+        Random random = new Random(0);
+        PythonIdMap<Integer> map = new PythonIdMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            long key = 0x7f0000000000L + 16L * random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0x7f0000000000L; key < 0x7f0000000000L + 16L * 2_000; key += 16) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        assertThat(map).isEqualTo(expected);
+    }
+
+    @Test
+    public void testOverlay() {
+        PythonIdMap<String> parentMap = new PythonIdMap<>();
+        parentMap.put(1L, "a");
+        PythonIdMap<String> overlayMap = new PythonIdMap<>(parentMap);
+        overlayMap.put(2L, "b");
+        parentMap.put(3L, "c");
+
+        assertThat(overlayMap.get(1L)).isEqualTo("a");
+        assertThat(overlayMap.get(2L)).isEqualTo("b");
+        assertThat(overlayMap.get(3L)).isEqualTo("c");
+        assertThat(parentMap.containsKey(2L)).isFalse();
+        assertThat(overlayMap).isEqualTo(Map.of(1L, "a", 2L, "b", 3L, "c"));
+
+        assertThatCode(() -> overlayMap.put(1L, "d")).isInstanceOf(IllegalArgumentException.class);
+        overlayMap.remove(1L);
+        overlayMap.clear();
+        assertThat(overlayMap).isEqualTo(Map.of(1L, "a", 3L, "c"));
+    }
+
+    @Test
+    public void testOverlayShadowsLaterParentEntries() {
+        PythonIdMap<String> parentMap = new PythonIdMap<>();
+        PythonIdMap<String> overlayMap = new PythonIdMap<>(parentMap);
+        assertThat(overlayMap).isEmpty();
+        assertThat(overlayMap.get(1L)).isNull();
+        assertThat(overlayMap.remove(1L)).isNull();
+
+        overlayMap.put(0L, "a");
+        overlayMap.put(1L, "b");
+        parentMap.put(0L, "c");
+        parentMap.put(1L, "d");
+        parentMap.put(2L, "e");
+
+        assertThat(overlayMap).hasSize(3);
+        assertThat(overlayMap.entrySet()).hasSize(3);
+        assertThat(overlayMap).isEqualTo(Map.of(0L, "a", 1L, "b", 2L, "e"));
+    }
+
+    @Test
+    public void testOverlayOfOtherMap() {
+        Map<Number, String> parentMap = Map.of(1L, "a");
+        PythonIdMap<String> overlayMap = new PythonIdMap<>(parentMap);
+        overlayMap.put(2L, "b");
+
+        assertThat(overlayMap.get(1L)).isEqualTo("a");
+        assertThat(overlayMap.get(2L)).isEqualTo("b");
+        assertThat(overlayMap).isEqualTo(Map.of(1L, "a", 2L, "b"));
+    }
+}
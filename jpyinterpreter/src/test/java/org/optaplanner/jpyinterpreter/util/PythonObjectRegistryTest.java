@@ -0,0 +1,79 @@
+package org.optaplanner.jpyinterpreter.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class PythonObjectRegistryTest {
+
+    @Test
+    public void testRegister() {
+        PythonObjectRegistry registry = new PythonObjectRegistry();
+        String value = "a";
+        registry.register(1L, value, new Object());
+        registry.put(2L, "b");
+
+        assertThat(registry.get(1L)).isSameAs(value);
+        assertThat(registry.get(Integer.valueOf(2))).isEqualTo("b");
+        assertThat(registry.containsKey(3L)).isFalse();
+        assertThat(registry).isEqualTo(Map.of(1L, "a", 2L, "b"));
+
+        assertThat(registry.remove(1L)).isEqualTo("a");
+        assertThat(registry.containsKey(1L)).isFalse();
+    }
+
+    @Test
+    public void testCollectedValuesAreRemoved() throws InterruptedException {
+        PythonObjectRegistry registry = new PythonObjectRegistry();
+        Object kept = new Object();
+        registry.register(1L, kept, null);
+        registry.register(2L, new Object(), null);
+
+        for (int i = 0; i < 100 && registry.containsKey(2L); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(registry.containsKey(2L)).isFalse();
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.get(1L)).isSameAs(kept);
+    }
+
+    @Test
+    public void testConcurrentRegister() throws Exception {
+        PythonObjectRegistry registry = new PythonObjectRegistry();
+        List<Object> valueList = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            valueList.add(new Object());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futureList = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int start = thread * 1000;
+                futureList.add(executorService.submit(() -> {
+                    for (int i = start; i < start + 1000; i++) {
+                        registry.register(i, valueList.get(i), null);
+                    }
+                }));
+            }
+            for (Future<?> future : futureList) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(registry.size()).isEqualTo(4000);
+        for (int i = 0; i < 4000; i++) {
+            assertThat(registry.get((long) i)).isSameAs(valueList.get(i));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.optaplanner.optapy.benchmark;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+
+/**
+ * Creates the Python objects the bridge benchmarks operate on.
+ * The functions are set by {@code run_bridge_benchmarks.py} before the benchmarks are run,
+ * since the benchmarks run inside the Python process.
+ */
+public final class BridgeBenchmarkDomain {
+    // The Java class of the @planning_solution class
+    private static Class<?> solutionClass;
+
+    // Creates a planning solution with the given number of entities
+    private static Function<Integer, OpaquePythonReference> problemFactory;
+
+    // Creates a Python list with the given number of ints
+    private static Function<Integer, OpaquePythonReference> listFactory;
+
+    // Creates the given number of distinct, comparable and hashable Python objects
+    private static Function<Integer, List<OpaquePythonReference>> comparableFactory;
+
+    private BridgeBenchmarkDomain() {
+    }
+
+    public static void setSolutionClass(Class<?> solutionClass) {
+        BridgeBenchmarkDomain.solutionClass = solutionClass;
+    }
+
+    public static void setProblemFactory(Function<Integer, OpaquePythonReference> problemFactory) {
+        BridgeBenchmarkDomain.problemFactory = problemFactory;
+    }
+
+    public static void setListFactory(Function<Integer, OpaquePythonReference> listFactory) {
+        BridgeBenchmarkDomain.listFactory = listFactory;
+    }
+
+    public static void setComparableFactory(Function<Integer, List<OpaquePythonReference>> comparableFactory) {
+        BridgeBenchmarkDomain.comparableFactory = comparableFactory;
+    }
+
+    static Class<?> getSolutionClass() {
+        return Objects.requireNonNull(solutionClass, "solutionClass was not set; run run_bridge_benchmarks.py");
+    }
+
+    static OpaquePythonReference createProblem(int entityCount) {
+        return Objects.requireNonNull(problemFactory, "problemFactory was not set; run run_bridge_benchmarks.py")
+                .apply(entityCount);
+    }
+
+    static OpaquePythonReference createList(int size) {
+        return Objects.requireNonNull(listFactory, "listFactory was not set; run run_bridge_benchmarks.py")
+                .apply(size);
+    }
+
+    static List<OpaquePythonReference> createComparables(int count) {
+        return Objects.requireNonNull(comparableFactory, "comparableFactory was not set; run run_bridge_benchmarks.py")
+                .apply(count);
+    }
+}
@@ -0,0 +1,47 @@
+package org.optaplanner.optapy.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.optapy.PythonPlanningSolutionCloner;
+import org.optaplanner.optapy.PythonSolver;
+
+/**
+ * Planning cloning a wrapped solution with {@code entityCount} entities,
+ * which the solver does every time it finds a new best solution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0) // CPython is embedded in the process that runs the benchmarks
+public class CloneBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int entityCount;
+
+    private PythonPlanningSolutionCloner cloner;
+    private Object solution;
+
+    @Setup
+    public void setup() {
+        cloner = new PythonPlanningSolutionCloner();
+        solution = PythonSolver.wrapProblem(BridgeBenchmarkDomain.getSolutionClass(),
+                BridgeBenchmarkDomain.createProblem(entityCount));
+    }
+
+    @Benchmark
+    public Object cloneSolution() {
+        return cloner.cloneSolution(solution);
+    }
+}
@@ -0,0 +1,67 @@
+package org.optaplanner.optapy.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.optapy.PythonComparable;
+
+/**
+ * Comparing, hashing and testing the equality of {@code count} {@link PythonComparable},
+ * each of which calls back into Python; score calculation does this for every
+ * untranslated group key and joiner key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0) // CPython is embedded in the process that runs the benchmarks
+public class PythonComparableBenchmark {
+    @Param({ "1000", "10000" })
+    public int count;
+
+    private PythonComparable[] comparables;
+
+    @Setup
+    public void setup() {
+        List<OpaquePythonReference> references = BridgeBenchmarkDomain.createComparables(count);
+        comparables = new PythonComparable[references.size()];
+        for (int i = 0; i < comparables.length; i++) {
+            comparables[i] = new PythonComparable(references.get(i));
+        }
+    }
+
+    @Benchmark
+    public void compareTo(Blackhole blackhole) {
+        for (int i = 1; i < comparables.length; i++) {
+            blackhole.consume(comparables[i - 1].compareTo(comparables[i]));
+        }
+    }
+
+    @Benchmark
+    public void hash(Blackhole blackhole) {
+        for (PythonComparable comparable : comparables) {
+            blackhole.consume(comparable.hashCode());
+        }
+    }
+
+    @Benchmark
+    public void isEqual(Blackhole blackhole) {
+        for (int i = 1; i < comparables.length; i++) {
+            blackhole.consume(comparables[i - 1].equals(comparables[i]));
+        }
+    }
+}
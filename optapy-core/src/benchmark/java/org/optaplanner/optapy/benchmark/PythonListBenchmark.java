@@ -0,0 +1,65 @@
+package org.optaplanner.optapy.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.optapy.PythonList;
+import org.optaplanner.optapy.PythonSolver;
+import org.optaplanner.optapy.PythonWrapperGenerator;
+
+/**
+ * Mutating a {@link PythonList} of {@code size} items that is backed by a Python list,
+ * the way list variable moves do, and then writing the changes back to Python.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(0) // CPython is embedded in the process that runs the benchmarks
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class PythonListBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int size;
+
+    private PythonList list;
+
+    @Setup
+    public void setup() {
+        OpaquePythonReference pythonList = BridgeBenchmarkDomain.createList(size);
+        Map<Number, Object> referenceMap = PythonSolver.getNewReferenceMap();
+        list = new PythonList(pythonList, 0L, referenceMap, PythonWrapperGenerator.pythonObjectIdAndAttributeSetter);
+    }
+
+    @Benchmark
+    public void swap(Blackhole blackhole) {
+        Object first = list.get(0);
+        blackhole.consume(list.set(0, list.get(size - 1)));
+        blackhole.consume(list.set(size - 1, first));
+    }
+
+    @Benchmark
+    public void addAndRemove(Blackhole blackhole) {
+        list.add(0, list.get(size / 2));
+        blackhole.consume(list.remove(0));
+    }
+
+    @Benchmark
+    public void swapAndUpdatePythonList(Blackhole blackhole) {
+        swap(blackhole);
+        PythonList.updateDirtyPythonLists();
+    }
+}
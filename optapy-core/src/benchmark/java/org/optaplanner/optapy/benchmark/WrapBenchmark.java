@@ -0,0 +1,54 @@
+package org.optaplanner.optapy.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.optapy.PythonSolver;
+import org.optaplanner.optapy.PythonWrapperGenerator;
+
+/**
+ * Converting a Python planning solution with {@code entityCount} entities to its Java wrapper,
+ * which is paid every time a problem is given to a solver.
+ * {@link #wrap()} only creates the wrapper objects; {@link #wrapProblem()} also reads their fields.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(0) // CPython is embedded in the process that runs the benchmarks
+public class WrapBenchmark {
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int entityCount;
+
+    private Class<?> solutionClass;
+    private OpaquePythonReference problem;
+
+    @Setup
+    public void setup() {
+        solutionClass = BridgeBenchmarkDomain.getSolutionClass();
+        problem = BridgeBenchmarkDomain.createProblem(entityCount);
+    }
+
+    @Benchmark
+    public Object wrapProblem() {
+        return PythonSolver.wrapProblem(solutionClass, problem);
+    }
+
+    @Benchmark
+    public Object wrap() {
+        return PythonWrapperGenerator.wrap(solutionClass, problem, PythonSolver.getNewReferenceMap(),
+                PythonWrapperGenerator.NONE_PYTHON_SETTER);
+    }
+}
@@ -0,0 +1,151 @@
+"""Runs the JMH benchmarks of the optapy-core bridge (src/benchmark/java).
+
+The benchmarks call back into Python, so they run inside this process with forks disabled
+instead of in a forked JVM. Build the benchmarks and the classpath first:
+
+    mvn -Pbenchmark -pl optapy-core -am test-compile
+
+then, with optapy installed in the current environment (for its Python sources), run:
+
+    python optapy-core/src/benchmark/python/run_bridge_benchmarks.py --sizes 1000 10000
+
+Pass --result to record the results as JSON, so they can be compared between releases.
+"""
+import argparse
+import functools
+import os
+import pathlib
+
+import optapy
+
+
+def get_classpath(optapy_core_dir: pathlib.Path):
+    target_dir = optapy_core_dir / 'target'
+    classpath_file = target_dir / 'classpath.txt'
+    if not classpath_file.exists():
+        raise RuntimeError(f'{classpath_file} does not exist; build it with '
+                           f'mvn -Pbenchmark -pl optapy-core -am test-compile')
+    classpath = [str(target_dir / 'classes'), str(target_dir / 'test-classes')]
+    classpath.extend(classpath_file.read_text().strip().split(os.pathsep))
+    return classpath
+
+
+def create_domain():
+    import optapy.score
+
+    @optapy.problem_fact
+    class BenchmarkValue:
+        def __init__(self, code):
+            self.code = code
+
+    @optapy.planning_entity
+    class BenchmarkEntity:
+        def __init__(self, code, value=None):
+            self.code = code
+            self.value = value
+
+        @optapy.planning_variable(BenchmarkValue, value_range_provider_refs=['value_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+    @optapy.planning_solution
+    class BenchmarkSolution:
+        def __init__(self, value_list, entity_list, score=None):
+            self.value_list = value_list
+            self.entity_list = entity_list
+            self.score = score
+
+        @optapy.problem_fact_collection_property(BenchmarkValue)
+        @optapy.value_range_provider('value_range')
+        def get_value_list(self):
+            return self.value_list
+
+        @optapy.planning_entity_collection_property(BenchmarkEntity)
+        def get_entity_list(self):
+            return self.entity_list
+
+        @optapy.planning_score(optapy.score.SimpleScore)
+        def get_score(self):
+            return self.score
+
+        def set_score(self, score):
+            self.score = score
+
+    def create_problem(entity_count):
+        value_list = [BenchmarkValue(f'v{i}') for i in range(max(1, entity_count // 10))]
+        entity_list = [BenchmarkEntity(f'e{i}', value_list[i % len(value_list)]) for i in range(entity_count)]
+        return BenchmarkSolution(value_list, entity_list)
+
+    return BenchmarkSolution, create_problem
+
+
+@functools.total_ordering
+class BenchmarkKey:
+    def __init__(self, room, timeslot):
+        self.room = room
+        self.timeslot = timeslot
+
+    def __eq__(self, other):
+        return self.room == other.room and self.timeslot == other.timeslot
+
+    def __lt__(self, other):
+        return (self.room, self.timeslot) < (other.room, other.timeslot)
+
+    def __hash__(self):
+        return hash((self.room, self.timeslot))
+
+
+def register_domain():
+    from jpype import JObject, JProxy
+    from java.util.function import Function
+    from org.optaplanner.jpyinterpreter.types.wrappers import OpaquePythonReference
+    from org.optaplanner.optapy.benchmark import BridgeBenchmarkDomain
+    from optapy.optaplanner_java_interop import get_class, _to_java_list
+    from optapy.jpype_type_conversions import PythonFunction
+
+    def as_reference(python_object):
+        return JProxy(OpaquePythonReference, inst=python_object, convert=True)
+
+    def create_list(size):
+        return as_reference(list(range(size)))
+
+    def create_comparables(count):
+        return _to_java_list([as_reference(BenchmarkKey(f'room{i % 10}', i)) for i in range(count)])
+
+    solution_class, create_problem = create_domain()
+    BridgeBenchmarkDomain.setSolutionClass(get_class(solution_class))
+    BridgeBenchmarkDomain.setProblemFactory(JObject(PythonFunction(create_problem), Function))
+    BridgeBenchmarkDomain.setListFactory(JObject(PythonFunction(create_list), Function))
+    BridgeBenchmarkDomain.setComparableFactory(JObject(PythonFunction(create_comparables), Function))
+
+
+def main():
+    parser = argparse.ArgumentParser(description='Runs the optapy-core bridge benchmarks.')
+    parser.add_argument('--include', default='org.optaplanner.optapy.benchmark.*',
+                        help='Regex of the benchmarks to run')
+    parser.add_argument('--sizes', nargs='*',
+                        help='Number of entities (or list items); defaults to the @Param values')
+    parser.add_argument('--result', help='File to write the results to as JSON')
+    arguments = parser.parse_args()
+
+    optapy_core_dir = pathlib.Path(__file__).resolve().parents[3]
+    optapy.init(path=get_classpath(optapy_core_dir), include_optaplanner_jars=False)
+    register_domain()
+
+    from org.openjdk.jmh.results.format import ResultFormatType
+    from org.openjdk.jmh.runner import Runner
+    from org.openjdk.jmh.runner.options import OptionsBuilder
+
+    options = OptionsBuilder().include(arguments.include).forks(0)
+    if arguments.sizes:
+        options = options.param('entityCount', *arguments.sizes).param('size', *arguments.sizes)
+    if arguments.result:
+        options = options.resultFormat(ResultFormatType.JSON).result(arguments.result)
+    Runner(options.build()).run()
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,255 @@
+package org.optaplanner.optapy;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.PentaFunction;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.jpyinterpreter.types.errors.TypeError;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Collectors for sum and average. The mapped Python ints and floats (or, for mapping functions that were
+ * not translated, the Java numbers they were converted to) are accumulated into a primitive long and double,
+ * instead of adding and subtracting Python numbers on every insert and retract. Results are a {@link Long}
+ * (or a {@link BigInteger} if the sum does not fit in a long) if every mapped value is an int, and a
+ * {@link Double} otherwise, like Python's sum.
+ */
+@SuppressWarnings("unused")
+public final class PythonConstraintCollectors {
+    private PythonConstraintCollectors() {
+    }
+
+    public static <A> UniConstraintCollector<A, ?, Object> sum(Function<? super A, ?> mapping) {
+        return new UniNumberCollector<>(mapping, false);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object> sum(BiFunction<? super A, ? super B, ?> mapping) {
+        return new BiNumberCollector<>(mapping, false);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object>
+            sum(TriFunction<? super A, ? super B, ? super C, ?> mapping) {
+        return new TriNumberCollector<>(mapping, false);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            sum(QuadFunction<? super A, ? super B, ? super C, ? super D, ?> mapping) {
+        return new QuadNumberCollector<>(mapping, false);
+    }
+
+    public static <A> UniConstraintCollector<A, ?, Object> average(Function<? super A, ?> mapping) {
+        return new UniNumberCollector<>(mapping, true);
+    }
+
+    public static <A, B> BiConstraintCollector<A, B, ?, Object>
+            average(BiFunction<? super A, ? super B, ?> mapping) {
+        return new BiNumberCollector<>(mapping, true);
+    }
+
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Object>
+            average(TriFunction<? super A, ? super B, ? super C, ?> mapping) {
+        return new TriNumberCollector<>(mapping, true);
+    }
+
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Object>
+            average(QuadFunction<? super A, ? super B, ? super C, ? super D, ?> mapping) {
+        return new QuadNumberCollector<>(mapping, true);
+    }
+
+    private static final class NumberSum {
+        private long longSum = 0L;
+        // Set once longSum overflows, and used instead of it afterwards
+        private BigInteger bigSum = null;
+        private double floatSum = 0.0;
+        private int floatCount = 0;
+        private int count = 0;
+
+        Runnable add(Object value) {
+            count++;
+            if (value instanceof PythonInteger && ((PythonInteger) value).isSmall()) {
+                long longValue = ((PythonInteger) value).longValue();
+                addLong(longValue);
+                return () -> retractLong(longValue);
+            } else if (value instanceof PythonInteger || value instanceof BigInteger) {
+                BigInteger bigValue = (value instanceof PythonInteger) ? ((PythonInteger) value).getValue()
+                        : (BigInteger) value;
+                addBig(bigValue);
+                return () -> {
+                    count--;
+                    addBig(bigValue.negate());
+                };
+            } else if (value instanceof PythonFloat) {
+                return addFloat(((PythonFloat) value).value);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short
+                    || value instanceof Byte) {
+                long longValue = ((Number) value).longValue();
+                addLong(longValue);
+                return () -> retractLong(longValue);
+            } else if (value instanceof Double || value instanceof Float) {
+                return addFloat(((Number) value).doubleValue());
+            }
+            count--;
+            throw new TypeError("unsupported operand type(s) for +: 'int' and '"
+                    + ((value != null) ? value.getClass().getSimpleName() : "NoneType") + "'");
+        }
+
+        private void addLong(long value) {
+            if (bigSum != null) {
+                bigSum = bigSum.add(BigInteger.valueOf(value));
+                return;
+            }
+            try {
+                longSum = Math.addExact(longSum, value);
+            } catch (ArithmeticException e) {
+                bigSum = BigInteger.valueOf(longSum).add(BigInteger.valueOf(value));
+            }
+        }
+
+        private void retractLong(long value) {
+            count--;
+            if (bigSum != null) {
+                bigSum = bigSum.subtract(BigInteger.valueOf(value));
+                return;
+            }
+            try {
+                longSum = Math.subtractExact(longSum, value);
+            } catch (ArithmeticException e) {
+                bigSum = BigInteger.valueOf(longSum).subtract(BigInteger.valueOf(value));
+            }
+        }
+
+        private void addBig(BigInteger value) {
+            if (bigSum == null) {
+                bigSum = BigInteger.valueOf(longSum);
+            }
+            bigSum = bigSum.add(value);
+        }
+
+        private Runnable addFloat(double value) {
+            floatSum += value;
+            floatCount++;
+            return () -> {
+                count--;
+                floatCount--;
+                // Drop the rounding errors of retracted floats once there are none left
+                floatSum = (floatCount == 0) ? 0.0 : floatSum - value;
+            };
+        }
+
+        private Number getIntegerSum() {
+            if (bigSum == null) {
+                return longSum;
+            }
+            return (bigSum.bitLength() < Long.SIZE) ? (Number) bigSum.longValue() : bigSum;
+        }
+
+        Object getSum() {
+            Number integerSum = getIntegerSum();
+            if (floatCount == 0) {
+                return integerSum;
+            }
+            return integerSum.doubleValue() + floatSum;
+        }
+
+        Object getAverage() {
+            if (count == 0) {
+                return null;
+            }
+            return (getIntegerSum().doubleValue() + floatSum) / count;
+        }
+    }
+
+    private abstract static class NumberCollector<Mapping_> {
+        protected final Mapping_ mapping;
+        private final boolean isAverage;
+
+        protected NumberCollector(Mapping_ mapping, boolean isAverage) {
+            this.mapping = mapping;
+            this.isAverage = isAverage;
+        }
+
+        public Supplier<NumberSum> supplier() {
+            return NumberSum::new;
+        }
+
+        public Function<NumberSum, Object> finisher() {
+            return isAverage ? NumberSum::getAverage : NumberSum::getSum;
+        }
+
+        // Collectors are equal when their mappings are, so OptaPlanner can share their nodes
+        @Override
+        public boolean equals(Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            NumberCollector<?> other = (NumberCollector<?>) o;
+            return isAverage == other.isAverage && mapping.equals(other.mapping);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(getClass(), isAverage, mapping);
+        }
+    }
+
+    private static final class UniNumberCollector<A> extends NumberCollector<Function<? super A, ?>>
+            implements UniConstraintCollector<A, NumberSum, Object> {
+        private UniNumberCollector(Function<? super A, ?> mapping, boolean isAverage) {
+            super(mapping, isAverage);
+        }
+
+        @Override
+        public BiFunction<NumberSum, A, Runnable> accumulator() {
+            return (sum, a) -> sum.add(mapping.apply(a));
+        }
+    }
+
+    private static final class BiNumberCollector<A, B> extends NumberCollector<BiFunction<? super A, ? super B, ?>>
+            implements BiConstraintCollector<A, B, NumberSum, Object> {
+        private BiNumberCollector(BiFunction<? super A, ? super B, ?> mapping, boolean isAverage) {
+            super(mapping, isAverage);
+        }
+
+        @Override
+        public TriFunction<NumberSum, A, B, Runnable> accumulator() {
+            return (sum, a, b) -> sum.add(mapping.apply(a, b));
+        }
+    }
+
+    private static final class TriNumberCollector<A, B, C>
+            extends NumberCollector<TriFunction<? super A, ? super B, ? super C, ?>>
+            implements TriConstraintCollector<A, B, C, NumberSum, Object> {
+        private TriNumberCollector(TriFunction<? super A, ? super B, ? super C, ?> mapping, boolean isAverage) {
+            super(mapping, isAverage);
+        }
+
+        @Override
+        public QuadFunction<NumberSum, A, B, C, Runnable> accumulator() {
+            return (sum, a, b, c) -> sum.add(mapping.apply(a, b, c));
+        }
+    }
+
+    private static final class QuadNumberCollector<A, B, C, D>
+            extends NumberCollector<QuadFunction<? super A, ? super B, ? super C, ? super D, ?>>
+            implements QuadConstraintCollector<A, B, C, D, NumberSum, Object> {
+        private QuadNumberCollector(QuadFunction<? super A, ? super B, ? super C, ? super D, ?> mapping,
+                boolean isAverage) {
+            super(mapping, isAverage);
+        }
+
+        @Override
+        public PentaFunction<NumberSum, A, B, C, D, Runnable> accumulator() {
+            return (sum, a, b, c, d) -> sum.add(mapping.apply(a, b, c, d));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.optaplanner.optapy;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+/**
+ * Wraps the key functions of equal joiners so numeric keys are returned as {@link Long} or {@link Double}.
+ * OptaPlanner indexes equal joiners by the hashCode and equals of their keys, which are cheap for
+ * boxed primitives, while {@link PythonInteger} and {@link PythonFloat} need to compute Python's hash.
+ */
+@SuppressWarnings("unused")
+public final class PythonJoinKeys {
+    private PythonJoinKeys() {
+    }
+
+    /**
+     * Returns the key to index key by. Keys that are equal in Python are converted to equal keys:
+     * integers and integral floats become a {@link Long}, and other floats become a {@link Double}.
+     * Integers and floats that do not fit in a long, NaN, and non-numeric keys are returned unchanged.
+     */
+    public static Object toKey(Object key) {
+        if (key instanceof PythonInteger) {
+            PythonInteger integer = (PythonInteger) key;
+            return integer.isSmall() ? (Object) integer.longValue() : key;
+        }
+        if (key instanceof PythonFloat) {
+            double value = ((PythonFloat) key).value;
+            if (Double.isNaN(value)) {
+                return key;
+            }
+            long longValue = (long) value;
+            // (long) saturates to Long.MAX_VALUE, which is not a float, so that result is from a larger float
+            if (longValue == value && longValue != Long.MAX_VALUE) {
+                return longValue;
+            }
+            if (value == Math.rint(value)) {
+                // An integral float outside the range of long; it can be equal to a large PythonInteger
+                return key;
+            }
+            return value;
+        }
+        return key;
+    }
+
+    public static <A> Function<A, Object> uniKeyFunction(Function<A, ?> keyFunction) {
+        return new UniKeyFunction<>(keyFunction);
+    }
+
+    public static <A, B> BiFunction<A, B, Object> biKeyFunction(BiFunction<A, B, ?> keyFunction) {
+        return new BiKeyFunction<>(keyFunction);
+    }
+
+    public static <A, B, C> TriFunction<A, B, C, Object> triKeyFunction(TriFunction<A, B, C, ?> keyFunction) {
+        return new TriKeyFunction<>(keyFunction);
+    }
+
+    public static <A, B, C, D> QuadFunction<A, B, C, D, Object>
+            quadKeyFunction(QuadFunction<A, B, C, D, ?> keyFunction) {
+        return new QuadKeyFunction<>(keyFunction);
+    }
+
+    // The wrappers are equal when their key functions are, so OptaPlanner can still share their nodes
+
+    private static final class UniKeyFunction<A> implements Function<A, Object> {
+        private final Function<A, ?> keyFunction;
+
+        private UniKeyFunction(Function<A, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public Object apply(A a) {
+            return toKey(keyFunction.apply(a));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UniKeyFunction && keyFunction.equals(((UniKeyFunction<?>) o).keyFunction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(UniKeyFunction.class, keyFunction);
+        }
+    }
+
+    private static final class BiKeyFunction<A, B> implements BiFunction<A, B, Object> {
+        private final BiFunction<A, B, ?> keyFunction;
+
+        private BiKeyFunction(BiFunction<A, B, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public Object apply(A a, B b) {
+            return toKey(keyFunction.apply(a, b));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BiKeyFunction && keyFunction.equals(((BiKeyFunction<?, ?>) o).keyFunction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(BiKeyFunction.class, keyFunction);
+        }
+    }
+
+    private static final class TriKeyFunction<A, B, C> implements TriFunction<A, B, C, Object> {
+        private final TriFunction<A, B, C, ?> keyFunction;
+
+        private TriKeyFunction(TriFunction<A, B, C, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public Object apply(A a, B b, C c) {
+            return toKey(keyFunction.apply(a, b, c));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TriKeyFunction && keyFunction.equals(((TriKeyFunction<?, ?, ?>) o).keyFunction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(TriKeyFunction.class, keyFunction);
+        }
+    }
+
+    private static final class QuadKeyFunction<A, B, C, D> implements QuadFunction<A, B, C, D, Object> {
+        private final QuadFunction<A, B, C, D, ?> keyFunction;
+
+        private QuadKeyFunction(QuadFunction<A, B, C, D, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public Object apply(A a, B b, C c, D d) {
+            return toKey(keyFunction.apply(a, b, c, d));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof QuadKeyFunction
+                    && keyFunction.equals(((QuadKeyFunction<?, ?, ?, ?>) o).keyFunction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(QuadKeyFunction.class, keyFunction);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.optaplanner.optapy;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -17,20 +19,19 @@ import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
 
 public class PythonList<T> extends PythonLikeList<T> implements PythonObject, List<T> {
-    private static Function<OpaquePythonReference, Object> clearPythonList;
     private static Function<OpaquePythonReference, Integer> getPythonListLength;
     private static BiFunction<OpaquePythonReference, Integer, Object> getItemAtIndexInPythonList;
-    private static TriFunction<OpaquePythonReference, Integer, Object, Object> setItemAtIndexInPythonList;
-    private static BiFunction<OpaquePythonReference, Object, Boolean> addItemToPythonList;
-    private static TriFunction<OpaquePythonReference, Integer, Object, Object> addItemAtIndexInPythonList;
-    private static BiFunction<OpaquePythonReference, Object, Boolean> removeItemFromPythonList;
-    private static BiFunction<OpaquePythonReference, Integer, Boolean> removeItemAtIndexFromPythonList;
+    private static BiFunction<OpaquePythonReference, Object[], Object> setPythonListItems;
     private static BiFunction<OpaquePythonReference, Object, Boolean> doesPythonListContainItem;
     private static TriFunction<OpaquePythonReference, Integer, Integer, OpaquePythonReference> slicePythonList;
 
-    public static void setClearPythonList(Function<OpaquePythonReference, Object> clearPythonList) {
-        PythonList.clearPythonList = clearPythonList;
-    }
+    /**
+     * Lists whose Python list is kept in sync with them, and that were modified by the current thread since
+     * their Python list was last updated. A solver only modifies its working solution on its own thread,
+     * so each solver only ever updates its own lists.
+     */
+    private static final ThreadLocal<Set<PythonList<?>>> dirtyPythonListSet =
+            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
 
     public static void setGetPythonListLength(Function<OpaquePythonReference, Integer> getPythonListLength) {
         PythonList.getPythonListLength = getPythonListLength;
@@ -41,28 +42,8 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         PythonList.getItemAtIndexInPythonList = getItemAtIndexInPythonList;
     }
 
-    public static void setSetItemAtIndexInPythonList(
-            TriFunction<OpaquePythonReference, Integer, Object, Object> setItemAtIndexInPythonList) {
-        PythonList.setItemAtIndexInPythonList = setItemAtIndexInPythonList;
-    }
-
-    public static void setAddItemToPythonList(BiFunction<OpaquePythonReference, Object, Boolean> addItemToPythonList) {
-        PythonList.addItemToPythonList = addItemToPythonList;
-    }
-
-    public static void setAddItemAtIndexInPythonList(
-            TriFunction<OpaquePythonReference, Integer, Object, Object> addItemAtIndexInPythonList) {
-        PythonList.addItemAtIndexInPythonList = addItemAtIndexInPythonList;
-    }
-
-    public static void
-            setRemoveItemFromPythonList(BiFunction<OpaquePythonReference, Object, Boolean> removeItemFromPythonList) {
-        PythonList.removeItemFromPythonList = removeItemFromPythonList;
-    }
-
-    public static void setRemoveItemAtIndexFromPythonList(
-            BiFunction<OpaquePythonReference, Integer, Boolean> removeItemAtIndexFromPythonList) {
-        PythonList.removeItemAtIndexFromPythonList = removeItemAtIndexFromPythonList;
+    public static void setSetPythonListItems(BiFunction<OpaquePythonReference, Object[], Object> setPythonListItems) {
+        PythonList.setPythonListItems = setPythonListItems;
     }
 
     public static void
@@ -75,7 +56,25 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         PythonList.slicePythonList = slicePythonList;
     }
 
+    /**
+     * Updates the Python lists of all lists that the current thread modified since their Python list was
+     * last updated. Must be called before Python code reads Python objects that might (indirectly) reference
+     * such a list.
+     */
+    public static void updateDirtyPythonLists() {
+        Set<PythonList<?>> dirtyPythonLists = dirtyPythonListSet.get();
+        if (dirtyPythonLists.isEmpty()) {
+            return;
+        }
+        List<PythonList<?>> toUpdate = new ArrayList<>(dirtyPythonLists);
+        dirtyPythonLists.clear();
+        for (PythonList<?> dirtyPythonList : toUpdate) {
+            dirtyPythonList.updatePythonListIfDirty();
+        }
+    }
+
     private OpaquePythonReference pythonListOpaqueReference;
+    private OpaquePythonReference planningCloneOrigin;
     private Map<Number, Object> idMap;
 
     private TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter;
@@ -83,6 +82,15 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     private final List<Object> cachedObjectList;
     private final List<PythonLikeObject> cachedPythonLikeObjectList;
 
+    // Modifications are recorded on the list that owns the Python list; for sub lists, that is the
+    // list they are a view of
+    private PythonList<?> pythonListOwner = this;
+    private boolean isPythonListDirty = false;
+
+    private PythonList<?> subListParent;
+    private int subListStart;
+    private int subListEnd;
+
     public PythonList(OpaquePythonReference pythonListOpaqueReference, Number id, Map<Number, Object> idMap,
             TriFunction<OpaquePythonReference, String, Object, Object> pythonSetter) {
         this.pythonListOpaqueReference = pythonListOpaqueReference;
@@ -110,8 +118,45 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         this.cachedPythonLikeObjectList = cachedPythonLikeObjectList;
     }
 
+    private PythonList(PythonList<T> original, Map<Object, Object> cloneMap) {
+        this.pythonListOpaqueReference = null;
+        this.planningCloneOrigin = (original.pythonListOpaqueReference != null) ? original.pythonListOpaqueReference
+                : original.planningCloneOrigin;
+        this.idMap = original.idMap;
+        this.pythonSetter = original.pythonSetter;
+        int size = original.size();
+        this.cachedObjectList = new ArrayList<>(size);
+        this.cachedPythonLikeObjectList = getDelegate();
+        for (int i = 0; i < size; i++) {
+            Object item = PythonPlanningSolutionCloner.getPlanningClone(original.get(i), cloneMap);
+            cachedObjectList.add(item);
+            cachedPythonLikeObjectList.add(JavaPythonTypeConversionImplementor.wrapJavaObject(item));
+        }
+    }
+
+    /**
+     * Creates a planning clone of this list that is not bound to a Python list. Its items are the
+     * planning clones of this list's items (or the items themselves if they were not planning cloned).
+     */
+    public PythonList<T> planningClone(Map<Object, Object> cloneMap) {
+        return new PythonList<>(this, cloneMap);
+    }
+
+    /**
+     * Binds a planning clone of a list to a new, empty Python list; {@link #forceUpdate()} fills it.
+     */
+    public void bindPlanningClone() {
+        if (pythonListOpaqueReference == null) {
+            pythonListOpaqueReference = slicePythonList.apply(planningCloneOrigin, 0, 0);
+        }
+    }
+
     @Override
     public OpaquePythonReference get__optapy_Id() {
+        if (subListParent != null) {
+            return slicePythonList.apply(subListParent.get__optapy_Id(), subListStart, subListEnd);
+        }
+        updatePythonListIfDirty();
         return pythonListOpaqueReference;
     }
 
@@ -120,20 +165,57 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         return idMap;
     }
 
+    /**
+     * Replaces the content of the Python list with the items of this list in a single call to Python.
+     */
     @Override
     public void forceUpdate() {
-        clearPythonList.apply(pythonListOpaqueReference);
-        for (Object o : cachedObjectList) {
-            if (o instanceof OpaquePythonReference) {
-                addItemToPythonList.apply(pythonListOpaqueReference, o);
-            } else if (o instanceof PythonObject) {
-                addItemToPythonList.apply(pythonListOpaqueReference, ((PythonObject) o).get__optapy_Id());
-            } else {
-                addItemToPythonList.apply(pythonListOpaqueReference, o);
+        if (pythonListOwner != this) {
+            pythonListOwner.forceUpdate();
+            return;
+        }
+        synchronized (this) {
+            isPythonListDirty = false;
+            Object[] pythonListItems = new Object[cachedObjectList.size()];
+            for (int i = 0; i < pythonListItems.length; i++) {
+                pythonListItems[i] = toPythonListItem(cachedObjectList.get(i));
             }
+            setPythonListItems.apply(pythonListOpaqueReference, pythonListItems);
+        }
+    }
+
+    private synchronized void updatePythonListIfDirty() {
+        if (isPythonListDirty && pythonListOpaqueReference != null) {
+            forceUpdate();
         }
     }
 
+    /**
+     * Records that the Python list no longer matches this list. Java is the source of truth while solving;
+     * the Python list is updated in one call when it is next read (see {@link #updateDirtyPythonLists()}),
+     * instead of with one call per modification.
+     */
+    private void markPythonListDirty() {
+        if (pythonSetter == PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+            // The Python list is only updated on forceUpdate()
+            return;
+        }
+        PythonList<?> owner = pythonListOwner;
+        synchronized (owner) {
+            owner.isPythonListDirty = true;
+        }
+        // Always record the list for the current thread, so the thread that modified it last
+        // updates its Python list, even if another thread marked it dirty before
+        dirtyPythonListSet.get().add(owner);
+    }
+
+    private static Object toPythonListItem(Object item) {
+        if (item instanceof PythonObject) {
+            return ((PythonObject) item).get__optapy_Id();
+        }
+        return item;
+    }
+
     @Override
     public void $setFields(OpaquePythonReference reference, Number id, Map referenceMap, TriFunction setter) {
 
@@ -211,16 +293,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     public boolean add(Object t) {
         cachedObjectList.add(t);
         cachedPythonLikeObjectList.add(JavaPythonTypeConversionImplementor.wrapJavaObject(t));
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            if (t instanceof OpaquePythonReference) {
-                addItemToPythonList.apply(pythonListOpaqueReference, t);
-            } else if (t instanceof PythonObject) {
-                addItemToPythonList.apply(pythonListOpaqueReference, ((PythonObject) t).get__optapy_Id());
-            } else {
-                addItemToPythonList.apply(pythonListOpaqueReference, t);
-            }
-        }
+        markPythonListDirty();
         return true;
     }
 
@@ -228,18 +301,10 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     public boolean remove(Object t) {
         boolean out = cachedObjectList.remove(t);
         cachedPythonLikeObjectList.remove(JavaPythonTypeConversionImplementor.wrapJavaObject(t));
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            if (t instanceof OpaquePythonReference) {
-                return removeItemFromPythonList.apply(pythonListOpaqueReference, t);
-            } else if (t instanceof PythonObject) {
-                return removeItemFromPythonList.apply(pythonListOpaqueReference, ((PythonObject) t).get__optapy_Id());
-            } else {
-                return removeItemFromPythonList.apply(pythonListOpaqueReference, t);
-            }
-        } else {
-            return out;
+        if (out) {
+            markPythonListDirty();
         }
+        return out;
     }
 
     @Override
@@ -294,10 +359,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     public void clear() {
         cachedObjectList.clear();
         cachedPythonLikeObjectList.clear();
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            clearPythonList.apply(pythonListOpaqueReference);
-        }
+        markPythonListDirty();
     }
 
     @Override
@@ -307,7 +369,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         }
 
         Object maybeResult = cachedObjectList.get(i);
-        if (maybeResult != null) {
+        if (maybeResult != null || pythonListOpaqueReference == null) {
             return (T) maybeResult;
         }
 
@@ -343,16 +405,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         Object old = get(i);
         cachedObjectList.set(i, t);
         cachedPythonLikeObjectList.set(i, JavaPythonTypeConversionImplementor.wrapJavaObject(t));
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            if (t instanceof OpaquePythonReference) {
-                setItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
-            } else if (t instanceof PythonObject) {
-                setItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, ((PythonObject) t).get__optapy_Id());
-            } else {
-                setItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
-            }
-        }
+        markPythonListDirty();
         return old;
     }
 
@@ -360,16 +413,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
     public void add(int i, Object t) {
         cachedObjectList.add(i, t);
         cachedPythonLikeObjectList.add(i, JavaPythonTypeConversionImplementor.wrapJavaObject(t));
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            if (t instanceof OpaquePythonReference) {
-                addItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
-            } else if (t instanceof PythonObject) {
-                addItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, ((PythonObject) t).get__optapy_Id());
-            } else {
-                addItemAtIndexInPythonList.apply(pythonListOpaqueReference, i, t);
-            }
-        }
+        markPythonListDirty();
     }
 
     @Override
@@ -377,10 +421,7 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
         T out = get(i);
         cachedObjectList.remove(i);
         cachedPythonLikeObjectList.remove(i);
-
-        if (pythonSetter != PythonWrapperGenerator.NONE_PYTHON_SETTER) {
-            removeItemAtIndexFromPythonList.apply(pythonListOpaqueReference, i);
-        }
+        markPythonListDirty();
         return out;
     }
 
@@ -418,12 +459,23 @@ public class PythonList<T> extends PythonLikeList<T> implements PythonObject, Li
 
     @Override
     public List subList(int start, int end) {
-        return new PythonList(slicePythonList.apply(pythonListOpaqueReference, start, end), null, null, pythonSetter,
+        // The sub list is a view of this list, so it does not get its own Python list;
+        // a slice of this list's Python list is only created if it is passed to Python
+        PythonList<T> out = new PythonList<>(null, null, null, pythonSetter,
                 cachedObjectList.subList(start, end), cachedPythonLikeObjectList.subList(start, end));
+        out.pythonListOwner = pythonListOwner;
+        out.subListParent = this;
+        out.subListStart = start;
+        out.subListEnd = end;
+        return out;
     }
 
     @Override
     public String toString() {
+        if (pythonListOpaqueReference == null) {
+            return cachedObjectList.toString();
+        }
+        updatePythonListIfDirty();
         return PythonWrapperGenerator.getPythonObjectString(pythonListOpaqueReference);
     }
 
@@ -37,4 +37,34 @@ public interface PythonObject extends PythonLikeObject {
     void visitIds(Map<Number, Object> referenceMap);
 
     void $setFields(OpaquePythonReference reference, Number id, Map referenceMap, TriFunction setter);
+
+    /**
+     * Creates a planning clone of this object without copying its state and puts it into cloneMap.
+     * A planning solution also creates the planning clones of its planning entities.
+     *
+     * @param cloneMap A map from an original object to its planning clone.
+     * @return The planning clone of this object, or null if this object can only be planning cloned in Python.
+     */
+    default Object $createPlanningClone(Map<Object, Object> cloneMap) {
+        return null;
+    }
+
+    /**
+     * Copies the state of original into this planning clone, replacing references to planning
+     * entities by their planning clones.
+     *
+     * @param original The object this planning clone was created from.
+     * @param cloneMap A map from an original object to its planning clone.
+     */
+    default void $copyPlanningCloneState(Object original, Map<Object, Object> cloneMap) {
+    }
+
+    /**
+     * Binds this planning clone to the Python Object that is the planning clone of the Python Object
+     * its original was bound to.
+     *
+     * @param originIdToPythonCloneMap A map from the id of a Python Object to its planning clone.
+     */
+    default void $bindPlanningClone(Map<Number, OpaquePythonReference> originIdToPythonCloneMap) {
+    }
 }
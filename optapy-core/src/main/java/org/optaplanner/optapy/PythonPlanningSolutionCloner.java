@@ -1,8 +1,8 @@
 package org.optaplanner.optapy;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -10,18 +10,39 @@ import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
 import org.optaplanner.jpyinterpreter.types.CPythonBackedPythonLikeObject;
+import org.optaplanner.jpyinterpreter.types.collections.PythonLikeList;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.jpyinterpreter.util.PythonIdMap;
 
 public class PythonPlanningSolutionCloner implements SolutionCloner<Object> {
     // A function in python that deep clones a given OpaquePythonReference
     private static Function<PythonObject, OpaquePythonReference> deepClonePythonObject;
 
+    // A function in python that planning clones a given OpaquePythonReference, and returns a map from the id
+    // of every object it cloned to the OpaquePythonReference of its clone
+    private static Function<OpaquePythonReference, Map<Number, OpaquePythonReference>> planningClonePythonObject;
+
+    // Set to false when a @deep_planning_clone class or property is defined, since only Python knows about them
+    private static boolean isJavaPlanningCloneEnabled = true;
+
     @SuppressWarnings("unused")
     public static void setDeepClonePythonObject(Function<PythonObject, OpaquePythonReference> cloner) {
         deepClonePythonObject = cloner;
     }
 
+    @SuppressWarnings("unused")
+    public static void setPlanningClonePythonObject(
+            Function<OpaquePythonReference, Map<Number, OpaquePythonReference>> cloner) {
+        planningClonePythonObject = cloner;
+    }
+
+    @SuppressWarnings("unused")
+    public static void disableJavaPlanningClone() {
+        isJavaPlanningCloneEnabled = false;
+    }
+
     @Override
     public Object cloneSolution(Object o) {
         // Deep clone the OpaquePythonReference
@@ -34,7 +55,17 @@ public class PythonPlanningSolutionCloner implements SolutionCloner<Object> {
             throw new IllegalStateException(e);
         }
         if (pythonSetter == PythonWrapperGenerator.NONE_PYTHON_SETTER) {
+            if (isJavaPlanningCloneEnabled) {
+                // The Python Objects are only read when the solution is published, so clone the Java objects
+                // and create the Python Objects of the clone when they are needed
+                Object out = javaPlanningClone(toClone);
+                if (out != null) {
+                    return out;
+                }
+            }
             toClone.forceUpdate();
+        } else {
+            PythonList.updateDirtyPythonLists();
         }
 
         OpaquePythonReference planningClone = deepClonePythonObject.apply(toClone);
@@ -44,8 +75,8 @@ public class PythonPlanningSolutionCloner implements SolutionCloner<Object> {
                 (PythonObject) PythonWrapperGenerator.wrap(o.getClass(), planningClone, toClone.get__optapy_reference_map(),
                         pythonSetter);
 
-        Map<Number, Object> oldIdMap = new HashMap<>();
-        Map<Number, Object> newIdMap = new HashMap<>();
+        Map<Number, Object> oldIdMap = new PythonIdMap<>();
+        Map<Number, Object> newIdMap = new PythonIdMap<>();
         toClone.visitIds(oldIdMap);
         out.visitIds(newIdMap);
 
@@ -65,17 +96,172 @@ public class PythonPlanningSolutionCloner implements SolutionCloner<Object> {
         //  which is used when cloning. If score/list variable was garbage collected by Python, another
         //  Python Object can have the same id, leading to the old value in the map being returned,
         //  causing an exception (or worse, a subtle bug))
-        Map<Number, Object> newReferenceMap = new MirrorWithExtrasMap<>(out.get__optapy_reference_map());
+        Map<Number, Object> newReferenceMap = new PythonIdMap<>(out.get__optapy_reference_map());
         out.readFromPythonObject(Collections.newSetFromMap(new IdentityHashMap<>()),
                 newReferenceMap);
 
-        List<Object> referencedValues = new ArrayList<>(newReferenceMap.values());
-        for (Object value : referencedValues) {
+        // Read the fields of every referenced object in a single call to Python
+        List<CPythonBackedPythonLikeObject> referencedObjects = new ArrayList<>();
+        for (Object value : newReferenceMap.values()) {
             if (value instanceof CPythonBackedPythonLikeObject) {
-                ((CPythonBackedPythonLikeObject) value).$readFieldsFromCPythonReference();
+                referencedObjects.add((CPythonBackedPythonLikeObject) value);
             }
         }
+        CPythonBackedPythonInterpreter.readFieldsFromCPythonReferences(referencedObjects);
 
         return out;
     }
+
+    private static Object javaPlanningClone(PythonObject toClone) {
+        Map<Object, Object> cloneMap = new IdentityHashMap<>();
+        Object out = toClone.$createPlanningClone(cloneMap);
+        if (out == null) {
+            return null;
+        }
+        // Copying state can add planning clones of lists to cloneMap
+        for (Map.Entry<Object, Object> originalToClone : new ArrayList<>(cloneMap.entrySet())) {
+            ((PythonObject) originalToClone.getValue()).$copyPlanningCloneState(originalToClone.getKey(), cloneMap);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the planning clone of original in cloneMap. If original is not in cloneMap, but is a list or
+     * array whose first item is, returns a planning clone of the list or array. Otherwise, returns original.
+     */
+    @SuppressWarnings("unused")
+    public static Object getPlanningClone(Object original, Map<Object, Object> cloneMap) {
+        if (original == null) {
+            return null;
+        }
+        Object out = cloneMap.get(original);
+        if (out != null) {
+            return out;
+        }
+        if (original instanceof List) {
+            List<?> originalList = (List<?>) original;
+            if (originalList.isEmpty() || !cloneMap.containsKey(originalList.get(0))) {
+                return original;
+            }
+        } else if (original.getClass().isArray() && !original.getClass().getComponentType().isPrimitive()) {
+            if (Array.getLength(original) == 0 || !cloneMap.containsKey(Array.get(original, 0))) {
+                return original;
+            }
+        } else {
+            return original;
+        }
+        return clonePlanningCollection(original, cloneMap);
+    }
+
+    /**
+     * Returns a planning clone of the value of a planning entity collection property. Unlike
+     * {@link #getPlanningClone(Object, Map)}, always clones the list or array (even if it is empty), since
+     * a problem change can add entities to it.
+     */
+    @SuppressWarnings("unused")
+    public static Object clonePlanningEntityCollection(Object original, Map<Object, Object> cloneMap) {
+        if (original == null) {
+            return null;
+        }
+        Object out = cloneMap.get(original);
+        if (out != null) {
+            return out;
+        }
+        if (!(original instanceof List)
+                && !(original.getClass().isArray() && !original.getClass().getComponentType().isPrimitive())) {
+            return original;
+        }
+        return clonePlanningCollection(original, cloneMap);
+    }
+
+    private static Object clonePlanningCollection(Object original, Map<Object, Object> cloneMap) {
+        Object out;
+        if (original instanceof PythonList) {
+            out = ((PythonList<?>) original).planningClone(cloneMap);
+        } else if (original instanceof List) {
+            List<?> originalList = (List<?>) original;
+            List<Object> clonedItemList = new ArrayList<>(originalList.size());
+            for (Object item : originalList) {
+                clonedItemList.add(getPlanningClone(item, cloneMap));
+            }
+            out = (original instanceof PythonLikeList) ? new PythonLikeList<>(clonedItemList) : clonedItemList;
+        } else {
+            int length = Array.getLength(original);
+            out = Array.newInstance(original.getClass().getComponentType(), length);
+            for (int i = 0; i < length; i++) {
+                Array.set(out, i, getPlanningClone(Array.get(original, i), cloneMap));
+            }
+        }
+        cloneMap.put(original, out);
+        return out;
+    }
+
+    /**
+     * Returns a planning clone of the value of a planning list variable. Unlike {@link #getPlanningClone(Object, Map)},
+     * always clones the list, since OptaPlanner modifies it in place.
+     */
+    @SuppressWarnings("unused")
+    public static List<?> clonePlanningListVariable(List<?> original, Map<Object, Object> cloneMap) {
+        if (original == null) {
+            return null;
+        }
+        Object out = cloneMap.get(original);
+        if (out != null) {
+            return (List<?>) out;
+        }
+        if (original instanceof PythonList) {
+            out = ((PythonList<?>) original).planningClone(cloneMap);
+        } else {
+            List<Object> clonedItemList = new ArrayList<>(original.size());
+            for (Object item : original) {
+                clonedItemList.add(getPlanningClone(item, cloneMap));
+            }
+            out = clonedItemList;
+        }
+        cloneMap.put(original, out);
+        return (List<?>) out;
+    }
+
+    @SuppressWarnings("unused")
+    public static void bindPlanningListVariable(List<?> planningListVariable) {
+        if (planningListVariable instanceof PythonList) {
+            ((PythonList<?>) planningListVariable).bindPlanningClone();
+        }
+    }
+
+    /**
+     * Returns the Python planning clone of the Python Object origin.
+     */
+    @SuppressWarnings("unused")
+    public static OpaquePythonReference getPythonPlanningClone(OpaquePythonReference origin,
+            Map<Number, OpaquePythonReference> originIdToPythonCloneMap) {
+        OpaquePythonReference out = originIdToPythonCloneMap.get(
+                CPythonBackedPythonInterpreter.getPythonReferenceId(origin).longValue());
+        if (out == null) {
+            throw new IllegalStateException("Impossible state: the Python Object (" +
+                    PythonWrapperGenerator.getPythonObjectString(origin) + ") was not planning cloned.");
+        }
+        return out;
+    }
+
+    /**
+     * Creates the Python Objects of a planning solution that was planning cloned in Java, and updates them
+     * to the state of the Java objects.
+     *
+     * @param solution The planning clone of the planning solution
+     * @param origin The Python Object of the first original of solution that had one
+     * @param planningCloneObjectList The planning clones created when solution was cloned; its items that
+     *        are not a {@link PythonObject} are ignored
+     */
+    @SuppressWarnings("unused")
+    public static void publishPlanningClone(PythonObject solution, OpaquePythonReference origin,
+            List<Object> planningCloneObjectList) {
+        Map<Number, OpaquePythonReference> originIdToPythonCloneMap = planningClonePythonObject.apply(origin);
+        for (Object planningClone : planningCloneObjectList) {
+            if (planningClone instanceof PythonObject) {
+                ((PythonObject) planningClone).$bindPlanningClone(originIdToPythonCloneMap);
+            }
+        }
+        solution.forceUpdate();
+    }
 }
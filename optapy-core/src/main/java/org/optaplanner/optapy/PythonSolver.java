@@ -3,11 +3,14 @@ package org.optaplanner.optapy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.jpyinterpreter.CPythonBackedPythonInterpreter;
 import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference;
+import org.optaplanner.jpyinterpreter.util.PythonIdMap;
 
 @SuppressWarnings("unused")
 public class PythonSolver {
@@ -18,8 +21,43 @@ public class PythonSolver {
      */
     public static boolean onlyUseJavaSetters = false;
 
+    /**
+     * Completes with true once every function of the last built constraint provider that is translated in
+     * the background is translated; null if it has none. A solve that is already running keeps its setters,
+     * so only solves that start after it completed only use Java setters.
+     */
+    public static CompletableFuture<Boolean> tieredTranslation = null;
+
+    /**
+     * Sets {@link #onlyUseJavaSetters} once every future in translationList completes with true.
+     *
+     * @param translationList The futures from
+     *        {@link org.optaplanner.jpyinterpreter.TieredFunctionTranslator#getTranslation(Object)} of the
+     *        constraint provider that is being built; empty if it has none
+     */
+    public static synchronized void useOnlyJavaSettersOnceTranslated(List<CompletableFuture<Boolean>> translationList) {
+        if (translationList.isEmpty()) {
+            tieredTranslation = null;
+            return;
+        }
+        CompletableFuture<Boolean> allTranslated = CompletableFuture.completedFuture(true);
+        for (CompletableFuture<Boolean> translation : translationList) {
+            allTranslated = allTranslated.thenCombine(translation, Boolean::logicalAnd);
+        }
+        CompletableFuture<Boolean> thisTieredTranslation = allTranslated;
+        tieredTranslation = thisTieredTranslation;
+        thisTieredTranslation.thenAccept(isTranslated -> {
+            synchronized (PythonSolver.class) {
+                // Another constraint provider might have been built since
+                if (isTranslated && tieredTranslation == thisTieredTranslation) {
+                    onlyUseJavaSetters = true;
+                }
+            }
+        });
+    }
+
     public static Map<Number, Object> getNewReferenceMap() {
-        return new MirrorWithExtrasMap<>(CPythonBackedPythonInterpreter.pythonObjectIdToConvertedObjectMap);
+        return new PythonIdMap<>(CPythonBackedPythonInterpreter.pythonObjectIdToConvertedObjectMap);
     }
 
     public static Object wrapProblem(Class<?> solutionClass, OpaquePythonReference problem) {
@@ -39,7 +77,7 @@ public class PythonSolver {
             //  Python Object can have the same id, leading to the old value in the map being returned,
             //  causing an exception (or worse, a subtle bug))
             out.readFromPythonObject(Collections.newSetFromMap(new IdentityHashMap<>()),
-                    new MirrorWithExtrasMap<>(out.get__optapy_reference_map()));
+                    new PythonIdMap<>(out.get__optapy_reference_map()));
             return out;
         } catch (Throwable t) {
             throw new OptaPyException("A problem occurred when wrapping the python problem (" +
@@ -65,7 +103,7 @@ public class PythonSolver {
             //  Python Object can have the same id, leading to the old value in the map being returned,
             //  causing an exception (or worse, a subtle bug))
             out.readFromPythonObject(Collections.newSetFromMap(new IdentityHashMap<>()),
-                    new MirrorWithExtrasMap<>(out.get__optapy_reference_map()));
+                    new PythonIdMap<>(out.get__optapy_reference_map()));
             return out;
         } catch (Throwable t) {
             throw new OptaPyException("A problem occurred when wrapping the python fact (" +
@@ -162,6 +162,8 @@ public class PythonWrapperGenerator {
 
     @SuppressWarnings("unused")
     public static OpaquePythonReference getPythonObject(PythonObject pythonObject) {
+        // Python code is about to read the Python object, which might reference a modified list
+        PythonList.updateDirtyPythonLists();
         return pythonObject.get__optapy_Id();
     }
 
@@ -284,6 +286,12 @@ public class PythonWrapperGenerator {
     static final String PYTHON_LIKE_VALUE_MAP_FIELD_NAME = "__optaplannerPythonLikeValueCacheMap";
     static final String PYTHON_LIKE_TYPE_FIELD_NAME = "$TYPE";
 
+    // Holds the OpaquePythonReference of the first original of a planning clone created in Java that has one
+    static final String PLANNING_CLONE_ORIGIN_FIELD_NAME = "__optaplannerPlanningCloneOrigin";
+
+    // Holds the planning clones created in Java when a planning solution was cloned
+    static final String PLANNING_CLONE_OBJECT_LIST_FIELD_NAME = "__optaplannerPlanningCloneObjectList";
+
     static final TriFunction<OpaquePythonReference, String, Object, Object> NONE_PYTHON_SETTER = (a, b, c) -> null;
 
     private static <T> T wrapArray(Class<T> javaClass, OpaquePythonReference object, Number id, Map<Number, Object> map,
@@ -841,8 +849,23 @@ public class PythonWrapperGenerator {
     // Generate PythonObject interface methods
     private static void generateAsPointer(ClassCreator classCreator, FieldDescriptor valueField,
             FieldDescriptor referenceMapField, FieldDescriptor pythonLikeObjectValueField,
-            FieldDescriptor typeField) {
+            FieldDescriptor typeField, FieldDescriptor planningCloneOriginField,
+            FieldDescriptor planningCloneObjectListField) {
         MethodCreator methodCreator = classCreator.getMethodCreator("get__optapy_Id", OpaquePythonReference.class);
+        if (planningCloneObjectListField != null) {
+            // A planning solution cloned in Java does not have Python Objects until it is published
+            BytecodeCreator unpublishedBranch =
+                    methodCreator.ifNull(methodCreator.readInstanceField(valueField, methodCreator.getThis())).trueBranch();
+            ResultHandle planningCloneObjectList =
+                    unpublishedBranch.readInstanceField(planningCloneObjectListField, unpublishedBranch.getThis());
+            BytecodeCreator planningCloneBranch = unpublishedBranch.ifNull(planningCloneObjectList).falseBranch();
+            planningCloneBranch.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class, "publishPlanningClone", void.class,
+                            PythonObject.class, OpaquePythonReference.class, List.class),
+                    planningCloneBranch.getThis(),
+                    planningCloneBranch.readInstanceField(planningCloneOriginField, planningCloneBranch.getThis()),
+                    planningCloneObjectList);
+        }
         ResultHandle valueResultHandle = methodCreator.readInstanceField(valueField, methodCreator.getThis());
         methodCreator.returnValue(valueResultHandle);
 
@@ -859,7 +882,8 @@ public class PythonWrapperGenerator {
             List<FieldDescriptor> planningVariableFieldList, List<String> planningVariableSetterNameList,
             List<FieldDescriptor> planningListVariableFieldList, List<String> planningListVariableSetterNameList,
             List<FieldDescriptor> planningScoreFieldList,
-            List<String> planningScoreSetterNameList) {
+            List<String> planningScoreSetterNameList,
+            FieldDescriptor planningCloneObjectListField) {
         MethodCreator methodCreator = classCreator.getMethodCreator("forceUpdate", void.class);
 
         switch (generatedClassType) {
@@ -914,6 +938,17 @@ public class PythonWrapperGenerator {
             }
             case PLANNING_SOLUTION: {
                 ResultHandle thisObject = methodCreator.getThis();
+                if (planningCloneObjectListField != null) {
+                    // Publishing a planning solution cloned in Java creates its Python Objects and updates them
+                    BytecodeCreator unpublishedBranch =
+                            methodCreator.ifNull(methodCreator.readInstanceField(valueField, thisObject)).trueBranch();
+                    BytecodeCreator planningCloneBranch = unpublishedBranch.ifNull(
+                            unpublishedBranch.readInstanceField(planningCloneObjectListField, thisObject)).falseBranch();
+                    planningCloneBranch.invokeInterfaceMethod(
+                            MethodDescriptor.ofMethod(PythonObject.class, "get__optapy_Id", OpaquePythonReference.class),
+                            thisObject);
+                    planningCloneBranch.returnValue(null);
+                }
                 for (int i = 0; i < planningScoreFieldList.size(); i++) {
                     FieldDescriptor planningScoreField = planningScoreFieldList.get(i);
                     String setterName = planningScoreSetterNameList.get(i);
@@ -974,6 +1009,189 @@ public class PythonWrapperGenerator {
         methodCreator.returnValue(null);
     }
 
+    // Generate the PythonObject methods used to planning clone a planning entity or solution in Java
+    private static void generatePlanningClone(ClassCreator classCreator, GeneratedClassType generatedClassType,
+            Class<?> parentClass, FieldDescriptor valueField, FieldDescriptor referenceMapField,
+            FieldDescriptor pythonLikeValueMapField, FieldDescriptor pythonSetterField, FieldDescriptor typeField,
+            FieldDescriptor planningCloneOriginField, FieldDescriptor planningCloneObjectListField,
+            List<FieldDescriptor> fieldDescriptorList, List<Object> returnTypeList,
+            List<FieldDescriptor> planningEntityPropertyFieldList,
+            List<FieldDescriptor> planningEntityCollectionFieldList,
+            List<FieldDescriptor> planningListVariableFieldList) {
+        MethodDescriptor mapGet = MethodDescriptor.ofMethod(Map.class, "get", Object.class, Object.class);
+        MethodDescriptor mapPut = MethodDescriptor.ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
+        MethodDescriptor getPlanningClone = MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class,
+                "getPlanningClone", Object.class, Object.class, Map.class);
+
+        // $createPlanningClone: create the clone, and the clones of the planning entities of a solution
+        MethodCreator methodCreator = classCreator.getMethodCreator("$createPlanningClone", Object.class, Map.class);
+        ResultHandle thisObject = methodCreator.getThis();
+        ResultHandle cloneMap = methodCreator.getMethodParam(0);
+
+        ResultHandle existingClone = methodCreator.invokeInterfaceMethod(mapGet, cloneMap, thisObject);
+        BytecodeCreator alreadyClonedBranch = methodCreator.ifNull(existingClone).falseBranch();
+        alreadyClonedBranch.returnValue(existingClone);
+
+        ResultHandle clone = methodCreator.newInstance(
+                MethodDescriptor.ofConstructor(classCreator.getClassName(), PythonLikeType.class),
+                methodCreator.readStaticField(typeField));
+        methodCreator.invokeInterfaceMethod(mapPut, cloneMap, thisObject, clone);
+
+        if (generatedClassType == GeneratedClassType.PLANNING_SOLUTION) {
+            for (FieldDescriptor planningEntityField : planningEntityPropertyFieldList) {
+                ResultHandle entity = methodCreator.readInstanceField(planningEntityField, thisObject);
+                createEntityPlanningClone(methodCreator.ifNull(entity).falseBranch(), entity, cloneMap);
+            }
+            for (FieldDescriptor planningEntityCollectionField : planningEntityCollectionFieldList) {
+                ResultHandle collection = methodCreator.readInstanceField(planningEntityCollectionField, thisObject);
+                BytecodeCreator notNullBranch = methodCreator.ifNull(collection).falseBranch();
+                if (planningEntityCollectionField.getType().endsWith("[]")) {
+                    // Array
+                    AssignableResultHandle arrayIndex = notNullBranch.createVariable(int.class);
+                    notNullBranch.assign(arrayIndex, notNullBranch.load(0));
+                    ResultHandle arrayLength = notNullBranch.arrayLength(collection);
+
+                    WhileLoop arrayLoop =
+                            notNullBranch.whileLoop(condition -> condition.ifIntegerLessThan(arrayIndex, arrayLength));
+                    try (BytecodeCreator arrayLoopBlock = arrayLoop.block()) {
+                        createEntityPlanningClone(arrayLoopBlock, arrayLoopBlock.readArrayValue(collection, arrayIndex),
+                                cloneMap);
+                        arrayLoopBlock.assign(arrayIndex, arrayLoopBlock.increment(arrayIndex));
+                    }
+                } else {
+                    // Collection
+                    ResultHandle iterator = notNullBranch.invokeInterfaceMethod(
+                            MethodDescriptor.ofMethod(Collection.class, "iterator", Iterator.class),
+                            collection);
+                    WhileLoop iteratorLoop = notNullBranch.whileLoop(condition -> condition.ifTrue(condition
+                            .invokeInterfaceMethod(MethodDescriptor.ofMethod(Iterator.class, "hasNext", boolean.class),
+                                    iterator)));
+                    try (BytecodeCreator iteratorLoopBlock = iteratorLoop.block()) {
+                        createEntityPlanningClone(iteratorLoopBlock, iteratorLoopBlock.invokeInterfaceMethod(
+                                MethodDescriptor.ofMethod(Iterator.class, "next", Object.class),
+                                iterator), cloneMap);
+                    }
+                }
+            }
+        }
+        methodCreator.returnValue(clone);
+
+        // $copyPlanningCloneState: copy the fields of the original, replacing planning entities by their clones
+        methodCreator = classCreator.getMethodCreator("$copyPlanningCloneState", void.class, Object.class, Map.class);
+        thisObject = methodCreator.getThis();
+        ResultHandle original = methodCreator.checkCast(methodCreator.getMethodParam(0), classCreator.getClassName());
+        cloneMap = methodCreator.getMethodParam(1);
+
+        methodCreator.writeInstanceField(referenceMapField, thisObject,
+                methodCreator.readInstanceField(referenceMapField, original));
+        methodCreator.writeInstanceField(pythonSetterField, thisObject,
+                methodCreator.readInstanceField(pythonSetterField, original));
+        methodCreator.writeInstanceField(pythonLikeValueMapField, thisObject,
+                methodCreator.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
+        methodCreator.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(CPythonBackedPythonLikeObject.class, "$setInstanceMap", void.class, Map.class),
+                thisObject,
+                methodCreator.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(CPythonBackedPythonLikeObject.class, "$getInstanceMap", Map.class),
+                        original));
+
+        AssignableResultHandle origin = methodCreator.createVariable(OpaquePythonReference.class);
+        methodCreator.assign(origin, methodCreator.readInstanceField(valueField, original));
+        BytecodeCreator unpublishedBranch = methodCreator.ifNull(origin).trueBranch();
+        unpublishedBranch.assign(origin, unpublishedBranch.readInstanceField(planningCloneOriginField, original));
+        methodCreator.writeInstanceField(planningCloneOriginField, thisObject, origin);
+
+        // Fields of the translated Python class (the ones with a wrapper getter are overwritten below)
+        Set<String> wrapperFieldNameSet = Set.of(valueField.getName(), referenceMapField.getName(),
+                pythonLikeValueMapField.getName(), pythonSetterField.getName());
+        for (Field field : parentClass.getFields()) {
+            if (Modifier.isStatic(field.getModifiers())
+                    || field.getDeclaringClass().isAssignableFrom(CPythonBackedPythonLikeObject.class)
+                    || wrapperFieldNameSet.contains(field.getName())) {
+                continue;
+            }
+            FieldDescriptor fieldDescriptor = FieldDescriptor.of(field);
+            ResultHandle value = methodCreator.readInstanceField(fieldDescriptor, original);
+            if (!field.getType().isPrimitive()) {
+                value = methodCreator.checkCast(
+                        methodCreator.invokeStaticMethod(getPlanningClone, value, cloneMap),
+                        field.getType());
+            }
+            methodCreator.writeInstanceField(fieldDescriptor, thisObject, value);
+        }
+
+        // Fields of the wrapper getters
+        for (int i = 0; i < fieldDescriptorList.size(); i++) {
+            FieldDescriptor fieldDescriptor = fieldDescriptorList.get(i);
+            Object returnType = returnTypeList.get(i);
+            ResultHandle value = methodCreator.readInstanceField(fieldDescriptor, original);
+            if (returnType instanceof Class && ((Class<?>) returnType).isPrimitive()) {
+                methodCreator.writeInstanceField(fieldDescriptor, thisObject, value);
+                continue;
+            }
+            if (planningListVariableFieldList.contains(fieldDescriptor)) {
+                value = methodCreator.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class, "clonePlanningListVariable",
+                                List.class, List.class, Map.class),
+                        value, cloneMap);
+            } else if (planningEntityCollectionFieldList.contains(fieldDescriptor)) {
+                value = methodCreator.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class, "clonePlanningEntityCollection",
+                                Object.class, Object.class, Map.class),
+                        value, cloneMap);
+            } else {
+                value = methodCreator.invokeStaticMethod(getPlanningClone, value, cloneMap);
+            }
+            if (returnType instanceof Class) {
+                value = methodCreator.checkCast(value, (Class<?>) returnType);
+            } else {
+                value = methodCreator.checkCast(value, (String) returnType);
+            }
+            methodCreator.writeInstanceField(fieldDescriptor, thisObject, value);
+        }
+        writePythonLikeValues(methodCreator, parentClass, pythonLikeValueMapField, fieldDescriptorList);
+
+        if (generatedClassType == GeneratedClassType.PLANNING_SOLUTION) {
+            methodCreator.writeInstanceField(planningCloneObjectListField, thisObject,
+                    methodCreator.newInstance(MethodDescriptor.ofConstructor(ArrayList.class, Collection.class),
+                            methodCreator.invokeInterfaceMethod(
+                                    MethodDescriptor.ofMethod(Map.class, "values", Collection.class),
+                                    cloneMap)));
+        }
+        methodCreator.returnValue(null);
+
+        // $bindPlanningClone: bind the clone to the Python clone of the Python Object of its origin
+        methodCreator = classCreator.getMethodCreator("$bindPlanningClone", void.class, Map.class);
+        thisObject = methodCreator.getThis();
+        unpublishedBranch = methodCreator.ifNull(methodCreator.readInstanceField(valueField, thisObject)).trueBranch();
+        ResultHandle pythonClone = unpublishedBranch.invokeStaticMethod(
+                MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class, "getPythonPlanningClone",
+                        OpaquePythonReference.class, OpaquePythonReference.class, Map.class),
+                unpublishedBranch.readInstanceField(planningCloneOriginField, thisObject),
+                unpublishedBranch.getMethodParam(0));
+        unpublishedBranch.writeInstanceField(valueField, thisObject, pythonClone);
+        unpublishedBranch.invokeVirtualMethod(MethodDescriptor.ofMethod(CPythonBackedPythonLikeObject.class,
+                "$setCPythonReference", void.class, OpaquePythonReference.class),
+                thisObject, pythonClone);
+        for (FieldDescriptor planningListVariableField : planningListVariableFieldList) {
+            methodCreator.invokeStaticMethod(
+                    MethodDescriptor.ofMethod(PythonPlanningSolutionCloner.class, "bindPlanningListVariable",
+                            void.class, List.class),
+                    methodCreator.readInstanceField(planningListVariableField, thisObject));
+        }
+        methodCreator.returnValue(null);
+    }
+
+    private static void createEntityPlanningClone(BytecodeCreator bytecodeCreator, ResultHandle entity,
+            ResultHandle cloneMap) {
+        ResultHandle entityClone = bytecodeCreator.invokeInterfaceMethod(
+                MethodDescriptor.ofMethod(PythonObject.class, "$createPlanningClone", Object.class, Map.class),
+                entity, cloneMap);
+        // The planning entity can only be cloned in Python, so the solution must also be cloned in Python
+        BytecodeCreator unsupportedBranch = bytecodeCreator.ifNull(entityClone).trueBranch();
+        unsupportedBranch.returnValue(unsupportedBranch.loadNull());
+    }
+
     private static void generateReadFromPythonObject(ClassCreator classCreator, GeneratedClassType generatedClassType,
             Class<?> parentClass,
             List<FieldDescriptor> planningEntityPropertyFieldList,
@@ -1346,8 +1564,27 @@ public class PythonWrapperGenerator {
             // Do nothing
         }
 
+        // Planning entities and solutions are planning cloned in Java when they do not depend on their Python Object
+        // for their identity or Python state
+        boolean supportsJavaPlanningClone = generatedClassType != GeneratedClassType.PROBLEM_FACT
+                && !hasOptaPyParentClass && !defineEqualsAndHashcode
+                && CPythonBackedPythonLikeObject.class.isAssignableFrom(parentClass)
+                && !PythonObjectWrapper.class.isAssignableFrom(parentClass);
+        FieldDescriptor planningCloneOriginField = null;
+        FieldDescriptor planningCloneObjectListField = null;
+        if (supportsJavaPlanningClone) {
+            planningCloneOriginField =
+                    classCreator.getFieldCreator(PLANNING_CLONE_ORIGIN_FIELD_NAME, OpaquePythonReference.class)
+                            .setModifiers(Modifier.PUBLIC).getFieldDescriptor();
+            if (generatedClassType == GeneratedClassType.PLANNING_SOLUTION) {
+                planningCloneObjectListField = classCreator.getFieldCreator(PLANNING_CLONE_OBJECT_LIST_FIELD_NAME, List.class)
+                        .setModifiers(Modifier.PUBLIC).getFieldDescriptor();
+            }
+        }
+
         if (!hasOptaPyParentClass) {
-            generateAsPointer(classCreator, valueField, referenceMapField, pythonLikeValueMapField, typeField);
+            generateAsPointer(classCreator, valueField, referenceMapField, pythonLikeValueMapField, typeField,
+                    planningCloneOriginField, planningCloneObjectListField);
         }
 
         // We only need to create methods/fields for methods with OptaPlanner annotations
@@ -1395,7 +1632,17 @@ public class PythonWrapperGenerator {
                 planningEntityFieldList, planningEntityCollectionFieldList,
                 planningVariableFieldList, planningVariableSetterNameList,
                 planningListVariableFieldList, planningListVariableSetterNameList,
-                planningScoreFieldList, planningScoreSetterNameList);
+                planningScoreFieldList, planningScoreSetterNameList,
+                planningCloneObjectListField);
+
+        if (supportsJavaPlanningClone) {
+            generatePlanningClone(classCreator, generatedClassType, parentClass, valueField, referenceMapField,
+                    pythonLikeValueMapField, pythonSetterField, typeField,
+                    planningCloneOriginField, planningCloneObjectListField,
+                    fieldDescriptorList, returnTypeList,
+                    planningEntityFieldList, planningEntityCollectionFieldList,
+                    planningListVariableFieldList);
+        }
 
         generateReadFromPythonObject(classCreator, generatedClassType, parentClass,
                 planningEntityFieldList, planningEntityCollectionFieldList,
@@ -1663,6 +1910,13 @@ public class PythonWrapperGenerator {
             }
         }
 
+        writePythonLikeValues(methodCreator, parentClass, pythonLikeValueMapField, fieldDescriptorList);
+        methodCreator.returnValue(null);
+    }
+
+    // Put the values of the fields into the map used by the python interpreter, and the fields of the parent class
+    private static void writePythonLikeValues(MethodCreator methodCreator, Class<?> parentClass,
+            FieldDescriptor pythonLikeValueMapField, List<FieldDescriptor> fieldDescriptorList) {
         for (FieldDescriptor fieldDescriptor : fieldDescriptorList) {
             String methodName = fieldDescriptor.getName().substring(0, fieldDescriptor.getName().length() - 6);
 
@@ -1700,7 +1954,6 @@ public class PythonWrapperGenerator {
                 // Do nothing; no setter
             }
         }
-        methodCreator.returnValue(null);
     }
 
     private static FieldDescriptor generateWrapperMethod(ClassCreator classCreator, Class<?> parentClass,
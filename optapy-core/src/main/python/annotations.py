@@ -638,6 +638,10 @@ def deep_planning_clone(planning_clone_object: Union[Type, Callable]):
     :param planning_clone_object: The class or property that should be deep planning cloned.
     :return: planning_clone_object marked as being required for deep planning clone.
     """
+    ensure_init()
+    from org.optaplanner.optapy import PythonPlanningSolutionCloner  # noqa
+    # Only the Python planning cloner knows about @deep_planning_clone
+    PythonPlanningSolutionCloner.disableJavaPlanningClone()
     planning_clone_object.__optapy_is_planning_clone = True
     if isinstance(planning_clone_object, type):
         _add_shallow_copy_to_class(planning_clone_object)
@@ -664,18 +668,36 @@ def constraint_provider(constraint_provider_function: Callable[['_ConstraintFact
         def wrapped_constraint_provider(constraint_factory):
             from . import constraint_stream
             from org.optaplanner.optapy import PythonSolver
+            from org.optaplanner.jpyinterpreter import BatchFunctionTranslator
+            from java.util import ArrayList
             try:
                 constraint_stream.convert_to_java = function_bytecode_translation
+                constraint_stream.canonical_cast_cache = dict()
+                constraint_stream.batch_function_translator = BatchFunctionTranslator()
                 out = function(constraint_stream.PythonConstraintFactory(constraint_factory,
                                                                          function_bytecode_translation))
-                if function_bytecode_translation is not BytecodeTranslation.NONE:
+                # The functions are translated in parallel once they are all known, before solving starts
+                constraint_stream.translate_deferred_functions()
+                tiered_translation_list = ArrayList()
+                if function_bytecode_translation is BytecodeTranslation.TIERED:
+                    # The Python implementations are used until translation finishes, so they need Python setters;
+                    # solves that start after every function is translated only use Java setters
+                    PythonSolver.onlyUseJavaSetters = False
+                    if constraint_stream.all_translated_successfully:
+                        for tiered_translation in constraint_stream.tiered_translation_list:
+                            tiered_translation_list.add(tiered_translation)
+                elif function_bytecode_translation is not BytecodeTranslation.NONE:
                     PythonSolver.onlyUseJavaSetters = constraint_stream.all_translated_successfully
                 else:
                     PythonSolver.onlyUseJavaSetters = False
+                PythonSolver.useOnlyJavaSettersOnceTranslated(tiered_translation_list)
                 return out
             finally:
                 constraint_stream.convert_to_java = BytecodeTranslation.IF_POSSIBLE
                 constraint_stream.all_translated_successfully = True
+                constraint_stream.tiered_translation_list = []
+                constraint_stream.canonical_cast_cache = None
+                constraint_stream.batch_function_translator = None
         wrapped_constraint_provider.__optapy_java_class = _generate_constraint_provider_class(function,
                                                                                               wrapped_constraint_provider)
         return wrapped_constraint_provider
@@ -7,6 +7,7 @@ ensure_init()
 
 from org.optaplanner.core.api.score.stream import Joiners as JavaJoiners, \
     ConstraintCollectors as JavaConstraintCollectors, Constraint  # noqa
+from org.optaplanner.optapy import PythonConstraintCollectors  # noqa
 from org.optaplanner.core.api.score.constraint import ConstraintMatch, ConstraintMatchTotal
 from org.optaplanner.core.api.score import Score as _Score
 from ..constraint_stream import PythonConstraintFactory as ConstraintFactory, \
@@ -170,14 +171,14 @@ class Joiners:
     E_ = TypeVar('E_')
 
     @staticmethod
-    def _call_comparison_java_joiner(java_joiner, mapping_or_left_mapping, right_mapping):
+    def _call_comparison_java_joiner(java_joiner, mapping_or_left_mapping, right_mapping, is_equal_joiner=False):
         from ..constraint_stream import SamePropertyUniJoiner, PropertyJoiner
         if mapping_or_left_mapping is None and right_mapping is None:
             raise ValueError
         elif mapping_or_left_mapping is not None and right_mapping is None:
-            return SamePropertyUniJoiner(java_joiner, mapping_or_left_mapping)
+            return SamePropertyUniJoiner(java_joiner, mapping_or_left_mapping, is_equal_joiner)
         elif mapping_or_left_mapping is not None and right_mapping is not None:
-            return PropertyJoiner(java_joiner, mapping_or_left_mapping, right_mapping)
+            return PropertyJoiner(java_joiner, mapping_or_left_mapping, right_mapping, is_equal_joiner)
         else:
             raise ValueError
 
@@ -219,8 +220,8 @@ class Joiners:
         """
         from ..constraint_stream import SamePropertyUniJoiner
         if mapping_or_left_mapping is None and right_mapping is None:
-            return SamePropertyUniJoiner(JavaJoiners.equal, lambda a: a)
-        return Joiners._call_comparison_java_joiner(JavaJoiners.equal, mapping_or_left_mapping, right_mapping)
+            return SamePropertyUniJoiner(JavaJoiners.equal, lambda a: a, True)
+        return Joiners._call_comparison_java_joiner(JavaJoiners.equal, mapping_or_left_mapping, right_mapping, True)
 
     @overload  # noqa
     @staticmethod
@@ -495,14 +496,15 @@ class ConstraintCollectors:
 
     @staticmethod
     def average(group_value_mapping):
-        """Returns a collector that calculates an average of an int property of the elements that are being grouped.
+        """Returns a collector that calculates an average of an int or float property of the elements that are being
+        grouped.
 
         :param group_value_mapping:
 
         :return:
         """
-        from ..constraint_stream import GroupIntMappingSingleArgConstraintCollector
-        return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.average, group_value_mapping)
+        from ..constraint_stream import GroupNumberMappingSingleArgConstraintCollector
+        return GroupNumberMappingSingleArgConstraintCollector(PythonConstraintCollectors.average, group_value_mapping)
 
     @overload  # noqa
     @staticmethod
@@ -926,15 +928,15 @@ class ConstraintCollectors:
 
     @staticmethod
     def sum(function, zero=None, adder=None, subtractor=None):
-        """Returns a collector that sums an int property of the elements that are being grouped.
+        """Returns a collector that sums an int or float property of the elements that are being grouped.
 
         :param function:
 
         :return:
         """
-        from ..constraint_stream import GroupIntMappingSingleArgConstraintCollector
+        from ..constraint_stream import GroupNumberMappingSingleArgConstraintCollector
         if zero is None and adder is None and subtractor is None:
-            return GroupIntMappingSingleArgConstraintCollector(JavaConstraintCollectors.sum, function)
+            return GroupNumberMappingSingleArgConstraintCollector(PythonConstraintCollectors.sum, function)
         elif zero is not None and adder is not None and subtractor is not None:
             raise NotImplementedError  # TODO
         else:
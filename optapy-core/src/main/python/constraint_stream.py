@@ -8,7 +8,9 @@ from .jpype_type_conversions import _convert_to_java_compatible_object
 from .jpype_type_conversions import PythonFunction, PythonBiFunction, PythonTriFunction, PythonQuadFunction, \
     PythonPentaFunction, PythonToIntFunction, PythonToIntBiFunction, PythonToIntTriFunction, PythonToIntQuadFunction, \
     PythonPredicate, PythonBiPredicate, PythonTriPredicate, PythonQuadPredicate, PythonPentaPredicate
-from jpyinterpreter import translate_python_bytecode_to_java_bytecode, check_current_python_version_supported
+from jpyinterpreter import translate_python_bytecode_to_java_bytecode, \
+    translate_python_bytecode_to_java_bytecode_in_background, translate_python_bytecode_to_java_bytecode_in_batch, \
+    check_current_python_version_supported
 from enum import Enum
 import jpype.imports  # noqa
 from jpype import JImplements, JOverride, JObject, JClass, JInt
@@ -42,10 +44,18 @@ class BytecodeTranslation(Enum):
     """
     Always use original Python implementation; bytecode translation will not occur
     """
+    TIERED = 'TIERED'
+    """
+    Filters and functions that return an int start with the original Python implementation, and switch to
+    translated bytecode once it is translated on a background thread. Other functions (such as join and group
+    keys, whose values must not change representation while solving) are translated like IF_POSSIBLE.
+    """
 
 
 function_bytecode_translation: BytecodeTranslation = BytecodeTranslation.IF_POSSIBLE
 all_translated_successfully = True
+tiered_translation_list = []
+batch_function_translator = None
 logger = logging.getLogger('optapy')
 
 def _check_if_bytecode_translation_possible():
@@ -108,6 +118,60 @@ class PythonPentaPredicate:
         return self.delegate(argument1, argument2, argument3, argument4, argument5)
 
 
+def _get_deferred_bytecode_translator(default_cast, arg_count):
+    """
+    Returns the translator for a function passed to a constraint stream. While a constraint provider is built,
+    translation is deferred to translate_deferred_functions, which translates all of its functions in parallel.
+    """
+    if batch_function_translator is None:
+        return translate_python_bytecode_to_java_bytecode
+
+    def translate_in_batch(python_function, java_function_type, *type_args):
+        return translate_python_bytecode_to_java_bytecode_in_batch(batch_function_translator, python_function,
+                                                                   default_cast(python_function, arg_count),
+                                                                   java_function_type, *type_args)
+
+    return translate_in_batch
+
+
+def translate_deferred_functions():
+    """
+    Translates the functions deferred while building the constraint provider, and switches them to their
+    translated bytecode. Functions that cannot be translated keep their Python implementation
+    (or raise the translation error if bytecode translation is forced).
+    """
+    global all_translated_successfully
+    if batch_function_translator is None:
+        return
+    for error in batch_function_translator.translateAll():
+        if error is None:
+            continue
+        if function_bytecode_translation is BytecodeTranslation.FORCE:
+            raise error
+        all_translated_successfully = False
+
+
+def _get_bytecode_translator(default_cast, arg_count):
+    """
+    Returns the translator for a function whose result does not depend on whether it was computed by Python
+    or by translated bytecode, so TIERED can switch between them while solving.
+    """
+    if function_bytecode_translation is not BytecodeTranslation.TIERED:
+        return _get_deferred_bytecode_translator(default_cast, arg_count)
+
+    def translate_in_background(python_function, java_function_type, *type_args):
+        from org.optaplanner.jpyinterpreter import TieredFunctionTranslator  # noqa
+        out = translate_python_bytecode_to_java_bytecode_in_background(python_function,
+                                                                       default_cast(python_function, arg_count),
+                                                                       java_function_type, *type_args)
+        translation = TieredFunctionTranslator.getTranslation(out)
+        if translation is not None:
+            tiered_translation_list.append(translation)
+        return out
+
+    return translate_in_background
+
+
 def _check_if_type_args_are_python_object_wrappers(type_args):
     global function_bytecode_translation, all_translated_successfully
     from org.optaplanner.jpyinterpreter.types.wrappers import PythonObjectWrapper
@@ -120,7 +184,107 @@ def _check_if_type_args_are_python_object_wrappers(type_args):
     return False
 
 
+# Maps the key of a function to its cast; only set while a constraint provider is built, so the cached
+# functions (and the objects they capture) are not kept alive after it
+canonical_cast_cache: Optional[dict] = None
+
+
+def _get_closure_value_key(value):
+    """
+    Returns a key that is equal for values that are interchangeable: immutable builtins with the same type and
+    value (recursively for tuples and frozensets), and otherwise the same object. Other objects are compared by
+    identity, since equal objects (by __eq__) can still have different attributes.
+    """
+    value_type = type(value)
+    if value_type is float:
+        # hex distinguishes 0.0 and -0.0, and is equal for NaNs
+        return float, value.hex()
+    elif value_type is complex:
+        return complex, value.real.hex(), value.imag.hex()
+    elif value_type in (int, bool, str, bytes, type(None)):
+        # the type is part of the key, since 1 == True == 1.0
+        return value_type, value
+    elif value_type is tuple:
+        return tuple, tuple(_get_closure_value_key(item) for item in value)
+    elif value_type is frozenset:
+        return frozenset, frozenset(_get_closure_value_key(item) for item in value)
+    else:
+        return id, id(value)
+
+
+def _get_function_key(function):
+    """
+    Returns a key that is equal for functions that behave the same: functions created from the same code
+    object, with the same globals, defaults and closure values. Functions created by a lambda inside a
+    helper that is called by several constraints get equal keys, so they can share a Java instance.
+    """
+    code = getattr(function, '__code__', None)
+    if code is None:
+        return function
+    closure = getattr(function, '__closure__', None) or ()
+    try:
+        closure_key = tuple(_get_closure_value_key(cell.cell_contents) for cell in closure)
+    except ValueError:  # An empty cell; the function is still being defined
+        return function
+    defaults = getattr(function, '__defaults__', None) or ()
+    kwdefaults = getattr(function, '__kwdefaults__', None) or {}
+    return (code, id(function.__globals__), closure_key,
+            tuple(_get_closure_value_key(default) for default in defaults),
+            tuple((name, _get_closure_value_key(default)) for name, default in sorted(kwdefaults.items())))
+
+
+def _canonical_cast(cast):
+    """
+    Makes cast return the same Java instance for functions that behave the same, since OptaPlanner only shares
+    the nodes of constraint streams whose lambdas are equal.
+    """
+    def canonical_cast(function, *type_args):
+        global all_translated_successfully
+        if canonical_cast_cache is None:
+            return cast(function, *type_args)
+        try:
+            key = (cast, function_bytecode_translation, _get_function_key(function), type_args)
+            hash(key)
+        except TypeError:
+            return cast(function, *type_args)
+
+        if key not in canonical_cast_cache:
+            previous_all_translated_successfully = all_translated_successfully
+            all_translated_successfully = True
+            try:
+                out = cast(function, *type_args)
+            finally:
+                translated_successfully = all_translated_successfully
+                all_translated_successfully = previous_all_translated_successfully and translated_successfully
+            # The function is kept so the objects whose id is in the key stay alive (and their id is not reused)
+            # until the constraint provider is built
+            canonical_cast_cache[key] = (function, out, translated_successfully)
+
+        _, out, translated_successfully = canonical_cast_cache[key]
+        if not translated_successfully:
+            all_translated_successfully = False
+        return out
+
+    canonical_cast.__name__ = cast.__name__
+    canonical_cast.__doc__ = cast.__doc__
+    return canonical_cast
+
+
+@_canonical_cast
 def function_cast(function, *type_args):
+    return _function_cast(function, default_function_cast, *type_args)
+
+
+@_canonical_cast
+def number_function_cast(function, *type_args):
+    """
+    Like function_cast, but if the function is not translated, it returns ints and floats as the Java numbers
+    PythonConstraintCollectors accumulates like the Python numbers returned by a translated function.
+    """
+    return _function_cast(function, default_number_function_cast, *type_args)
+
+
+def _function_cast(function, default_cast, *type_args):
     global function_bytecode_translation, all_translated_successfully
     arg_count = len(inspect.signature(function).parameters)
     if len(type_args) != arg_count:
@@ -130,7 +294,7 @@ def function_cast(function, *type_args):
         if function_bytecode_translation is BytecodeTranslation.FORCE:
             raise ValueError('Cannot force bytecode translation since some types could not be translated')
 
-        return default_function_cast(function, arg_count)
+        return default_cast(function, arg_count)
 
     if function_bytecode_translation is not BytecodeTranslation.NONE:
         from java.util.function import Function, BiFunction
@@ -139,24 +303,28 @@ def function_cast(function, *type_args):
 
         try:
             _check_if_bytecode_translation_possible()
+            # Not translated in the background, since the Python implementation returns different objects
+            # than the translated bytecode (which would change join and group keys while solving);
+            # deferred translation switches implementation before solving starts
+            translate = _get_deferred_bytecode_translator(default_cast, arg_count)
             if arg_count == 1:
-                return translate_python_bytecode_to_java_bytecode(function, Function, *type_args, PythonLikeObject)
+                return translate(function, Function, *type_args, PythonLikeObject)
             elif arg_count == 2:
-                return translate_python_bytecode_to_java_bytecode(function, BiFunction, *type_args, PythonLikeObject)
+                return translate(function, BiFunction, *type_args, PythonLikeObject)
             elif arg_count == 3:
-                return translate_python_bytecode_to_java_bytecode(function, TriFunction, *type_args, PythonLikeObject)
+                return translate(function, TriFunction, *type_args, PythonLikeObject)
             elif arg_count == 4:
-                return translate_python_bytecode_to_java_bytecode(function, QuadFunction, *type_args, PythonLikeObject)
+                return translate(function, QuadFunction, *type_args, PythonLikeObject)
             elif arg_count == 5:
-                return translate_python_bytecode_to_java_bytecode(function, PentaFunction, *type_args, PythonLikeObject)
+                return translate(function, PentaFunction, *type_args, PythonLikeObject)
         except:  # noqa
             if function_bytecode_translation is BytecodeTranslation.FORCE:
                 raise
 
             all_translated_successfully = False
-            return default_function_cast(function, arg_count)
+            return default_cast(function, arg_count)
 
-    return default_function_cast(function, arg_count)
+    return default_cast(function, arg_count)
 
 
 def default_function_cast(function, arg_count):
@@ -174,6 +342,36 @@ def default_function_cast(function, arg_count):
         raise ValueError
 
 
+def _to_java_number(value):
+    """
+    Converts an int or float returned by an untranslated function to the Java number that
+    PythonConstraintCollectors accumulates like the Python number returned by a translated function.
+    """
+    from java.lang import Long, Double
+    from java.math import BigInteger
+    if isinstance(value, int):  # includes bool, which sums like an int
+        if -(1 << 63) <= value < (1 << 63):
+            return Long.valueOf(int(value))
+        return BigInteger(str(int(value)))
+    if isinstance(value, float):
+        return Double.valueOf(value)
+    return _convert_to_java_compatible_object(value)
+
+
+def default_number_function_cast(function, arg_count):
+    if arg_count == 1:
+        return PythonFunction(lambda a: _to_java_number(function(a)))
+    elif arg_count == 2:
+        return PythonBiFunction(lambda a, b: _to_java_number(function(a, b)))
+    elif arg_count == 3:
+        return PythonTriFunction(lambda a, b, c: _to_java_number(function(a, b, c)))
+    elif arg_count == 4:
+        return PythonQuadFunction(lambda a, b, c, d: _to_java_number(function(a, b, c, d)))
+    else:
+        raise ValueError
+
+
+@_canonical_cast
 def predicate_cast(predicate, *type_args):
     global function_bytecode_translation, all_translated_successfully
     arg_count = len(inspect.signature(predicate).parameters)
@@ -191,16 +389,17 @@ def predicate_cast(predicate, *type_args):
         from org.optaplanner.core.api.function import TriPredicate, QuadPredicate, PentaPredicate
         try:
             _check_if_bytecode_translation_possible()
+            translate = _get_bytecode_translator(default_predicate_cast, arg_count)
             if arg_count == 1:
-                return translate_python_bytecode_to_java_bytecode(predicate, Predicate, *type_args)
+                return translate(predicate, Predicate, *type_args)
             elif arg_count == 2:
-                return translate_python_bytecode_to_java_bytecode(predicate, BiPredicate, *type_args)
+                return translate(predicate, BiPredicate, *type_args)
             elif arg_count == 3:
-                return translate_python_bytecode_to_java_bytecode(predicate, TriPredicate, *type_args)
+                return translate(predicate, TriPredicate, *type_args)
             elif arg_count == 4:
-                return translate_python_bytecode_to_java_bytecode(predicate, QuadPredicate, *type_args)
+                return translate(predicate, QuadPredicate, *type_args)
             elif arg_count == 5:
-                return translate_python_bytecode_to_java_bytecode(predicate, PentaPredicate, *type_args)
+                return translate(predicate, PentaPredicate, *type_args)
         except:  # noqa
             if function_bytecode_translation is BytecodeTranslation.FORCE:
                 raise
@@ -226,6 +425,7 @@ def default_predicate_cast(predicate, arg_count):
         raise ValueError
 
 
+@_canonical_cast
 def to_int_function_cast(function, *type_args):
     global function_bytecode_translation, all_translated_successfully
     arg_count = len(inspect.signature(function).parameters)
@@ -244,14 +444,15 @@ def to_int_function_cast(function, *type_args):
 
         try:
             _check_if_bytecode_translation_possible()
+            translate = _get_bytecode_translator(default_to_int_function_cast, arg_count)
             if arg_count == 1:
-                return translate_python_bytecode_to_java_bytecode(function, ToIntFunction, *type_args)
+                return translate(function, ToIntFunction, *type_args)
             elif arg_count == 2:
-                return translate_python_bytecode_to_java_bytecode(function, ToIntBiFunction, *type_args)
+                return translate(function, ToIntBiFunction, *type_args)
             elif arg_count == 3:
-                return translate_python_bytecode_to_java_bytecode(function, ToIntTriFunction, *type_args)
+                return translate(function, ToIntTriFunction, *type_args)
             elif arg_count == 4:
-                return translate_python_bytecode_to_java_bytecode(function, ToIntQuadFunction, *type_args)
+                return translate(function, ToIntQuadFunction, *type_args)
         except:  # noqa
             if function_bytecode_translation is BytecodeTranslation.FORCE:
                 raise
@@ -279,6 +480,7 @@ def default_to_int_function_cast(function, arg_count):
 class SamePropertyUniJoiner:
     joiner_creator: Callable
     join_function: Callable
+    is_equal_joiner: bool = False
 
 
 @dataclasses.dataclass
@@ -286,6 +488,7 @@ class PropertyJoiner:
     joiner_creator: Callable
     left_join_function: Callable
     right_join_function: Callable
+    is_equal_joiner: bool = False
 
 
 @dataclasses.dataclass
@@ -310,6 +513,24 @@ class FilteringJoiner:
     filter_function: Callable
 
 
+def _join_key_function_cast(key_function, arg_count):
+    """
+    Wraps the key function of an equal joiner so it returns int and float keys as Java primitives,
+    which OptaPlanner can hash and compare faster than Python numbers.
+    """
+    from org.optaplanner.optapy import PythonJoinKeys  # noqa
+    if arg_count == 1:
+        return PythonJoinKeys.uniKeyFunction(key_function)
+    elif arg_count == 2:
+        return PythonJoinKeys.biKeyFunction(key_function)
+    elif arg_count == 3:
+        return PythonJoinKeys.triKeyFunction(key_function)
+    elif arg_count == 4:
+        return PythonJoinKeys.quadKeyFunction(key_function)
+    else:
+        raise ValueError
+
+
 def extract_joiners(joiner_tuple, *stream_types):
     from org.optaplanner.core.api.score.stream.bi import BiJoiner
     from org.optaplanner.core.api.score.stream.tri import TriJoiner
@@ -341,10 +562,15 @@ def extract_joiners(joiner_tuple, *stream_types):
         created_joiner = None
         if isinstance(joiner_info, SamePropertyUniJoiner):
             property_function = function_cast(joiner_info.join_function, stream_types[0])
+            if joiner_info.is_equal_joiner:
+                property_function = _join_key_function_cast(property_function, 1)
             created_joiner = joiner_info.joiner_creator(property_function)
         elif isinstance(joiner_info, PropertyJoiner):
             left_property_function = function_cast(joiner_info.left_join_function, *stream_types[:-1])
             right_property_function = function_cast(joiner_info.right_join_function, stream_types[-1])
+            if joiner_info.is_equal_joiner:
+                left_property_function = _join_key_function_cast(left_property_function, len(stream_types) - 1)
+                right_property_function = _join_key_function_cast(right_property_function, 1)
             created_joiner = joiner_info.joiner_creator(left_property_function, right_property_function)
         elif isinstance(joiner_info, SameOverlappingPropertyUniJoiner):
             start_function = function_cast(joiner_info.start_function, stream_types[0])
@@ -434,6 +660,12 @@ class GroupIntMappingSingleArgConstraintCollector:
     group_mapping: Callable
 
 
+@dataclasses.dataclass
+class GroupNumberMappingSingleArgConstraintCollector:
+    collector_creator: Callable
+    group_mapping: Callable
+
+
 @dataclasses.dataclass
 class ComposeConstraintCollector:
     collector_creator: Callable
@@ -458,6 +690,10 @@ def extract_collector(collector_info, *type_arguments):
                                                 function_cast(collector_info.value_mapping, *type_arguments))
     elif isinstance(collector_info, GroupIntMappingSingleArgConstraintCollector):
         return collector_info.collector_creator(to_int_function_cast(collector_info.group_mapping, *type_arguments))
+    elif isinstance(collector_info, GroupNumberMappingSingleArgConstraintCollector):
+        # Translated mappings return Python numbers and untranslated mappings return Java numbers;
+        # the collector sums both the same way, so the score does not depend on whether translation succeeded
+        return collector_info.collector_creator(number_function_cast(collector_info.group_mapping, *type_arguments))
     elif isinstance(collector_info, ComposeConstraintCollector):
         subcollectors = tuple(map(lambda subcollector_info: extract_collector(subcollector_info, *type_arguments),
                                   collector_info.subcollectors))
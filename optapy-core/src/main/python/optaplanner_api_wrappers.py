@@ -41,6 +41,7 @@ class _PythonSolverManager(Generic[Solution_, ProblemId_]):
         self.delegate = SolverManager.create(solver_config)
         self.problem_id_to_solver_run_ref_list = dict()
         self.only_use_java_setters = PythonSolver.onlyUseJavaSetters
+        self.tiered_translation = PythonSolver.tieredTranslation
 
     def _optapy_debug_get_solver_runs_dicts(self):
         """
@@ -66,7 +67,10 @@ class _PythonSolverManager(Generic[Solution_, ProblemId_]):
             problem._optapy_solver_run_id = solver_run_id
             self.problem_id_to_solver_run_ref_list[the_problem_id] = [problem, problem]
             _setup_solver_run(solver_run_id, self.problem_id_to_solver_run_ref_list[the_problem_id])
-            PythonSolver.onlyUseJavaSetters = self.only_use_java_setters
+            # Once every function translated in the background (BytecodeTranslation.TIERED) is translated,
+            # new solves only use Java setters
+            PythonSolver.onlyUseJavaSetters = self.only_use_java_setters or \
+                (self.tiered_translation is not None and self.tiered_translation.getNow(False))
             wrapped_problem = PythonSolver.wrapProblem(get_class(type(problem)), problem)
             return wrapped_problem
 
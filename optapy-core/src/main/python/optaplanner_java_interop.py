@@ -144,6 +144,29 @@ def _deep_clone_python_object(the_object: Any):
     return JProxy(org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference, inst=the_clone, convert=True)
 
 
+def _planning_clone_python_object_for_java(the_object: Any):
+    """Planning clones a Python Object whose Java Object was planning cloned in Java, and keeps a reference to it
+
+    :parameter the_object: the object to be cloned.
+    :return: A Java Map from the id of each object that was cloned to an OpaquePythonReference of its clone
+    """
+    import org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference
+    from java.util import HashMap
+    run_id = the_object._optapy_solver_run_id  # noqa ; cannot use __ since then we cannot access it here
+    memo = dict()
+    the_clone = _planning_clone(the_object, memo)
+
+    # Only need to keep two references: the best solution, and the working solution
+    solver_run_id_to_refs[run_id].append(the_clone)
+    solver_run_id_to_refs[run_id].pop(0)
+
+    out = HashMap()
+    for original_id, clone in memo.items():
+        out.put(JLong(original_id),
+                JProxy(org.optaplanner.jpyinterpreter.types.wrappers.OpaquePythonReference, inst=clone, convert=True))
+    return out
+
+
 def _is_deep_planning_clone(object):
     """
     Return True iff object should be deep planning cloned, False otherwise.
@@ -254,10 +277,6 @@ def _planning_clone(item, memo):
 # ****************************************************************************
 
 
-def _clear_python_list(the_list: List):
-    the_list.clear()
-
-
 def _python_list_length(the_list: List):
     return JInt(len(the_list))
 
@@ -266,31 +285,8 @@ def _get_item_at_index_in_python_list(the_list: List, index: int):
     return the_list[index]
 
 
-def _set_item_at_index_in_python_list(the_list: List, index: int, item: any):
-    the_list[index] = item
-
-
-def _add_item_to_python_list(the_list: List, item: any):
-    the_list.append(item)
-    return True
-
-
-def _add_item_at_index_in_python_list(the_list: List, index: int, item: any):
-    the_list.insert(index, item)
-    return True
-
-
-def _remove_item_from_python_list(the_list: List, item: any):
-    try:
-        the_list.remove(item)
-        return True
-    except ValueError:
-        return False
-
-
-def _remove_item_at_index_from_python_list(the_list: List, index: int):
-    the_list.pop(index)
-    return True
+def _set_python_list_items(the_list: List, items):
+    the_list[:] = items
 
 
 def _does_python_list_contain_item(the_list: List, item: any):
@@ -365,21 +361,14 @@ def init(*args, path: List[str] = None, include_optaplanner_jars: bool = True, l
 
     PythonPlanningSolutionCloner.setDeepClonePythonObject(JObject(PythonFunction(_deep_clone_python_object),
                                                                   java.util.function.Function))
+    PythonPlanningSolutionCloner.setPlanningClonePythonObject(
+        JObject(PythonFunction(_planning_clone_python_object_for_java), java.util.function.Function))
 
-    PythonList.setClearPythonList(JObject(PythonFunction(_clear_python_list), java.util.function.Function))
     PythonList.setGetPythonListLength(JObject(PythonFunction(_python_list_length), java.util.function.Function))
     PythonList.setGetItemAtIndexInPythonList(JObject(PythonBiFunction(_get_item_at_index_in_python_list),
                                                      java.util.function.BiFunction))
-    PythonList.setSetItemAtIndexInPythonList(JObject(PythonTriFunction(_set_item_at_index_in_python_list),
-                                                     org.optaplanner.core.api.function.TriFunction))
-    PythonList.setAddItemToPythonList(JObject(PythonBiFunction(_add_item_to_python_list),
-                                              java.util.function.BiFunction))
-    PythonList.setAddItemAtIndexInPythonList(JObject(PythonTriFunction(_add_item_at_index_in_python_list),
-                                                     org.optaplanner.core.api.function.TriFunction))
-    PythonList.setRemoveItemFromPythonList(JObject(PythonBiFunction(_remove_item_from_python_list),
-                                                   java.util.function.BiFunction))
-    PythonList.setRemoveItemAtIndexFromPythonList(JObject(PythonBiFunction(_remove_item_at_index_from_python_list),
-                                                          java.util.function.BiFunction))
+    PythonList.setSetPythonListItems(JObject(PythonBiFunction(_set_python_list_items),
+                                             java.util.function.BiFunction))
     PythonList.setDoesPythonListContainItem(JObject(PythonBiFunction(_does_python_list_contain_item),
                                                     java.util.function.BiFunction))
     PythonList.setSlicePythonList(JObject(PythonTriFunction(_slice_python_list),
@@ -0,0 +1,79 @@
+package org.optaplanner.optapy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.jpyinterpreter.types.PythonString;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonBoolean;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonFloat;
+import org.optaplanner.jpyinterpreter.types.numeric.PythonInteger;
+
+public class PythonJoinKeysTest {
+
+    @Test
+    public void testEqualNumbersHaveEqualKeys() {
+        // 1 == 1.0 == True in Python, so they must join
+        Object key = PythonJoinKeys.toKey(PythonInteger.valueOf(1));
+        assertThat(key).isEqualTo(1L);
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(1.0))).isEqualTo(key);
+        assertThat(PythonJoinKeys.toKey(PythonBoolean.valueOf(true))).isEqualTo(key);
+
+        assertThat(PythonJoinKeys.toKey(PythonBoolean.valueOf(false))).isEqualTo(0L);
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(-0.0))).isEqualTo(0L);
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(-3.0))).isEqualTo(-3L);
+        assertThat(PythonJoinKeys.toKey(PythonInteger.valueOf(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(Math.pow(-2, 63)))).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void testNonIntegralFloat() {
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(0.5))).isEqualTo(0.5);
+        assertThat(PythonJoinKeys.toKey(PythonFloat.valueOf(0.5)))
+                .isNotEqualTo(PythonJoinKeys.toKey(PythonInteger.valueOf(0)));
+    }
+
+    @Test
+    public void testNaNIsUnchanged() {
+        PythonFloat nan = PythonFloat.valueOf(Double.NaN);
+        assertThat(PythonJoinKeys.toKey(nan)).isSameAs(nan);
+    }
+
+    @Test
+    public void testNumbersOutsideLongRangeAreUnchanged() {
+        PythonInteger bigInteger = PythonInteger.valueOf(BigInteger.ONE.shiftLeft(70));
+        assertThat(PythonJoinKeys.toKey(bigInteger)).isSameAs(bigInteger);
+
+        // 2^63 is integral but does not fit in a long; (long) would saturate it to Long.MAX_VALUE
+        PythonFloat twoToThe63 = PythonFloat.valueOf(Math.pow(2, 63));
+        assertThat(PythonJoinKeys.toKey(twoToThe63)).isSameAs(twoToThe63);
+        assertThat(PythonJoinKeys.toKey(twoToThe63)).isNotInstanceOf(Long.class);
+
+        PythonFloat bigFloat = PythonFloat.valueOf(Math.pow(2, 70));
+        assertThat(PythonJoinKeys.toKey(bigFloat)).isSameAs(bigFloat);
+
+        PythonFloat infinity = PythonFloat.valueOf(Double.POSITIVE_INFINITY);
+        assertThat(PythonJoinKeys.toKey(infinity)).isSameAs(infinity);
+    }
+
+    @Test
+    public void testNonNumericKeysAreUnchanged() {
+        PythonString string = PythonString.valueOf("1");
+        assertThat(PythonJoinKeys.toKey(string)).isSameAs(string);
+        assertThat(PythonJoinKeys.toKey(null)).isNull();
+    }
+
+    @Test
+    public void testKeyFunction() {
+        Function<Object, Object> identity = a -> a;
+        Function<Object, Object> keyFunction = PythonJoinKeys.uniKeyFunction(identity);
+
+        assertThat(keyFunction.apply(PythonFloat.valueOf(2.0))).isEqualTo(2L);
+        // Wrappers of the same key function are equal, so OptaPlanner still shares their nodes
+        assertThat(keyFunction).isEqualTo(PythonJoinKeys.uniKeyFunction(identity));
+        assertThat(keyFunction).hasSameHashCodeAs(PythonJoinKeys.uniKeyFunction(identity));
+        assertThat(keyFunction).isNotEqualTo(PythonJoinKeys.uniKeyFunction(a -> a));
+    }
+}
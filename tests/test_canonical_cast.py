@@ -0,0 +1,132 @@
+import optapy
+import optapy.score
+import optapy.config
+import optapy.constraint
+from optapy import constraint_stream
+
+
+def make_predicate(value):
+    return lambda entity: entity.value == value
+
+
+class EqualToEverything:
+    def __init__(self, threshold):
+        self.threshold = threshold
+
+    def __eq__(self, other):
+        return isinstance(other, EqualToEverything)
+
+    def __hash__(self):
+        return 0
+
+
+def make_label_length(label):
+    return lambda entity: len(str(label))
+
+
+def make_threshold_predicate(limit):
+    return lambda entity: entity.value >= limit.threshold
+
+
+def test_function_key_compares_immutable_builtins_by_value():
+    assert constraint_stream._get_function_key(make_predicate(1)) == \
+           constraint_stream._get_function_key(make_predicate(1))
+    assert constraint_stream._get_function_key(make_predicate('a')) == \
+           constraint_stream._get_function_key(make_predicate('a'))
+    assert constraint_stream._get_function_key(make_predicate((1, 'a'))) == \
+           constraint_stream._get_function_key(make_predicate((1, 'a')))
+    assert constraint_stream._get_function_key(make_predicate(1)) != \
+           constraint_stream._get_function_key(make_predicate(2))
+
+
+def test_function_key_distinguishes_equal_values_of_different_types():
+    assert constraint_stream._get_function_key(make_predicate(1)) != \
+           constraint_stream._get_function_key(make_predicate(True))
+    assert constraint_stream._get_function_key(make_predicate(1)) != \
+           constraint_stream._get_function_key(make_predicate(1.0))
+    assert constraint_stream._get_function_key(make_predicate((1,))) != \
+           constraint_stream._get_function_key(make_predicate((True,)))
+    assert constraint_stream._get_function_key(make_predicate(frozenset({1}))) != \
+           constraint_stream._get_function_key(make_predicate(frozenset({True})))
+    assert constraint_stream._get_function_key(make_predicate(0.0)) != \
+           constraint_stream._get_function_key(make_predicate(-0.0))
+
+
+def test_function_key_compares_other_objects_by_identity():
+    limit = EqualToEverything(1)
+    assert constraint_stream._get_function_key(make_threshold_predicate(limit)) == \
+           constraint_stream._get_function_key(make_threshold_predicate(limit))
+    assert constraint_stream._get_function_key(make_threshold_predicate(EqualToEverything(1))) != \
+           constraint_stream._get_function_key(make_threshold_predicate(EqualToEverything(2)))
+    assert constraint_stream._get_function_key(make_predicate((1, [1]))) != \
+           constraint_stream._get_function_key(make_predicate((1, [1])))
+
+
+@optapy.planning_entity
+class Entity:
+    def __init__(self, code, value=None):
+        self.code = code
+        self.value = value
+
+    @optapy.planning_variable(int, value_range_provider_refs=['value_range'])
+    def get_value(self):
+        return self.value
+
+    def set_value(self, value):
+        self.value = value
+
+
+@optapy.constraint_provider
+def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+    return [
+        constraint_factory.for_each(Entity)
+            .filter(make_threshold_predicate(EqualToEverything(2)))
+            .reward('At least 2', optapy.score.SimpleScore.ONE),
+        constraint_factory.for_each(Entity)
+            .filter(make_threshold_predicate(EqualToEverything(3)))
+            .reward('At least 3', optapy.score.SimpleScore.of(10)),
+        constraint_factory.for_each(Entity)
+            .filter(make_predicate(1))
+            .reward('Label 1', optapy.score.SimpleScore.of(100), make_label_length(1)),
+        constraint_factory.for_each(Entity)
+            .filter(make_predicate(1))
+            .reward('Label True', optapy.score.SimpleScore.of(1000), make_label_length(True)),
+    ]
+
+
+@optapy.planning_solution
+class Solution:
+    def __init__(self, entity_list, value_range, score=None):
+        self.entity_list = entity_list
+        self.value_range = value_range
+        self.score = score
+
+    @optapy.planning_entity_collection_property(Entity)
+    def get_entity_list(self):
+        return self.entity_list
+
+    @optapy.problem_fact_collection_property(int)
+    @optapy.value_range_provider(range_id='value_range')
+    def get_value_range(self):
+        return self.value_range
+
+    @optapy.planning_score(optapy.score.SimpleScore)
+    def get_score(self) -> optapy.score.SimpleScore:
+        return self.score
+
+    def set_score(self, score):
+        self.score = score
+
+
+def test_constraints_with_different_captured_objects_are_not_shared():
+    solver_config = optapy.config.solver.SolverConfig()
+    solver_config.withSolutionClass(Solution) \
+        .withEntityClasses(Entity) \
+        .withConstraintProviderClass(my_constraints)
+    score_manager = optapy.score_manager_create(optapy.solver_factory_create(solver_config))
+
+    problem = Solution([Entity('A', 1), Entity('B', 2), Entity('C', 3)], [1, 2, 3])
+    # 'At least 2' matches B and C, 'At least 3' matches C, and the label constraints match A
+    # with the length of their own label ('1' and 'True')
+    assert score_manager.updateScore(problem).getScore() == 2 + 10 + 100 * 1 + 1000 * 4
+    assert constraint_stream.canonical_cast_cache is None
@@ -887,3 +887,62 @@ def test_supports_entity_to_solution_backlinking():
     clone_solution.get_entity_list()[0].set_value(val2)
     assert clone_solution.get_entity_list()[0].get_value() is val2
     assert a.get_value() is None
+
+
+def java_planning_clone(solution):
+    """
+    Planning clones solution with the planning cloner generated in Java.
+    The @deep_planning_clone classes in this module disable it, so enable it while cloning.
+    """
+    from org.optaplanner.optapy import PythonSolver, PythonPlanningSolutionCloner  # noqa
+    is_enabled_field = PythonPlanningSolutionCloner.class_.getDeclaredField('isJavaPlanningCloneEnabled')
+    is_enabled_field.setAccessible(True)
+    was_enabled = is_enabled_field.getBoolean(None)
+    is_enabled_field.setBoolean(None, True)
+    PythonSolver.onlyUseJavaSetters = True
+    try:
+        wrapped_solution = PythonSolver.wrapProblem(optapy.get_class(type(solution)), solution)
+        return wrapped_solution, PythonPlanningSolutionCloner().cloneSolution(wrapped_solution)
+    finally:
+        PythonSolver.onlyUseJavaSetters = False
+        is_enabled_field.setBoolean(None, was_enabled)
+
+
+def is_same_java_object(a, b):
+    from java.lang import System
+    return System.identityHashCode(a) == System.identityHashCode(b)
+
+
+def test_java_clone_solution():
+    val1 = ExampleValue("1")
+    val2 = ExampleValue("2")
+    a = ExampleEntity("a", val1)
+    b = ExampleEntity("b", val2)
+
+    original_solution = ExampleSolution("solution", [val1, val2], [a, b], optapy.score.SimpleScore.ONE)
+    wrapped_solution, clone_solution = java_planning_clone(original_solution)
+    assert not is_same_java_object(clone_solution, wrapped_solution)
+    assert is_same_java_object(clone_solution.getValue_list(), wrapped_solution.getValue_list())
+    assert not is_same_java_object(clone_solution.getEntity_list(), wrapped_solution.getEntity_list())
+    assert clone_solution.getEntity_list().size() == 2
+    for i in range(2):
+        original_entity = wrapped_solution.getEntity_list().get(i)
+        clone_entity = clone_solution.getEntity_list().get(i)
+        assert not is_same_java_object(clone_entity, original_entity)
+        assert is_same_java_object(clone_entity.getValue(), original_entity.getValue())
+
+
+def test_java_clone_solution_with_empty_entity_list():
+    val1 = ExampleValue("1")
+    original_solution = ExampleSolution("solution", [val1], [], optapy.score.SimpleScore.ONE)
+    wrapped_solution, clone_solution = java_planning_clone(original_solution)
+    assert not is_same_java_object(clone_solution.getEntity_list(), wrapped_solution.getEntity_list())
+    assert clone_solution.getEntity_list().isEmpty()
+
+    # Adding an entity to the working solution (ex: in a problem change) must not change its clone
+    other_solution, _ = java_planning_clone(ExampleSolution("other", [val1], [ExampleEntity("a", val1)],
+                                                            optapy.score.SimpleScore.ONE))
+    wrapped_solution.getEntity_list().add(other_solution.getEntity_list().get(0))
+    assert wrapped_solution.getEntity_list().size() == 1
+    assert clone_solution.getEntity_list().isEmpty()
+
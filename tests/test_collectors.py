@@ -189,6 +189,50 @@ def test_average():
     assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(20)
 
 
+def assert_sum_and_average_for_translation(function_bytecode_translation):
+    @optapy.constraint_provider(function_bytecode_translation=function_bytecode_translation)
+    def define_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+            .group_by(optapy.constraint.ConstraintCollectors.sum(lambda entity: entity.value.number))
+            .reward('Sum value', optapy.score.SimpleScore.ONE, lambda sum_value: int(10 * sum_value)),
+            constraint_factory.for_each(Entity)
+            .group_by(optapy.constraint.ConstraintCollectors.average(lambda entity: entity.value.number))
+            .reward('Average value', optapy.score.SimpleScore.ONE, lambda average_value: int(100 * average_value))
+        ]
+
+    score_manager = create_score_manage(define_constraints)
+
+    entity_a: Entity = Entity('A')
+    entity_b: Entity = Entity('B')
+
+    value_1 = Value(1)
+    value_2 = Value(2)
+    value_half = Value(0.5)
+
+    problem = Solution([entity_a, entity_b], [value_1, value_2, value_half])
+    entity_a.set_value(value_1)
+    entity_b.set_value(value_2)
+
+    # sum = 3, average = 1.5
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(30 + 150)
+
+    entity_a.set_value(value_half)
+
+    # Floats are not truncated: sum = 2.5, average = 1.25
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(25 + 125)
+
+    entity_b.set_value(value_half)
+
+    # sum = 1.0, average = 0.5
+    assert score_manager.explainScore(problem).getScore() == optapy.score.SimpleScore.of(10 + 50)
+
+
+def test_sum_and_average_are_the_same_for_every_translation():
+    from optapy import BytecodeTranslation
+    for function_bytecode_translation in BytecodeTranslation:
+        assert_sum_and_average_for_translation(function_bytecode_translation)
+
 def test_count():
     @optapy.constraint_provider
     def define_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
@@ -207,6 +207,85 @@ def test_solve():
     time.sleep(1)  # ensure the thread factory close
 
 
+def test_solve_list_variable_with_multiple_solvers():
+    import time
+
+    @optapy.planning_entity
+    class Entity:
+        def __init__(self, code, value=None):
+            self.code = code
+            if value is None:
+                value = []
+            self.value = value
+
+        @optapy.planning_list_variable(int, value_range_provider_refs=['value_range'])
+        def get_value(self):
+            return self.value
+
+        def set_value(self, value):
+            self.value = value
+
+    def count_mismatches(entity):
+        time.sleep(0.001)  # Give the other solvers a chance to modify their lists
+        mismatches = 0
+        for index in range(len(entity.value)):
+            if entity.value[index] != index + 1:
+                mismatches += 1
+        return mismatches
+
+    @optapy.constraint_provider
+    def my_constraints(constraint_factory: optapy.constraint.ConstraintFactory):
+        return [
+            constraint_factory.for_each(Entity)
+                .penalize('Value is not the same as index', optapy.score.SimpleScore.ONE, count_mismatches),
+        ]
+
+    @optapy.planning_solution
+    class Solution:
+        def __init__(self, entity, value_range, score=None):
+            self.entity = entity
+            self.value_range = value_range
+            self.score = score
+
+        @optapy.planning_entity_property(Entity)
+        def get_entity(self):
+            return self.entity
+
+        @optapy.problem_fact_collection_property(int)
+        @optapy.value_range_provider(range_id='value_range')
+        def get_value_range(self):
+            return self.value_range
+
+        @optapy.planning_score(optapy.score.SimpleScore)
+        def get_score(self) -> optapy.score.SimpleScore:
+            return self.score
+
+        def set_score(self, score):
+            self.score = score
+
+    solver_config = optapy.config.solver.SolverConfig()
+    termination_config = optapy.config.solver.termination.TerminationConfig()
+    termination_config.setBestScoreLimit('0')
+    solver_config.withSolutionClass(Solution) \
+        .withEntityClasses(Entity) \
+        .withConstraintProviderClass(my_constraints) \
+        .withTerminationConfig(termination_config)
+
+    # Each SolverManager has its own thread pool, so the solvers run at the same time
+    solver_managers = [optapy.solver_manager_create(solver_config) for _ in range(4)]
+    try:
+        solver_jobs = [solver_manager.solve(problem_id, Solution(Entity(str(problem_id)), [1, 2, 3, 4, 5]))
+                       for problem_id, solver_manager in enumerate(solver_managers)]
+        for solver_job in solver_jobs:
+            solution = solver_job.getFinalBestSolution()
+            assert solution.get_score().getScore() == 0
+            assert solution.entity.value == [1, 2, 3, 4, 5]
+    finally:
+        for solver_manager in solver_managers:
+            solver_manager.close()
+    time.sleep(1)  # ensure the thread factory close
+
+
 @pytest.mark.filterwarnings("ignore:.*Exception in thread.*:pytest.PytestUnhandledThreadExceptionWarning")
 def test_error():
     @optapy.problem_fact